@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 - 2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.jackson.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding a {@code tools/call} request and binding its params to a
+ * {@link McpSchema.CallToolRequest}, with eager and deferred params binding.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeferredParamsBindingBenchmark {
+
+	@Param({ "8", "512" })
+	public int argumentCount;
+
+	private McpJsonMapper eagerMapper;
+
+	private McpJsonMapper deferredMapper;
+
+	private String json;
+
+	@Setup
+	public void setup() {
+		this.eagerMapper = new JacksonMcpJsonMapper(new ObjectMapper());
+		this.deferredMapper = new JacksonMcpJsonMapper(new ObjectMapper(), true);
+
+		StringBuilder arguments = new StringBuilder();
+		for (int i = 0; i < this.argumentCount; i++) {
+			if (i > 0) {
+				arguments.append(',');
+			}
+			arguments.append("\"arg").append(i).append("\":[").append(i).append(",\"value\",{\"nested\":true}]");
+		}
+		this.json = "{\"jsonrpc\":\"2.0\",\"id\":42,\"method\":\"tools/call\",\"params\":{\"name\":\"echo\","
+				+ "\"arguments\":{" + arguments + "}}}";
+	}
+
+	@Benchmark
+	public McpSchema.CallToolRequest eager() throws IOException {
+		return decodeAndBind(this.eagerMapper);
+	}
+
+	@Benchmark
+	public McpSchema.CallToolRequest deferred() throws IOException {
+		return decodeAndBind(this.deferredMapper);
+	}
+
+	private McpSchema.CallToolRequest decodeAndBind(McpJsonMapper jsonMapper) throws IOException {
+		var request = (McpSchema.JSONRPCRequest) McpSchema.deserializeJsonRpcMessage(jsonMapper, this.json);
+		return jsonMapper.convertValue(request.params(), McpSchema.CallToolRequest.class);
+	}
+
+}
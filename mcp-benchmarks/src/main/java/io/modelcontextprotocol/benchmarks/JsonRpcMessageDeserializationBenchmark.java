@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 - 2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single-pass {@link McpSchema#deserializeJsonRpcMessage} against the
+ * previous approach of reading every frame into a {@link HashMap} and converting it a
+ * second time into the JSON-RPC record.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation rates as well as throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonRpcMessageDeserializationBenchmark {
+
+	private static final TypeRef<HashMap<String, Object>> MAP_TYPE_REF = new TypeRef<>() {
+	};
+
+	@Param({ "request", "notification", "response" })
+	public String messageType;
+
+	@Param({ "1", "64" })
+	public int argumentCount;
+
+	private McpJsonMapper jsonMapper;
+
+	private String json;
+
+	@Setup
+	public void setup() {
+		this.jsonMapper = McpJsonMapper.createDefault();
+
+		StringBuilder arguments = new StringBuilder();
+		for (int i = 0; i < this.argumentCount; i++) {
+			if (i > 0) {
+				arguments.append(',');
+			}
+			arguments.append("\"arg")
+				.append(i)
+				.append("\":{\"text\":\"value ")
+				.append(i)
+				.append("\",\"n\":")
+				.append(i)
+				.append('}');
+		}
+
+		this.json = switch (this.messageType) {
+			case "request" -> "{\"jsonrpc\":\"2.0\",\"id\":42,\"method\":\"tools/call\",\"params\":{\"name\":\"echo\","
+					+ "\"arguments\":{" + arguments + "}}}";
+			case "notification" -> "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/progress\",\"params\":{"
+					+ "\"progressToken\":\"t-1\",\"progress\":0.5,\"data\":{" + arguments + "}}}";
+			case "response" -> "{\"jsonrpc\":\"2.0\",\"id\":42,\"result\":{\"content\":[{\"type\":\"text\","
+					+ "\"text\":\"ok\"}],\"structuredContent\":{" + arguments + "}}}";
+			default -> throw new IllegalArgumentException("Unknown message type: " + this.messageType);
+		};
+	}
+
+	@Benchmark
+	public McpSchema.JSONRPCMessage singlePass() throws IOException {
+		return McpSchema.deserializeJsonRpcMessage(this.jsonMapper, this.json);
+	}
+
+	@Benchmark
+	public McpSchema.JSONRPCMessage mapThenConvert() throws IOException {
+		var map = this.jsonMapper.readValue(this.json, MAP_TYPE_REF);
+
+		if (map.containsKey("method") && map.containsKey("id")) {
+			return this.jsonMapper.convertValue(map, McpSchema.JSONRPCRequest.class);
+		}
+		else if (map.containsKey("method") && !map.containsKey("id")) {
+			return this.jsonMapper.convertValue(map, McpSchema.JSONRPCNotification.class);
+		}
+		else if (map.containsKey("result") || map.containsKey("error")) {
+			return this.jsonMapper.convertValue(map, McpSchema.JSONRPCResponse.class);
+		}
+		throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage: " + this.json);
+	}
+
+}
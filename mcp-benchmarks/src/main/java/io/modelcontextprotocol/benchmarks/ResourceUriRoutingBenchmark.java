@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 - 2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.modelcontextprotocol.util.DeafaultMcpUriTemplateManagerFactory;
+import io.modelcontextprotocol.util.McpUriTemplateManagerFactory;
+import io.modelcontextprotocol.util.McpUriTemplateRouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures resolving a {@code resources/read} URI against a large set of resource
+ * templates, compiling every template per lookup (the previous linear scan) and with a
+ * {@link McpUriTemplateRouter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceUriRoutingBenchmark {
+
+	@Param({ "10", "500" })
+	public int templateCount;
+
+	private final McpUriTemplateManagerFactory uriTemplateManagerFactory = new DeafaultMcpUriTemplateManagerFactory();
+
+	private final List<String> uriTemplates = new ArrayList<>();
+
+	private McpUriTemplateRouter<String> router;
+
+	private String templatedUri;
+
+	private String exactUri;
+
+	@Setup
+	public void setup() {
+		this.router = new McpUriTemplateRouter<>(this.uriTemplateManagerFactory);
+		for (int i = 0; i < this.templateCount; i++) {
+			String uriTemplate = "db://schema" + i + "/{table}/{id}";
+			this.uriTemplates.add(uriTemplate);
+			this.router.put(uriTemplate, uriTemplate);
+		}
+		this.exactUri = "file:///docs/readme.md";
+		this.uriTemplates.add(this.exactUri);
+		this.router.put(this.exactUri, this.exactUri);
+		// Worst case for the linear scan: the last registered template matches
+		this.templatedUri = "db://schema" + (this.templateCount - 1) + "/users/42";
+	}
+
+	@Benchmark
+	public String scanTemplated() {
+		return scan(this.templatedUri);
+	}
+
+	@Benchmark
+	public String routeTemplated() {
+		return this.router.match(this.templatedUri);
+	}
+
+	@Benchmark
+	public String scanExact() {
+		return scan(this.exactUri);
+	}
+
+	@Benchmark
+	public String routeExact() {
+		return this.router.match(this.exactUri);
+	}
+
+	private String scan(String uri) {
+		for (String uriTemplate : this.uriTemplates) {
+			if (this.uriTemplateManagerFactory.create(uriTemplate).matches(uri)) {
+				return uriTemplate;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 - 2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.json.jackson.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.NewlineFrameWriter;
+import io.modelcontextprotocol.util.WriteCoalescing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the stdio outbound path writing a burst of progress notifications to a file
+ * descriptor, flushing each message and with {@link WriteCoalescing}. Throughput is the
+ * number of bursts per millisecond, and the sampled time per burst bounds the latency of
+ * its messages: compare the p99 of both modes.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteCoalescingBenchmark {
+
+	@Param({ "1", "16", "256" })
+	public int burstSize;
+
+	@Param({ "disabled", "coalescing" })
+	public String mode;
+
+	private NewlineFrameWriter frameWriter;
+
+	private WriteCoalescing.Coalescer coalescer;
+
+	private OutputStream out;
+
+	private McpSchema.JSONRPCNotification notification;
+
+	@Setup
+	public void setup() throws IOException {
+		this.frameWriter = new NewlineFrameWriter(new JacksonMcpJsonMapper(new ObjectMapper()));
+		WriteCoalescing writeCoalescing = "disabled".equals(this.mode) ? WriteCoalescing.DISABLED
+				: WriteCoalescing.of(64, Duration.ofMillis(5));
+		this.coalescer = writeCoalescing.newCoalescer();
+		// Buffered like System.out, so that each flush is a write system call
+		this.out = new BufferedOutputStream(new FileOutputStream("/dev/null"), 8192);
+		this.notification = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_PROGRESS,
+				Map.of("progressToken", "token-1", "progress", 42, "total", 100, "message", "Working"));
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.out.close();
+	}
+
+	@Benchmark
+	public void burst() throws IOException {
+		// The whole burst is queued before the outbound thread drains it
+		for (int i = 0; i < this.burstSize; i++) {
+			this.coalescer.queued();
+		}
+		for (int i = 0; i < this.burstSize; i++) {
+			this.frameWriter.write(this.out, this.notification);
+			if (this.coalescer.written()) {
+				this.out.flush();
+			}
+		}
+	}
+
+}
@@ -9,19 +9,23 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 import io.modelcontextprotocol.client.LifecycleInitializer.Initialization;
+import io.modelcontextprotocol.client.McpCatalogCache.Catalog;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
 import io.modelcontextprotocol.spec.McpClientSession;
 import io.modelcontextprotocol.spec.McpClientSession.NotificationHandler;
 import io.modelcontextprotocol.spec.McpClientSession.RequestHandler;
 import io.modelcontextprotocol.spec.McpClientTransport;
+import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.ClientCapabilities;
 import io.modelcontextprotocol.spec.McpSchema.CreateMessageRequest;
@@ -41,6 +45,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 /**
  * The Model Context Protocol (MCP) client implementation that provides asynchronous
@@ -168,6 +174,16 @@ public class McpAsyncClient {
 	 */
 	private final boolean enableCallToolSchemaCaching;
 
+	/**
+	 * Cache of the listed catalogs, or null if the catalogs are listed on every call.
+	 */
+	private final McpCatalogCache catalogCache;
+
+	/**
+	 * Cache of the read resource contents, or null if resources are read on every call.
+	 */
+	private final McpResourceCache resourceCache;
+
 	/**
 	 * Create a new McpAsyncClient with the given transport and session request-response
 	 * timeout.
@@ -180,6 +196,61 @@ public class McpAsyncClient {
 	 */
 	McpAsyncClient(McpClientTransport transport, Duration requestTimeout, Duration initializationTimeout,
 			JsonSchemaValidator jsonSchemaValidator, McpClientFeatures.Async features) {
+		this(transport, requestTimeout, initializationTimeout, jsonSchemaValidator, features, false);
+	}
+
+	/**
+	 * Create a new McpAsyncClient with the given transport and session request-response
+	 * timeout.
+	 * @param transport the transport to use.
+	 * @param requestTimeout the session request-response timeout.
+	 * @param initializationTimeout the max timeout to await for the client-server
+	 * @param jsonSchemaValidator the JSON schema validator to use for validating tool
+	 * @param features the MCP Client supported features. responses against output
+	 * schemas.
+	 * @param compactRequestIds whether the session sends numeric request IDs
+	 */
+	McpAsyncClient(McpClientTransport transport, Duration requestTimeout, Duration initializationTimeout,
+			JsonSchemaValidator jsonSchemaValidator, McpClientFeatures.Async features, boolean compactRequestIds) {
+		this(transport, requestTimeout, initializationTimeout, jsonSchemaValidator, features, compactRequestIds, null);
+	}
+
+	/**
+	 * Create a new McpAsyncClient with the given transport and session request-response
+	 * timeout.
+	 * @param transport the transport to use.
+	 * @param requestTimeout the session request-response timeout.
+	 * @param initializationTimeout the max timeout to await for the client-server
+	 * @param jsonSchemaValidator the JSON schema validator to use for validating tool
+	 * @param features the MCP Client supported features. responses against output
+	 * schemas.
+	 * @param compactRequestIds whether the session sends numeric request IDs
+	 * @param catalogCache the cache of the listed catalogs, or null to disable caching
+	 */
+	McpAsyncClient(McpClientTransport transport, Duration requestTimeout, Duration initializationTimeout,
+			JsonSchemaValidator jsonSchemaValidator, McpClientFeatures.Async features, boolean compactRequestIds,
+			McpCatalogCache catalogCache) {
+		this(transport, requestTimeout, initializationTimeout, jsonSchemaValidator, features, compactRequestIds,
+				catalogCache, null);
+	}
+
+	/**
+	 * Create a new McpAsyncClient with the given transport and session request-response
+	 * timeout.
+	 * @param transport the transport to use.
+	 * @param requestTimeout the session request-response timeout.
+	 * @param initializationTimeout the max timeout to await for the client-server
+	 * @param jsonSchemaValidator the JSON schema validator to use for validating tool
+	 * @param features the MCP Client supported features. responses against output
+	 * schemas.
+	 * @param compactRequestIds whether the session sends numeric request IDs
+	 * @param catalogCache the cache of the listed catalogs, or null to disable caching
+	 * @param resourceCache the cache of the read resource contents, or null to disable
+	 * caching
+	 */
+	McpAsyncClient(McpClientTransport transport, Duration requestTimeout, Duration initializationTimeout,
+			JsonSchemaValidator jsonSchemaValidator, McpClientFeatures.Async features, boolean compactRequestIds,
+			McpCatalogCache catalogCache, McpResourceCache resourceCache) {
 
 		Assert.notNull(transport, "Transport must not be null");
 		Assert.notNull(requestTimeout, "Request timeout must not be null");
@@ -192,6 +263,8 @@ public class McpAsyncClient {
 		this.jsonSchemaValidator = jsonSchemaValidator;
 		this.toolsOutputSchemaCache = new ConcurrentHashMap<>();
 		this.enableCallToolSchemaCaching = features.enableCallToolSchemaCaching();
+		this.catalogCache = catalogCache;
+		this.resourceCache = resourceCache;
 
 		// Request Handlers
 		Map<String, RequestHandler<?>> requestHandlers = new HashMap<>();
@@ -296,6 +369,14 @@ public class McpAsyncClient {
 
 		Function<Initialization, Mono<Void>> postInitializationHook = init -> {
 
+			// The catalogs of the previous session may no longer be accurate
+			if (this.catalogCache != null) {
+				this.catalogCache.invalidateAll();
+			}
+			if (this.resourceCache != null) {
+				this.resourceCache.reset();
+			}
+
 			if (init.initializeResult().capabilities().tools() == null || !enableCallToolSchemaCaching) {
 				return Mono.empty();
 			}
@@ -315,7 +396,7 @@ public class McpAsyncClient {
 
 		this.initializer = new LifecycleInitializer(clientCapabilities, clientInfo, transport.protocolVersions(),
 				initializationTimeout, ctx -> new McpClientSession(requestTimeout, transport, requestHandlers,
-						notificationHandlers, con -> con.contextWrite(ctx)),
+						notificationHandlers, con -> con.contextWrite(ctx), compactRequestIds),
 				postInitializationHook);
 
 		this.transport.setExceptionHandler(this.initializer::handleException);
@@ -581,17 +662,61 @@ public class McpAsyncClient {
 	 * @see #listTools()
 	 */
 	public Mono<McpSchema.CallToolResult> callTool(McpSchema.CallToolRequest callToolRequest) {
+		return sendToolCall(callToolRequest).map(result -> validateToolResult(callToolRequest.name(), result));
+	}
+
+	private Mono<McpSchema.CallToolResult> sendToolCall(McpSchema.CallToolRequest callToolRequest) {
 		return this.initializer.withInitialization("calling tool", init -> {
 			if (init.initializeResult().capabilities().tools() == null) {
 				return Mono.error(new IllegalStateException("Server does not provide tools capability"));
 			}
 
 			return init.mcpSession()
-				.sendRequest(McpSchema.METHOD_TOOLS_CALL, callToolRequest, CALL_TOOL_RESULT_TYPE_REF)
-				.flatMap(result -> Mono.just(validateToolResult(callToolRequest.name(), result)));
+				.sendRequest(McpSchema.METHOD_TOOLS_CALL, callToolRequest, CALL_TOOL_RESULT_TYPE_REF);
 		});
 	}
 
+	/**
+	 * Calls several tools provided by the server concurrently. The requests share the
+	 * session, with at most {@code concurrency} of them awaiting a response at a time. A
+	 * call that times out, that the server answers with an error or whose structured
+	 * content does not match the output schema of the tool does not fail the others: its
+	 * result is an error result carrying the failure message. Any other failure, such as
+	 * an uninitialized client or a closed transport, fails the batch.
+	 * @param callToolRequests The requests containing the tool names and input
+	 * parameters.
+	 * @param concurrency The maximum number of calls in flight.
+	 * @return A Mono that emits the results of the tool calls, in the order of the
+	 * requests.
+	 * @see #callTool(McpSchema.CallToolRequest)
+	 */
+	public Mono<List<McpSchema.CallToolResult>> callTools(List<McpSchema.CallToolRequest> callToolRequests,
+			int concurrency) {
+		Assert.notNull(callToolRequests, "Call tool requests must not be null");
+		Assert.isTrue(concurrency > 0, "Concurrency must be positive");
+		// Results are sorted back into request order, so that a slow call does not hold
+		// back the next ones
+		return Flux.fromIterable(callToolRequests).index().flatMap(indexed -> {
+			McpSchema.CallToolRequest request = indexed.getT2();
+			return sendToolCall(request)
+				.onErrorResume(error -> error instanceof McpError || error instanceof TimeoutException,
+						error -> toolCallFailed(request, error))
+				.flatMap(result -> Mono.fromCallable(() -> validateToolResult(request.name(), result))
+					.onErrorResume(IllegalArgumentException.class, error -> toolCallFailed(request, error)))
+				.map(result -> Tuples.of(indexed.getT1(), result));
+		}, concurrency)
+			.collectSortedList(Comparator.comparing(Tuple2::getT1))
+			.map(results -> results.stream().map(Tuple2::getT2).toList());
+	}
+
+	private Mono<McpSchema.CallToolResult> toolCallFailed(McpSchema.CallToolRequest request, Throwable error) {
+		logger.debug("Call to tool {} failed: {}", request.name(), error.getMessage());
+		return Mono.just(McpSchema.CallToolResult.builder()
+			.isError(true)
+			.addTextContent(String.valueOf(error.getMessage()))
+			.build());
+	}
+
 	private McpSchema.CallToolResult validateToolResult(String toolName, McpSchema.CallToolResult result) {
 
 		if (!this.enableCallToolSchemaCaching || result == null || result.isError() == Boolean.TRUE) {
@@ -625,6 +750,10 @@ public class McpAsyncClient {
 	 * @return A Mono that emits the list of all tools result
 	 */
 	public Mono<McpSchema.ListToolsResult> listTools() {
+		return (this.catalogCache != null) ? this.catalogCache.get(Catalog.TOOLS, this::listAllTools) : listAllTools();
+	}
+
+	private Mono<McpSchema.ListToolsResult> listAllTools() {
 		return this.listTools(McpSchema.FIRST_PAGE)
 			.expand(result -> (result.nextCursor() != null) ? this.listTools(result.nextCursor()) : Mono.empty())
 			.reduce(new McpSchema.ListToolsResult(new ArrayList<>(), null), (allToolsResult, result) -> {
@@ -643,6 +772,17 @@ public class McpAsyncClient {
 		return this.initializer.withInitialization("listing tools", init -> this.listToolsInternal(init, cursor));
 	}
 
+	/**
+	 * Streams the tools provided by the server, page by page. The tools of a page are
+	 * emitted as soon as it is received, while the next page is being listed. Cancelling
+	 * the stream stops the listing.
+	 * @return A Flux emitting all the tools
+	 * @see #listTools()
+	 */
+	public Flux<McpSchema.Tool> streamTools() {
+		return streamPages(this::listTools, McpSchema.ListToolsResult::nextCursor, McpSchema.ListToolsResult::tools);
+	}
+
 	private Mono<McpSchema.ListToolsResult> listToolsInternal(Initialization init, String cursor) {
 
 		if (init.initializeResult().capabilities().tools() == null) {
@@ -662,17 +802,43 @@ public class McpAsyncClient {
 			});
 	}
 
+	/**
+	 * Streams the items of a paginated list. {@code expand} only lists a page when it is
+	 * requested, and {@code limitRate(1)} requests the next page as soon as a page is
+	 * handed to the consumer, so exactly one page is listed ahead of the consumer.
+	 */
+	private static <R, T> Flux<T> streamPages(Function<String, Mono<R>> listPage, Function<R, String> nextCursor,
+			Function<R, List<T>> items) {
+		return Flux.defer(() -> listPage.apply(McpSchema.FIRST_PAGE)
+			.expand(result -> (nextCursor.apply(result) != null) ? listPage.apply(nextCursor.apply(result))
+					: Mono.empty())
+			.limitRate(1)
+			.concatMapIterable(result -> {
+				List<T> page = items.apply(result);
+				return (page != null) ? page : Collections.<T>emptyList();
+			}, 1));
+	}
+
+	private void invalidate(Catalog catalog) {
+		if (this.catalogCache != null) {
+			this.catalogCache.invalidate(catalog);
+		}
+	}
+
 	private NotificationHandler asyncToolsChangeNotificationHandler(
 			List<Function<List<McpSchema.Tool>, Mono<Void>>> toolsChangeConsumers) {
 		// TODO: params are not used yet
-		return params -> this.listTools()
-			.flatMap(listToolsResult -> Flux.fromIterable(toolsChangeConsumers)
-				.flatMap(consumer -> consumer.apply(listToolsResult.tools()))
-				.onErrorResume(error -> {
-					logger.error("Error handling tools list change notification", error);
-					return Mono.empty();
-				})
-				.then());
+		return params -> {
+			invalidate(Catalog.TOOLS);
+			return this.listTools()
+				.flatMap(listToolsResult -> Flux.fromIterable(toolsChangeConsumers)
+					.flatMap(consumer -> consumer.apply(listToolsResult.tools()))
+					.onErrorResume(error -> {
+						logger.error("Error handling tools list change notification", error);
+						return Mono.empty();
+					})
+					.then());
+		};
 	}
 
 	// --------------------------
@@ -697,6 +863,11 @@ public class McpAsyncClient {
 	 * @see #readResource(McpSchema.Resource)
 	 */
 	public Mono<McpSchema.ListResourcesResult> listResources() {
+		return (this.catalogCache != null) ? this.catalogCache.get(Catalog.RESOURCES, this::listAllResources)
+				: listAllResources();
+	}
+
+	private Mono<McpSchema.ListResourcesResult> listAllResources() {
 		return this.listResources(McpSchema.FIRST_PAGE)
 			.expand(result -> (result.nextCursor() != null) ? this.listResources(result.nextCursor()) : Mono.empty())
 			.reduce(new McpSchema.ListResourcesResult(new ArrayList<>(), null), (allResourcesResult, result) -> {
@@ -726,6 +897,18 @@ public class McpAsyncClient {
 		});
 	}
 
+	/**
+	 * Streams the resources provided by the server, page by page. The resources of a page
+	 * are emitted as soon as it is received, while the next page is being listed.
+	 * Cancelling the stream stops the listing.
+	 * @return A Flux emitting all the resources
+	 * @see #listResources()
+	 */
+	public Flux<McpSchema.Resource> streamResources() {
+		return streamPages(this::listResources, McpSchema.ListResourcesResult::nextCursor,
+				McpSchema.ListResourcesResult::resources);
+	}
+
 	/**
 	 * Reads the content of a specific resource identified by the provided Resource
 	 * object. This method fetches the actual data that the resource represents.
@@ -752,11 +935,43 @@ public class McpAsyncClient {
 			if (init.initializeResult().capabilities().resources() == null) {
 				return Mono.error(new IllegalStateException("Server does not provide the resources capability"));
 			}
-			return init.mcpSession()
-				.sendRequest(McpSchema.METHOD_RESOURCES_READ, readResourceRequest, READ_RESOURCE_RESULT_TYPE_REF);
+			if (this.resourceCache == null) {
+				return init.mcpSession()
+					.sendRequest(McpSchema.METHOD_RESOURCES_READ, readResourceRequest, READ_RESOURCE_RESULT_TYPE_REF);
+			}
+			String uri = readResourceRequest.uri();
+			McpSchema.ReadResourceResult cached = this.resourceCache.get(uri);
+			if (cached != null) {
+				return Mono.just(cached);
+			}
+			// Subscribe before reading, so that no update goes unnoticed
+			return subscribeForCache(init, uri).then(Mono.defer(() -> {
+				long generation = this.resourceCache.beginLoad(uri);
+				return init.mcpSession()
+					.sendRequest(McpSchema.METHOD_RESOURCES_READ, readResourceRequest, READ_RESOURCE_RESULT_TYPE_REF)
+					.doOnNext(result -> this.resourceCache.put(uri, generation, result))
+					.doFinally(signal -> this.resourceCache.endLoad(uri, generation));
+			}));
 		});
 	}
 
+	private Mono<Boolean> subscribeForCache(Initialization init, String uri) {
+		if (!Boolean.TRUE.equals(init.initializeResult().capabilities().resources().subscribe())) {
+			return Mono.just(false);
+		}
+		return this.resourceCache.subscribe(uri, key -> init.mcpSession()
+			.sendRequest(McpSchema.METHOD_RESOURCES_SUBSCRIBE, new McpSchema.SubscribeRequest(key), VOID_TYPE_REFERENCE)
+			.thenReturn(true)
+			.onErrorResume(error -> {
+				logger.warn("Failed to subscribe to {}, caching it until it expires: {}", key, error.getMessage());
+				this.resourceCache.evict(key);
+				return Mono.just(false);
+			}), key -> init.mcpSession()
+				.sendRequest(McpSchema.METHOD_RESOURCES_UNSUBSCRIBE, new McpSchema.UnsubscribeRequest(key),
+						VOID_TYPE_REFERENCE)
+				.then());
+	}
+
 	/**
 	 * Retrieves the list of all resource templates provided by the server. Resource
 	 * templates allow servers to expose parameterized resources using URI templates,
@@ -765,6 +980,12 @@ public class McpAsyncClient {
 	 * @see McpSchema.ListResourceTemplatesResult
 	 */
 	public Mono<McpSchema.ListResourceTemplatesResult> listResourceTemplates() {
+		return (this.catalogCache != null)
+				? this.catalogCache.get(Catalog.RESOURCE_TEMPLATES, this::listAllResourceTemplates)
+				: listAllResourceTemplates();
+	}
+
+	private Mono<McpSchema.ListResourceTemplatesResult> listAllResourceTemplates() {
 		return this.listResourceTemplates(McpSchema.FIRST_PAGE)
 			.expand(result -> (result.nextCursor() != null) ? this.listResourceTemplates(result.nextCursor())
 					: Mono.empty())
@@ -796,6 +1017,18 @@ public class McpAsyncClient {
 		});
 	}
 
+	/**
+	 * Streams the resource templates provided by the server, page by page. The templates
+	 * of a page are emitted as soon as it is received, while the next page is being
+	 * listed. Cancelling the stream stops the listing.
+	 * @return A Flux emitting all the resource templates
+	 * @see #listResourceTemplates()
+	 */
+	public Flux<McpSchema.ResourceTemplate> streamResourceTemplates() {
+		return streamPages(this::listResourceTemplates, McpSchema.ListResourceTemplatesResult::nextCursor,
+				McpSchema.ListResourceTemplatesResult::resourceTemplates);
+	}
+
 	/**
 	 * Subscribes to changes in a specific resource. When the resource changes on the
 	 * server, the client will receive notifications through the resources change
@@ -806,13 +1039,20 @@ public class McpAsyncClient {
 	 * @see #unsubscribeResource(McpSchema.UnsubscribeRequest)
 	 */
 	public Mono<Void> subscribeResource(McpSchema.SubscribeRequest subscribeRequest) {
-		return this.initializer.withInitialization("subscribing to resources", init -> init.mcpSession()
-			.sendRequest(McpSchema.METHOD_RESOURCES_SUBSCRIBE, subscribeRequest, VOID_TYPE_REFERENCE));
+		return this.initializer.withInitialization("subscribing to resources",
+				init -> init.mcpSession()
+					.sendRequest(McpSchema.METHOD_RESOURCES_SUBSCRIBE, subscribeRequest, VOID_TYPE_REFERENCE)
+					.doOnSuccess(ignored -> {
+						if (this.resourceCache != null) {
+							this.resourceCache.subscribedByApplication(subscribeRequest.uri());
+						}
+					}));
 	}
 
 	/**
 	 * Cancels an existing subscription to a resource. After unsubscribing, the client
-	 * will no longer receive notifications when the resource changes.
+	 * will no longer receive notifications when the resource changes, and the cached
+	 * contents of the resource are evicted.
 	 * @param unsubscribeRequest The unsubscribe request containing the URI of the
 	 * resource.
 	 * @return A Mono that completes when the unsubscription is complete.
@@ -820,19 +1060,28 @@ public class McpAsyncClient {
 	 * @see #subscribeResource(McpSchema.SubscribeRequest)
 	 */
 	public Mono<Void> unsubscribeResource(McpSchema.UnsubscribeRequest unsubscribeRequest) {
-		return this.initializer.withInitialization("unsubscribing from resources", init -> init.mcpSession()
-			.sendRequest(McpSchema.METHOD_RESOURCES_UNSUBSCRIBE, unsubscribeRequest, VOID_TYPE_REFERENCE));
+		return this.initializer.withInitialization("unsubscribing from resources", init -> {
+			if (this.resourceCache != null) {
+				this.resourceCache.unsubscribedByApplication(unsubscribeRequest.uri());
+			}
+			return init.mcpSession()
+				.sendRequest(McpSchema.METHOD_RESOURCES_UNSUBSCRIBE, unsubscribeRequest, VOID_TYPE_REFERENCE);
+		});
 	}
 
 	private NotificationHandler asyncResourcesChangeNotificationHandler(
 			List<Function<List<McpSchema.Resource>, Mono<Void>>> resourcesChangeConsumers) {
-		return params -> listResources().flatMap(listResourcesResult -> Flux.fromIterable(resourcesChangeConsumers)
-			.flatMap(consumer -> consumer.apply(listResourcesResult.resources()))
-			.onErrorResume(error -> {
-				logger.error("Error handling resources list change notification", error);
-				return Mono.empty();
-			})
-			.then());
+		return params -> {
+			invalidate(Catalog.RESOURCES);
+			invalidate(Catalog.RESOURCE_TEMPLATES);
+			return listResources().flatMap(listResourcesResult -> Flux.fromIterable(resourcesChangeConsumers)
+				.flatMap(consumer -> consumer.apply(listResourcesResult.resources()))
+				.onErrorResume(error -> {
+					logger.error("Error handling resources list change notification", error);
+					return Mono.empty();
+				})
+				.then());
+		};
 	}
 
 	private NotificationHandler asyncResourcesUpdatedNotificationHandler(
@@ -842,6 +1091,9 @@ public class McpAsyncClient {
 					new TypeRef<>() {
 					});
 
+			if (this.resourceCache != null) {
+				this.resourceCache.evict(resourcesUpdatedNotification.uri());
+			}
 			return readResource(new McpSchema.ReadResourceRequest(resourcesUpdatedNotification.uri()))
 				.flatMap(readResourceResult -> Flux.fromIterable(resourcesUpdateConsumers)
 					.flatMap(consumer -> consumer.apply(readResourceResult.contents()))
@@ -869,6 +1121,11 @@ public class McpAsyncClient {
 	 * @see #getPrompt(GetPromptRequest)
 	 */
 	public Mono<ListPromptsResult> listPrompts() {
+		return (this.catalogCache != null) ? this.catalogCache.get(Catalog.PROMPTS, this::listAllPrompts)
+				: listAllPrompts();
+	}
+
+	private Mono<ListPromptsResult> listAllPrompts() {
 		return this.listPrompts(McpSchema.FIRST_PAGE)
 			.expand(result -> (result.nextCursor() != null) ? this.listPrompts(result.nextCursor()) : Mono.empty())
 			.reduce(new ListPromptsResult(new ArrayList<>(), null), (allPromptsResult, result) -> {
@@ -890,6 +1147,17 @@ public class McpAsyncClient {
 			.sendRequest(McpSchema.METHOD_PROMPT_LIST, new PaginatedRequest(cursor), LIST_PROMPTS_RESULT_TYPE_REF));
 	}
 
+	/**
+	 * Streams the prompts provided by the server, page by page. The prompts of a page are
+	 * emitted as soon as it is received, while the next page is being listed. Cancelling
+	 * the stream stops the listing.
+	 * @return A Flux emitting all the prompts
+	 * @see #listPrompts()
+	 */
+	public Flux<McpSchema.Prompt> streamPrompts() {
+		return streamPages(this::listPrompts, ListPromptsResult::nextCursor, ListPromptsResult::prompts);
+	}
+
 	/**
 	 * Retrieves a specific prompt by its ID. This provides the complete prompt template
 	 * including all parameters and instructions for generating AI content.
@@ -906,13 +1174,16 @@ public class McpAsyncClient {
 
 	private NotificationHandler asyncPromptsChangeNotificationHandler(
 			List<Function<List<McpSchema.Prompt>, Mono<Void>>> promptsChangeConsumers) {
-		return params -> listPrompts().flatMap(listPromptsResult -> Flux.fromIterable(promptsChangeConsumers)
-			.flatMap(consumer -> consumer.apply(listPromptsResult.prompts()))
-			.onErrorResume(error -> {
-				logger.error("Error handling prompts list change notification", error);
-				return Mono.empty();
-			})
-			.then());
+		return params -> {
+			invalidate(Catalog.PROMPTS);
+			return listPrompts().flatMap(listPromptsResult -> Flux.fromIterable(promptsChangeConsumers)
+				.flatMap(consumer -> consumer.apply(listPromptsResult.prompts()))
+				.onErrorResume(error -> {
+					logger.error("Error handling prompts list change notification", error);
+					return Mono.empty();
+				})
+				.then());
+		};
 	}
 
 	// --------------------------
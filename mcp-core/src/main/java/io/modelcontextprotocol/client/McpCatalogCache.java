@@ -0,0 +1,304 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A client-side cache of the catalogs listed by an MCP server: its tools, resources,
+ * resource templates and prompts.
+ * <p>
+ * Once a catalog has been listed, {@link McpAsyncClient#listTools()} and its siblings
+ * serve it from the cache until the server sends the matching {@code list_changed}
+ * notification, the client initializes a new session, or the optional time to live
+ * elapses. Concurrent calls that miss the cache share a single listing. With
+ * stale-while-revalidate, a catalog whose time to live elapsed is still served while it
+ * is listed again in the background; catalogs invalidated by a notification are always
+ * listed again before being served.
+ * <p>
+ * A cache belongs to a single client and must not be shared.
+ *
+ * @see McpClient.AsyncSpec#catalogCache(McpCatalogCache)
+ * @see McpClient.SyncSpec#catalogCache(McpCatalogCache)
+ */
+public class McpCatalogCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpCatalogCache.class);
+
+	/**
+	 * The catalogs of an MCP server.
+	 */
+	public enum Catalog {
+
+		/** The tools, invalidated by {@code notifications/tools/list_changed} */
+		TOOLS,
+
+		/** The resources, invalidated by {@code notifications/resources/list_changed} */
+		RESOURCES,
+
+		/**
+		 * The resource templates, invalidated by
+		 * {@code notifications/resources/list_changed}
+		 */
+		RESOURCE_TEMPLATES,
+
+		/** The prompts, invalidated by {@code notifications/prompts/list_changed} */
+		PROMPTS
+
+	}
+
+	private final Duration ttl;
+
+	private final boolean staleWhileRevalidate;
+
+	private final Scheduler clock;
+
+	private final Map<Catalog, Slot<?>> slots = new EnumMap<>(Catalog.class);
+
+	private McpCatalogCache(Duration ttl, boolean staleWhileRevalidate, Scheduler clock) {
+		this.ttl = ttl;
+		this.staleWhileRevalidate = staleWhileRevalidate;
+		this.clock = clock;
+		for (Catalog catalog : Catalog.values()) {
+			this.slots.put(catalog, new Slot<>());
+		}
+	}
+
+	/**
+	 * Create a builder of a catalog cache.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the cached catalog, or lists it with the given loader.
+	 * @param <T> the type of the list result
+	 * @param catalog the catalog
+	 * @param loader lists the catalog from the server
+	 * @return a Mono emitting the catalog
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Mono<T> get(Catalog catalog, Supplier<Mono<T>> loader) {
+		return ((Slot<T>) this.slots.get(catalog)).get(loader);
+	}
+
+	private long now() {
+		return this.clock.now(TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Invalidates a catalog, which is listed again on its next use.
+	 * @param catalog the catalog
+	 */
+	public void invalidate(Catalog catalog) {
+		this.slots.get(catalog).invalidate();
+	}
+
+	/**
+	 * Invalidates all the catalogs.
+	 */
+	public void invalidateAll() {
+		this.slots.values().forEach(Slot::invalidate);
+	}
+
+	/**
+	 * Snapshot of the counters of a catalog.
+	 * @param catalog the catalog
+	 * @return the hits and misses of the catalog so far
+	 */
+	public Stats stats(Catalog catalog) {
+		return this.slots.get(catalog).stats();
+	}
+
+	/**
+	 * Snapshot of the counters of all the catalogs.
+	 * @return the hits and misses of all the catalogs so far
+	 */
+	public Stats stats() {
+		long hits = 0;
+		long staleHits = 0;
+		long misses = 0;
+		for (Slot<?> slot : this.slots.values()) {
+			Stats stats = slot.stats();
+			hits += stats.hits();
+			staleHits += stats.staleHits();
+			misses += stats.misses();
+		}
+		return new Stats(hits, staleHits, misses);
+	}
+
+	/**
+	 * Counters of a cache.
+	 *
+	 * @param hits the number of calls served from the cache
+	 * @param staleHits the number of calls served an expired catalog while it was listed
+	 * again in the background
+	 * @param misses the number of calls that waited for the catalog to be listed
+	 */
+	public record Stats(long hits, long staleHits, long misses) {
+
+		/**
+		 * The share of the calls served from the cache, stale or not.
+		 * @return the hit rate, between 0 and 1, or 0 if there was no call yet
+		 */
+		public double hitRate() {
+			long total = this.hits + this.staleHits + this.misses;
+			return (total == 0) ? 0 : (double) (this.hits + this.staleHits) / total;
+		}
+
+	}
+
+	private record Entry<T>(T value, long loadedNanos) {
+	}
+
+	/**
+	 * The cached value of a catalog, and its listing in progress. Each invalidation
+	 * starts a new generation, so that a listing started before it is not cached.
+	 */
+	private final class Slot<T> {
+
+		private final AtomicLong hits = new AtomicLong();
+
+		private final AtomicLong staleHits = new AtomicLong();
+
+		private final AtomicLong misses = new AtomicLong();
+
+		private volatile Entry<T> entry;
+
+		private Mono<T> loading;
+
+		private long generation;
+
+		Mono<T> get(Supplier<Mono<T>> loader) {
+			return Mono.defer(() -> {
+				Entry<T> entry = this.entry;
+				if (entry != null) {
+					if (ttl == null || now() - entry.loadedNanos() < ttl.toNanos()) {
+						this.hits.incrementAndGet();
+						return Mono.just(entry.value());
+					}
+					if (staleWhileRevalidate) {
+						this.staleHits.incrementAndGet();
+						load(loader).subscribe(value -> {
+						}, error -> logger.warn("Failed to refresh the catalog: {}", error.getMessage()));
+						return Mono.just(entry.value());
+					}
+				}
+				this.misses.incrementAndGet();
+				return load(loader);
+			});
+		}
+
+		private synchronized Mono<T> load(Supplier<Mono<T>> loader) {
+			if (this.loading == null) {
+				long generation = this.generation;
+				this.loading = Mono.defer(loader)
+					.doOnNext(value -> loaded(generation, value))
+					.doFinally(signal -> loadingDone(generation))
+					.cache();
+			}
+			return this.loading;
+		}
+
+		private synchronized void loaded(long generation, T value) {
+			if (this.generation == generation) {
+				this.entry = new Entry<>(value, now());
+			}
+		}
+
+		private synchronized void loadingDone(long generation) {
+			if (this.generation == generation) {
+				this.loading = null;
+			}
+		}
+
+		synchronized void invalidate() {
+			this.generation++;
+			this.entry = null;
+			this.loading = null;
+		}
+
+		Stats stats() {
+			return new Stats(this.hits.get(), this.staleHits.get(), this.misses.get());
+		}
+
+	}
+
+	/**
+	 * Builder for {@link McpCatalogCache}.
+	 */
+	public static class Builder {
+
+		private Duration ttl;
+
+		private boolean staleWhileRevalidate;
+
+		private Scheduler clock = Schedulers.parallel();
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets how long a catalog is served before being listed again, in case the server
+		 * does not send {@code list_changed} notifications. Defaults to null, serving the
+		 * catalogs until they are invalidated.
+		 * @param ttl the time to live of the catalogs, or null for no expiry
+		 * @return this builder
+		 */
+		public Builder ttl(Duration ttl) {
+			Assert.isTrue(ttl == null || (!ttl.isNegative() && !ttl.isZero()), "TTL must be positive");
+			this.ttl = ttl;
+			return this;
+		}
+
+		/**
+		 * Sets whether a catalog whose time to live elapsed is still served while it is
+		 * listed again in the background. Defaults to false.
+		 * @param staleWhileRevalidate true to serve expired catalogs while refreshing
+		 * them
+		 * @return this builder
+		 */
+		public Builder staleWhileRevalidate(boolean staleWhileRevalidate) {
+			this.staleWhileRevalidate = staleWhileRevalidate;
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler whose clock times the catalogs out. Defaults to the parallel
+		 * scheduler.
+		 * @param clock the scheduler
+		 * @return this builder
+		 */
+		public Builder clock(Scheduler clock) {
+			Assert.notNull(clock, "Clock must not be null");
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Builds the cache.
+		 * @return a new cache
+		 */
+		public McpCatalogCache build() {
+			return new McpCatalogCache(this.ttl, this.staleWhileRevalidate, this.clock);
+		}
+
+	}
+
+}
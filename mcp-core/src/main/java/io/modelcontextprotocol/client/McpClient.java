@@ -26,7 +26,9 @@ import io.modelcontextprotocol.spec.McpSchema.Implementation;
 import io.modelcontextprotocol.spec.McpSchema.Root;
 import io.modelcontextprotocol.spec.McpTransport;
 import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.McpSchedulers;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Factory class for creating Model Context Protocol (MCP) clients. MCP is a protocol that
@@ -193,6 +195,14 @@ public interface McpClient {
 
 		private boolean enableCallToolSchemaCaching = false; // Default to false
 
+		private boolean virtualThreads = false;
+
+		private boolean compactRequestIds = false;
+
+		private McpCatalogCache catalogCache;
+
+		private McpResourceCache resourceCache;
+
 		private SyncSpec(McpClientTransport transport) {
 			Assert.notNull(transport, "Transport must not be null");
 			this.transport = transport;
@@ -461,6 +471,60 @@ public interface McpClient {
 			return this;
 		}
 
+		/**
+		 * Run the sampling, elicitation, and change consumers on virtual threads rather
+		 * than on {@link Schedulers#boundedElastic()}. Requires Java 21 or later, and
+		 * falls back to {@link Schedulers#boundedElastic()} otherwise.
+		 * @param virtualThreads true to run handlers on virtual threads
+		 * @return This builder instance for method chaining
+		 * @see McpSchedulers#virtualThreads()
+		 */
+		public SyncSpec virtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+			return this;
+		}
+
+		/**
+		 * Sends the requests with increasing numeric IDs rather than string IDs prefixed
+		 * per session, and matches the responses without building or hashing strings.
+		 * Defaults to false.
+		 * @param compactRequestIds true to use numeric request IDs
+		 * @return This builder instance for method chaining
+		 */
+		public SyncSpec compactRequestIds(boolean compactRequestIds) {
+			this.compactRequestIds = compactRequestIds;
+			return this;
+		}
+
+		/**
+		 * Serves the tool, resource, resource template and prompt listings from the given
+		 * cache, which the client invalidates on {@code list_changed} notifications and
+		 * on reinitialization. Defaults to null, listing the catalogs from the server on
+		 * every call.
+		 * @param catalogCache the cache, dedicated to this client, or null to disable
+		 * caching
+		 * @return This builder instance for method chaining
+		 */
+		public SyncSpec catalogCache(McpCatalogCache catalogCache) {
+			this.catalogCache = catalogCache;
+			return this;
+		}
+
+		/**
+		 * Serves the resource reads from the given cache, until the contents expire after
+		 * the time to live of the cache. When the server supports resource subscriptions,
+		 * the client also subscribes to the cached resources and evicts them when they
+		 * are updated. Defaults to null, reading the resources from the server on every
+		 * call.
+		 * @param resourceCache the cache, dedicated to this client, or null to disable
+		 * caching
+		 * @return This builder instance for method chaining
+		 */
+		public SyncSpec resourceCache(McpResourceCache resourceCache) {
+			this.resourceCache = resourceCache;
+			return this;
+		}
+
 		/**
 		 * Create an instance of {@link McpSyncClient} with the provided configurations or
 		 * sensible defaults.
@@ -472,11 +536,14 @@ public interface McpClient {
 					this.promptsChangeConsumers, this.loggingConsumers, this.progressConsumers, this.samplingHandler,
 					this.elicitationHandler, this.enableCallToolSchemaCaching);
 
-			McpClientFeatures.Async asyncFeatures = McpClientFeatures.Async.fromSync(syncFeatures);
+			McpClientFeatures.Async asyncFeatures = McpClientFeatures.Async.fromSync(syncFeatures,
+					this.virtualThreads ? McpSchedulers.virtualThreads() : Schedulers.boundedElastic());
 
-			return new McpSyncClient(new McpAsyncClient(transport, this.requestTimeout, this.initializationTimeout,
-					jsonSchemaValidator != null ? jsonSchemaValidator : JsonSchemaValidator.getDefault(),
-					asyncFeatures), this.contextProvider);
+			return new McpSyncClient(
+					new McpAsyncClient(transport, this.requestTimeout, this.initializationTimeout,
+							jsonSchemaValidator != null ? jsonSchemaValidator : JsonSchemaValidator.getDefault(),
+							asyncFeatures, this.compactRequestIds, this.catalogCache, this.resourceCache),
+					this.contextProvider);
 		}
 
 	}
@@ -531,6 +598,12 @@ public interface McpClient {
 
 		private boolean enableCallToolSchemaCaching = false; // Default to false
 
+		private boolean compactRequestIds = false;
+
+		private McpCatalogCache catalogCache;
+
+		private McpResourceCache resourceCache;
+
 		private AsyncSpec(McpClientTransport transport) {
 			Assert.notNull(transport, "Transport must not be null");
 			this.transport = transport;
@@ -802,6 +875,47 @@ public interface McpClient {
 			return this;
 		}
 
+		/**
+		 * Sends the requests with increasing numeric IDs rather than string IDs prefixed
+		 * per session, and matches the responses without building or hashing strings.
+		 * Defaults to false.
+		 * @param compactRequestIds true to use numeric request IDs
+		 * @return This builder instance for method chaining
+		 */
+		public AsyncSpec compactRequestIds(boolean compactRequestIds) {
+			this.compactRequestIds = compactRequestIds;
+			return this;
+		}
+
+		/**
+		 * Serves the tool, resource, resource template and prompt listings from the given
+		 * cache, which the client invalidates on {@code list_changed} notifications and
+		 * on reinitialization. Defaults to null, listing the catalogs from the server on
+		 * every call.
+		 * @param catalogCache the cache, dedicated to this client, or null to disable
+		 * caching
+		 * @return This builder instance for method chaining
+		 */
+		public AsyncSpec catalogCache(McpCatalogCache catalogCache) {
+			this.catalogCache = catalogCache;
+			return this;
+		}
+
+		/**
+		 * Serves the resource reads from the given cache, until the contents expire after
+		 * the time to live of the cache. When the server supports resource subscriptions,
+		 * the client also subscribes to the cached resources and evicts them when they
+		 * are updated. Defaults to null, reading the resources from the server on every
+		 * call.
+		 * @param resourceCache the cache, dedicated to this client, or null to disable
+		 * caching
+		 * @return This builder instance for method chaining
+		 */
+		public AsyncSpec resourceCache(McpResourceCache resourceCache) {
+			this.resourceCache = resourceCache;
+			return this;
+		}
+
 		/**
 		 * Create an instance of {@link McpAsyncClient} with the provided configurations
 		 * or sensible defaults.
@@ -815,7 +929,36 @@ public interface McpClient {
 					new McpClientFeatures.Async(this.clientInfo, this.capabilities, this.roots,
 							this.toolsChangeConsumers, this.resourcesChangeConsumers, this.resourcesUpdateConsumers,
 							this.promptsChangeConsumers, this.loggingConsumers, this.progressConsumers,
-							this.samplingHandler, this.elicitationHandler, this.enableCallToolSchemaCaching));
+							this.samplingHandler, this.elicitationHandler, this.enableCallToolSchemaCaching),
+					this.compactRequestIds, this.catalogCache, this.resourceCache);
+		}
+
+		/**
+		 * Copies this specification, so that it can be extended without affecting this
+		 * one. The handlers and caches are shared, not copied.
+		 * @return a new specification with the same settings
+		 */
+		AsyncSpec copy() {
+			AsyncSpec copy = new AsyncSpec(this.transport);
+			copy.requestTimeout = this.requestTimeout;
+			copy.initializationTimeout = this.initializationTimeout;
+			copy.capabilities = this.capabilities;
+			copy.clientInfo = this.clientInfo;
+			copy.roots.putAll(this.roots);
+			copy.toolsChangeConsumers.addAll(this.toolsChangeConsumers);
+			copy.resourcesChangeConsumers.addAll(this.resourcesChangeConsumers);
+			copy.resourcesUpdateConsumers.addAll(this.resourcesUpdateConsumers);
+			copy.promptsChangeConsumers.addAll(this.promptsChangeConsumers);
+			copy.loggingConsumers.addAll(this.loggingConsumers);
+			copy.progressConsumers.addAll(this.progressConsumers);
+			copy.samplingHandler = this.samplingHandler;
+			copy.elicitationHandler = this.elicitationHandler;
+			copy.jsonSchemaValidator = this.jsonSchemaValidator;
+			copy.enableCallToolSchemaCaching = this.enableCallToolSchemaCaching;
+			copy.compactRequestIds = this.compactRequestIds;
+			copy.catalogCache = this.catalogCache;
+			copy.resourceCache = this.resourceCache;
+			return copy;
 		}
 
 	}
@@ -0,0 +1,516 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Aggregates the tools of several MCP servers into a single catalog, and routes the tool
+ * calls to the servers providing them.
+ * <p>
+ * The clients are initialized in parallel, with bounded concurrency, and the tools they
+ * list are merged into a catalog indexed by name, resolving the names provided by several
+ * servers with a {@link ConflictPolicy}. Each client notifies the aggregator when its
+ * server sends {@code notifications/tools/list_changed}, and the catalog is rebuilt with
+ * the new tools. A tool call is routed with a single lookup in the catalog.
+ * <p>
+ * The aggregator measures the latency and the errors of the calls to each server. With
+ * {@link ConflictPolicy#BALANCE}, a tool provided by several servers is called on the one
+ * expected to answer first, given its average latency, its calls in flight and its recent
+ * errors. A server whose calls failed several times in a row is left out of the balancing
+ * for a while, as long as another server provides the tool.
+ * <p>
+ * The servers that fail to initialize are left out of the catalog until
+ * {@link #initialize()} is called again, which retries them.
+ *
+ * <pre>{@code
+ * McpClientAggregator aggregator = McpClientAggregator.builder()
+ *     .server("search", McpClient.async(searchTransport))
+ *     .server("files", McpClient.async(filesTransport))
+ *     .conflictPolicy(ConflictPolicy.PREFIX)
+ *     .build();
+ *
+ * aggregator.initialize().block();
+ * List<McpSchema.Tool> tools = aggregator.tools();
+ * CallToolResult result = aggregator.callTool(new CallToolRequest("files.read", args)).block();
+ * }</pre>
+ */
+public class McpClientAggregator {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpClientAggregator.class);
+
+	/** Default number of clients initialized concurrently */
+	public static final int DEFAULT_INITIALIZATION_CONCURRENCY = 8;
+
+	/** Weight of the last call in the moving averages of the latency and error rate */
+	private static final double SMOOTHING = 0.2;
+
+	/** Number of failed calls in a row after which a server is left out of balancing */
+	private static final int FAILURES_TO_OPEN = 3;
+
+	/** How long a failing server is left out of balancing before it is tried again */
+	private static final long OPEN_NANOS = Duration.ofSeconds(30).toNanos();
+
+	/**
+	 * How the tools sharing a name across servers are exposed.
+	 */
+	public enum ConflictPolicy {
+
+		/** Exposes the tool of the first server registered with the aggregator */
+		FIRST,
+
+		/**
+		 * Exposes the tools sharing a name under the name of their server, a separator
+		 * and their own name. The other tools keep their name, unless it clashes with a
+		 * prefixed name, in which case they are prefixed as well.
+		 */
+		PREFIX,
+
+		/**
+		 * Exposes a single tool, the one of the first server registered with the
+		 * aggregator, and calls it on the server expected to answer first among those
+		 * providing it
+		 */
+		BALANCE
+
+	}
+
+	private final List<Server> servers;
+
+	private final Map<String, Server> serversByName;
+
+	private final int initializationConcurrency;
+
+	private final ConflictPolicy conflictPolicy;
+
+	private final String separator;
+
+	/** The merged catalog, replaced as a whole when a server's tools change */
+	private volatile Map<String, Route> routes = Map.of();
+
+	private McpClientAggregator(Builder builder) {
+		this.initializationConcurrency = builder.initializationConcurrency;
+		this.conflictPolicy = builder.conflictPolicy;
+		this.separator = builder.separator;
+		this.servers = new ArrayList<>();
+		this.serversByName = new HashMap<>();
+		for (Map.Entry<String, McpClient.AsyncSpec> entry : builder.specs.entrySet()) {
+			String name = entry.getKey();
+			// Adding the consumer to a copy leaves the caller's specification untouched
+			McpAsyncClient client = entry.getValue()
+				.copy()
+				.toolsChangeConsumer(tools -> Mono.fromRunnable(() -> toolsChanged(name, tools)))
+				.build();
+			Server server = new Server(name, client);
+			this.servers.add(server);
+			this.serversByName.put(name, server);
+		}
+	}
+
+	/**
+	 * Create a builder of an aggregator.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Initializes the clients and lists their tools. The servers that fail to initialize
+	 * are logged and left out of the catalog. Calling this method again retries them,
+	 * leaving the servers already initialized as they are.
+	 * @return a Mono completing when all the clients are initialized or failed
+	 */
+	public Mono<Void> initialize() {
+		return Flux.fromIterable(this.servers)
+			.filter(server -> !server.initialized)
+			.flatMap(server -> server.client.initialize()
+				.flatMap(result -> (result.capabilities().tools() != null) ? server.client.listTools()
+						: Mono.just(new McpSchema.ListToolsResult(List.of(), null)))
+				.doOnNext(listToolsResult -> {
+					server.tools = listToolsResult.tools();
+					server.initialized = true;
+				})
+				.onErrorResume(error -> {
+					logger.warn("Failed to initialize server {}: {}", server.name, error.getMessage());
+					server.errors.incrementAndGet();
+					return Mono.empty();
+				}), this.initializationConcurrency)
+			.then(Mono.fromRunnable(this::rebuildRoutes));
+	}
+
+	/**
+	 * The client of a server.
+	 * @param serverName the name of the server
+	 * @return the client, or null if no server has this name
+	 */
+	public McpAsyncClient client(String serverName) {
+		Server server = this.serversByName.get(serverName);
+		return (server != null) ? server.client : null;
+	}
+
+	/**
+	 * The tools of all the servers, under the names they are called with.
+	 * @return a snapshot of the catalog
+	 */
+	public List<McpSchema.Tool> tools() {
+		List<McpSchema.Tool> tools = new ArrayList<>();
+		this.routes.values().forEach(route -> tools.add(route.tool()));
+		return Collections.unmodifiableList(tools);
+	}
+
+	/**
+	 * The name of the server a tool is routed to, when called now.
+	 * @param toolName the name of the tool in the catalog
+	 * @return the name of the server, or null if the tool is unknown
+	 */
+	public String route(String toolName) {
+		Route route = this.routes.get(toolName);
+		return (route != null) ? select(route).server().name : null;
+	}
+
+	/**
+	 * Calls a tool of the catalog on the server providing it.
+	 * @param callToolRequest the request, naming the tool as in the catalog
+	 * @return a Mono emitting the result of the call
+	 */
+	public Mono<McpSchema.CallToolResult> callTool(McpSchema.CallToolRequest callToolRequest) {
+		return Mono.defer(() -> {
+			Route route = this.routes.get(callToolRequest.name());
+			if (route == null) {
+				return Mono.error(new IllegalArgumentException("Unknown tool: " + callToolRequest.name()));
+			}
+			Owner owner = select(route);
+			String toolName = owner.tool().name();
+			McpSchema.CallToolRequest request = toolName.equals(callToolRequest.name()) ? callToolRequest
+					: new McpSchema.CallToolRequest(toolName, callToolRequest.arguments(), callToolRequest.meta());
+			return owner.server().call(request);
+		});
+	}
+
+	/**
+	 * Snapshot of the counters of each server.
+	 * @return the counters, by server name, in registration order
+	 */
+	public Map<String, ServerStats> stats() {
+		Map<String, ServerStats> stats = new LinkedHashMap<>();
+		this.servers.forEach(server -> stats.put(server.name, server.stats()));
+		return stats;
+	}
+
+	/**
+	 * Closes all the clients gracefully.
+	 * @return a Mono completing when all the clients are closed
+	 */
+	public Mono<Void> closeGracefully() {
+		return Flux.fromIterable(this.servers).flatMap(server -> server.client.closeGracefully()).then();
+	}
+
+	private Owner select(Route route) {
+		List<Owner> owners = route.owners();
+		if (owners.size() == 1) {
+			return owners.get(0);
+		}
+		long now = System.nanoTime();
+		Owner best = null;
+		boolean bestAvailable = false;
+		double bestScore = 0;
+		for (Owner owner : owners) {
+			// Failing servers are only called when no other server is available
+			boolean available = owner.server().isAvailable(now);
+			double score = owner.server().score();
+			if (best == null || (available && !bestAvailable) || (available == bestAvailable && score < bestScore)) {
+				best = owner;
+				bestAvailable = available;
+				bestScore = score;
+			}
+		}
+		return best;
+	}
+
+	private void toolsChanged(String serverName, List<McpSchema.Tool> tools) {
+		logger.debug("Tools of server {} changed", serverName);
+		this.serversByName.get(serverName).tools = tools;
+		rebuildRoutes();
+	}
+
+	private synchronized void rebuildRoutes() {
+		// Providers of each tool name, in registration order of the servers
+		Map<String, List<Owner>> ownersByName = new LinkedHashMap<>();
+		for (Server server : this.servers) {
+			for (McpSchema.Tool tool : server.tools) {
+				ownersByName.computeIfAbsent(tool.name(), name -> new ArrayList<>()).add(new Owner(server, tool));
+			}
+		}
+
+		Map<String, Route> routes = new LinkedHashMap<>();
+		if (this.conflictPolicy == ConflictPolicy.PREFIX) {
+			buildPrefixedRoutes(ownersByName, routes);
+		}
+		else {
+			ownersByName.forEach((name, owners) -> {
+				List<Owner> routed = (this.conflictPolicy == ConflictPolicy.BALANCE) ? List.copyOf(owners)
+						: List.of(owners.get(0));
+				routes.put(name, new Route(owners.get(0).tool(), routed));
+			});
+		}
+		this.routes = Collections.unmodifiableMap(routes);
+	}
+
+	/**
+	 * Prefixes the tools sharing a name, then the tools whose name clashes with a
+	 * prefixed one, until all the names are unique. The names that still clash, such as a
+	 * tool "b.c" of a server "a" and a tool "c" of a server "a.b", keep the tool of the
+	 * first server registered.
+	 */
+	private void buildPrefixedRoutes(Map<String, List<Owner>> ownersByName, Map<String, Route> routes) {
+		Set<Owner> prefixed = new HashSet<>();
+		ownersByName.values().stream().filter(owners -> owners.size() > 1).forEach(prefixed::addAll);
+		boolean clashes = true;
+		while (clashes) {
+			clashes = false;
+			Map<String, List<Owner>> ownersByExposedName = new HashMap<>();
+			ownersByName.values()
+				.forEach(owners -> owners.forEach(owner -> ownersByExposedName
+					.computeIfAbsent(exposedName(owner, prefixed), name -> new ArrayList<>())
+					.add(owner)));
+			for (List<Owner> owners : ownersByExposedName.values()) {
+				if (owners.size() > 1) {
+					for (Owner owner : owners) {
+						clashes |= prefixed.add(owner);
+					}
+				}
+			}
+		}
+		ownersByName.values().forEach(owners -> owners.forEach(owner -> {
+			String name = exposedName(owner, prefixed);
+			McpSchema.Tool tool = name.equals(owner.tool().name()) ? owner.tool() : rename(owner.tool(), name);
+			if (routes.putIfAbsent(name, new Route(tool, List.of(owner))) != null) {
+				logger.warn("Tool {} of server {} is hidden by another tool named {}", owner.tool().name(),
+						owner.server().name, name);
+			}
+		}));
+	}
+
+	private String exposedName(Owner owner, Set<Owner> prefixed) {
+		return prefixed.contains(owner) ? owner.server().name + this.separator + owner.tool().name()
+				: owner.tool().name();
+	}
+
+	private static McpSchema.Tool rename(McpSchema.Tool tool, String name) {
+		return new McpSchema.Tool(name, tool.title(), tool.description(), tool.inputSchema(), tool.outputSchema(),
+				tool.annotations(), tool.meta());
+	}
+
+	/**
+	 * Counters of a server.
+	 *
+	 * @param tools the number of tools the server provides
+	 * @param calls the number of tool calls routed to the server
+	 * @param errors the number of failed initializations and tool calls
+	 * @param inFlight the number of tool calls awaiting a response
+	 * @param latency the moving average of the latency of the tool calls
+	 * @param errorRate the moving average of the share of failed tool calls
+	 */
+	public record ServerStats(int tools, long calls, long errors, int inFlight, Duration latency, double errorRate) {
+	}
+
+	private record Owner(Server server, McpSchema.Tool tool) {
+	}
+
+	private record Route(McpSchema.Tool tool, List<Owner> owners) {
+	}
+
+	private static final class Server {
+
+		private final String name;
+
+		private final McpAsyncClient client;
+
+		private final AtomicLong calls = new AtomicLong();
+
+		private final AtomicLong errors = new AtomicLong();
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private volatile List<McpSchema.Tool> tools = List.of();
+
+		private volatile boolean initialized;
+
+		/** Moving averages and failures, guarded by this server */
+		private double latencyNanos;
+
+		private boolean latencySampled;
+
+		private double errorRate;
+
+		private int consecutiveFailures;
+
+		private long openUntilNanos;
+
+		private Server(String name, McpAsyncClient client) {
+			this.name = name;
+			this.client = client;
+		}
+
+		Mono<McpSchema.CallToolResult> call(McpSchema.CallToolRequest request) {
+			return Mono.defer(() -> {
+				long start = System.nanoTime();
+				this.calls.incrementAndGet();
+				this.inFlight.incrementAndGet();
+				return this.client.callTool(request)
+					.doOnSuccess(result -> record(System.nanoTime() - start, false))
+					.doOnError(error -> {
+						this.errors.incrementAndGet();
+						record(System.nanoTime() - start, true);
+					})
+					.doFinally(signal -> this.inFlight.decrementAndGet());
+			});
+		}
+
+		/**
+		 * Records the outcome of a call. Only successful calls feed the latency, so that
+		 * a server failing fast does not look fast.
+		 */
+		private synchronized void record(long latencyNanos, boolean failed) {
+			this.errorRate += SMOOTHING * ((failed ? 1 : 0) - this.errorRate);
+			if (failed) {
+				if (++this.consecutiveFailures >= FAILURES_TO_OPEN) {
+					this.openUntilNanos = System.nanoTime() + OPEN_NANOS;
+				}
+				return;
+			}
+			this.consecutiveFailures = 0;
+			if (this.latencySampled) {
+				this.latencyNanos += SMOOTHING * (latencyNanos - this.latencyNanos);
+			}
+			else {
+				this.latencyNanos = latencyNanos;
+				this.latencySampled = true;
+			}
+		}
+
+		/**
+		 * Whether the server may be called: it did not fail several calls in a row, or it
+		 * did long enough ago to be tried again. A failure of that trial call leaves it
+		 * out again.
+		 */
+		synchronized boolean isAvailable(long nowNanos) {
+			return this.consecutiveFailures < FAILURES_TO_OPEN || nowNanos - this.openUntilNanos >= 0;
+		}
+
+		/**
+		 * The expected time to answer a new call: the average latency times the calls
+		 * ahead of it, divided by the recent success rate. Servers never called
+		 * successfully have no latency yet, so they are tried first.
+		 */
+		synchronized double score() {
+			return Math.max(1, this.latencyNanos) * (this.inFlight.get() + 1) / (1 - this.errorRate);
+		}
+
+		synchronized ServerStats stats() {
+			return new ServerStats(this.tools.size(), this.calls.get(), this.errors.get(), this.inFlight.get(),
+					Duration.ofNanos((long) this.latencyNanos), this.errorRate);
+		}
+
+	}
+
+	/**
+	 * Builder for {@link McpClientAggregator}.
+	 */
+	public static class Builder {
+
+		private final Map<String, McpClient.AsyncSpec> specs = new LinkedHashMap<>();
+
+		private int initializationConcurrency = DEFAULT_INITIALIZATION_CONCURRENCY;
+
+		private ConflictPolicy conflictPolicy = ConflictPolicy.FIRST;
+
+		private String separator = ".";
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds a server. The aggregator builds the client from the given specification,
+		 * adding a consumer of the tool changes.
+		 * @param name the name of the server, unique to the aggregator
+		 * @param spec the specification of the client of the server
+		 * @return this builder
+		 */
+		public Builder server(String name, McpClient.AsyncSpec spec) {
+			Assert.hasText(name, "Server name must not be empty");
+			Assert.notNull(spec, "Client specification must not be null");
+			Assert.isTrue(!this.specs.containsKey(name), "Duplicate server name: " + name);
+			this.specs.put(name, spec);
+			return this;
+		}
+
+		/**
+		 * Sets the number of clients initialized concurrently. Defaults to
+		 * {@link McpClientAggregator#DEFAULT_INITIALIZATION_CONCURRENCY}.
+		 * @param initializationConcurrency the number of concurrent initializations
+		 * @return this builder
+		 */
+		public Builder initializationConcurrency(int initializationConcurrency) {
+			Assert.isTrue(initializationConcurrency > 0, "Initialization concurrency must be positive");
+			this.initializationConcurrency = initializationConcurrency;
+			return this;
+		}
+
+		/**
+		 * Sets how the tools sharing a name across servers are exposed. Defaults to
+		 * {@link ConflictPolicy#FIRST}.
+		 * @param conflictPolicy the conflict policy
+		 * @return this builder
+		 */
+		public Builder conflictPolicy(ConflictPolicy conflictPolicy) {
+			Assert.notNull(conflictPolicy, "Conflict policy must not be null");
+			this.conflictPolicy = conflictPolicy;
+			return this;
+		}
+
+		/**
+		 * Sets the separator between the server name and the tool name with
+		 * {@link ConflictPolicy#PREFIX}. Defaults to {@code "."}.
+		 * @param separator the separator
+		 * @return this builder
+		 */
+		public Builder separator(String separator) {
+			Assert.hasText(separator, "Separator must not be empty");
+			this.separator = separator;
+			return this;
+		}
+
+		/**
+		 * Builds the clients and the aggregator. The clients are initialized by
+		 * {@link McpClientAggregator#initialize()}.
+		 * @return a new aggregator
+		 */
+		public McpClientAggregator build() {
+			Assert.isTrue(!this.specs.isEmpty(), "At least one server must be added");
+			return new McpClientAggregator(this);
+		}
+
+	}
+
+}
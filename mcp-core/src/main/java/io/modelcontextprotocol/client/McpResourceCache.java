@@ -0,0 +1,622 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A client-side cache of the contents read from an MCP server, keyed by resource URI.
+ * <p>
+ * The cached contents expire after the time to live. When the server supports resource
+ * subscriptions, the client also subscribes to every resource it caches and evicts it on
+ * {@code notifications/resources/updated}, so that changes are seen before the contents
+ * expire. A resource that leaves the cache, by expiry, eviction or invalidation, is
+ * unsubscribed from, unless the application subscribed to it. The cache holds up to a
+ * budget of bytes, estimated from the length of the texts and blobs, and evicts the least
+ * recently or the least frequently read resources beyond it.
+ * <p>
+ * Blobs larger than the off-heap threshold are held, in their base64 form, in direct
+ * buffers or in memory-mapped spill files when a spill directory is set. They are copied
+ * to the heap only when returned, and their memory is released once they are evicted and
+ * garbage collected.
+ * <p>
+ * A cache belongs to a single client and must not be shared.
+ *
+ * @see McpClient.AsyncSpec#resourceCache(McpResourceCache)
+ * @see McpClient.SyncSpec#resourceCache(McpResourceCache)
+ */
+public class McpResourceCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpResourceCache.class);
+
+	/** Default budget of the cache, in bytes */
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	/** Default time to live of the cached contents */
+	public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+	/**
+	 * The policies choosing the resources to evict beyond the budget.
+	 */
+	public enum Eviction {
+
+		/** Evicts the least recently read resources first */
+		LRU,
+
+		/**
+		 * Evicts the least frequently read resources first, the least recently read among
+		 * them
+		 */
+		LFU
+
+	}
+
+	private final long maxBytes;
+
+	private final Duration ttl;
+
+	private final Eviction eviction;
+
+	private final int offHeapThreshold;
+
+	private final Path spillDirectory;
+
+	private final Scheduler clock;
+
+	/** Entries in access order, guarded by this cache */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Generation of the last read started per URI, guarded by this cache. Removed when
+	 * the URI is invalidated, so that the contents of an earlier read are not cached.
+	 */
+	private final Map<String, Long> loading = new HashMap<>();
+
+	/** Subscriptions of the current session made for the cache, per URI */
+	private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+	/** URIs the application subscribed to, which the cache does not unsubscribe from */
+	private final Set<String> applicationSubscriptions = ConcurrentHashMap.newKeySet();
+
+	private long generation;
+
+	private long bytes;
+
+	private long offHeapBytes;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	private McpResourceCache(Builder builder) {
+		this.maxBytes = builder.maxBytes;
+		this.ttl = builder.ttl;
+		this.eviction = builder.eviction;
+		this.offHeapThreshold = builder.offHeapThreshold;
+		this.spillDirectory = builder.spillDirectory;
+		this.clock = builder.clock;
+	}
+
+	/**
+	 * Create a builder of a resource cache.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private long now() {
+		return this.clock.now(TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the cached contents of a resource.
+	 * @param uri the URI of the resource
+	 * @return the contents, or null if they are not cached or expired
+	 */
+	McpSchema.ReadResourceResult get(String uri) {
+		synchronized (this) {
+			Entry entry = this.entries.get(uri);
+			if (entry != null && now() - entry.expiresNanos < 0) {
+				this.hits++;
+				entry.frequency++;
+				return entry.toResult();
+			}
+			this.misses++;
+			if (entry == null) {
+				return null;
+			}
+			remove(uri);
+		}
+		release(uri);
+		return null;
+	}
+
+	/**
+	 * Registers a read of a resource about to be sent to the server.
+	 * @param uri the URI of the resource
+	 * @return the generation of the read, to hand to {@link #put} with the contents read
+	 */
+	synchronized long beginLoad(String uri) {
+		long generation = ++this.generation;
+		this.loading.put(uri, generation);
+		return generation;
+	}
+
+	/**
+	 * Ends a read of a resource. If its contents were not cached, and no other read of
+	 * the resource is in progress, the subscription made for the read is released.
+	 * @param uri the URI of the resource
+	 * @param generation the generation returned by {@link #beginLoad}
+	 */
+	void endLoad(String uri, long generation) {
+		synchronized (this) {
+			if (!this.loading.remove(uri, generation) || this.entries.containsKey(uri)) {
+				return;
+			}
+		}
+		release(uri);
+	}
+
+	/**
+	 * Caches the contents of a resource, unless the resource was invalidated or read
+	 * again since the read started.
+	 * @param uri the URI of the resource
+	 * @param generation the generation returned by {@link #beginLoad}
+	 * @param result the contents read
+	 */
+	void put(String uri, long generation, McpSchema.ReadResourceResult result) {
+		synchronized (this) {
+			if (!Long.valueOf(generation).equals(this.loading.get(uri))) {
+				return;
+			}
+		}
+		Entry entry;
+		try {
+			entry = store(result);
+		}
+		catch (RuntimeException e) {
+			logger.warn("Failed to cache the contents of {}: {}", uri, e.getMessage());
+			return;
+		}
+		if (entry.bytes > this.maxBytes) {
+			return;
+		}
+		List<String> evicted;
+		synchronized (this) {
+			// Checked again along with the insert, as the resource may have been
+			// invalidated while its contents were being stored
+			if (!this.loading.remove(uri, generation)) {
+				return;
+			}
+			remove(uri);
+			this.entries.put(uri, entry);
+			this.bytes += entry.bytes;
+			this.offHeapBytes += entry.offHeapBytes;
+			evicted = evictBeyondBudget(uri);
+		}
+		evicted.forEach(this::release);
+	}
+
+	/**
+	 * Evicts the contents of a resource, discards the reads of it in progress and
+	 * unsubscribes from its updates.
+	 * @param uri the URI of the resource
+	 */
+	public void invalidate(String uri) {
+		evict(uri);
+		release(uri);
+	}
+
+	/**
+	 * Evicts the contents of all the resources and unsubscribes from their updates.
+	 */
+	public void invalidateAll() {
+		synchronized (this) {
+			this.loading.clear();
+			this.entries.clear();
+			this.bytes = 0;
+			this.offHeapBytes = 0;
+		}
+		List.copyOf(this.subscriptions.keySet()).forEach(this::release);
+	}
+
+	/**
+	 * Evicts the contents of a resource that changed, and discards the reads of it in
+	 * progress, keeping the subscription to its updates.
+	 * @param uri the URI of the resource
+	 */
+	synchronized void evict(String uri) {
+		this.loading.remove(uri);
+		remove(uri);
+	}
+
+	/**
+	 * Subscribes to the updates of a resource, once per session. Concurrent reads of the
+	 * resource share the same subscription. A failed subscription is forgotten, to be
+	 * attempted again by the next read. A resource the application subscribed to is not
+	 * subscribed to again.
+	 * @param uri the URI of the resource
+	 * @param subscriber sends the subscription request, emitting whether it succeeded
+	 * @param unsubscriber sends the unsubscription request, once the resource leaves the
+	 * cache
+	 * @return a Mono emitting whether the client is subscribed to the resource
+	 */
+	Mono<Boolean> subscribe(String uri, Function<String, Mono<Boolean>> subscriber,
+			Function<String, Mono<Void>> unsubscriber) {
+		if (this.applicationSubscriptions.contains(uri)) {
+			return Mono.just(true);
+		}
+		Subscription subscription = this.subscriptions.computeIfAbsent(uri,
+				key -> new Subscription(subscriber.apply(key).defaultIfEmpty(false).cache(), unsubscriber));
+		return subscription.subscribed().doOnNext(subscribed -> {
+			if (!subscribed) {
+				this.subscriptions.remove(uri, subscription);
+			}
+		});
+	}
+
+	/**
+	 * Records that the application subscribed to a resource, so that the cache does not
+	 * unsubscribe from it.
+	 * @param uri the URI of the resource
+	 */
+	void subscribedByApplication(String uri) {
+		this.applicationSubscriptions.add(uri);
+	}
+
+	/**
+	 * Records that the application unsubscribed from a resource, which ends the updates
+	 * of the cached contents: they are evicted and the subscription is forgotten.
+	 * @param uri the URI of the resource
+	 */
+	void unsubscribedByApplication(String uri) {
+		this.applicationSubscriptions.remove(uri);
+		this.subscriptions.remove(uri);
+		evict(uri);
+	}
+
+	/**
+	 * Evicts all the contents and forgets the subscriptions, when the client initializes
+	 * a new session.
+	 */
+	void reset() {
+		this.subscriptions.clear();
+		this.applicationSubscriptions.clear();
+		invalidateAll();
+	}
+
+	/**
+	 * Forgets the subscription to a resource that left the cache, and unsubscribes from
+	 * it once it succeeded.
+	 */
+	private void release(String uri) {
+		Subscription subscription = this.subscriptions.remove(uri);
+		if (subscription == null || this.applicationSubscriptions.contains(uri)) {
+			return;
+		}
+		subscription.subscribed()
+			.filter(Boolean::booleanValue)
+			.flatMap(subscribed -> subscription.unsubscriber().apply(uri))
+			.subscribe(null, error -> logger.warn("Failed to unsubscribe from {}: {}", uri, error.getMessage()));
+	}
+
+	private void remove(String uri) {
+		Entry entry = this.entries.remove(uri);
+		if (entry != null) {
+			this.bytes -= entry.bytes;
+			this.offHeapBytes -= entry.offHeapBytes;
+		}
+	}
+
+	private List<String> evictBeyondBudget(String added) {
+		List<String> evicted = new ArrayList<>();
+		while (this.bytes > this.maxBytes) {
+			String victim = null;
+			if (this.eviction == Eviction.LRU) {
+				victim = this.entries.keySet().iterator().next();
+			}
+			else {
+				// Scan from the least recently read entry, keeping the first of the
+				// least frequently read ones, except the entry just added
+				long lowest = Long.MAX_VALUE;
+				for (Map.Entry<String, Entry> candidate : this.entries.entrySet()) {
+					if (!candidate.getKey().equals(added) && candidate.getValue().frequency < lowest) {
+						lowest = candidate.getValue().frequency;
+						victim = candidate.getKey();
+					}
+				}
+			}
+			remove(victim);
+			evicted.add(victim);
+			this.evictions++;
+		}
+		return evicted;
+	}
+
+	private Entry store(McpSchema.ReadResourceResult result) {
+		List<Object> contents = new ArrayList<>(result.contents().size());
+		long bytes = 0;
+		long offHeapBytes = 0;
+		for (McpSchema.ResourceContents content : result.contents()) {
+			if (content instanceof McpSchema.BlobResourceContents blob && this.offHeapThreshold >= 0
+					&& blob.blob() != null && blob.blob().length() > this.offHeapThreshold) {
+				contents.add(new OffHeapBlob(blob.uri(), blob.mimeType(), allocate(blob.blob()), blob.meta()));
+				bytes += blob.blob().length();
+				offHeapBytes += blob.blob().length();
+			}
+			else {
+				contents.add(content);
+				bytes += weight(content);
+			}
+		}
+		return new Entry(contents, result.meta(), bytes, offHeapBytes, now() + this.ttl.toNanos());
+	}
+
+	private static long weight(McpSchema.ResourceContents content) {
+		if (content instanceof McpSchema.TextResourceContents text) {
+			return (text.text() != null) ? text.text().length() : 0;
+		}
+		if (content instanceof McpSchema.BlobResourceContents blob) {
+			return (blob.blob() != null) ? blob.blob().length() : 0;
+		}
+		return 0;
+	}
+
+	/**
+	 * Writes a base64 text off the heap, one byte per character, without copying it to
+	 * the heap first.
+	 */
+	private ByteBuffer allocate(String base64) {
+		if (this.spillDirectory == null) {
+			return write(base64, ByteBuffer.allocateDirect(base64.length()));
+		}
+		try {
+			Path file = Files.createTempFile(this.spillDirectory, "mcp-resource-", ".bin");
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				// The mapping outlives the channel and the file name
+				return write(base64, channel.map(FileChannel.MapMode.READ_WRITE, 0, base64.length()));
+			}
+			finally {
+				try {
+					Files.deleteIfExists(file);
+				}
+				catch (IOException e) {
+					file.toFile().deleteOnExit();
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static ByteBuffer write(String base64, ByteBuffer buffer) {
+		CoderResult result = StandardCharsets.ISO_8859_1.newEncoder().encode(CharBuffer.wrap(base64), buffer, true);
+		if (!result.isUnderflow()) {
+			throw new IllegalArgumentException("Blob is not base64: " + result);
+		}
+		return buffer.flip();
+	}
+
+	/**
+	 * Snapshot of the counters of this cache.
+	 * @return the hits, misses and evictions so far, and the current size of the cache
+	 */
+	public synchronized Stats stats() {
+		return new Stats(this.hits, this.misses, this.evictions, this.entries.size(), this.bytes, this.offHeapBytes);
+	}
+
+	/**
+	 * Counters of a cache.
+	 *
+	 * @param hits the number of reads served from the cache
+	 * @param misses the number of reads sent to the server
+	 * @param evictions the number of resources evicted beyond the budget
+	 * @param entries the number of resources cached
+	 * @param bytes the estimated size of the cached contents
+	 * @param offHeapBytes the part of the size held off the heap
+	 */
+	public record Stats(long hits, long misses, long evictions, int entries, long bytes, long offHeapBytes) {
+
+		/**
+		 * The share of the reads served from the cache.
+		 * @return the hit rate, between 0 and 1, or 0 if there was no read yet
+		 */
+		public double hitRate() {
+			long total = this.hits + this.misses;
+			return (total == 0) ? 0 : (double) this.hits / total;
+		}
+
+	}
+
+	/**
+	 * A subscription made for the cache, emitting whether it succeeded.
+	 */
+	private record Subscription(Mono<Boolean> subscribed, Function<String, Mono<Void>> unsubscriber) {
+	}
+
+	/**
+	 * A blob held off the heap in its base64 form.
+	 */
+	private record OffHeapBlob(String uri, String mimeType, ByteBuffer data, Map<String, Object> meta) {
+
+		McpSchema.BlobResourceContents toContents() {
+			byte[] base64 = new byte[this.data.remaining()];
+			this.data.duplicate().get(base64);
+			return new McpSchema.BlobResourceContents(this.uri, this.mimeType,
+					new String(base64, StandardCharsets.ISO_8859_1), this.meta);
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final List<Object> contents;
+
+		private final Map<String, Object> meta;
+
+		private final long bytes;
+
+		private final long offHeapBytes;
+
+		private final long expiresNanos;
+
+		private long frequency;
+
+		private Entry(List<Object> contents, Map<String, Object> meta, long bytes, long offHeapBytes,
+				long expiresNanos) {
+			this.contents = contents;
+			this.meta = meta;
+			this.bytes = bytes;
+			this.offHeapBytes = offHeapBytes;
+			this.expiresNanos = expiresNanos;
+		}
+
+		McpSchema.ReadResourceResult toResult() {
+			List<McpSchema.ResourceContents> contents = new ArrayList<>(this.contents.size());
+			for (Object content : this.contents) {
+				contents.add((content instanceof OffHeapBlob blob) ? blob.toContents()
+						: (McpSchema.ResourceContents) content);
+			}
+			return new McpSchema.ReadResourceResult(contents, this.meta);
+		}
+
+	}
+
+	/**
+	 * Builder for {@link McpResourceCache}.
+	 */
+	public static class Builder {
+
+		private long maxBytes = DEFAULT_MAX_BYTES;
+
+		private Duration ttl = DEFAULT_TTL;
+
+		private Eviction eviction = Eviction.LRU;
+
+		private int offHeapThreshold = -1;
+
+		private Path spillDirectory;
+
+		private Scheduler clock = Schedulers.parallel();
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the budget of the cache. Defaults to
+		 * {@link McpResourceCache#DEFAULT_MAX_BYTES}.
+		 * @param maxBytes the estimated size of the cached contents, in bytes
+		 * @return this builder
+		 */
+		public Builder maxBytes(long maxBytes) {
+			Assert.isTrue(maxBytes > 0, "Max bytes must be positive");
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		/**
+		 * Sets how long the contents of a resource are served, unless they are updated
+		 * sooner. Defaults to {@link McpResourceCache#DEFAULT_TTL}.
+		 * @param ttl the time to live of the contents
+		 * @return this builder
+		 */
+		public Builder ttl(Duration ttl) {
+			Assert.notNull(ttl, "TTL must not be null");
+			Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "TTL must be positive");
+			this.ttl = ttl;
+			return this;
+		}
+
+		/**
+		 * Sets the policy choosing the resources to evict beyond the budget. Defaults to
+		 * {@link Eviction#LRU}.
+		 * @param eviction the eviction policy
+		 * @return this builder
+		 */
+		public Builder eviction(Eviction eviction) {
+			Assert.notNull(eviction, "Eviction must not be null");
+			this.eviction = eviction;
+			return this;
+		}
+
+		/**
+		 * Holds the blobs longer than the given number of base64 characters off the heap.
+		 * Disabled by default.
+		 * @param offHeapThreshold the length beyond which blobs are held off the heap
+		 * @return this builder
+		 */
+		public Builder offHeapThreshold(int offHeapThreshold) {
+			Assert.isTrue(offHeapThreshold >= 0, "Off-heap threshold must not be negative");
+			this.offHeapThreshold = offHeapThreshold;
+			return this;
+		}
+
+		/**
+		 * Holds the blobs beyond the off-heap threshold in memory-mapped files created in
+		 * the given directory, rather than in direct buffers. The files are deleted as
+		 * soon as they are mapped.
+		 * @param spillDirectory the directory of the spill files, or null to use direct
+		 * buffers
+		 * @return this builder
+		 */
+		public Builder spillDirectory(Path spillDirectory) {
+			this.spillDirectory = spillDirectory;
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler whose clock expires the contents. Defaults to the parallel
+		 * scheduler.
+		 * @param clock the scheduler
+		 * @return this builder
+		 */
+		public Builder clock(Scheduler clock) {
+			Assert.notNull(clock, "Clock must not be null");
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Builds the cache.
+		 * @return a new cache
+		 */
+		public McpResourceCache build() {
+			return new McpResourceCache(this);
+		}
+
+	}
+
+}
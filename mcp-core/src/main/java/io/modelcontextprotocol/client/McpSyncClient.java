@@ -5,6 +5,7 @@
 package io.modelcontextprotocol.client;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -237,6 +238,20 @@ public class McpSyncClient implements AutoCloseable {
 
 	}
 
+	/**
+	 * Calls several tools provided by the server concurrently, rather than one after
+	 * another, with at most {@code concurrency} calls in flight. A call that times out,
+	 * that the server answers with an error or whose structured content does not match
+	 * the output schema of the tool does not fail the others: its result is an error
+	 * result carrying the failure message. Any other failure fails the batch.
+	 * @param callToolRequests The requests containing the tool names and arguments
+	 * @param concurrency The maximum number of calls in flight
+	 * @return The results of the tool calls, in the order of the requests
+	 */
+	public List<McpSchema.CallToolResult> callTools(List<McpSchema.CallToolRequest> callToolRequests, int concurrency) {
+		return withProvidedContext(this.delegate.callTools(callToolRequests, concurrency)).block();
+	}
+
 	/**
 	 * Retrieves the list of all tools provided by the server.
 	 * @return The list of all tools result containing: - tools: List of available tools,
@@ -6,12 +6,13 @@ package io.modelcontextprotocol.client.transport;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -21,6 +22,9 @@ import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
 import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.McpSchedulers;
+import io.modelcontextprotocol.util.NewlineFrameReader;
+import io.modelcontextprotocol.util.NewlineFrameWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
@@ -50,6 +54,9 @@ public class StdioClientTransport implements McpClientTransport {
 
 	private McpJsonMapper jsonMapper;
 
+	/** Writer of the outbound messages, used by the outbound scheduler only */
+	private final NewlineFrameWriter frameWriter;
+
 	/** Scheduler for handling inbound messages from the server process */
 	private Scheduler inboundScheduler;
 
@@ -75,6 +82,18 @@ public class StdioClientTransport implements McpClientTransport {
 	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
 	 */
 	public StdioClientTransport(ServerParameters params, McpJsonMapper jsonMapper) {
+		this(params, jsonMapper, false);
+	}
+
+	/**
+	 * Creates a new StdioClientTransport with the specified parameters, JsonMapper, and
+	 * kind of threads blocking on the streams of the server process.
+	 * @param params The parameters for configuring the server process
+	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param virtualThreads Whether to read and write the process streams on virtual
+	 * threads, when supported by the runtime
+	 */
+	public StdioClientTransport(ServerParameters params, McpJsonMapper jsonMapper, boolean virtualThreads) {
 		Assert.notNull(params, "The params can not be null");
 		Assert.notNull(jsonMapper, "The JsonMapper can not be null");
 
@@ -84,13 +103,17 @@ public class StdioClientTransport implements McpClientTransport {
 		this.params = params;
 
 		this.jsonMapper = jsonMapper;
+		this.frameWriter = new NewlineFrameWriter(jsonMapper);
 
 		this.errorSink = Sinks.many().unicast().onBackpressureBuffer();
 
 		// Start threads
-		this.inboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(), "inbound");
-		this.outboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(), "outbound");
-		this.errorScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(), "error");
+		this.inboundScheduler = Schedulers.fromExecutorService(
+				McpSchedulers.newSingleThreadExecutor("stdio-client-inbound", virtualThreads), "inbound");
+		this.outboundScheduler = Schedulers.fromExecutorService(
+				McpSchedulers.newSingleThreadExecutor("stdio-client-outbound", virtualThreads), "outbound");
+		this.errorScheduler = Schedulers
+			.fromExecutorService(McpSchedulers.newSingleThreadExecutor("stdio-client-error", virtualThreads), "error");
 	}
 
 	/**
@@ -246,11 +269,14 @@ public class StdioClientTransport implements McpClientTransport {
 	 */
 	private void startInboundProcessing() {
 		this.inboundScheduler.schedule(() -> {
-			try (BufferedReader processReader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-				String line;
-				while (!isClosing && (line = processReader.readLine()) != null) {
+			try (InputStream processInput = process.getInputStream()) {
+				// Frames are parsed straight from the bytes read, without decoding them
+				// to strings first
+				NewlineFrameReader reader = new NewlineFrameReader(processInput);
+				ByteBuffer frame;
+				while (!isClosing && (frame = reader.nextFrame()) != null) {
 					try {
-						JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(this.jsonMapper, line);
+						JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(this.jsonMapper, frame);
 						if (!this.inboundSink.tryEmitNext(message).isSuccess()) {
 							if (!isClosing) {
 								logger.error("Failed to enqueue inbound message: {}", message);
@@ -260,7 +286,8 @@ public class StdioClientTransport implements McpClientTransport {
 					}
 					catch (Exception e) {
 						if (!isClosing) {
-							logger.error("Error processing inbound message for line: {}", line, e);
+							logger.error("Error processing inbound message for line: {}",
+									StandardCharsets.UTF_8.decode(frame), e);
 						}
 						break;
 					}
@@ -291,17 +318,14 @@ public class StdioClientTransport implements McpClientTransport {
 			.handle((message, s) -> {
 				if (message != null && !isClosing) {
 					try {
-						String jsonMessage = jsonMapper.writeValueAsString(message);
-						// Escape any embedded newlines in the JSON message as per spec:
+						// Messages are delimited by newlines, and MUST NOT contain
+						// embedded newlines:
 						// https://spec.modelcontextprotocol.io/specification/basic/transports/#stdio
-						// - Messages are delimited by newlines, and MUST NOT contain
-						// embedded newlines.
-						jsonMessage = jsonMessage.replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
-
+						// Compact JSON never contains raw newlines, and the message and
+						// its delimiter reach the process stream in a single write.
 						var os = this.process.getOutputStream();
 						synchronized (os) {
-							os.write(jsonMessage.getBytes(StandardCharsets.UTF_8));
-							os.write("\n".getBytes(StandardCharsets.UTF_8));
+							this.frameWriter.write(os, message);
 							os.flush();
 						}
 						s.next(message);
@@ -364,7 +388,7 @@ public class StdioClientTransport implements McpClientTransport {
 			}
 		}).then(Mono.fromRunnable(() -> {
 			try {
-				// The Threads are blocked on readLine so disposeGracefully would not
+				// The Threads are blocked on reads so disposeGracefully would not
 				// interrupt them, therefore we issue an async hard dispose.
 				inboundScheduler.dispose();
 				errorScheduler.dispose();
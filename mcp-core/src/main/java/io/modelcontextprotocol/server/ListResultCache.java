@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+
+/**
+ * Caches the serialized pages of a list result, such as the {@code tools/list} result,
+ * for one version of the listed catalog.
+ * <p>
+ * Pages are cached by the cursor they start after, and serialized once with
+ * {@link McpJsonMapper#writeValueAsRawValue}, so that answering a list request for an
+ * unchanged catalog only copies the cached JSON. The cache is dropped as a whole as soon
+ * as a request sees a newer catalog version.
+ */
+final class ListResultCache {
+
+	/**
+	 * Limit on the pages cached per version, as clients can resume a list from any cursor
+	 * they were ever given.
+	 */
+	private static final int MAX_PAGES = 256;
+
+	private final McpJsonMapper jsonMapper;
+
+	private volatile Pages pages = new Pages(-1, new ConcurrentHashMap<>());
+
+	ListResultCache(McpJsonMapper jsonMapper) {
+		this.jsonMapper = jsonMapper;
+	}
+
+	/**
+	 * Return the serialized page starting after the given sequence number.
+	 * @param version the version of the catalog, read before the page is computed
+	 * @param afterSequence the sequence number the page starts after
+	 * @param result computes the page result when it is not cached
+	 * @return the serialized page result
+	 */
+	Object get(long version, long afterSequence, Supplier<?> result) {
+		Pages pages = this.pages;
+		if (pages.version() != version) {
+			if (pages.version() > version) {
+				// Raced with a catalog change, the page is outdated already
+				return serialize(result.get());
+			}
+			pages = new Pages(version, new ConcurrentHashMap<>());
+			this.pages = pages;
+		}
+		Object page = pages.byCursor().get(afterSequence);
+		if (page == null) {
+			page = serialize(result.get());
+			if (pages.byCursor().size() < MAX_PAGES) {
+				pages.byCursor().putIfAbsent(afterSequence, page);
+			}
+		}
+		return page;
+	}
+
+	private Object serialize(Object result) {
+		try {
+			return this.jsonMapper.writeValueAsRawValue(result);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private record Pages(long version, Map<Long, Object> byCursor) {
+	}
+
+}
@@ -4,14 +4,18 @@
 
 package io.modelcontextprotocol.server;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 
 import io.modelcontextprotocol.json.McpJsonMapper;
@@ -34,10 +38,13 @@ import io.modelcontextprotocol.spec.McpSchema.Tool;
 import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.McpServerTransportProviderBase;
+import io.modelcontextprotocol.spec.McpStreamableServerSession;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.DeafaultMcpUriTemplateManagerFactory;
 import io.modelcontextprotocol.util.McpUriTemplateManagerFactory;
+import io.modelcontextprotocol.util.McpUriTemplateRouter;
 import io.modelcontextprotocol.util.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -98,19 +105,33 @@ public class McpAsyncServer {
 
 	private final JsonSchemaValidator jsonSchemaValidator;
 
+	private final McpListPageSizes listPageSizes;
+
+	private final ListResultCache toolsListCache;
+
+	private final ListResultCache resourcesListCache;
+
+	private final ListResultCache resourceTemplatesListCache;
+
+	private final ListResultCache promptsListCache;
+
+	private final ResourceSubscriptions resourceSubscriptions;
+
 	private final McpSchema.ServerCapabilities serverCapabilities;
 
 	private final McpSchema.Implementation serverInfo;
 
 	private final String instructions;
 
-	private final CopyOnWriteArrayList<McpServerFeatures.AsyncToolSpecification> tools = new CopyOnWriteArrayList<>();
+	private final SpecificationRegistry<McpServerFeatures.AsyncToolSpecification> tools = new SpecificationRegistry<>(
+			toolSpecification -> toolSpecification.tool().name());
 
-	private final ConcurrentHashMap<String, McpServerFeatures.AsyncResourceSpecification> resources = new ConcurrentHashMap<>();
+	private final McpUriTemplateRouter<McpServerFeatures.AsyncResourceSpecification> resources;
 
-	private final ConcurrentHashMap<String, McpServerFeatures.AsyncResourceTemplateSpecification> resourceTemplates = new ConcurrentHashMap<>();
+	private final McpUriTemplateRouter<McpServerFeatures.AsyncResourceTemplateSpecification> resourceTemplates;
 
-	private final ConcurrentHashMap<String, McpServerFeatures.AsyncPromptSpecification> prompts = new ConcurrentHashMap<>();
+	private final SpecificationRegistry<McpServerFeatures.AsyncPromptSpecification> prompts = new SpecificationRegistry<>(
+			promptSpecification -> promptSpecification.prompt().name());
 
 	// FIXME: this field is deprecated and should be remvoed together with the
 	// broadcasting loggingNotification.
@@ -131,52 +152,113 @@ public class McpAsyncServer {
 	 */
 	McpAsyncServer(McpServerTransportProvider mcpTransportProvider, McpJsonMapper jsonMapper,
 			McpServerFeatures.Async features, Duration requestTimeout,
-			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator) {
+			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator,
+			McpListPageSizes listPageSizes) {
+		this(mcpTransportProvider, jsonMapper, features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator,
+				listPageSizes, false);
+	}
+
+	/**
+	 * Create a new McpAsyncServer with the given transport provider and capabilities.
+	 * @param mcpTransportProvider The transport layer implementation for MCP
+	 * communication.
+	 * @param features The MCP server supported features.
+	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param compactRequestIds Whether the sessions send numeric request IDs to the
+	 * clients
+	 */
+	McpAsyncServer(McpServerTransportProvider mcpTransportProvider, McpJsonMapper jsonMapper,
+			McpServerFeatures.Async features, Duration requestTimeout,
+			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator,
+			McpListPageSizes listPageSizes, boolean compactRequestIds) {
 		this.mcpTransportProvider = mcpTransportProvider;
 		this.jsonMapper = jsonMapper;
 		this.serverInfo = features.serverInfo();
 		this.serverCapabilities = features.serverCapabilities().mutate().logging().build();
 		this.instructions = features.instructions();
 		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, features.tools()));
+		this.resources = new McpUriTemplateRouter<>(uriTemplateManagerFactory);
 		this.resources.putAll(features.resources());
+		this.resourceTemplates = new McpUriTemplateRouter<>(uriTemplateManagerFactory);
 		this.resourceTemplates.putAll(features.resourceTemplates());
-		this.prompts.putAll(features.prompts());
+		this.prompts.addAll(features.prompts().values());
 		this.completions.putAll(features.completions());
 		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
+		this.resourceSubscriptions = new ResourceSubscriptions(uriTemplateManagerFactory);
 		this.jsonSchemaValidator = jsonSchemaValidator;
+		this.listPageSizes = listPageSizes;
+		this.toolsListCache = new ListResultCache(jsonMapper);
+		this.resourcesListCache = new ListResultCache(jsonMapper);
+		this.resourceTemplatesListCache = new ListResultCache(jsonMapper);
+		this.promptsListCache = new ListResultCache(jsonMapper);
 
 		Map<String, McpRequestHandler<?>> requestHandlers = prepareRequestHandlers();
 		Map<String, McpNotificationHandler> notificationHandlers = prepareNotificationHandlers(features);
 
 		this.protocolVersions = mcpTransportProvider.protocolVersions();
 
-		mcpTransportProvider.setSessionFactory(transport -> new McpServerSession(UUID.randomUUID().toString(),
-				requestTimeout, transport, this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers));
+		mcpTransportProvider.setSessionFactory(transport -> {
+			McpServerSession session = new McpServerSession(UUID.randomUUID().toString(), requestTimeout, transport,
+					this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers, compactRequestIds);
+			session.addCloseHandler(() -> this.resourceSubscriptions.removeSession(session.getId()));
+			return session;
+		});
 	}
 
 	McpAsyncServer(McpStreamableServerTransportProvider mcpTransportProvider, McpJsonMapper jsonMapper,
 			McpServerFeatures.Async features, Duration requestTimeout,
-			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator) {
+			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator,
+			McpListPageSizes listPageSizes) {
 		this.mcpTransportProvider = mcpTransportProvider;
 		this.jsonMapper = jsonMapper;
 		this.serverInfo = features.serverInfo();
 		this.serverCapabilities = features.serverCapabilities().mutate().logging().build();
 		this.instructions = features.instructions();
 		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, features.tools()));
+		this.resources = new McpUriTemplateRouter<>(uriTemplateManagerFactory);
 		this.resources.putAll(features.resources());
+		this.resourceTemplates = new McpUriTemplateRouter<>(uriTemplateManagerFactory);
 		this.resourceTemplates.putAll(features.resourceTemplates());
-		this.prompts.putAll(features.prompts());
+		this.prompts.addAll(features.prompts().values());
 		this.completions.putAll(features.completions());
 		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
+		this.resourceSubscriptions = new ResourceSubscriptions(uriTemplateManagerFactory);
 		this.jsonSchemaValidator = jsonSchemaValidator;
+		this.listPageSizes = listPageSizes;
+		this.toolsListCache = new ListResultCache(jsonMapper);
+		this.resourcesListCache = new ListResultCache(jsonMapper);
+		this.resourceTemplatesListCache = new ListResultCache(jsonMapper);
+		this.promptsListCache = new ListResultCache(jsonMapper);
 
 		Map<String, McpRequestHandler<?>> requestHandlers = prepareRequestHandlers();
 		Map<String, McpNotificationHandler> notificationHandlers = prepareNotificationHandlers(features);
 
 		this.protocolVersions = mcpTransportProvider.protocolVersions();
 
-		mcpTransportProvider.setSessionFactory(new DefaultMcpStreamableServerSessionFactory(requestTimeout,
-				this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers));
+		McpStreamableServerSession.Factory sessionFactory = new DefaultMcpStreamableServerSessionFactory(requestTimeout,
+				this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers,
+				mcpTransportProvider.eventStore(), mcpTransportProvider.sessionStore());
+		mcpTransportProvider.setSessionFactory(new McpStreamableServerSession.Factory() {
+
+			@Override
+			public McpStreamableServerSession.McpStreamableServerSessionInit startSession(
+					McpSchema.InitializeRequest initializeRequest) {
+				McpStreamableServerSession.McpStreamableServerSessionInit init = sessionFactory
+					.startSession(initializeRequest);
+				removeSubscriptionsOnClose(init.session());
+				return init;
+			}
+
+			@Override
+			public Mono<McpStreamableServerSession> loadSession(String sessionId) {
+				return sessionFactory.loadSession(sessionId).doOnNext(McpAsyncServer.this::removeSubscriptionsOnClose);
+			}
+
+		});
+	}
+
+	private void removeSubscriptionsOnClose(McpStreamableServerSession session) {
+		session.addCloseHandler(() -> this.resourceSubscriptions.removeSession(session.getId()));
 	}
 
 	private Map<String, McpNotificationHandler> prepareNotificationHandlers(McpServerFeatures.Async features) {
@@ -216,6 +298,10 @@ public class McpAsyncServer {
 			requestHandlers.put(McpSchema.METHOD_RESOURCES_LIST, resourcesListRequestHandler());
 			requestHandlers.put(McpSchema.METHOD_RESOURCES_READ, resourcesReadRequestHandler());
 			requestHandlers.put(McpSchema.METHOD_RESOURCES_TEMPLATES_LIST, resourceTemplateListRequestHandler());
+			if (isResourceSubscriptionEnabled()) {
+				requestHandlers.put(McpSchema.METHOD_RESOURCES_SUBSCRIBE, resourcesSubscribeRequestHandler());
+				requestHandlers.put(McpSchema.METHOD_RESOURCES_UNSUBSCRIBE, resourcesUnsubscribeRequestHandler());
+			}
 		}
 
 		// Add prompts API handlers if provider exists
@@ -321,29 +407,46 @@ public class McpAsyncServer {
 	 * @return Mono that completes when clients have been notified of the change
 	 */
 	public Mono<Void> addTool(McpServerFeatures.AsyncToolSpecification toolSpecification) {
-		if (toolSpecification == null) {
-			return Mono.error(new IllegalArgumentException("Tool specification must not be null"));
-		}
-		if (toolSpecification.tool() == null) {
-			return Mono.error(new IllegalArgumentException("Tool must not be null"));
+		return addTools(Collections.singletonList(toolSpecification));
+	}
+
+	/**
+	 * Add several tool call specifications at runtime. The tools are registered at once
+	 * and clients are notified of the change a single time.
+	 * @param toolSpecifications The tool specifications to add
+	 * @return Mono that completes when clients have been notified of the change
+	 */
+	public Mono<Void> addTools(List<McpServerFeatures.AsyncToolSpecification> toolSpecifications) {
+		if (toolSpecifications == null) {
+			return Mono.error(new IllegalArgumentException("Tool specifications must not be null"));
 		}
-		if (toolSpecification.call() == null && toolSpecification.callHandler() == null) {
-			return Mono.error(new IllegalArgumentException("Tool call handler must not be null"));
+		for (McpServerFeatures.AsyncToolSpecification toolSpecification : toolSpecifications) {
+			if (toolSpecification == null) {
+				return Mono.error(new IllegalArgumentException("Tool specification must not be null"));
+			}
+			if (toolSpecification.tool() == null) {
+				return Mono.error(new IllegalArgumentException("Tool must not be null"));
+			}
+			if (toolSpecification.call() == null && toolSpecification.callHandler() == null) {
+				return Mono.error(new IllegalArgumentException("Tool call handler must not be null"));
+			}
 		}
 		if (this.serverCapabilities.tools() == null) {
 			return Mono.error(new IllegalStateException("Server must be configured with tool capabilities"));
 		}
 
-		var wrappedToolSpecification = withStructuredOutputHandling(this.jsonSchemaValidator, toolSpecification);
+		var wrappedToolSpecifications = withStructuredOutputHandling(this.jsonSchemaValidator, toolSpecifications);
 
 		return Mono.defer(() -> {
-			// Remove tools with duplicate tool names first
-			if (this.tools.removeIf(th -> th.tool().name().equals(wrappedToolSpecification.tool().name()))) {
-				logger.warn("Replace existing Tool with name '{}'", wrappedToolSpecification.tool().name());
+			if (wrappedToolSpecifications.isEmpty()) {
+				return Mono.empty();
 			}
 
-			this.tools.add(wrappedToolSpecification);
-			logger.debug("Added tool handler: {}", wrappedToolSpecification.tool().name());
+			// Tools with duplicate tool names are replaced
+			for (String replaced : this.tools.addAll(wrappedToolSpecifications)) {
+				logger.warn("Replace existing Tool with name '{}'", replaced);
+			}
+			logger.debug("Added {} tool handler(s)", wrappedToolSpecifications.size());
 
 			if (this.serverCapabilities.tools().listChanged()) {
 				return notifyToolsListChanged();
@@ -456,6 +559,9 @@ public class McpAsyncServer {
 			return toolSpecification;
 		}
 
+		// Compile the output schema on registration rather than on the first call
+		jsonSchemaValidator.precompile(toolSpecification.tool().outputSchema());
+
 		return McpServerFeatures.AsyncToolSpecification.builder()
 			.tool(toolSpecification.tool())
 			.callHandler(new StructuredOutputCallToolHandler(jsonSchemaValidator,
@@ -468,7 +574,8 @@ public class McpAsyncServer {
 	 * @return A Flux stream of all registered tools
 	 */
 	public Flux<Tool> listTools() {
-		return Flux.fromIterable(this.tools).map(McpServerFeatures.AsyncToolSpecification::tool);
+		return Flux.defer(() -> Flux.fromIterable(this.tools.list()))
+			.map(McpServerFeatures.AsyncToolSpecification::tool);
 	}
 
 	/**
@@ -477,7 +584,20 @@ public class McpAsyncServer {
 	 * @return Mono that completes when clients have been notified of the change
 	 */
 	public Mono<Void> removeTool(String toolName) {
-		if (toolName == null) {
+		return removeTools(Collections.singletonList(toolName));
+	}
+
+	/**
+	 * Remove several tool handlers at runtime. Clients are notified of the change a
+	 * single time, provided at least one of the tools was registered.
+	 * @param toolNames The names of the tool handlers to remove
+	 * @return Mono that completes when clients have been notified of the change
+	 */
+	public Mono<Void> removeTools(Collection<String> toolNames) {
+		if (toolNames == null) {
+			return Mono.error(new IllegalArgumentException("Tool names must not be null"));
+		}
+		if (toolNames.stream().anyMatch(Objects::isNull)) {
 			return Mono.error(new IllegalArgumentException("Tool name must not be null"));
 		}
 		if (this.serverCapabilities.tools() == null) {
@@ -485,17 +605,19 @@ public class McpAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			if (this.tools.removeIf(toolSpecification -> toolSpecification.tool().name().equals(toolName))) {
-
-				logger.debug("Removed tool handler: {}", toolName);
-				if (this.serverCapabilities.tools().listChanged()) {
-					return notifyToolsListChanged();
+			Set<String> removed = this.tools.removeAll(toolNames);
+			for (String toolName : toolNames) {
+				if (removed.contains(toolName)) {
+					logger.debug("Removed tool handler: {}", toolName);
+				}
+				else {
+					logger.warn("Ignore as a Tool with name '{}' not found", toolName);
 				}
-			}
-			else {
-				logger.warn("Ignore as a Tool with name '{}' not found", toolName);
 			}
 
+			if (!removed.isEmpty() && this.serverCapabilities.tools().listChanged()) {
+				return notifyToolsListChanged();
+			}
 			return Mono.empty();
 		});
 	}
@@ -508,12 +630,15 @@ public class McpAsyncServer {
 		return this.mcpTransportProvider.notifyClients(McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED, null);
 	}
 
-	private McpRequestHandler<McpSchema.ListToolsResult> toolsListRequestHandler() {
-		return (exchange, params) -> {
-			List<Tool> tools = this.tools.stream().map(McpServerFeatures.AsyncToolSpecification::tool).toList();
-
-			return Mono.just(new McpSchema.ListToolsResult(tools, null));
-		};
+	private McpRequestHandler<Object> toolsListRequestHandler() {
+		return (exchange, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.toolsListCache.get(this.tools.version(), afterSequence, () -> {
+				var page = this.tools.page(afterSequence, this.listPageSizes.tools());
+				var tools = page.items().stream().map(McpServerFeatures.AsyncToolSpecification::tool).toList();
+				return new McpSchema.ListToolsResult(tools, PaginationCursors.nextCursor(page));
+			});
+		});
 	}
 
 	private McpRequestHandler<CallToolResult> toolsCallRequestHandler() {
@@ -522,18 +647,16 @@ public class McpAsyncServer {
 					new TypeRef<McpSchema.CallToolRequest>() {
 					});
 
-			Optional<McpServerFeatures.AsyncToolSpecification> toolSpecification = this.tools.stream()
-				.filter(tr -> callToolRequest.name().equals(tr.tool().name()))
-				.findAny();
+			McpServerFeatures.AsyncToolSpecification toolSpecification = this.tools.get(callToolRequest.name());
 
-			if (toolSpecification.isEmpty()) {
+			if (toolSpecification == null) {
 				return Mono.error(McpError.builder(McpSchema.ErrorCodes.INVALID_PARAMS)
 					.message("Unknown tool: invalid_tool_name")
 					.data("Tool not found: " + callToolRequest.name())
 					.build());
 			}
 
-			return toolSpecification.get().callHandler().apply(exchange, callToolRequest);
+			return toolSpecification.callHandler().apply(exchange, callToolRequest);
 		};
 	}
 
@@ -576,7 +699,8 @@ public class McpAsyncServer {
 	 * @return A Flux stream of all registered resources
 	 */
 	public Flux<McpSchema.Resource> listResources() {
-		return Flux.fromIterable(this.resources.values()).map(McpServerFeatures.AsyncResourceSpecification::resource);
+		return Flux.defer(() -> Flux.fromIterable(this.resources.values()))
+			.map(McpServerFeatures.AsyncResourceSpecification::resource);
 	}
 
 	/**
@@ -645,7 +769,7 @@ public class McpAsyncServer {
 	 * @return A Flux stream of all registered resource templates
 	 */
 	public Flux<McpSchema.ResourceTemplate> listResourceTemplates() {
-		return Flux.fromIterable(this.resourceTemplates.values())
+		return Flux.defer(() -> Flux.fromIterable(this.resourceTemplates.values()))
 			.map(McpServerFeatures.AsyncResourceTemplateSpecification::resourceTemplate);
 	}
 
@@ -682,32 +806,99 @@ public class McpAsyncServer {
 	}
 
 	/**
-	 * Notifies clients that the resources have updated.
+	 * Notifies clients that a resource has been updated. If the server supports resource
+	 * subscriptions, only the clients subscribed to the resource, or to a URI template
+	 * matching it, are notified; otherwise, or if the transport cannot notify a single
+	 * client, all clients are.
 	 * @return A Mono that completes when all clients have been notified
 	 */
 	public Mono<Void> notifyResourcesUpdated(McpSchema.ResourcesUpdatedNotification resourcesUpdatedNotification) {
-		return this.mcpTransportProvider.notifyClients(McpSchema.METHOD_NOTIFICATION_RESOURCES_UPDATED,
-				resourcesUpdatedNotification);
+		if (!isResourceSubscriptionEnabled()) {
+			return this.mcpTransportProvider.notifyClients(McpSchema.METHOD_NOTIFICATION_RESOURCES_UPDATED,
+					resourcesUpdatedNotification);
+		}
+		return Mono.defer(() -> {
+			Collection<String> subscribers = this.resourceSubscriptions.subscribers(resourcesUpdatedNotification.uri());
+			if (subscribers.isEmpty()) {
+				return Mono.empty();
+			}
+			Object params;
+			try {
+				params = this.jsonMapper.writeValueAsRawValue(resourcesUpdatedNotification);
+			}
+			catch (IOException e) {
+				return Mono.error(e);
+			}
+			return Flux.fromIterable(subscribers)
+				.flatMap(sessionId -> this.mcpTransportProvider
+					.notifyClient(sessionId, McpSchema.METHOD_NOTIFICATION_RESOURCES_UPDATED, params)
+					.onErrorResume(McpTransportSessionNotFoundException.class, e -> {
+						// The session is gone without being closed
+						this.resourceSubscriptions.removeSession(sessionId);
+						return Mono.empty();
+					})
+					.onErrorResume(e -> !(e instanceof UnsupportedOperationException), e -> {
+						logger.error("Failed to notify session {} of the update of {}: {}", sessionId,
+								resourcesUpdatedNotification.uri(), e.getMessage());
+						return Mono.empty();
+					}))
+				.then()
+				.onErrorResume(UnsupportedOperationException.class, e -> this.mcpTransportProvider
+					.notifyClients(McpSchema.METHOD_NOTIFICATION_RESOURCES_UPDATED, resourcesUpdatedNotification));
+		});
 	}
 
-	private McpRequestHandler<McpSchema.ListResourcesResult> resourcesListRequestHandler() {
-		return (exchange, params) -> {
-			var resourceList = this.resources.values()
-				.stream()
-				.map(McpServerFeatures.AsyncResourceSpecification::resource)
-				.toList();
-			return Mono.just(new McpSchema.ListResourcesResult(resourceList, null));
-		};
+	private boolean isResourceSubscriptionEnabled() {
+		return this.serverCapabilities.resources() != null
+				&& Boolean.TRUE.equals(this.serverCapabilities.resources().subscribe());
 	}
 
-	private McpRequestHandler<McpSchema.ListResourceTemplatesResult> resourceTemplateListRequestHandler() {
-		return (exchange, params) -> {
-			var resourceList = this.resourceTemplates.values()
-				.stream()
-				.map(McpServerFeatures.AsyncResourceTemplateSpecification::resourceTemplate)
-				.toList();
-			return Mono.just(new McpSchema.ListResourceTemplatesResult(resourceList, null));
-		};
+	private McpRequestHandler<Object> resourcesSubscribeRequestHandler() {
+		return (exchange, params) -> Mono.fromSupplier(() -> {
+			McpSchema.SubscribeRequest subscribeRequest = this.jsonMapper.convertValue(params,
+					new TypeRef<McpSchema.SubscribeRequest>() {
+					});
+			this.resourceSubscriptions.subscribe(exchange.sessionId(), subscribeRequest.uri());
+			return Map.of();
+		});
+	}
+
+	private McpRequestHandler<Object> resourcesUnsubscribeRequestHandler() {
+		return (exchange, params) -> Mono.fromSupplier(() -> {
+			McpSchema.UnsubscribeRequest unsubscribeRequest = this.jsonMapper.convertValue(params,
+					new TypeRef<McpSchema.UnsubscribeRequest>() {
+					});
+			this.resourceSubscriptions.unsubscribe(exchange.sessionId(), unsubscribeRequest.uri());
+			return Map.of();
+		});
+	}
+
+	private McpRequestHandler<Object> resourcesListRequestHandler() {
+		return (exchange, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.resourcesListCache.get(this.resources.version(), afterSequence, () -> {
+				var page = this.resources.page(afterSequence, this.listPageSizes.resources());
+				var resourceList = page.items()
+					.stream()
+					.map(McpServerFeatures.AsyncResourceSpecification::resource)
+					.toList();
+				return new McpSchema.ListResourcesResult(resourceList, PaginationCursors.nextCursor(page));
+			});
+		});
+	}
+
+	private McpRequestHandler<Object> resourceTemplateListRequestHandler() {
+		return (exchange, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.resourceTemplatesListCache.get(this.resourceTemplates.version(), afterSequence, () -> {
+				var page = this.resourceTemplates.page(afterSequence, this.listPageSizes.resourceTemplates());
+				var resourceList = page.items()
+					.stream()
+					.map(McpServerFeatures.AsyncResourceTemplateSpecification::resourceTemplate)
+					.toList();
+				return new McpSchema.ListResourceTemplatesResult(resourceList, PaginationCursors.nextCursor(page));
+			});
+		});
 	}
 
 	private McpRequestHandler<McpSchema.ReadResourceResult> resourcesReadRequestHandler() {
@@ -732,19 +923,12 @@ public class McpAsyncServer {
 	}
 
 	private Optional<McpServerFeatures.AsyncResourceSpecification> findResourceSpecification(String uri) {
-		var result = this.resources.values()
-			.stream()
-			.filter(spec -> this.uriTemplateManagerFactory.create(spec.resource().uri()).matches(uri))
-			.findFirst();
-		return result;
+		return Optional.ofNullable(this.resources.match(uri));
 	}
 
 	private Optional<McpServerFeatures.AsyncResourceTemplateSpecification> findResourceTemplateSpecification(
 			String uri) {
-		return this.resourceTemplates.values()
-			.stream()
-			.filter(spec -> this.uriTemplateManagerFactory.create(spec.resourceTemplate().uriTemplate()).matches(uri))
-			.findFirst();
+		return Optional.ofNullable(this.resourceTemplates.match(uri));
 	}
 
 	// ---------------------------------------
@@ -765,7 +949,7 @@ public class McpAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			var previous = this.prompts.put(promptSpecification.prompt().name(), promptSpecification);
+			var previous = this.prompts.put(promptSpecification);
 			if (previous != null) {
 				logger.warn("Replace existing Prompt with name '{}'", promptSpecification.prompt().name());
 			}
@@ -785,7 +969,8 @@ public class McpAsyncServer {
 	 * @return A Flux stream of all registered prompts
 	 */
 	public Flux<McpSchema.Prompt> listPrompts() {
-		return Flux.fromIterable(this.prompts.values()).map(McpServerFeatures.AsyncPromptSpecification::prompt);
+		return Flux.defer(() -> Flux.fromIterable(this.prompts.list()))
+			.map(McpServerFeatures.AsyncPromptSpecification::prompt);
 	}
 
 	/**
@@ -826,20 +1011,15 @@ public class McpAsyncServer {
 		return this.mcpTransportProvider.notifyClients(McpSchema.METHOD_NOTIFICATION_PROMPTS_LIST_CHANGED, null);
 	}
 
-	private McpRequestHandler<McpSchema.ListPromptsResult> promptsListRequestHandler() {
-		return (exchange, params) -> {
-			// TODO: Implement pagination
-			// McpSchema.PaginatedRequest request = objectMapper.convertValue(params,
-			// new TypeReference<McpSchema.PaginatedRequest>() {
-			// });
-
-			var promptList = this.prompts.values()
-				.stream()
-				.map(McpServerFeatures.AsyncPromptSpecification::prompt)
-				.toList();
-
-			return Mono.just(new McpSchema.ListPromptsResult(promptList, null));
-		};
+	private McpRequestHandler<Object> promptsListRequestHandler() {
+		return (exchange, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.promptsListCache.get(this.prompts.version(), afterSequence, () -> {
+				var page = this.prompts.page(afterSequence, this.listPageSizes.prompts());
+				var promptList = page.items().stream().map(McpServerFeatures.AsyncPromptSpecification::prompt).toList();
+				return new McpSchema.ListPromptsResult(promptList, PaginationCursors.nextCursor(page));
+			});
+		});
 	}
 
 	private McpRequestHandler<McpSchema.GetPromptResult> promptsGetRequestHandler() {
@@ -1025,14 +1205,16 @@ public class McpAsyncServer {
 	 * determines the correct reference type (either prompt or resource), and constructs a
 	 * fully-typed {@code CompleteRequest} instance.
 	 * @param object the raw request parameters, expected to be a Map containing "ref" and
-	 * "argument" entries.
+	 * "argument" entries, or a deferred value convertible to such a Map.
 	 * @return a {@link McpSchema.CompleteRequest} representing the structured completion
 	 * request.
 	 * @throws IllegalArgumentException if the "ref" type is not recognized.
 	 */
 	@SuppressWarnings("unchecked")
 	private McpSchema.CompleteRequest parseCompletionParams(Object object) {
-		Map<String, Object> params = (Map<String, Object>) object;
+		Map<String, Object> params = (object instanceof Map) ? (Map<String, Object>) object
+				: jsonMapper.convertValue(object, new TypeRef<Map<String, Object>>() {
+				});
 		Map<String, Object> refMap = (Map<String, Object>) params.get("ref");
 		Map<String, Object> argMap = (Map<String, Object>) params.get("argument");
 		Map<String, Object> contextMap = (Map<String, Object>) params.get("context");
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * The maximum number of items a server returns per page of the {@code tools/list},
+ * {@code resources/list}, {@code resources/templates/list} and {@code prompts/list}
+ * results. A page size of {@code 0} disables pagination for that list, in which case all
+ * the items are returned at once.
+ * <p>
+ * When a list is paginated, results carry a {@code nextCursor} as long as more items
+ * follow. Cursors are opaque to clients and remain valid while items are added or
+ * removed: items added later show up on later pages, and removed items are skipped.
+ *
+ * @param tools the page size of the {@code tools/list} results
+ * @param resources the page size of the {@code resources/list} results
+ * @param resourceTemplates the page size of the {@code resources/templates/list} results
+ * @param prompts the page size of the {@code prompts/list} results
+ */
+public record McpListPageSizes(int tools, int resources, int resourceTemplates, int prompts) {
+
+	/**
+	 * Page sizes disabling pagination for all lists.
+	 */
+	public static final McpListPageSizes UNPAGINATED = new McpListPageSizes(0, 0, 0, 0);
+
+	public McpListPageSizes {
+		Assert.isTrue(tools >= 0, "Tools page size must not be negative");
+		Assert.isTrue(resources >= 0, "Resources page size must not be negative");
+		Assert.isTrue(resourceTemplates >= 0, "Resource templates page size must not be negative");
+		Assert.isTrue(prompts >= 0, "Prompts page size must not be negative");
+	}
+
+	/**
+	 * Create page sizes using the same size for all lists.
+	 * @param pageSize the page size of all lists, or {@code 0} to disable pagination
+	 * @return the page sizes
+	 */
+	public static McpListPageSizes of(int pageSize) {
+		return new McpListPageSizes(pageSize, pageSize, pageSize, pageSize);
+	}
+
+}
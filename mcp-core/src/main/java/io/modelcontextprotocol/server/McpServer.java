@@ -26,8 +26,11 @@ import io.modelcontextprotocol.spec.McpStatelessServerTransport;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.DeafaultMcpUriTemplateManagerFactory;
+import io.modelcontextprotocol.util.McpSchedulers;
 import io.modelcontextprotocol.util.McpUriTemplateManagerFactory;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Factory class for creating Model Context Protocol (MCP) servers. MCP servers expose
@@ -232,7 +235,8 @@ public interface McpServer {
 					: JsonSchemaValidator.getDefault();
 
 			return new McpAsyncServer(transportProvider, jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper,
-					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator);
+					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator, this.listPageSizes,
+					this.compactRequestIds);
 		}
 
 	}
@@ -258,7 +262,7 @@ public interface McpServer {
 			var jsonSchemaValidator = this.jsonSchemaValidator != null ? this.jsonSchemaValidator
 					: JsonSchemaValidator.getDefault();
 			return new McpAsyncServer(transportProvider, jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper,
-					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator);
+					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator, this.listPageSizes);
 		}
 
 	}
@@ -278,6 +282,10 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpListPageSizes listPageSizes = McpListPageSizes.UNPAGINATED;
+
+		boolean compactRequestIds;
+
 		String instructions;
 
 		/**
@@ -796,6 +804,33 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the page sizes of the tools, resources, resource templates and prompts
+		 * list results. By default, lists are not paginated.
+		 * @param listPageSizes The page sizes. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if listPageSizes is null
+		 */
+		public AsyncSpecification<S> listPageSizes(McpListPageSizes listPageSizes) {
+			Assert.notNull(listPageSizes, "List page sizes must not be null");
+			this.listPageSizes = listPageSizes;
+			return this;
+		}
+
+		/**
+		 * Sends the requests to the clients, such as sampling, elicitation, roots and
+		 * ping, with increasing numeric IDs rather than string IDs prefixed with the
+		 * session id, and matches the responses without building or hashing strings.
+		 * Applies to the sessions of a {@link McpServerTransportProvider}. Defaults to
+		 * false.
+		 * @param compactRequestIds true to use numeric request IDs
+		 * @return This builder instance for method chaining
+		 */
+		public AsyncSpecification<S> compactRequestIds(boolean compactRequestIds) {
+			this.compactRequestIds = compactRequestIds;
+			return this;
+		}
+
 	}
 
 	class SingleSessionSyncSpecification extends SyncSpecification<SingleSessionSyncSpecification> {
@@ -818,13 +853,14 @@ public interface McpServer {
 					this.tools, this.resources, this.resourceTemplates, this.prompts, this.completions,
 					this.rootsChangeHandlers, this.instructions);
 			McpServerFeatures.Async asyncFeatures = McpServerFeatures.Async.fromSync(syncFeatures,
-					this.immediateExecution);
+					executionScheduler());
 
 			var asyncServer = new McpAsyncServer(transportProvider,
 					jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper, asyncFeatures, requestTimeout,
 					uriTemplateManagerFactory,
-					jsonSchemaValidator != null ? jsonSchemaValidator : JsonSchemaValidator.getDefault());
-			return new McpSyncServer(asyncServer, this.immediateExecution);
+					jsonSchemaValidator != null ? jsonSchemaValidator : JsonSchemaValidator.getDefault(),
+					this.listPageSizes, this.compactRequestIds);
+			return new McpSyncServer(asyncServer, executionScheduler());
 		}
 
 	}
@@ -849,13 +885,13 @@ public interface McpServer {
 					this.tools, this.resources, this.resourceTemplates, this.prompts, this.completions,
 					this.rootsChangeHandlers, this.instructions);
 			McpServerFeatures.Async asyncFeatures = McpServerFeatures.Async.fromSync(syncFeatures,
-					this.immediateExecution);
+					executionScheduler());
 			var jsonSchemaValidator = this.jsonSchemaValidator != null ? this.jsonSchemaValidator
 					: JsonSchemaValidator.getDefault();
 			var asyncServer = new McpAsyncServer(transportProvider,
 					jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper, asyncFeatures, this.requestTimeout,
-					this.uriTemplateManagerFactory, jsonSchemaValidator);
-			return new McpSyncServer(asyncServer, this.immediateExecution);
+					this.uriTemplateManagerFactory, jsonSchemaValidator, this.listPageSizes);
+			return new McpSyncServer(asyncServer, executionScheduler());
 		}
 
 	}
@@ -904,6 +940,10 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpListPageSizes listPageSizes = McpListPageSizes.UNPAGINATED;
+
+		boolean compactRequestIds;
+
 		/**
 		 * The Model Context Protocol (MCP) provides a standardized way for servers to
 		 * expose prompt templates to clients. Prompts allow servers to provide structured
@@ -921,6 +961,8 @@ public interface McpServer {
 
 		boolean immediateExecution = false;
 
+		boolean virtualThreads = false;
+
 		public abstract McpSyncServer build();
 
 		/**
@@ -1385,6 +1427,33 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the page sizes of the tools, resources, resource templates and prompts
+		 * list results. By default, lists are not paginated.
+		 * @param listPageSizes The page sizes. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if listPageSizes is null
+		 */
+		public SyncSpecification<S> listPageSizes(McpListPageSizes listPageSizes) {
+			Assert.notNull(listPageSizes, "List page sizes must not be null");
+			this.listPageSizes = listPageSizes;
+			return this;
+		}
+
+		/**
+		 * Sends the requests to the clients, such as sampling, elicitation, roots and
+		 * ping, with increasing numeric IDs rather than string IDs prefixed with the
+		 * session id, and matches the responses without building or hashing strings.
+		 * Applies to the sessions of a {@link McpServerTransportProvider}. Defaults to
+		 * false.
+		 * @param compactRequestIds true to use numeric request IDs
+		 * @return This builder instance for method chaining
+		 */
+		public SyncSpecification<S> compactRequestIds(boolean compactRequestIds) {
+			this.compactRequestIds = compactRequestIds;
+			return this;
+		}
+
 		/**
 		 * Enable on "immediate execution" of the operations on the underlying
 		 * {@link McpAsyncServer}. Defaults to false, which does blocking code offloading
@@ -1401,6 +1470,28 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Offload the blocking operations of tools, prompts, and resources handlers to
+		 * virtual threads rather than to {@link Schedulers#boundedElastic()}, which caps
+		 * the number of concurrent handlers. Requires Java 21 or later, and falls back to
+		 * {@link Schedulers#boundedElastic()} otherwise. Has no effect with
+		 * {@link #immediateExecution(boolean) immediate execution}.
+		 * @param virtualThreads When true, run handlers on virtual threads.
+		 * @return This builder instance for method chaining.
+		 * @see McpSchedulers#virtualThreads()
+		 */
+		public SyncSpecification<S> virtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+			return this;
+		}
+
+		Scheduler executionScheduler() {
+			if (this.immediateExecution) {
+				return null;
+			}
+			return this.virtualThreads ? McpSchedulers.virtualThreads() : Schedulers.boundedElastic();
+		}
+
 	}
 
 	class StatelessAsyncSpecification {
@@ -1417,6 +1508,8 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpListPageSizes listPageSizes = McpListPageSizes.UNPAGINATED;
+
 		String instructions;
 
 		/**
@@ -1854,12 +1947,26 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the page sizes of the tools, resources, resource templates and prompts
+		 * list results. By default, lists are not paginated.
+		 * @param listPageSizes The page sizes. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if listPageSizes is null
+		 */
+		public StatelessAsyncSpecification listPageSizes(McpListPageSizes listPageSizes) {
+			Assert.notNull(listPageSizes, "List page sizes must not be null");
+			this.listPageSizes = listPageSizes;
+			return this;
+		}
+
 		public McpStatelessAsyncServer build() {
 			var features = new McpStatelessServerFeatures.Async(this.serverInfo, this.serverCapabilities, this.tools,
 					this.resources, this.resourceTemplates, this.prompts, this.completions, this.instructions);
 			return new McpStatelessAsyncServer(transport, jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper,
 					features, requestTimeout, uriTemplateManagerFactory,
-					jsonSchemaValidator != null ? jsonSchemaValidator : JsonSchemaValidator.getDefault());
+					jsonSchemaValidator != null ? jsonSchemaValidator : JsonSchemaValidator.getDefault(),
+					this.listPageSizes);
 		}
 
 	}
@@ -1870,6 +1977,8 @@ public interface McpServer {
 
 		boolean immediateExecution = false;
 
+		boolean virtualThreads = false;
+
 		McpUriTemplateManagerFactory uriTemplateManagerFactory = new DeafaultMcpUriTemplateManagerFactory();
 
 		McpJsonMapper jsonMapper;
@@ -1880,6 +1989,8 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpListPageSizes listPageSizes = McpListPageSizes.UNPAGINATED;
+
 		String instructions;
 
 		/**
@@ -2317,6 +2428,19 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the page sizes of the tools, resources, resource templates and prompts
+		 * list results. By default, lists are not paginated.
+		 * @param listPageSizes The page sizes. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if listPageSizes is null
+		 */
+		public StatelessSyncSpecification listPageSizes(McpListPageSizes listPageSizes) {
+			Assert.notNull(listPageSizes, "List page sizes must not be null");
+			this.listPageSizes = listPageSizes;
+			return this;
+		}
+
 		/**
 		 * Enable on "immediate execution" of the operations on the underlying
 		 * {@link McpStatelessAsyncServer}. Defaults to false, which does blocking code
@@ -2333,15 +2457,38 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Offload the blocking operations of tools, prompts, and resources handlers to
+		 * virtual threads rather than to {@link Schedulers#boundedElastic()}, which caps
+		 * the number of concurrent handlers. Requires Java 21 or later, and falls back to
+		 * {@link Schedulers#boundedElastic()} otherwise. Has no effect with
+		 * {@link #immediateExecution(boolean) immediate execution}.
+		 * @param virtualThreads When true, run handlers on virtual threads.
+		 * @return This builder instance for method chaining.
+		 * @see McpSchedulers#virtualThreads()
+		 */
+		public StatelessSyncSpecification virtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+			return this;
+		}
+
+		Scheduler executionScheduler() {
+			if (this.immediateExecution) {
+				return null;
+			}
+			return this.virtualThreads ? McpSchedulers.virtualThreads() : Schedulers.boundedElastic();
+		}
+
 		public McpStatelessSyncServer build() {
 			var syncFeatures = new McpStatelessServerFeatures.Sync(this.serverInfo, this.serverCapabilities, this.tools,
 					this.resources, this.resourceTemplates, this.prompts, this.completions, this.instructions);
-			var asyncFeatures = McpStatelessServerFeatures.Async.fromSync(syncFeatures, this.immediateExecution);
+			var asyncFeatures = McpStatelessServerFeatures.Async.fromSync(syncFeatures, executionScheduler());
 			var asyncServer = new McpStatelessAsyncServer(transport,
 					jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper, asyncFeatures, requestTimeout,
 					uriTemplateManagerFactory,
-					this.jsonSchemaValidator != null ? this.jsonSchemaValidator : JsonSchemaValidator.getDefault());
-			return new McpStatelessSyncServer(asyncServer, this.immediateExecution);
+					this.jsonSchemaValidator != null ? this.jsonSchemaValidator : JsonSchemaValidator.getDefault(),
+					this.listPageSizes);
+			return new McpStatelessSyncServer(asyncServer, executionScheduler());
 		}
 
 	}
@@ -16,6 +16,7 @@ import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.Utils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 /**
@@ -96,35 +97,36 @@ public class McpServerFeatures {
 		 * blocking code offloading to prevent accidental blocking of the non-blocking
 		 * transport.
 		 * @param syncSpec a potentially blocking, synchronous specification.
-		 * @param immediateExecution when true, do not offload. Do NOT set to true when
-		 * using a non-blocking transport.
+		 * @param executionScheduler the scheduler to offload the blocking calls to, or
+		 * null to not offload them. Do NOT set to null when using a non-blocking
+		 * transport.
 		 * @return a specification which is protected from blocking calls specified by the
 		 * user.
 		 */
-		static Async fromSync(Sync syncSpec, boolean immediateExecution) {
+		static Async fromSync(Sync syncSpec, Scheduler executionScheduler) {
 			List<McpServerFeatures.AsyncToolSpecification> tools = new ArrayList<>();
 			for (var tool : syncSpec.tools()) {
-				tools.add(AsyncToolSpecification.fromSync(tool, immediateExecution));
+				tools.add(AsyncToolSpecification.fromSync(tool, executionScheduler));
 			}
 
 			Map<String, AsyncResourceSpecification> resources = new HashMap<>();
 			syncSpec.resources().forEach((key, resource) -> {
-				resources.put(key, AsyncResourceSpecification.fromSync(resource, immediateExecution));
+				resources.put(key, AsyncResourceSpecification.fromSync(resource, executionScheduler));
 			});
 
 			Map<String, AsyncResourceTemplateSpecification> resourceTemplates = new HashMap<>();
 			syncSpec.resourceTemplates().forEach((key, resource) -> {
-				resourceTemplates.put(key, AsyncResourceTemplateSpecification.fromSync(resource, immediateExecution));
+				resourceTemplates.put(key, AsyncResourceTemplateSpecification.fromSync(resource, executionScheduler));
 			});
 
 			Map<String, AsyncPromptSpecification> prompts = new HashMap<>();
 			syncSpec.prompts().forEach((key, prompt) -> {
-				prompts.put(key, AsyncPromptSpecification.fromSync(prompt, immediateExecution));
+				prompts.put(key, AsyncPromptSpecification.fromSync(prompt, executionScheduler));
 			});
 
 			Map<McpSchema.CompleteReference, McpServerFeatures.AsyncCompletionSpecification> completions = new HashMap<>();
 			syncSpec.completions().forEach((key, completion) -> {
-				completions.put(key, AsyncCompletionSpecification.fromSync(completion, immediateExecution));
+				completions.put(key, AsyncCompletionSpecification.fromSync(completion, executionScheduler));
 			});
 
 			List<BiFunction<McpAsyncServerExchange, List<McpSchema.Root>, Mono<Void>>> rootChangeConsumers = new ArrayList<>();
@@ -132,7 +134,7 @@ public class McpServerFeatures {
 			for (var rootChangeConsumer : syncSpec.rootsChangeConsumers()) {
 				rootChangeConsumers.add((exchange, list) -> Mono
 					.<Void>fromRunnable(() -> rootChangeConsumer.accept(new McpSyncServerExchange(exchange), list))
-					.subscribeOn(Schedulers.boundedElastic()));
+					.subscribeOn((executionScheduler != null) ? executionScheduler : Schedulers.boundedElastic()));
 			}
 
 			return new Async(syncSpec.serverInfo(), syncSpec.serverCapabilities(), tools, resources, resourceTemplates,
@@ -237,10 +239,10 @@ public class McpServerFeatures {
 		}
 
 		static AsyncToolSpecification fromSync(SyncToolSpecification syncToolSpec) {
-			return fromSync(syncToolSpec, false);
+			return fromSync(syncToolSpec, Schedulers.boundedElastic());
 		}
 
-		static AsyncToolSpecification fromSync(SyncToolSpecification syncToolSpec, boolean immediate) {
+		static AsyncToolSpecification fromSync(SyncToolSpecification syncToolSpec, Scheduler executionScheduler) {
 
 			// FIXME: This is temporary, proper validation should be implemented
 			if (syncToolSpec == null) {
@@ -251,14 +253,14 @@ public class McpServerFeatures {
 				.call() != null) ? (exchange, map) -> {
 					var toolResult = Mono
 						.fromCallable(() -> syncToolSpec.call().apply(new McpSyncServerExchange(exchange), map));
-					return immediate ? toolResult : toolResult.subscribeOn(Schedulers.boundedElastic());
+					return (executionScheduler == null) ? toolResult : toolResult.subscribeOn(executionScheduler);
 				} : null;
 
 			BiFunction<McpAsyncServerExchange, McpSchema.CallToolRequest, Mono<McpSchema.CallToolResult>> callHandler = (
 					exchange, req) -> {
 				var toolResult = Mono
 					.fromCallable(() -> syncToolSpec.callHandler().apply(new McpSyncServerExchange(exchange), req));
-				return immediate ? toolResult : toolResult.subscribeOn(Schedulers.boundedElastic());
+				return (executionScheduler == null) ? toolResult : toolResult.subscribeOn(executionScheduler);
 			};
 
 			return new AsyncToolSpecification(syncToolSpec.tool(), deprecatedCall, callHandler);
@@ -348,7 +350,7 @@ public class McpServerFeatures {
 	public record AsyncResourceSpecification(McpSchema.Resource resource,
 			BiFunction<McpAsyncServerExchange, McpSchema.ReadResourceRequest, Mono<McpSchema.ReadResourceResult>> readHandler) {
 
-		static AsyncResourceSpecification fromSync(SyncResourceSpecification resource, boolean immediateExecution) {
+		static AsyncResourceSpecification fromSync(SyncResourceSpecification resource, Scheduler executionScheduler) {
 			// FIXME: This is temporary, proper validation should be implemented
 			if (resource == null) {
 				return null;
@@ -356,7 +358,7 @@ public class McpServerFeatures {
 			return new AsyncResourceSpecification(resource.resource(), (exchange, req) -> {
 				var resourceResult = Mono
 					.fromCallable(() -> resource.readHandler().apply(new McpSyncServerExchange(exchange), req));
-				return immediateExecution ? resourceResult : resourceResult.subscribeOn(Schedulers.boundedElastic());
+				return (executionScheduler == null) ? resourceResult : resourceResult.subscribeOn(executionScheduler);
 			});
 		}
 	}
@@ -389,7 +391,7 @@ public class McpServerFeatures {
 			BiFunction<McpAsyncServerExchange, McpSchema.ReadResourceRequest, Mono<McpSchema.ReadResourceResult>> readHandler) {
 
 		static AsyncResourceTemplateSpecification fromSync(SyncResourceTemplateSpecification resource,
-				boolean immediateExecution) {
+				Scheduler executionScheduler) {
 			// FIXME: This is temporary, proper validation should be implemented
 			if (resource == null) {
 				return null;
@@ -397,7 +399,7 @@ public class McpServerFeatures {
 			return new AsyncResourceTemplateSpecification(resource.resourceTemplate(), (exchange, req) -> {
 				var resourceResult = Mono
 					.fromCallable(() -> resource.readHandler().apply(new McpSyncServerExchange(exchange), req));
-				return immediateExecution ? resourceResult : resourceResult.subscribeOn(Schedulers.boundedElastic());
+				return (executionScheduler == null) ? resourceResult : resourceResult.subscribeOn(executionScheduler);
 			});
 		}
 	}
@@ -436,7 +438,7 @@ public class McpServerFeatures {
 	public record AsyncPromptSpecification(McpSchema.Prompt prompt,
 			BiFunction<McpAsyncServerExchange, McpSchema.GetPromptRequest, Mono<McpSchema.GetPromptResult>> promptHandler) {
 
-		static AsyncPromptSpecification fromSync(SyncPromptSpecification prompt, boolean immediateExecution) {
+		static AsyncPromptSpecification fromSync(SyncPromptSpecification prompt, Scheduler executionScheduler) {
 			// FIXME: This is temporary, proper validation should be implemented
 			if (prompt == null) {
 				return null;
@@ -444,7 +446,7 @@ public class McpServerFeatures {
 			return new AsyncPromptSpecification(prompt.prompt(), (exchange, req) -> {
 				var promptResult = Mono
 					.fromCallable(() -> prompt.promptHandler().apply(new McpSyncServerExchange(exchange), req));
-				return immediateExecution ? promptResult : promptResult.subscribeOn(Schedulers.boundedElastic());
+				return (executionScheduler == null) ? promptResult : promptResult.subscribeOn(executionScheduler);
 			});
 		}
 	}
@@ -477,15 +479,15 @@ public class McpServerFeatures {
 		 * {@code null} if input is null
 		 */
 		static AsyncCompletionSpecification fromSync(SyncCompletionSpecification completion,
-				boolean immediateExecution) {
+				Scheduler executionScheduler) {
 			if (completion == null) {
 				return null;
 			}
 			return new AsyncCompletionSpecification(completion.referenceKey(), (exchange, request) -> {
 				var completionResult = Mono.fromCallable(
 						() -> completion.completionHandler().apply(new McpSyncServerExchange(exchange), request));
-				return immediateExecution ? completionResult
-						: completionResult.subscribeOn(Schedulers.boundedElastic());
+				return (executionScheduler == null) ? completionResult
+						: completionResult.subscribeOn(executionScheduler);
 			});
 		}
 	}
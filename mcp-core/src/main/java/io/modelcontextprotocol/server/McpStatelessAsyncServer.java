@@ -22,6 +22,7 @@ import io.modelcontextprotocol.spec.McpStatelessServerTransport;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.DeafaultMcpUriTemplateManagerFactory;
 import io.modelcontextprotocol.util.McpUriTemplateManagerFactory;
+import io.modelcontextprotocol.util.McpUriTemplateRouter;
 import io.modelcontextprotocol.util.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,12 +31,15 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 
 import static io.modelcontextprotocol.spec.McpError.RESOURCE_NOT_FOUND;
@@ -62,13 +66,15 @@ public class McpStatelessAsyncServer {
 
 	private final String instructions;
 
-	private final CopyOnWriteArrayList<McpStatelessServerFeatures.AsyncToolSpecification> tools = new CopyOnWriteArrayList<>();
+	private final SpecificationRegistry<McpStatelessServerFeatures.AsyncToolSpecification> tools = new SpecificationRegistry<>(
+			toolSpecification -> toolSpecification.tool().name());
 
-	private final ConcurrentHashMap<String, McpStatelessServerFeatures.AsyncResourceTemplateSpecification> resourceTemplates = new ConcurrentHashMap<>();
+	private final McpUriTemplateRouter<McpStatelessServerFeatures.AsyncResourceTemplateSpecification> resourceTemplates;
 
-	private final ConcurrentHashMap<String, McpStatelessServerFeatures.AsyncResourceSpecification> resources = new ConcurrentHashMap<>();
+	private final McpUriTemplateRouter<McpStatelessServerFeatures.AsyncResourceSpecification> resources;
 
-	private final ConcurrentHashMap<String, McpStatelessServerFeatures.AsyncPromptSpecification> prompts = new ConcurrentHashMap<>();
+	private final SpecificationRegistry<McpStatelessServerFeatures.AsyncPromptSpecification> prompts = new SpecificationRegistry<>(
+			promptSpecification -> promptSpecification.prompt().name());
 
 	private final ConcurrentHashMap<McpSchema.CompleteReference, McpStatelessServerFeatures.AsyncCompletionSpecification> completions = new ConcurrentHashMap<>();
 
@@ -78,21 +84,39 @@ public class McpStatelessAsyncServer {
 
 	private final JsonSchemaValidator jsonSchemaValidator;
 
+	private final McpListPageSizes listPageSizes;
+
+	private final ListResultCache toolsListCache;
+
+	private final ListResultCache resourcesListCache;
+
+	private final ListResultCache resourceTemplatesListCache;
+
+	private final ListResultCache promptsListCache;
+
 	McpStatelessAsyncServer(McpStatelessServerTransport mcpTransport, McpJsonMapper jsonMapper,
 			McpStatelessServerFeatures.Async features, Duration requestTimeout,
-			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator) {
+			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator,
+			McpListPageSizes listPageSizes) {
 		this.mcpTransportProvider = mcpTransport;
 		this.jsonMapper = jsonMapper;
 		this.serverInfo = features.serverInfo();
 		this.serverCapabilities = features.serverCapabilities();
 		this.instructions = features.instructions();
 		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, features.tools()));
+		this.resources = new McpUriTemplateRouter<>(uriTemplateManagerFactory);
 		this.resources.putAll(features.resources());
+		this.resourceTemplates = new McpUriTemplateRouter<>(uriTemplateManagerFactory);
 		this.resourceTemplates.putAll(features.resourceTemplates());
-		this.prompts.putAll(features.prompts());
+		this.prompts.addAll(features.prompts().values());
 		this.completions.putAll(features.completions());
 		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
 		this.jsonSchemaValidator = jsonSchemaValidator;
+		this.listPageSizes = listPageSizes;
+		this.toolsListCache = new ListResultCache(jsonMapper);
+		this.resourcesListCache = new ListResultCache(jsonMapper);
+		this.resourceTemplatesListCache = new ListResultCache(jsonMapper);
+		this.promptsListCache = new ListResultCache(jsonMapper);
 
 		Map<String, McpStatelessRequestHandler<?>> requestHandlers = new HashMap<>();
 
@@ -226,6 +250,9 @@ public class McpStatelessAsyncServer {
 			return toolSpecification;
 		}
 
+		// Compile the output schema on registration rather than on the first call
+		jsonSchemaValidator.precompile(toolSpecification.tool().outputSchema());
+
 		return new McpStatelessServerFeatures.AsyncToolSpecification(toolSpecification.tool(),
 				new StructuredOutputCallToolHandler(jsonSchemaValidator, toolSpecification.tool().outputSchema(),
 						toolSpecification.callHandler()));
@@ -318,29 +345,41 @@ public class McpStatelessAsyncServer {
 	 * @return Mono that completes when clients have been notified of the change
 	 */
 	public Mono<Void> addTool(McpStatelessServerFeatures.AsyncToolSpecification toolSpecification) {
-		if (toolSpecification == null) {
-			return Mono.error(new IllegalArgumentException("Tool specification must not be null"));
-		}
-		if (toolSpecification.tool() == null) {
-			return Mono.error(new IllegalArgumentException("Tool must not be null"));
+		return addTools(Collections.singletonList(toolSpecification));
+	}
+
+	/**
+	 * Add several tool specifications at runtime. The tools are registered at once.
+	 * @param toolSpecifications The tool specifications to add
+	 * @return Mono that completes when the tools are registered
+	 */
+	public Mono<Void> addTools(List<McpStatelessServerFeatures.AsyncToolSpecification> toolSpecifications) {
+		if (toolSpecifications == null) {
+			return Mono.error(new IllegalArgumentException("Tool specifications must not be null"));
 		}
-		if (toolSpecification.callHandler() == null) {
-			return Mono.error(new IllegalArgumentException("Tool call handler must not be null"));
+		for (McpStatelessServerFeatures.AsyncToolSpecification toolSpecification : toolSpecifications) {
+			if (toolSpecification == null) {
+				return Mono.error(new IllegalArgumentException("Tool specification must not be null"));
+			}
+			if (toolSpecification.tool() == null) {
+				return Mono.error(new IllegalArgumentException("Tool must not be null"));
+			}
+			if (toolSpecification.callHandler() == null) {
+				return Mono.error(new IllegalArgumentException("Tool call handler must not be null"));
+			}
 		}
 		if (this.serverCapabilities.tools() == null) {
 			return Mono.error(new IllegalStateException("Server must be configured with tool capabilities"));
 		}
 
-		var wrappedToolSpecification = withStructuredOutputHandling(this.jsonSchemaValidator, toolSpecification);
+		var wrappedToolSpecifications = withStructuredOutputHandling(this.jsonSchemaValidator, toolSpecifications);
 
 		return Mono.defer(() -> {
-			// Remove tools with duplicate tool names first
-			if (this.tools.removeIf(th -> th.tool().name().equals(wrappedToolSpecification.tool().name()))) {
-				logger.warn("Replace existing Tool with name '{}'", wrappedToolSpecification.tool().name());
+			// Tools with duplicate tool names are replaced
+			for (String replaced : this.tools.addAll(wrappedToolSpecifications)) {
+				logger.warn("Replace existing Tool with name '{}'", replaced);
 			}
-
-			this.tools.add(wrappedToolSpecification);
-			logger.debug("Added tool handler: {}", wrappedToolSpecification.tool().name());
+			logger.debug("Added {} tool handler(s)", wrappedToolSpecifications.size());
 
 			return Mono.empty();
 		});
@@ -351,7 +390,8 @@ public class McpStatelessAsyncServer {
 	 * @return A Flux stream of all registered tools
 	 */
 	public Flux<Tool> listTools() {
-		return Flux.fromIterable(this.tools).map(McpStatelessServerFeatures.AsyncToolSpecification::tool);
+		return Flux.defer(() -> Flux.fromIterable(this.tools.list()))
+			.map(McpStatelessServerFeatures.AsyncToolSpecification::tool);
 	}
 
 	/**
@@ -360,7 +400,19 @@ public class McpStatelessAsyncServer {
 	 * @return Mono that completes when clients have been notified of the change
 	 */
 	public Mono<Void> removeTool(String toolName) {
-		if (toolName == null) {
+		return removeTools(Collections.singletonList(toolName));
+	}
+
+	/**
+	 * Remove several tool handlers at runtime.
+	 * @param toolNames The names of the tool handlers to remove
+	 * @return Mono that completes when the tools are removed
+	 */
+	public Mono<Void> removeTools(Collection<String> toolNames) {
+		if (toolNames == null) {
+			return Mono.error(new IllegalArgumentException("Tool names must not be null"));
+		}
+		if (toolNames.stream().anyMatch(Objects::isNull)) {
 			return Mono.error(new IllegalArgumentException("Tool name must not be null"));
 		}
 		if (this.serverCapabilities.tools() == null) {
@@ -368,25 +420,29 @@ public class McpStatelessAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			if (this.tools.removeIf(toolSpecification -> toolSpecification.tool().name().equals(toolName))) {
-
-				logger.debug("Removed tool handler: {}", toolName);
-			}
-			else {
-				logger.warn("Ignore as a Tool with name '{}' not found", toolName);
+			Set<String> removed = this.tools.removeAll(toolNames);
+			for (String toolName : toolNames) {
+				if (removed.contains(toolName)) {
+					logger.debug("Removed tool handler: {}", toolName);
+				}
+				else {
+					logger.warn("Ignore as a Tool with name '{}' not found", toolName);
+				}
 			}
 
 			return Mono.empty();
 		});
 	}
 
-	private McpStatelessRequestHandler<McpSchema.ListToolsResult> toolsListRequestHandler() {
-		return (ctx, params) -> {
-			List<Tool> tools = this.tools.stream()
-				.map(McpStatelessServerFeatures.AsyncToolSpecification::tool)
-				.toList();
-			return Mono.just(new McpSchema.ListToolsResult(tools, null));
-		};
+	private McpStatelessRequestHandler<Object> toolsListRequestHandler() {
+		return (ctx, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.toolsListCache.get(this.tools.version(), afterSequence, () -> {
+				var page = this.tools.page(afterSequence, this.listPageSizes.tools());
+				var tools = page.items().stream().map(McpStatelessServerFeatures.AsyncToolSpecification::tool).toList();
+				return new McpSchema.ListToolsResult(tools, PaginationCursors.nextCursor(page));
+			});
+		});
 	}
 
 	private McpStatelessRequestHandler<CallToolResult> toolsCallRequestHandler() {
@@ -395,18 +451,17 @@ public class McpStatelessAsyncServer {
 					new TypeRef<McpSchema.CallToolRequest>() {
 					});
 
-			Optional<McpStatelessServerFeatures.AsyncToolSpecification> toolSpecification = this.tools.stream()
-				.filter(tr -> callToolRequest.name().equals(tr.tool().name()))
-				.findAny();
+			McpStatelessServerFeatures.AsyncToolSpecification toolSpecification = this.tools
+				.get(callToolRequest.name());
 
-			if (toolSpecification.isEmpty()) {
+			if (toolSpecification == null) {
 				return Mono.error(McpError.builder(McpSchema.ErrorCodes.INVALID_PARAMS)
 					.message("Unknown tool: invalid_tool_name")
 					.data("Tool not found: " + callToolRequest.name())
 					.build());
 			}
 
-			return toolSpecification.get().callHandler().apply(ctx, callToolRequest);
+			return toolSpecification.callHandler().apply(ctx, callToolRequest);
 		};
 	}
 
@@ -445,7 +500,7 @@ public class McpStatelessAsyncServer {
 	 * @return A Flux stream of all registered resources
 	 */
 	public Flux<McpSchema.Resource> listResources() {
-		return Flux.fromIterable(this.resources.values())
+		return Flux.defer(() -> Flux.fromIterable(this.resources.values()))
 			.map(McpStatelessServerFeatures.AsyncResourceSpecification::resource);
 	}
 
@@ -507,7 +562,7 @@ public class McpStatelessAsyncServer {
 	 * @return A Flux stream of all registered resource templates
 	 */
 	public Flux<McpSchema.ResourceTemplate> listResourceTemplates() {
-		return Flux.fromIterable(this.resourceTemplates.values())
+		return Flux.defer(() -> Flux.fromIterable(this.resourceTemplates.values()))
 			.map(McpStatelessServerFeatures.AsyncResourceTemplateSpecification::resourceTemplate);
 	}
 
@@ -536,24 +591,32 @@ public class McpStatelessAsyncServer {
 		});
 	}
 
-	private McpStatelessRequestHandler<McpSchema.ListResourcesResult> resourcesListRequestHandler() {
-		return (ctx, params) -> {
-			var resourceList = this.resources.values()
-				.stream()
-				.map(McpStatelessServerFeatures.AsyncResourceSpecification::resource)
-				.toList();
-			return Mono.just(new McpSchema.ListResourcesResult(resourceList, null));
-		};
+	private McpStatelessRequestHandler<Object> resourcesListRequestHandler() {
+		return (ctx, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.resourcesListCache.get(this.resources.version(), afterSequence, () -> {
+				var page = this.resources.page(afterSequence, this.listPageSizes.resources());
+				var resourceList = page.items()
+					.stream()
+					.map(McpStatelessServerFeatures.AsyncResourceSpecification::resource)
+					.toList();
+				return new McpSchema.ListResourcesResult(resourceList, PaginationCursors.nextCursor(page));
+			});
+		});
 	}
 
-	private McpStatelessRequestHandler<McpSchema.ListResourceTemplatesResult> resourceTemplateListRequestHandler() {
-		return (exchange, params) -> {
-			var resourceList = this.resourceTemplates.values()
-				.stream()
-				.map(AsyncResourceTemplateSpecification::resourceTemplate)
-				.toList();
-			return Mono.just(new McpSchema.ListResourceTemplatesResult(resourceList, null));
-		};
+	private McpStatelessRequestHandler<Object> resourceTemplateListRequestHandler() {
+		return (ctx, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.resourceTemplatesListCache.get(this.resourceTemplates.version(), afterSequence, () -> {
+				var page = this.resourceTemplates.page(afterSequence, this.listPageSizes.resourceTemplates());
+				var resourceList = page.items()
+					.stream()
+					.map(McpStatelessServerFeatures.AsyncResourceTemplateSpecification::resourceTemplate)
+					.toList();
+				return new McpSchema.ListResourceTemplatesResult(resourceList, PaginationCursors.nextCursor(page));
+			});
+		});
 	}
 
 	private McpStatelessRequestHandler<McpSchema.ReadResourceResult> resourcesReadRequestHandler() {
@@ -578,19 +641,12 @@ public class McpStatelessAsyncServer {
 	}
 
 	private Optional<McpStatelessServerFeatures.AsyncResourceSpecification> findResourceSpecification(String uri) {
-		var result = this.resources.values()
-			.stream()
-			.filter(spec -> this.uriTemplateManagerFactory.create(spec.resource().uri()).matches(uri))
-			.findFirst();
-		return result;
+		return Optional.ofNullable(this.resources.match(uri));
 	}
 
 	private Optional<McpStatelessServerFeatures.AsyncResourceTemplateSpecification> findResourceTemplateSpecification(
 			String uri) {
-		return this.resourceTemplates.values()
-			.stream()
-			.filter(spec -> this.uriTemplateManagerFactory.create(spec.resourceTemplate().uriTemplate()).matches(uri))
-			.findFirst();
+		return Optional.ofNullable(this.resourceTemplates.match(uri));
 	}
 
 	// ---------------------------------------
@@ -611,7 +667,7 @@ public class McpStatelessAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			var previous = this.prompts.put(promptSpecification.prompt().name(), promptSpecification);
+			var previous = this.prompts.put(promptSpecification);
 			if (previous != null) {
 				logger.warn("Replace existing Prompt with name '{}'", promptSpecification.prompt().name());
 			}
@@ -628,7 +684,7 @@ public class McpStatelessAsyncServer {
 	 * @return A Flux stream of all registered prompts
 	 */
 	public Flux<McpSchema.Prompt> listPrompts() {
-		return Flux.fromIterable(this.prompts.values())
+		return Flux.defer(() -> Flux.fromIterable(this.prompts.list()))
 			.map(McpStatelessServerFeatures.AsyncPromptSpecification::prompt);
 	}
 
@@ -660,20 +716,18 @@ public class McpStatelessAsyncServer {
 		});
 	}
 
-	private McpStatelessRequestHandler<McpSchema.ListPromptsResult> promptsListRequestHandler() {
-		return (ctx, params) -> {
-			// TODO: Implement pagination
-			// McpSchema.PaginatedRequest request = objectMapper.convertValue(params,
-			// new TypeReference<McpSchema.PaginatedRequest>() {
-			// });
-
-			var promptList = this.prompts.values()
-				.stream()
-				.map(McpStatelessServerFeatures.AsyncPromptSpecification::prompt)
-				.toList();
-
-			return Mono.just(new McpSchema.ListPromptsResult(promptList, null));
-		};
+	private McpStatelessRequestHandler<Object> promptsListRequestHandler() {
+		return (ctx, params) -> Mono.fromSupplier(() -> {
+			long afterSequence = PaginationCursors.afterSequence(this.jsonMapper, params);
+			return this.promptsListCache.get(this.prompts.version(), afterSequence, () -> {
+				var page = this.prompts.page(afterSequence, this.listPageSizes.prompts());
+				var promptList = page.items()
+					.stream()
+					.map(McpStatelessServerFeatures.AsyncPromptSpecification::prompt)
+					.toList();
+				return new McpSchema.ListPromptsResult(promptList, PaginationCursors.nextCursor(page));
+			});
+		});
 	}
 
 	private McpStatelessRequestHandler<McpSchema.GetPromptResult> promptsGetRequestHandler() {
@@ -808,14 +862,16 @@ public class McpStatelessAsyncServer {
 	 * determines the correct reference type (either prompt or resource), and constructs a
 	 * fully-typed {@code CompleteRequest} instance.
 	 * @param object the raw request parameters, expected to be a Map containing "ref" and
-	 * "argument" entries.
+	 * "argument" entries, or a deferred value convertible to such a Map.
 	 * @return a {@link McpSchema.CompleteRequest} representing the structured completion
 	 * request.
 	 * @throws IllegalArgumentException if the "ref" type is not recognized.
 	 */
 	@SuppressWarnings("unchecked")
 	private McpSchema.CompleteRequest parseCompletionParams(Object object) {
-		Map<String, Object> params = (Map<String, Object>) object;
+		Map<String, Object> params = (object instanceof Map) ? (Map<String, Object>) object
+				: jsonMapper.convertValue(object, new TypeRef<Map<String, Object>>() {
+				});
 		Map<String, Object> refMap = (Map<String, Object>) params.get("ref");
 		Map<String, Object> argMap = (Map<String, Object>) params.get("argument");
 
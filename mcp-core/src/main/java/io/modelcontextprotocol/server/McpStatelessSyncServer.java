@@ -5,10 +5,13 @@
 package io.modelcontextprotocol.server;
 
 import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,11 +28,11 @@ public class McpStatelessSyncServer {
 
 	private final McpStatelessAsyncServer asyncServer;
 
-	private final boolean immediateExecution;
+	private final Scheduler executionScheduler;
 
-	McpStatelessSyncServer(McpStatelessAsyncServer asyncServer, boolean immediateExecution) {
+	McpStatelessSyncServer(McpStatelessAsyncServer asyncServer, Scheduler executionScheduler) {
 		this.asyncServer = asyncServer;
-		this.immediateExecution = immediateExecution;
+		this.executionScheduler = executionScheduler;
 	}
 
 	/**
@@ -70,7 +73,21 @@ public class McpStatelessSyncServer {
 	public void addTool(McpStatelessServerFeatures.SyncToolSpecification toolSpecification) {
 		this.asyncServer
 			.addTool(McpStatelessServerFeatures.AsyncToolSpecification.fromSync(toolSpecification,
-					this.immediateExecution))
+					this.executionScheduler))
+			.block();
+	}
+
+	/**
+	 * Add several tool specifications at runtime at once.
+	 * @param toolSpecifications The tool specifications to add
+	 */
+	public void addTools(List<McpStatelessServerFeatures.SyncToolSpecification> toolSpecifications) {
+		Assert.notNull(toolSpecifications, "Tool specifications must not be null");
+		this.asyncServer
+			.addTools(toolSpecifications.stream()
+				.map(toolSpecification -> McpStatelessServerFeatures.AsyncToolSpecification.fromSync(toolSpecification,
+						this.executionScheduler))
+				.toList())
 			.block();
 	}
 
@@ -90,6 +107,14 @@ public class McpStatelessSyncServer {
 		this.asyncServer.removeTool(toolName).block();
 	}
 
+	/**
+	 * Remove several tool handlers at runtime at once.
+	 * @param toolNames The names of the tool handlers to remove
+	 */
+	public void removeTools(Collection<String> toolNames) {
+		this.asyncServer.removeTools(toolNames).block();
+	}
+
 	/**
 	 * Add a new resource handler at runtime.
 	 * @param resourceSpecification The resource handler to add
@@ -97,7 +122,7 @@ public class McpStatelessSyncServer {
 	public void addResource(McpStatelessServerFeatures.SyncResourceSpecification resourceSpecification) {
 		this.asyncServer
 			.addResource(McpStatelessServerFeatures.AsyncResourceSpecification.fromSync(resourceSpecification,
-					this.immediateExecution))
+					this.executionScheduler))
 			.block();
 	}
 
@@ -125,7 +150,7 @@ public class McpStatelessSyncServer {
 			McpStatelessServerFeatures.SyncResourceTemplateSpecification resourceTemplateSpecification) {
 		this.asyncServer
 			.addResourceTemplate(McpStatelessServerFeatures.AsyncResourceTemplateSpecification
-				.fromSync(resourceTemplateSpecification, this.immediateExecution))
+				.fromSync(resourceTemplateSpecification, this.executionScheduler))
 			.block();
 	}
 
@@ -152,7 +177,7 @@ public class McpStatelessSyncServer {
 	public void addPrompt(McpStatelessServerFeatures.SyncPromptSpecification promptSpecification) {
 		this.asyncServer
 			.addPrompt(McpStatelessServerFeatures.AsyncPromptSpecification.fromSync(promptSpecification,
-					this.immediateExecution))
+					this.executionScheduler))
 			.block();
 	}
 
@@ -4,11 +4,14 @@
 
 package io.modelcontextprotocol.server;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
 import io.modelcontextprotocol.util.Assert;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * A synchronous implementation of the Model Context Protocol (MCP) server that wraps
@@ -56,7 +59,10 @@ public class McpSyncServer {
 	 */
 	private final McpAsyncServer asyncServer;
 
-	private final boolean immediateExecution;
+	/**
+	 * The scheduler blocking handlers are offloaded to, or null to run them immediately.
+	 */
+	private final Scheduler executionScheduler;
 
 	/**
 	 * Creates a new synchronous server that wraps the provided async server.
@@ -74,9 +80,19 @@ public class McpSyncServer {
 	 * transport is non-blocking.
 	 */
 	public McpSyncServer(McpAsyncServer asyncServer, boolean immediateExecution) {
+		this(asyncServer, immediateExecution ? null : Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Creates a new synchronous server that wraps the provided async server.
+	 * @param asyncServer The async server to wrap
+	 * @param executionScheduler The scheduler tools, prompts, and resources handlers
+	 * added later execute on, or null to execute them without offloading.
+	 */
+	McpSyncServer(McpAsyncServer asyncServer, Scheduler executionScheduler) {
 		Assert.notNull(asyncServer, "Async server must not be null");
 		this.asyncServer = asyncServer;
-		this.immediateExecution = immediateExecution;
+		this.executionScheduler = executionScheduler;
 	}
 
 	/**
@@ -85,7 +101,21 @@ public class McpSyncServer {
 	 */
 	public void addTool(McpServerFeatures.SyncToolSpecification toolHandler) {
 		this.asyncServer
-			.addTool(McpServerFeatures.AsyncToolSpecification.fromSync(toolHandler, this.immediateExecution))
+			.addTool(McpServerFeatures.AsyncToolSpecification.fromSync(toolHandler, this.executionScheduler))
+			.block();
+	}
+
+	/**
+	 * Add several tool handlers at once, notifying clients of the change a single time.
+	 * @param toolHandlers The tool handlers to add
+	 */
+	public void addTools(List<McpServerFeatures.SyncToolSpecification> toolHandlers) {
+		Assert.notNull(toolHandlers, "Tool handlers must not be null");
+		this.asyncServer
+			.addTools(toolHandlers.stream()
+				.map(toolHandler -> McpServerFeatures.AsyncToolSpecification.fromSync(toolHandler,
+						this.executionScheduler))
+				.toList())
 			.block();
 	}
 
@@ -105,6 +135,15 @@ public class McpSyncServer {
 		this.asyncServer.removeTool(toolName).block();
 	}
 
+	/**
+	 * Remove several tool handlers at once, notifying clients of the change a single
+	 * time.
+	 * @param toolNames The names of the tool handlers to remove
+	 */
+	public void removeTools(Collection<String> toolNames) {
+		this.asyncServer.removeTools(toolNames).block();
+	}
+
 	/**
 	 * Add a new resource handler.
 	 * @param resourceSpecification The resource specification to add
@@ -112,7 +151,7 @@ public class McpSyncServer {
 	public void addResource(McpServerFeatures.SyncResourceSpecification resourceSpecification) {
 		this.asyncServer
 			.addResource(McpServerFeatures.AsyncResourceSpecification.fromSync(resourceSpecification,
-					this.immediateExecution))
+					this.executionScheduler))
 			.block();
 	}
 
@@ -139,7 +178,7 @@ public class McpSyncServer {
 	public void addResourceTemplate(McpServerFeatures.SyncResourceTemplateSpecification resourceTemplateSpecification) {
 		this.asyncServer
 			.addResourceTemplate(McpServerFeatures.AsyncResourceTemplateSpecification
-				.fromSync(resourceTemplateSpecification, this.immediateExecution))
+				.fromSync(resourceTemplateSpecification, this.executionScheduler))
 			.block();
 	}
 
@@ -166,7 +205,7 @@ public class McpSyncServer {
 	public void addPrompt(McpServerFeatures.SyncPromptSpecification promptSpecification) {
 		this.asyncServer
 			.addPrompt(
-					McpServerFeatures.AsyncPromptSpecification.fromSync(promptSpecification, this.immediateExecution))
+					McpServerFeatures.AsyncPromptSpecification.fromSync(promptSpecification, this.executionScheduler))
 			.block();
 	}
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.McpPage;
+
+/**
+ * Encodes and decodes the opaque cursors of paginated list results. A cursor wraps the
+ * sequence number of the last item of a {@link McpPage}.
+ */
+final class PaginationCursors {
+
+	private static final String PREFIX = "seq:";
+
+	private PaginationCursors() {
+	}
+
+	/**
+	 * Return the sequence number to start the requested page after.
+	 * @param jsonMapper the mapper used to read the request params
+	 * @param params the params of the list request, possibly {@code null}
+	 * @return the sequence number of the last item of the previous page, or {@code -1}
+	 * for the first page
+	 * @throws McpError if the cursor is invalid
+	 */
+	static long afterSequence(McpJsonMapper jsonMapper, Object params) {
+		if (params == null || (params instanceof Map<?, ?> map && !map.containsKey("cursor"))) {
+			return -1;
+		}
+		McpSchema.PaginatedRequest request = jsonMapper.convertValue(params, new TypeRef<McpSchema.PaginatedRequest>() {
+		});
+		return decode(request.cursor());
+	}
+
+	/**
+	 * Return the cursor of the page following the given one.
+	 * @param page the page
+	 * @return the cursor, or {@code null} if the page is the last one
+	 */
+	static String nextCursor(McpPage<?> page) {
+		return page.hasMore() ? encode(page.lastSequence()) : null;
+	}
+
+	static String encode(long sequence) {
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString((PREFIX + sequence).getBytes(StandardCharsets.UTF_8));
+	}
+
+	static long decode(String cursor) {
+		if (cursor == null) {
+			return -1;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (decoded.startsWith(PREFIX)) {
+				long sequence = Long.parseLong(decoded, PREFIX.length(), decoded.length(), 10);
+				if (sequence >= 0) {
+					return sequence;
+				}
+			}
+		}
+		catch (IllegalArgumentException e) {
+			// Not Base64 or not a number, reported below
+		}
+		throw McpError.builder(McpSchema.ErrorCodes.INVALID_PARAMS).message("Invalid cursor: " + cursor).build();
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.modelcontextprotocol.util.McpUriTemplateManager;
+import io.modelcontextprotocol.util.McpUriTemplateManagerFactory;
+
+/**
+ * Index of the resources each session subscribed to, used to deliver
+ * {@code notifications/resources/updated} only to the sessions that asked for them.
+ * <p>
+ * A session subscribes either to a resource URI, or to a URI template, in which case it
+ * is notified of the updates of every resource whose URI matches the template. Looking up
+ * the subscribers of a URI is a hash lookup, plus a match against each subscribed
+ * template. All operations are thread-safe: changes are serialized, so that the index by
+ * session and the indexes by URI always agree, and lookups never lock.
+ */
+final class ResourceSubscriptions {
+
+	private final McpUriTemplateManagerFactory uriTemplateManagerFactory;
+
+	/** Session ids subscribed to each resource URI */
+	private final Map<String, Set<String>> byUri = new ConcurrentHashMap<>();
+
+	/** Sessions subscribed to each URI template */
+	private final Map<String, TemplateSubscription> byTemplate = new ConcurrentHashMap<>();
+
+	/** URIs and URI templates each session subscribed to */
+	private final Map<String, Set<String>> bySession = new ConcurrentHashMap<>();
+
+	ResourceSubscriptions(McpUriTemplateManagerFactory uriTemplateManagerFactory) {
+		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
+	}
+
+	/**
+	 * Subscribe a session to a resource URI or URI template.
+	 * @param sessionId the id of the subscribing session
+	 * @param uri the resource URI or URI template
+	 */
+	synchronized void subscribe(String sessionId, String uri) {
+		this.bySession.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(uri);
+		McpUriTemplateManager uriTemplateManager = this.uriTemplateManagerFactory.create(uri);
+		if (uriTemplateManager.isUriTemplate(uri)) {
+			this.byTemplate.compute(uri, (template, subscription) -> {
+				TemplateSubscription updated = (subscription != null) ? subscription
+						: new TemplateSubscription(uriTemplateManager, ConcurrentHashMap.newKeySet());
+				updated.sessionIds().add(sessionId);
+				return updated;
+			});
+		}
+		else {
+			this.byUri.compute(uri, (key, sessionIds) -> {
+				Set<String> updated = (sessionIds != null) ? sessionIds : ConcurrentHashMap.newKeySet();
+				updated.add(sessionId);
+				return updated;
+			});
+		}
+	}
+
+	/**
+	 * Unsubscribe a session from a resource URI or URI template.
+	 * @param sessionId the id of the session
+	 * @param uri the resource URI or URI template it subscribed to
+	 */
+	synchronized void unsubscribe(String sessionId, String uri) {
+		this.bySession.computeIfPresent(sessionId, (id, uris) -> {
+			uris.remove(uri);
+			return uris.isEmpty() ? null : uris;
+		});
+		remove(sessionId, uri);
+	}
+
+	/**
+	 * Remove all the subscriptions of a session, once it is closed.
+	 * @param sessionId the id of the session
+	 */
+	synchronized void removeSession(String sessionId) {
+		Set<String> uris = this.bySession.remove(sessionId);
+		if (uris != null) {
+			uris.forEach(uri -> remove(sessionId, uri));
+		}
+	}
+
+	/**
+	 * Return the ids of the sessions subscribed to a resource, directly or through a
+	 * matching URI template.
+	 * @param uri the URI of the resource
+	 * @return the ids of the subscribed sessions
+	 */
+	Collection<String> subscribers(String uri) {
+		Set<String> exact = this.byUri.get(uri);
+		if (this.byTemplate.isEmpty()) {
+			return (exact != null) ? Set.copyOf(exact) : Set.of();
+		}
+		Set<String> subscribers = (exact != null) ? new HashSet<>(exact) : new HashSet<>();
+		for (TemplateSubscription subscription : this.byTemplate.values()) {
+			if (subscription.uriTemplateManager().matches(uri)) {
+				subscribers.addAll(subscription.sessionIds());
+			}
+		}
+		return subscribers;
+	}
+
+	private void remove(String sessionId, String uri) {
+		this.byUri.computeIfPresent(uri, (key, sessionIds) -> {
+			sessionIds.remove(sessionId);
+			return sessionIds.isEmpty() ? null : sessionIds;
+		});
+		this.byTemplate.computeIfPresent(uri, (key, subscription) -> {
+			subscription.sessionIds().remove(sessionId);
+			return subscription.sessionIds().isEmpty() ? null : subscription;
+		});
+	}
+
+	private record TemplateSubscription(McpUriTemplateManager uriTemplateManager, Set<String> sessionIds) {
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.McpPage;
+
+/**
+ * Registry of named specifications, such as tool or prompt specifications, indexed by
+ * name.
+ * <p>
+ * Reads go to an immutable snapshot and never lock: looking a specification up by name is
+ * a hash lookup, and listing the specifications returns them in registration order
+ * without copying. Writes are serialized and publish a new snapshot, so registering or
+ * removing a batch of specifications costs a single copy of the registry regardless of
+ * the batch size.
+ *
+ * @param <T> the type of specification
+ */
+final class SpecificationRegistry<T> {
+
+	private final Function<T, String> nameExtractor;
+
+	private volatile Snapshot<T> snapshot = new Snapshot<>(Map.of(), List.of(), new long[0], 0);
+
+	private long sequenceCounter;
+
+	/**
+	 * Create an empty registry.
+	 * @param nameExtractor extracts the name from a specification
+	 */
+	SpecificationRegistry(Function<T, String> nameExtractor) {
+		Assert.notNull(nameExtractor, "Name extractor must not be null");
+		this.nameExtractor = nameExtractor;
+	}
+
+	/**
+	 * Return the specification with the given name.
+	 * @param name the name
+	 * @return the specification, or {@code null} if no such specification is registered
+	 */
+	T get(String name) {
+		Entry<T> entry = this.snapshot.byName().get(name);
+		return (entry != null) ? entry.specification() : null;
+	}
+
+	/**
+	 * Return all registered specifications in registration order.
+	 * @return an unmodifiable list of the specifications
+	 */
+	List<T> list() {
+		return this.snapshot.ordered();
+	}
+
+	/**
+	 * Return the version of the registry, which changes whenever specifications are
+	 * registered or removed.
+	 * @return the version
+	 */
+	long version() {
+		return this.snapshot.version();
+	}
+
+	/**
+	 * Return a page of the registered specifications, in registration order.
+	 * @param afterSequence the {@link McpPage#lastSequence() last sequence number} of the
+	 * previous page, or {@code -1} for the first page
+	 * @param pageSize the maximum number of specifications in the page, or a non-positive
+	 * number for all the remaining specifications
+	 * @return the page
+	 */
+	McpPage<T> page(long afterSequence, int pageSize) {
+		Snapshot<T> snapshot = this.snapshot;
+		return McpPage.of(snapshot.ordered(), snapshot.sequences(), afterSequence, pageSize);
+	}
+
+	/**
+	 * Register a specification. It replaces any registered specification with the same
+	 * name, keeping its position in the registration order.
+	 * @param specification the specification to register
+	 * @return the replaced specification, or {@code null} if there was none
+	 */
+	synchronized T put(T specification) {
+		Map<String, Entry<T>> byName = new LinkedHashMap<>(this.snapshot.byName());
+		Entry<T> previous = put(byName, specification);
+		publish(byName);
+		return (previous != null) ? previous.specification() : null;
+	}
+
+	/**
+	 * Register specifications. A specification replaces any registered specification with
+	 * the same name, keeping its position in the registration order.
+	 * @param specifications the specifications to register
+	 * @return the names of the specifications that were replaced
+	 */
+	synchronized List<String> addAll(Collection<? extends T> specifications) {
+		if (specifications.isEmpty()) {
+			return List.of();
+		}
+		List<String> replaced = new ArrayList<>();
+		Map<String, Entry<T>> byName = new LinkedHashMap<>(this.snapshot.byName());
+		for (T specification : specifications) {
+			if (put(byName, specification) != null) {
+				replaced.add(this.nameExtractor.apply(specification));
+			}
+		}
+		publish(byName);
+		return replaced;
+	}
+
+	/**
+	 * Unregister a specification by name.
+	 * @param name the name of the specification to unregister
+	 * @return the removed specification, or {@code null} if there was none
+	 */
+	synchronized T remove(String name) {
+		if (!this.snapshot.byName().containsKey(name)) {
+			return null;
+		}
+		Map<String, Entry<T>> byName = new LinkedHashMap<>(this.snapshot.byName());
+		Entry<T> removed = byName.remove(name);
+		publish(byName);
+		return removed.specification();
+	}
+
+	/**
+	 * Unregister specifications by name.
+	 * @param names the names of the specifications to unregister
+	 * @return the names of the specifications that were registered and have been removed
+	 */
+	synchronized Set<String> removeAll(Collection<String> names) {
+		Set<String> removed = new HashSet<>();
+		Map<String, Entry<T>> byName = null;
+		for (String name : names) {
+			if (byName == null && this.snapshot.byName().containsKey(name)) {
+				byName = new LinkedHashMap<>(this.snapshot.byName());
+			}
+			if (byName != null && byName.remove(name) != null) {
+				removed.add(name);
+			}
+		}
+		if (byName != null) {
+			publish(byName);
+		}
+		return removed;
+	}
+
+	private Entry<T> put(Map<String, Entry<T>> byName, T specification) {
+		String name = this.nameExtractor.apply(specification);
+		Entry<T> previous = byName.get(name);
+		// A replacement keeps the sequence number, so that clients paginating across the
+		// change neither see it twice nor skip specifications
+		long sequence = (previous != null) ? previous.sequence() : this.sequenceCounter++;
+		return byName.put(name, new Entry<>(specification, sequence));
+	}
+
+	private void publish(Map<String, Entry<T>> byName) {
+		List<T> ordered = new ArrayList<>(byName.size());
+		long[] sequences = new long[byName.size()];
+		for (Entry<T> entry : byName.values()) {
+			sequences[ordered.size()] = entry.sequence();
+			ordered.add(entry.specification());
+		}
+		this.snapshot = new Snapshot<>(Collections.unmodifiableMap(byName), Collections.unmodifiableList(ordered),
+				sequences, this.snapshot.version() + 1);
+	}
+
+	private record Entry<T>(T specification, long sequence) {
+	}
+
+	private record Snapshot<T>(Map<String, Entry<T>> byName, List<T> ordered, long[] sequences, long version) {
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.events;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Storage for the events sent over the SSE streams of Streamable HTTP sessions. Stored
+ * events are replayed when a client resumes a stream with the {@code Last-Event-ID}
+ * header, so that messages sent while the client was disconnected are not lost.
+ * <p>
+ * Events are keyed by session and stream. Within a session, event sequence numbers are
+ * assigned in increasing order across all of its streams. Implementations are expected to
+ * bound the number of events they retain; events evicted by the retention policy are
+ * simply no longer replayed.
+ *
+ * @see InMemoryEventStore
+ * @see MemoryMappedFileEventStore
+ */
+public interface EventStore {
+
+	/**
+	 * Stores an event sent to the client.
+	 * @param sessionId the ID of the session the event belongs to
+	 * @param event the event to store
+	 * @return a Mono that completes once the event is stored
+	 */
+	Mono<Void> storeEvent(String sessionId, Event event);
+
+	/**
+	 * Replays the stored events of a stream that follow the given sequence number, in the
+	 * order they were stored.
+	 * @param sessionId the ID of the session the stream belongs to
+	 * @param streamId the ID of the stream to replay
+	 * @param sequence the sequence number of the last event received by the client
+	 * @return the events of the stream stored after the given sequence number
+	 */
+	Flux<Event> replayEventsAfter(String sessionId, String streamId, long sequence);
+
+	/**
+	 * Removes all the events stored for a session.
+	 * @param sessionId the ID of the session
+	 * @return a Mono that completes once the events are removed
+	 */
+	Mono<Void> removeSession(String sessionId);
+
+	/**
+	 * An event sent over an SSE stream.
+	 *
+	 * @param streamId the ID of the stream the event was sent over
+	 * @param sequence the sequence number of the event within its session
+	 * @param message the JSON-RPC message carried by the event
+	 */
+	record Event(String streamId, long sequence, McpSchema.JSONRPCMessage message) {
+
+		private static final char ID_SEPARATOR = '_';
+
+		/**
+		 * Returns the SSE event ID, which combines the stream ID and the sequence number
+		 * so that the stream can be identified from a {@code Last-Event-ID} header alone.
+		 * @return the SSE event ID
+		 */
+		public String id() {
+			return this.streamId + ID_SEPARATOR + this.sequence;
+		}
+
+		/**
+		 * Extracts the stream ID from an SSE event ID.
+		 * @param eventId the SSE event ID
+		 * @return the stream ID, or {@code null} if the event ID is malformed
+		 */
+		public static String streamIdOf(String eventId) {
+			int separator = eventId.lastIndexOf(ID_SEPARATOR);
+			return (separator > 0 && sequenceOf(eventId) >= 0) ? eventId.substring(0, separator) : null;
+		}
+
+		/**
+		 * Extracts the sequence number from an SSE event ID.
+		 * @param eventId the SSE event ID
+		 * @return the sequence number, or {@code -1} if the event ID is malformed
+		 */
+		public static long sequenceOf(String eventId) {
+			int separator = eventId.lastIndexOf(ID_SEPARATOR);
+			if (separator < 0) {
+				return -1;
+			}
+			try {
+				return Long.parseLong(eventId, separator + 1, eventId.length(), 10);
+			}
+			catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * An {@link EventStore} that keeps the most recent events of each session in a fixed-size
+ * ring buffer on the heap. Once a session's buffer is full, every new event overwrites
+ * the oldest one, so memory use is bounded by the number of sessions times the buffer
+ * capacity. Events are held as message objects and are never serialized.
+ */
+public class InMemoryEventStore implements EventStore {
+
+	/**
+	 * The default number of events retained per session.
+	 */
+	public static final int DEFAULT_MAX_EVENTS_PER_SESSION = 256;
+
+	private final ConcurrentHashMap<String, EventRing> sessions = new ConcurrentHashMap<>();
+
+	private final RemovedSessions removedSessions = new RemovedSessions();
+
+	private final int maxEventsPerSession;
+
+	/**
+	 * Creates a store retaining {@value #DEFAULT_MAX_EVENTS_PER_SESSION} events per
+	 * session.
+	 */
+	public InMemoryEventStore() {
+		this(DEFAULT_MAX_EVENTS_PER_SESSION);
+	}
+
+	/**
+	 * Creates a store retaining the given number of events per session.
+	 * @param maxEventsPerSession the capacity of each session's ring buffer
+	 */
+	public InMemoryEventStore(int maxEventsPerSession) {
+		Assert.isTrue(maxEventsPerSession > 0, "maxEventsPerSession must be greater than 0");
+		this.maxEventsPerSession = maxEventsPerSession;
+	}
+
+	@Override
+	public Mono<Void> storeEvent(String sessionId, Event event) {
+		return Mono.fromRunnable(() -> {
+			EventRing ring = this.sessions.computeIfAbsent(sessionId,
+					id -> this.removedSessions.contains(id) ? null : new EventRing(this.maxEventsPerSession));
+			if (ring != null) {
+				ring.add(event);
+			}
+		});
+	}
+
+	@Override
+	public Flux<Event> replayEventsAfter(String sessionId, String streamId, long sequence) {
+		return Flux.defer(() -> {
+			EventRing ring = this.sessions.get(sessionId);
+			return (ring != null) ? Flux.fromIterable(ring.eventsAfter(streamId, sequence)) : Flux.empty();
+		});
+	}
+
+	@Override
+	public Mono<Void> removeSession(String sessionId) {
+		return Mono.fromRunnable(() -> {
+			this.removedSessions.add(sessionId);
+			this.sessions.remove(sessionId);
+		});
+	}
+
+	/**
+	 * Ring buffer holding the most recent events of a single session.
+	 */
+	private static final class EventRing {
+
+		private final Event[] events;
+
+		private long count;
+
+		EventRing(int capacity) {
+			this.events = new Event[capacity];
+		}
+
+		synchronized void add(Event event) {
+			this.events[(int) (this.count++ % this.events.length)] = event;
+		}
+
+		synchronized List<Event> eventsAfter(String streamId, long sequence) {
+			List<Event> result = new ArrayList<>();
+			long oldest = Math.max(0, this.count - this.events.length);
+			for (long i = oldest; i < this.count; i++) {
+				Event event = this.events[(int) (i % this.events.length)];
+				if (event.sequence() > sequence && event.streamId().equals(streamId)) {
+					result.add(event);
+				}
+			}
+			return result;
+		}
+
+	}
+
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.events;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * An {@link EventStore} that appends the events of each session to memory-mapped segment
+ * files, keeping serialized messages off the heap.
+ * <p>
+ * Every session gets its own directory below the configured base directory. Events are
+ * appended to the current segment until it is full, at which point a new segment is
+ * started; once a session has more than the configured number of segments, the oldest one
+ * is deleted. Retention is therefore bounded to roughly
+ * {@code segmentSize * maxSegmentsPerSession} bytes per session. Replay scans the
+ * retained segments of the session without holding any lock.
+ * <p>
+ * Appending to the current segment only writes to memory. Creating and deleting files
+ * happens on the {@link Schedulers#boundedElastic() bounded elastic} scheduler, and a
+ * segment is unmapped before its file is deleted, as soon as no replay reads it anymore.
+ * <p>
+ * The files only serve to move event data off the heap: they are not synced to disk and
+ * are not reloaded after a restart.
+ */
+public class MemoryMappedFileEventStore implements EventStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(MemoryMappedFileEventStore.class);
+
+	/**
+	 * The default size of a segment file, in bytes.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+	/**
+	 * The default number of segment files retained per session.
+	 */
+	public static final int DEFAULT_MAX_SEGMENTS_PER_SESSION = 4;
+
+	/**
+	 * Record layout: record length (int), sequence (long), stream ID length (short),
+	 * stream ID (UTF-8), message (JSON).
+	 */
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES + Short.BYTES;
+
+	/**
+	 * Releases the mapping of a buffer right away, or null if the JDK does not allow it,
+	 * in which case the mapping is released when the buffer is garbage collected.
+	 */
+	private static final MethodHandle UNMAPPER = unmapper();
+
+	private final ConcurrentHashMap<String, SessionLog> sessions = new ConcurrentHashMap<>();
+
+	private final RemovedSessions removedSessions = new RemovedSessions();
+
+	private final Path directory;
+
+	private final McpJsonMapper jsonMapper;
+
+	private final int segmentSize;
+
+	private final int maxSegmentsPerSession;
+
+	/**
+	 * Creates a store with {@value #DEFAULT_MAX_SEGMENTS_PER_SESSION} segments of
+	 * {@value #DEFAULT_SEGMENT_SIZE} bytes per session.
+	 * @param directory the base directory for the segment files
+	 * @param jsonMapper the mapper used to serialize and deserialize the messages
+	 */
+	public MemoryMappedFileEventStore(Path directory, McpJsonMapper jsonMapper) {
+		this(directory, jsonMapper, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS_PER_SESSION);
+	}
+
+	/**
+	 * Creates a store with the given retention limits.
+	 * @param directory the base directory for the segment files
+	 * @param jsonMapper the mapper used to serialize and deserialize the messages
+	 * @param segmentSize the size of a segment file, in bytes. Events larger than a
+	 * segment get a segment of their own.
+	 * @param maxSegmentsPerSession the number of segment files retained per session
+	 */
+	public MemoryMappedFileEventStore(Path directory, McpJsonMapper jsonMapper, int segmentSize,
+			int maxSegmentsPerSession) {
+		Assert.notNull(directory, "directory must not be null");
+		Assert.notNull(jsonMapper, "jsonMapper must not be null");
+		Assert.isTrue(segmentSize > RECORD_HEADER_SIZE, "segmentSize must be greater than " + RECORD_HEADER_SIZE);
+		Assert.isTrue(maxSegmentsPerSession > 0, "maxSegmentsPerSession must be greater than 0");
+		this.directory = directory;
+		this.jsonMapper = jsonMapper;
+		this.segmentSize = segmentSize;
+		this.maxSegmentsPerSession = maxSegmentsPerSession;
+	}
+
+	@Override
+	public Mono<Void> storeEvent(String sessionId, Event event) {
+		return Mono.defer(() -> {
+			byte[] message;
+			try {
+				message = this.jsonMapper.writeValueAsBytes(event.message());
+			}
+			catch (IOException e) {
+				return Mono.error(e);
+			}
+			SessionLog log = this.sessions.get(sessionId);
+			if (log != null && log.tryAppend(event, message)) {
+				return Mono.empty();
+			}
+			// Opening the session directory or a new segment is blocking file I/O
+			return Mono.fromCallable(() -> {
+				SessionLog created = this.sessions.computeIfAbsent(sessionId,
+						id -> this.removedSessions.contains(id) ? null : openLog(id));
+				if (created != null) {
+					created.append(event, message);
+				}
+				return null;
+			}).subscribeOn(Schedulers.boundedElastic()).then();
+		});
+	}
+
+	@Override
+	public Flux<Event> replayEventsAfter(String sessionId, String streamId, long sequence) {
+		return Flux.defer(() -> {
+			SessionLog log = this.sessions.get(sessionId);
+			if (log == null) {
+				return Flux.empty();
+			}
+			byte[] streamIdBytes = streamId.getBytes(StandardCharsets.UTF_8);
+			// The segments stay mapped until the replay is done with them
+			return Flux.using(log::snapshot,
+					views -> Flux.fromIterable(views)
+						.concatMap(segment -> Flux.<Event, Integer>generate(() -> 0,
+								(offset, sink) -> readNext(segment, offset, streamId, streamIdBytes, sequence, sink))),
+					views -> views.forEach(SegmentView::release));
+		});
+	}
+
+	@Override
+	public Mono<Void> removeSession(String sessionId) {
+		return Mono.<Void>fromRunnable(() -> {
+			this.removedSessions.add(sessionId);
+			SessionLog log = this.sessions.remove(sessionId);
+			if (log != null) {
+				log.delete();
+			}
+		}).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	private SessionLog openLog(String sessionId) {
+		// Session IDs are client-visible strings; encode them to get a safe file name
+		String name = Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString(sessionId.getBytes(StandardCharsets.UTF_8));
+		try {
+			return new SessionLog(Files.createDirectories(this.directory.resolve(name)));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Scans the segment from the given offset for the next matching event and emits it.
+	 * @return the offset to resume scanning from
+	 */
+	private int readNext(SegmentView segment, int offset, String streamId, byte[] streamIdBytes, long sequence,
+			SynchronousSink<Event> sink) {
+		MappedByteBuffer buffer = segment.segment().buffer;
+		while (offset < segment.limit()) {
+			int recordLength = buffer.getInt(offset);
+			long recordSequence = buffer.getLong(offset + Integer.BYTES);
+			int streamIdLength = buffer.getShort(offset + Integer.BYTES + Long.BYTES);
+			int next = offset + recordLength;
+			if (recordSequence > sequence && matches(buffer, offset + RECORD_HEADER_SIZE, streamIdBytes)) {
+				int messageOffset = offset + RECORD_HEADER_SIZE + streamIdLength;
+				byte[] message = new byte[next - messageOffset];
+				buffer.get(messageOffset, message);
+				try {
+					sink.next(new Event(streamId, recordSequence,
+							McpSchema.deserializeJsonRpcMessage(this.jsonMapper, new ByteArrayInputStream(message))));
+				}
+				catch (IOException e) {
+					sink.error(e);
+				}
+				return next;
+			}
+			offset = next;
+		}
+		sink.complete();
+		return offset;
+	}
+
+	private static boolean matches(MappedByteBuffer buffer, int offset, byte[] streamIdBytes) {
+		if (buffer.getShort(offset - Short.BYTES) != streamIdBytes.length) {
+			return false;
+		}
+		for (int i = 0; i < streamIdBytes.length; i++) {
+			if (buffer.get(offset + i) != streamIdBytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static MethodHandle unmapper() {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field field = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			return MethodHandles.lookup()
+				.findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+				.bindTo(field.get(null));
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			logger.debug("Segments will be unmapped on garbage collection: {}", e.toString());
+			return null;
+		}
+	}
+
+	private static void unmap(MappedByteBuffer buffer) {
+		if (UNMAPPER != null) {
+			try {
+				UNMAPPER.invokeExact((ByteBuffer) buffer);
+			}
+			catch (Throwable e) {
+				logger.warn("Failed to unmap event store segment: {}", e.toString());
+			}
+		}
+	}
+
+	/**
+	 * A segment together with the number of bytes written to it when the view was taken.
+	 * The view holds a reference to the segment until it is released.
+	 */
+	private record SegmentView(SessionLog.Segment segment, int limit) {
+
+		void release() {
+			this.segment.release();
+		}
+
+	}
+
+	/**
+	 * The append-only log of a single session.
+	 */
+	private final class SessionLog {
+
+		/**
+		 * A memory-mapped segment file. Its write position is guarded by the owning
+		 * {@link SessionLog}. The log holds a reference to the segment while retaining
+		 * it, and each replay reading it holds another one: the segment is unmapped and
+		 * its file deleted once the last reference is released.
+		 */
+		private final class Segment {
+
+			private final Path file;
+
+			private final MappedByteBuffer buffer;
+
+			private final AtomicInteger references = new AtomicInteger(1);
+
+			private int limit;
+
+			Segment(Path file, int size) throws IOException {
+				this.file = file;
+				try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+						StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+					// The mapping stays valid after the channel is closed
+					this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+				}
+			}
+
+			int remaining() {
+				return this.buffer.capacity() - this.limit;
+			}
+
+			void retain() {
+				this.references.incrementAndGet();
+			}
+
+			void release() {
+				if (this.references.decrementAndGet() == 0) {
+					unmap(this.buffer);
+					deleteFile(this.file);
+					if (SessionLog.this.isDeleted()) {
+						deleteDirectory();
+					}
+				}
+			}
+
+		}
+
+		private final Path directory;
+
+		private final Deque<Segment> segments = new ArrayDeque<>();
+
+		private long segmentCounter;
+
+		private boolean deleted;
+
+		SessionLog(Path directory) {
+			this.directory = directory;
+		}
+
+		/**
+		 * Appends an event if it fits in the current segment, which only writes to
+		 * memory.
+		 * @return false if a new segment must be started for the event
+		 */
+		synchronized boolean tryAppend(Event event, byte[] message) {
+			if (this.deleted) {
+				return true;
+			}
+			byte[] streamId = streamIdBytes(event);
+			int recordLength = RECORD_HEADER_SIZE + streamId.length + message.length;
+			Segment segment = this.segments.peekLast();
+			if (segment == null || segment.remaining() < recordLength) {
+				return false;
+			}
+			write(segment, event, streamId, message);
+			return true;
+		}
+
+		synchronized void append(Event event, byte[] message) throws IOException {
+			if (this.deleted) {
+				return;
+			}
+			byte[] streamId = streamIdBytes(event);
+			int recordLength = RECORD_HEADER_SIZE + streamId.length + message.length;
+
+			Segment segment = this.segments.peekLast();
+			if (segment == null || segment.remaining() < recordLength) {
+				segment = roll(Math.max(segmentSize, recordLength));
+			}
+			write(segment, event, streamId, message);
+		}
+
+		private byte[] streamIdBytes(Event event) {
+			byte[] streamId = event.streamId().getBytes(StandardCharsets.UTF_8);
+			Assert.isTrue(streamId.length <= Short.MAX_VALUE, "Stream ID is too long: " + event.streamId());
+			return streamId;
+		}
+
+		private void write(Segment segment, Event event, byte[] streamId, byte[] message) {
+			int recordLength = RECORD_HEADER_SIZE + streamId.length + message.length;
+			int offset = segment.limit;
+			segment.buffer.putInt(offset, recordLength);
+			segment.buffer.putLong(offset + Integer.BYTES, event.sequence());
+			segment.buffer.putShort(offset + Integer.BYTES + Long.BYTES, (short) streamId.length);
+			segment.buffer.put(offset + RECORD_HEADER_SIZE, streamId);
+			segment.buffer.put(offset + RECORD_HEADER_SIZE + streamId.length, message);
+			segment.limit = offset + recordLength;
+		}
+
+		synchronized List<SegmentView> snapshot() {
+			List<SegmentView> views = new ArrayList<>(this.segments.size());
+			for (Segment segment : this.segments) {
+				segment.retain();
+				views.add(new SegmentView(segment, segment.limit));
+			}
+			return views;
+		}
+
+		synchronized boolean isDeleted() {
+			return this.deleted;
+		}
+
+		synchronized void delete() {
+			this.deleted = true;
+			this.segments.forEach(Segment::release);
+			this.segments.clear();
+			deleteDirectory();
+		}
+
+		private Segment roll(int size) throws IOException {
+			Segment segment = new Segment(this.directory.resolve(String.format("%019d.log", this.segmentCounter++)),
+					size);
+			this.segments.addLast(segment);
+			while (this.segments.size() > maxSegmentsPerSession) {
+				this.segments.removeFirst().release();
+			}
+			return segment;
+		}
+
+		private void deleteDirectory() {
+			try {
+				Files.deleteIfExists(this.directory);
+			}
+			catch (DirectoryNotEmptyException e) {
+				// Replays still hold segments; the last of them deletes the directory
+			}
+			catch (IOException e) {
+				logger.warn("Failed to delete event store directory {}: {}", this.directory, e.getMessage());
+			}
+		}
+
+		private void deleteFile(Path file) {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException e) {
+				logger.warn("Failed to delete event store file {}: {}", file, e.getMessage());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.events;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The IDs of the sessions most recently removed from an {@link EventStore}. Stores check
+ * them before creating the log of a session, so that an event sent while its session is
+ * closing does not bring back a log that nothing would remove again.
+ * <p>
+ * Only a bounded number of IDs is remembered, as such events are expected to arrive
+ * shortly after their session is removed.
+ */
+final class RemovedSessions {
+
+	private static final int CAPACITY = 1024;
+
+	private final Map<String, Boolean> ids = new LinkedHashMap<>() {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > CAPACITY;
+		}
+
+	};
+
+	synchronized void add(String sessionId) {
+		this.ids.put(sessionId, Boolean.TRUE);
+	}
+
+	synchronized boolean contains(String sessionId) {
+		return this.ids.containsKey(sessionId);
+	}
+
+}
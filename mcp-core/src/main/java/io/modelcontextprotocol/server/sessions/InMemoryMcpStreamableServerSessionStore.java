@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.sessions;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link McpStreamableServerSessionStore} that keeps the snapshots of the sessions on
+ * the heap. Sharing one instance between several transport providers in the same JVM
+ * simulates a multi-node deployment behind a load balancer without sticky sessions.
+ * <p>
+ * Snapshots are held in their serialized form, as an external store would hold them, so
+ * that the providers never share session objects and a snapshot that does not survive
+ * serialization is detected in tests.
+ */
+public class InMemoryMcpStreamableServerSessionStore implements McpStreamableServerSessionStore {
+
+	private final ConcurrentHashMap<String, StoredSnapshot> snapshots = new ConcurrentHashMap<>();
+
+	private final McpJsonMapper jsonMapper;
+
+	/**
+	 * Creates a store serializing the snapshots with the default {@link McpJsonMapper}.
+	 */
+	public InMemoryMcpStreamableServerSessionStore() {
+		this(McpJsonMapper.getDefault());
+	}
+
+	/**
+	 * Creates a store serializing the snapshots with the given mapper.
+	 * @param jsonMapper the mapper used to serialize the snapshots
+	 */
+	public InMemoryMcpStreamableServerSessionStore(McpJsonMapper jsonMapper) {
+		Assert.notNull(jsonMapper, "JsonMapper must not be null");
+		this.jsonMapper = jsonMapper;
+	}
+
+	@Override
+	public Mono<Void> saveSession(SessionSnapshot snapshot) {
+		return Mono.fromCallable(() -> new StoredSnapshot(snapshot.version(), snapshot.toBytes(this.jsonMapper)))
+			.doOnNext(stored -> this.snapshots.merge(snapshot.sessionId(), stored,
+					(previous, next) -> (next.version() >= previous.version()) ? next : previous))
+			.then();
+	}
+
+	@Override
+	public Mono<SessionSnapshot> loadSession(String sessionId) {
+		return Mono.fromCallable(() -> {
+			StoredSnapshot stored = this.snapshots.get(sessionId);
+			return (stored != null) ? SessionSnapshot.fromBytes(this.jsonMapper, stored.bytes()) : null;
+		});
+	}
+
+	@Override
+	public Mono<Void> removeSession(String sessionId) {
+		return Mono.fromRunnable(() -> this.snapshots.remove(sessionId));
+	}
+
+	/**
+	 * Returns the number of stored sessions.
+	 * @return the number of stored sessions
+	 */
+	public int size() {
+		return this.snapshots.size();
+	}
+
+	private record StoredSnapshot(long version, byte[] bytes) {
+	}
+
+}
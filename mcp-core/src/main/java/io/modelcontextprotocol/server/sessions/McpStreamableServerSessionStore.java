@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.sessions;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import reactor.core.publisher.Mono;
+
+/**
+ * Storage for the state of Streamable HTTP sessions, shared by the nodes serving an MCP
+ * server. A node that receives a request for a session it does not hold rebuilds the
+ * session from its stored snapshot, so that clients do not need to be routed to the node
+ * that initialized their session.
+ * <p>
+ * A snapshot only carries the state negotiated with the client: its capabilities and
+ * info, the minimum logging level it set, and whether it completed the initialization.
+ * The open SSE streams and the requests awaiting a response from the client are bound to
+ * the node that holds them and are not shared; combine the session store with a shared
+ * {@link io.modelcontextprotocol.server.events.EventStore} to resume streams on another
+ * node.
+ * <p>
+ * Each change of the state of a session is saved under a new version of its snapshot.
+ * Saves may complete out of order, so a store must not replace a snapshot by an older
+ * one. A snapshot is removed when its session is deleted by the client, or evicted by the
+ * node holding it; a node that still holds the session in memory keeps serving it, while
+ * the others answer that the session is unknown and the client starts a new one.
+ *
+ * @see InMemoryMcpStreamableServerSessionStore
+ */
+public interface McpStreamableServerSessionStore {
+
+	/**
+	 * Stores the snapshot of a session, replacing the previous snapshot of the session
+	 * unless that one has a higher {@link SessionSnapshot#version() version}.
+	 * @param snapshot the snapshot to store
+	 * @return a Mono that completes once the snapshot is stored
+	 */
+	Mono<Void> saveSession(SessionSnapshot snapshot);
+
+	/**
+	 * Loads the snapshot of a session.
+	 * @param sessionId the ID of the session
+	 * @return a Mono emitting the snapshot, or completing empty if the session is unknown
+	 */
+	Mono<SessionSnapshot> loadSession(String sessionId);
+
+	/**
+	 * Removes the snapshot of a session.
+	 * @param sessionId the ID of the session
+	 * @return a Mono that completes once the snapshot is removed
+	 */
+	Mono<Void> removeSession(String sessionId);
+
+	/**
+	 * The state of a session needed to rebuild it on another node.
+	 *
+	 * @param sessionId the ID of the session
+	 * @param clientCapabilities the capabilities declared by the client
+	 * @param clientInfo the implementation info of the client
+	 * @param minLoggingLevel the minimum level of the log notifications sent to the
+	 * client
+	 * @param initialized whether the client sent the initialized notification
+	 * @param version the version of the state, increased on each change of the session
+	 */
+	@JsonInclude(JsonInclude.Include.NON_ABSENT)
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	record SessionSnapshot( // @formatter:off
+		@JsonProperty("id") String sessionId,
+		@JsonProperty("caps") McpSchema.ClientCapabilities clientCapabilities,
+		@JsonProperty("client") McpSchema.Implementation clientInfo,
+		@JsonProperty("log") McpSchema.LoggingLevel minLoggingLevel,
+		@JsonProperty("init") boolean initialized,
+		@JsonProperty("v") long version) { // @formatter:on
+
+		/**
+		 * Serializes the snapshot into its compact JSON form.
+		 * @param jsonMapper the mapper to serialize with
+		 * @return the serialized snapshot
+		 * @throws IOException if the snapshot cannot be serialized
+		 */
+		public byte[] toBytes(McpJsonMapper jsonMapper) throws IOException {
+			return jsonMapper.writeValueAsBytes(this);
+		}
+
+		/**
+		 * Deserializes a snapshot serialized with {@link #toBytes(McpJsonMapper)}.
+		 * @param jsonMapper the mapper to deserialize with
+		 * @param bytes the serialized snapshot
+		 * @return the snapshot
+		 * @throws IOException if the bytes are not a valid snapshot
+		 */
+		public static SessionSnapshot fromBytes(McpJsonMapper jsonMapper, byte[] bytes) throws IOException {
+			return jsonMapper.readValue(bytes, SessionSnapshot.class);
+		}
+
+	}
+
+}
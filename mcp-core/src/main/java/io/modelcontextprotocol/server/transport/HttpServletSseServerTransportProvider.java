@@ -4,13 +4,11 @@
 
 package io.modelcontextprotocol.server.transport;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -18,16 +16,20 @@ import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.spec.HttpHeaders;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerTransport;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.KeepAliveScheduler;
+import io.modelcontextprotocol.util.McpSessionLimiter;
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
@@ -118,6 +120,11 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 	 */
 	private KeepAliveScheduler keepAliveScheduler;
 
+	/**
+	 * Evicts the idle sessions and caps the number of sessions. Unbounded by default.
+	 */
+	private final McpSessionLimiter<McpServerSession> sessionLimiter;
+
 	/**
 	 * Creates a new HttpServletSseServerTransportProvider instance with a custom SSE
 	 * endpoint.
@@ -128,13 +135,18 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 	 * @param sseEndpoint The endpoint path where clients will establish SSE connections
 	 * @param keepAliveInterval The interval for keep-alive pings, or null to disable
 	 * keep-alive functionality
+	 * @param keepAliveMaxFailures The number of consecutive failed keep-alive pings after
+	 * which a session is closed, or 0 to keep the session open
+	 * @param idleTimeout The time without traffic after which a session is closed, or
+	 * null to keep idle sessions
+	 * @param maxSessions The maximum number of sessions, or 0 for no maximum
 	 * @param contextExtractor The extractor for transport context from the request.
 	 * @deprecated Use the builder {@link #builder()} instead for better configuration
 	 * options.
 	 */
 	private HttpServletSseServerTransportProvider(McpJsonMapper jsonMapper, String baseUrl, String messageEndpoint,
-			String sseEndpoint, Duration keepAliveInterval,
-			McpTransportContextExtractor<HttpServletRequest> contextExtractor) {
+			String sseEndpoint, Duration keepAliveInterval, int keepAliveMaxFailures, Duration idleTimeout,
+			int maxSessions, McpTransportContextExtractor<HttpServletRequest> contextExtractor) {
 
 		Assert.notNull(jsonMapper, "JsonMapper must not be null");
 		Assert.notNull(messageEndpoint, "messageEndpoint must not be null");
@@ -146,13 +158,24 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 		this.messageEndpoint = messageEndpoint;
 		this.sseEndpoint = sseEndpoint;
 		this.contextExtractor = contextExtractor;
+		this.sessionLimiter = McpSessionLimiter.builder(this.sessions)
+			.idleTimeout(idleTimeout)
+			.maxSessions(maxSessions)
+			.build()
+			.start();
 
 		if (keepAliveInterval != null) {
 
-			this.keepAliveScheduler = KeepAliveScheduler
-				.builder(() -> (isClosing.get()) ? Flux.empty() : Flux.fromIterable(sessions.values()))
+			this.keepAliveScheduler = KeepAliveScheduler.builder()
 				.initialDelay(keepAliveInterval)
 				.interval(keepAliveInterval)
+				.wheelSlots(KeepAliveScheduler.TRANSPORT_WHEEL_SLOTS)
+				.maxFailures(keepAliveMaxFailures)
+				.evictionHandler(session -> {
+					McpServerSession serverSession = (McpServerSession) session;
+					this.sessions.remove(serverSession.getId());
+					serverSession.closeGracefully().onErrorComplete().subscribe();
+				})
 				.build();
 
 			this.keepAliveScheduler.start();
@@ -196,6 +219,15 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 			.then();
 	}
 
+	/**
+	 * Returns the number of active sessions, and the number of sessions evicted for being
+	 * idle or rejected for exceeding the maximum number of sessions.
+	 * @return a snapshot of the session counters
+	 */
+	public McpSessionLimiter.Stats sessionStats() {
+		return this.sessionLimiter.stats();
+	}
+
 	/**
 	 * Handles GET requests to establish SSE connections.
 	 * <p>
@@ -222,30 +254,57 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 			return;
 		}
 
+		if (!this.sessionLimiter.tryAdmit()) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, this.sessionLimiter.retryAfterSeconds());
+			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Maximum number of sessions reached");
+			return;
+		}
+
 		response.setContentType("text/event-stream");
 		response.setCharacterEncoding(UTF_8);
 		response.setHeader("Cache-Control", "no-cache");
 		response.setHeader("Connection", "keep-alive");
 		response.setHeader("Access-Control-Allow-Origin", "*");
 
-		String sessionId = UUID.randomUUID().toString();
 		AsyncContext asyncContext = request.startAsync();
 		asyncContext.setTimeout(0);
 
 		PrintWriter writer = response.getWriter();
 
 		// Create a new session transport
-		HttpServletMcpSessionTransport sessionTransport = new HttpServletMcpSessionTransport(sessionId, asyncContext,
-				writer);
+		HttpServletMcpSessionTransport sessionTransport = new HttpServletMcpSessionTransport(asyncContext, writer);
 
-		// Create a new session using the session factory
+		// Create a new session using the session factory. Sessions are keyed by the id
+		// of the MCP session, which the client sends back with its messages.
 		McpServerSession session = sessionFactory.create(sessionTransport);
+		String sessionId = session.getId();
+		sessionTransport.bind(sessionId);
 		this.sessions.put(sessionId, session);
+		keepAlive(session);
 
 		// Send initial endpoint event
 		this.sendEvent(writer, ENDPOINT_EVENT_TYPE, this.baseUrl + this.messageEndpoint + "?sessionId=" + sessionId);
 	}
 
+	/**
+	 * Has the keep-alive scheduler, if any, ping the session until it is removed or
+	 * closed.
+	 * @param session the new session
+	 */
+	private void keepAlive(McpServerSession session) {
+		if (this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.register(session);
+			session.addCloseHandler(() -> this.keepAliveScheduler.unregister(session));
+		}
+	}
+
+	private void removeSession(String sessionId) {
+		McpServerSession session = this.sessions.remove(sessionId);
+		if (session != null && this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.unregister(session);
+		}
+	}
+
 	/**
 	 * Handles POST requests for client messages.
 	 * <p>
@@ -299,15 +358,9 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 		}
 
 		try {
-			BufferedReader reader = request.getReader();
-			StringBuilder body = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				body.append(line);
-			}
-
 			final McpTransportContext transportContext = this.contextExtractor.extract(request);
-			McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body.toString());
+			McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper,
+					request.getInputStream());
 
 			// Process the message through the session's handle method
 			// Block for Servlet compatibility
@@ -322,10 +375,9 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 				response.setContentType(APPLICATION_JSON);
 				response.setCharacterEncoding(UTF_8);
 				response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-				String jsonError = jsonMapper.writeValueAsString(mcpError);
-				PrintWriter writer = response.getWriter();
-				writer.write(jsonError);
-				writer.flush();
+				ServletOutputStream out = response.getOutputStream();
+				jsonMapper.writeValue(out, mcpError);
+				out.flush();
 			}
 			catch (IOException ex) {
 				logger.error(FAILED_TO_SEND_ERROR_RESPONSE, ex.getMessage());
@@ -334,6 +386,17 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 		}
 	}
 
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpServerSession session = this.sessions.get(sessionId);
+			if (session == null) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
+		});
+	}
+
 	/**
 	 * Initiates a graceful shutdown of the transport.
 	 * <p>
@@ -349,6 +412,7 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 		return Flux.fromIterable(sessions.values()).flatMap(McpServerSession::closeGracefully).then().doOnSuccess(v -> {
 			sessions.clear();
 			logger.debug("Graceful shutdown completed");
+			this.sessionLimiter.stop();
 			if (this.keepAliveScheduler != null) {
 				this.keepAliveScheduler.shutdown();
 			}
@@ -390,22 +454,29 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 	 */
 	private class HttpServletMcpSessionTransport implements McpServerTransport {
 
-		private final String sessionId;
-
 		private final AsyncContext asyncContext;
 
 		private final PrintWriter writer;
 
+		private volatile String sessionId;
+
 		/**
-		 * Creates a new session transport with the specified ID and SSE writer.
-		 * @param sessionId The unique identifier for this session
+		 * Creates a new session transport with the specified SSE writer.
 		 * @param asyncContext The async context for the session
 		 * @param writer The writer for sending server events to the client
 		 */
-		HttpServletMcpSessionTransport(String sessionId, AsyncContext asyncContext, PrintWriter writer) {
-			this.sessionId = sessionId;
+		HttpServletMcpSessionTransport(AsyncContext asyncContext, PrintWriter writer) {
 			this.asyncContext = asyncContext;
 			this.writer = writer;
+		}
+
+		/**
+		 * Binds this transport to the session created for it, before the session is
+		 * published.
+		 * @param sessionId The id of the session
+		 */
+		void bind(String sessionId) {
+			this.sessionId = sessionId;
 			logger.debug("Session transport {} initialized with SSE writer", sessionId);
 		}
 
@@ -424,7 +495,7 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 				}
 				catch (Exception e) {
 					logger.error("Failed to send message to session {}: {}", sessionId, e.getMessage());
-					sessions.remove(sessionId);
+					removeSession(sessionId);
 					asyncContext.complete();
 				}
 			});
@@ -451,7 +522,7 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 			return Mono.fromRunnable(() -> {
 				logger.debug("Closing session transport: {}", sessionId);
 				try {
-					sessions.remove(sessionId);
+					removeSession(sessionId);
 					asyncContext.complete();
 					logger.debug("Successfully completed async context for session {}", sessionId);
 				}
@@ -467,7 +538,7 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 		@Override
 		public void close() {
 			try {
-				sessions.remove(sessionId);
+				removeSession(sessionId);
 				asyncContext.complete();
 				logger.debug("Successfully completed async context for session {}", sessionId);
 			}
@@ -508,6 +579,12 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 
 		private Duration keepAliveInterval;
 
+		private int keepAliveMaxFailures = 0;
+
+		private Duration idleTimeout;
+
+		private int maxSessions = 0;
+
 		/**
 		 * Sets the JsonMapper implementation to use for serialization/deserialization. If
 		 * not specified, a JacksonJsonMapper will be created from the configured
@@ -582,6 +659,49 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 			return this;
 		}
 
+		/**
+		 * Sets the number of consecutive failed keep-alive pings after which a session is
+		 * closed and removed.
+		 * <p>
+		 * If not specified, sessions are never closed for failing pings.
+		 * @param keepAliveMaxFailures The number of failed pings, or 0 to keep the
+		 * sessions open
+		 * @return This builder instance for method chaining
+		 */
+		public Builder keepAliveMaxFailures(int keepAliveMaxFailures) {
+			Assert.isTrue(keepAliveMaxFailures >= 0, "Keep-alive max failures must not be negative");
+			this.keepAliveMaxFailures = keepAliveMaxFailures;
+			return this;
+		}
+
+		/**
+		 * Sets the time without traffic after which a session is closed and removed.
+		 * <p>
+		 * If not specified, idle sessions are kept until their SSE connection fails.
+		 * @param idleTimeout The idle timeout, or null to keep idle sessions
+		 * @return This builder instance for method chaining
+		 */
+		public Builder idleTimeout(Duration idleTimeout) {
+			Assert.isTrue(idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+					"Idle timeout must be positive");
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sessions. SSE connections beyond it are rejected
+		 * with a 503 status and a Retry-After header.
+		 * <p>
+		 * If not specified, any number of sessions is admitted.
+		 * @param maxSessions The maximum number of sessions, or 0 for no maximum
+		 * @return This builder instance for method chaining
+		 */
+		public Builder maxSessions(int maxSessions) {
+			Assert.isTrue(maxSessions >= 0, "Max sessions must not be negative");
+			this.maxSessions = maxSessions;
+			return this;
+		}
+
 		/**
 		 * Builds a new instance of HttpServletSseServerTransportProvider with the
 		 * configured settings.
@@ -594,7 +714,7 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 			}
 			return new HttpServletSseServerTransportProvider(
 					jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper, baseUrl, messageEndpoint, sseEndpoint,
-					keepAliveInterval, contextExtractor);
+					keepAliveInterval, keepAliveMaxFailures, idleTimeout, maxSessions, contextExtractor);
 		}
 
 	}
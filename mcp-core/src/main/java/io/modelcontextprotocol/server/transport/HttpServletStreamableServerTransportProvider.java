@@ -4,14 +4,17 @@
 
 package io.modelcontextprotocol.server.transport;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +23,8 @@ import io.modelcontextprotocol.json.TypeRef;
 
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.server.events.EventStore;
+import io.modelcontextprotocol.server.sessions.McpStreamableServerSessionStore;
 import io.modelcontextprotocol.spec.HttpHeaders;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -27,16 +32,22 @@ import io.modelcontextprotocol.spec.McpStreamableServerSession;
 import io.modelcontextprotocol.spec.McpStreamableServerTransport;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.util.KeepAliveScheduler;
+import io.modelcontextprotocol.util.McpSessionBroadcaster;
+import io.modelcontextprotocol.util.McpSessionLimiter;
+import io.modelcontextprotocol.util.WriteCoalescing;
 import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -119,6 +130,39 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 */
 	private KeepAliveScheduler keepAliveScheduler;
 
+	/**
+	 * Store for the events sent over the SSE streams, used to resume them. Disabled by
+	 * default.
+	 */
+	private final EventStore eventStore;
+
+	/**
+	 * Store for the state of the sessions, used to rebuild the sessions started on other
+	 * nodes. Disabled by default.
+	 */
+	private final McpStreamableServerSessionStore sessionStore;
+
+	/**
+	 * Sends notifications to, and closes, all the sessions at once.
+	 */
+	private final McpSessionBroadcaster broadcaster;
+
+	/**
+	 * Evicts the idle sessions and caps the number of sessions. Unbounded by default.
+	 */
+	private final McpSessionLimiter<McpStreamableServerSession> sessionLimiter;
+
+	/**
+	 * Policy for flushing the SSE streams. Flushes every message by default.
+	 */
+	private final WriteCoalescing writeCoalescing;
+
+	/**
+	 * Whether requests are read, handled, and answered without holding a container
+	 * thread. Disabled by default.
+	 */
+	private final boolean nonBlockingIo;
+
 	/**
 	 * Constructs a new HttpServletStreamableServerTransportProvider instance.
 	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization of
@@ -127,26 +171,59 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 * messages via HTTP. This endpoint will handle GET, POST, and DELETE requests.
 	 * @param disallowDelete Whether to disallow DELETE requests on the endpoint.
 	 * @param contextExtractor The extractor for transport context from the request.
+	 * @param keepAliveInterval The interval for keep-alive pings, or null to disable
+	 * them.
+	 * @param keepAliveMaxFailures The number of consecutive failed keep-alive pings after
+	 * which a session is deleted, or 0 to keep it.
+	 * @param idleTimeout The time without traffic after which a session is deleted, or
+	 * null to keep idle sessions.
+	 * @param maxSessions The maximum number of sessions, or 0 for no maximum.
+	 * @param eventStore The store for the events sent over the SSE streams, or null to
+	 * disable stream resumption.
+	 * @param sessionStore The store for the state of the sessions, or null to keep the
+	 * sessions local to this node.
+	 * @param writeCoalescing The policy for flushing the SSE streams.
+	 * @param nonBlockingIo Whether to use the asynchronous, non-blocking servlet I/O.
 	 * @throws IllegalArgumentException if any parameter is null
 	 */
 	private HttpServletStreamableServerTransportProvider(McpJsonMapper jsonMapper, String mcpEndpoint,
 			boolean disallowDelete, McpTransportContextExtractor<HttpServletRequest> contextExtractor,
-			Duration keepAliveInterval) {
+			Duration keepAliveInterval, int keepAliveMaxFailures, Duration idleTimeout, int maxSessions,
+			EventStore eventStore, McpStreamableServerSessionStore sessionStore, WriteCoalescing writeCoalescing,
+			boolean nonBlockingIo) {
 		Assert.notNull(jsonMapper, "JsonMapper must not be null");
 		Assert.notNull(mcpEndpoint, "MCP endpoint must not be null");
 		Assert.notNull(contextExtractor, "Context extractor must not be null");
+		Assert.notNull(writeCoalescing, "WriteCoalescing must not be null");
 
 		this.jsonMapper = jsonMapper;
 		this.mcpEndpoint = mcpEndpoint;
 		this.disallowDelete = disallowDelete;
 		this.contextExtractor = contextExtractor;
+		this.eventStore = eventStore;
+		this.sessionStore = sessionStore;
+		this.broadcaster = new McpSessionBroadcaster(jsonMapper);
+		this.writeCoalescing = writeCoalescing;
+		this.nonBlockingIo = nonBlockingIo;
+		this.sessionLimiter = McpSessionLimiter.builder(this.sessions)
+			.idleTimeout(idleTimeout)
+			.maxSessions(maxSessions)
+			.evictionHandler(this::evict)
+			.build()
+			.start();
 
 		if (keepAliveInterval != null) {
 
-			this.keepAliveScheduler = KeepAliveScheduler
-				.builder(() -> (isClosing) ? Flux.empty() : Flux.fromIterable(sessions.values()))
+			this.keepAliveScheduler = KeepAliveScheduler.builder()
 				.initialDelay(keepAliveInterval)
 				.interval(keepAliveInterval)
+				.wheelSlots(KeepAliveScheduler.TRANSPORT_WHEEL_SLOTS)
+				.maxFailures(keepAliveMaxFailures)
+				.evictionHandler(session -> {
+					McpStreamableServerSession streamableSession = (McpStreamableServerSession) session;
+					this.sessions.remove(streamableSession.getId());
+					evict(streamableSession);
+				})
 				.build();
 
 			this.keepAliveScheduler.start();
@@ -165,6 +242,66 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		this.sessionFactory = sessionFactory;
 	}
 
+	@Override
+	public EventStore eventStore() {
+		return this.eventStore;
+	}
+
+	@Override
+	public McpStreamableServerSessionStore sessionStore() {
+		return this.sessionStore;
+	}
+
+	/**
+	 * Finds the session with the given ID, rebuilding it from the session store if it was
+	 * started on another node. A session of this node is emitted right away on
+	 * subscription, while a stored one is emitted once the store answers.
+	 * @param sessionId the ID of the session
+	 * @return the session, or an empty Mono if the session is unknown
+	 */
+	private Mono<McpStreamableServerSession> findSession(String sessionId) {
+		McpStreamableServerSession session = this.sessions.get(sessionId);
+		if (session != null || this.sessionStore == null) {
+			return Mono.justOrEmpty(session);
+		}
+		return this.sessionFactory.loadSession(sessionId).map(loaded -> {
+			logger.debug("Rebuilt session {} from the session store", sessionId);
+			McpStreamableServerSession existing = this.sessions.putIfAbsent(sessionId, loaded);
+			if (existing != null) {
+				return existing;
+			}
+			keepAlive(loaded);
+			return loaded;
+		});
+	}
+
+	/**
+	 * Has the keep-alive scheduler, if any, ping the session until it is removed or
+	 * closed.
+	 * @param session the new session
+	 */
+	private void keepAlive(McpStreamableServerSession session) {
+		if (this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.register(session);
+			session.addCloseHandler(() -> this.keepAliveScheduler.unregister(session));
+		}
+	}
+
+	private void removeSession(McpStreamableServerSession session) {
+		if (this.sessions.remove(session.getId(), session) && this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.unregister(session);
+		}
+	}
+
+	/**
+	 * Deletes a session evicted from this node, along with its state in the session
+	 * store, if any, so that snapshots do not outlive the sessions.
+	 * @param session the evicted session
+	 */
+	private void evict(McpStreamableServerSession session) {
+		session.delete().onErrorComplete().subscribe();
+	}
+
 	/**
 	 * Broadcasts a notification to all connected clients through their SSE connections.
 	 * If any errors occur during sending to a particular client, they are logged but
@@ -172,52 +309,69 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 * @param method The method name for the notification
 	 * @param params The parameters for the notification
 	 * @return A Mono that completes when the broadcast attempt is finished
+	 * @see #broadcastNotification(String, Object)
 	 */
 	@Override
 	public Mono<Void> notifyClients(String method, Object params) {
+		return broadcastNotification(method, params).then();
+	}
+
+	/**
+	 * Broadcasts a notification to all connected clients and reports the outcome. The
+	 * notification is serialized once, and the sessions are served concurrently without
+	 * blocking the caller.
+	 * @param method The method name for the notification
+	 * @param params The parameters for the notification
+	 * @return A Mono emitting the number of sessions the notification was delivered to
+	 * and the number of sessions it was dropped for
+	 */
+	public Mono<McpSessionBroadcaster.Result> broadcastNotification(String method, Object params) {
 		if (this.sessions.isEmpty()) {
 			logger.debug("No active sessions to broadcast message to");
-			return Mono.empty();
+			return Mono.just(new McpSessionBroadcaster.Result(0, 0));
 		}
 
 		logger.debug("Attempting to broadcast message to {} active sessions", this.sessions.size());
 
-		return Mono.fromRunnable(() -> {
-			this.sessions.values().parallelStream().forEach(session -> {
-				try {
-					session.sendNotification(method, params).block();
-				}
-				catch (Exception e) {
-					logger.error("Failed to send message to session {}: {}", session.getId(), e.getMessage());
-				}
-			});
+		return this.broadcaster.notify(this.sessions.values(), method, params)
+			.doOnNext(result -> logger.debug("Broadcast message delivered to {} sessions and dropped for {}",
+					result.delivered(), result.dropped()));
+	}
+
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpStreamableServerSession session = this.sessions.get(sessionId);
+			if (session == null) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
 		});
 	}
 
+	/**
+	 * Returns the number of active sessions, and the number of sessions evicted for being
+	 * idle or rejected for exceeding the maximum number of sessions.
+	 * @return a snapshot of the session counters
+	 */
+	public McpSessionLimiter.Stats sessionStats() {
+		return this.sessionLimiter.stats();
+	}
+
 	/**
 	 * Initiates a graceful shutdown of the transport.
 	 * @return A Mono that completes when all cleanup operations are finished
 	 */
 	@Override
 	public Mono<Void> closeGracefully() {
-		return Mono.fromRunnable(() -> {
+		return Mono.defer(() -> {
 			this.isClosing = true;
 			logger.debug("Initiating graceful shutdown with {} active sessions", this.sessions.size());
-
-			this.sessions.values().parallelStream().forEach(session -> {
-				try {
-					session.closeGracefully().block();
-				}
-				catch (Exception e) {
-					logger.error("Failed to close session {}: {}", session.getId(), e.getMessage());
-				}
-			});
-
-			this.sessions.clear();
-			logger.debug("Graceful shutdown completed");
+			return this.broadcaster.closeGracefully(this.sessions.values());
 		}).then().doOnSuccess(v -> {
-			sessions.clear();
+			this.sessions.clear();
 			logger.debug("Graceful shutdown completed");
+			this.sessionLimiter.stop();
 			if (this.keepAliveScheduler != null) {
 				this.keepAliveScheduler.shutdown();
 			}
@@ -265,7 +419,35 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			return;
 		}
 
-		McpStreamableServerSession session = this.sessions.get(sessionId);
+		McpTransportContext transportContext = this.contextExtractor.extract(request);
+
+		if (this.nonBlockingIo) {
+			// The session is looked up without holding the request thread
+			AsyncContext asyncContext = request.startAsync();
+			asyncContext.setTimeout(0);
+			NonBlockingServletWriter responseWriter = NonBlockingServletWriter.register(asyncContext);
+			StreamCloser streamCloser = new StreamCloser(sessionId);
+			asyncContext.addListener(streamCloser);
+			this.findSession(sessionId).singleOptional().subscribe(session -> {
+				if (session.isEmpty()) {
+					response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+					responseWriter.complete();
+					return;
+				}
+				logger.debug("Handling GET request for session: {}", sessionId);
+				setEventStreamHeaders(response);
+				openStream(request, session.get(), transportContext,
+						new HttpServletStreamableMcpSessionTransport(sessionId, asyncContext, responseWriter),
+						streamCloser);
+			}, e -> {
+				logger.error("Failed to handle GET request for session {}: {}", sessionId, e.getMessage());
+				responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+						new McpError(e.getMessage()));
+			});
+			return;
+		}
+
+		McpStreamableServerSession session = this.findSession(sessionId).block();
 
 		if (session == null) {
 			response.sendError(HttpServletResponse.SC_NOT_FOUND);
@@ -274,80 +456,55 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 		logger.debug("Handling GET request for session: {}", sessionId);
 
-		McpTransportContext transportContext = this.contextExtractor.extract(request);
-
 		try {
-			response.setContentType(TEXT_EVENT_STREAM);
-			response.setCharacterEncoding(UTF_8);
-			response.setHeader("Cache-Control", "no-cache");
-			response.setHeader("Connection", "keep-alive");
-			response.setHeader("Access-Control-Allow-Origin", "*");
+			setEventStreamHeaders(response);
 
 			AsyncContext asyncContext = request.startAsync();
 			asyncContext.setTimeout(0);
+			StreamCloser streamCloser = new StreamCloser(sessionId);
+			asyncContext.addListener(streamCloser);
 
-			HttpServletStreamableMcpSessionTransport sessionTransport = new HttpServletStreamableMcpSessionTransport(
-					sessionId, asyncContext, response.getWriter());
+			openStream(request, session, transportContext,
+					new HttpServletStreamableMcpSessionTransport(sessionId, asyncContext, response.getWriter()),
+					streamCloser);
+		}
+		catch (Exception e) {
+			logger.error("Failed to handle GET request for session {}: {}", sessionId, e.getMessage());
+			response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		}
+	}
 
-			// Check if this is a replay request
-			if (request.getHeader(HttpHeaders.LAST_EVENT_ID) != null) {
-				String lastId = request.getHeader(HttpHeaders.LAST_EVENT_ID);
+	private static void setEventStreamHeaders(HttpServletResponse response) {
+		response.setContentType(TEXT_EVENT_STREAM);
+		response.setCharacterEncoding(UTF_8);
+		response.setHeader("Cache-Control", "no-cache");
+		response.setHeader("Connection", "keep-alive");
+		response.setHeader("Access-Control-Allow-Origin", "*");
+	}
 
-				try {
-					session.replay(lastId)
-						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-						.toIterable()
-						.forEach(message -> {
-							try {
-								sessionTransport.sendMessage(message)
-									.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-									.block();
-							}
-							catch (Exception e) {
-								logger.error("Failed to replay message: {}", e.getMessage());
-								asyncContext.complete();
-							}
-						});
-				}
-				catch (Exception e) {
+	/**
+	 * Opens the SSE stream of a GET request: the replay of the stream the Last-Event-ID
+	 * header points into, if any, or the listening stream of the session otherwise.
+	 * @param request The HTTP servlet request
+	 * @param session The session
+	 * @param transportContext The transport context extracted from the request
+	 * @param sessionTransport The transport writing the stream to the response
+	 * @param streamCloser The listener closing the stream with the connection
+	 */
+	private void openStream(HttpServletRequest request, McpStreamableServerSession session,
+			McpTransportContext transportContext, HttpServletStreamableMcpSessionTransport sessionTransport,
+			StreamCloser streamCloser) {
+		String lastId = request.getHeader(HttpHeaders.LAST_EVENT_ID);
+		if (lastId != null) {
+			session.resume(lastId, sessionTransport)
+				.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+				.subscribe(stream -> streamCloser.set(() -> stream.close(sessionTransport)), e -> {
 					logger.error("Failed to replay messages: {}", e.getMessage());
-					asyncContext.complete();
-				}
-			}
-			else {
-				// Establish new listening stream
-				McpStreamableServerSession.McpStreamableServerSessionStream listeningStream = session
-					.listeningStream(sessionTransport);
-
-				asyncContext.addListener(new jakarta.servlet.AsyncListener() {
-					@Override
-					public void onComplete(jakarta.servlet.AsyncEvent event) throws IOException {
-						logger.debug("SSE connection completed for session: {}", sessionId);
-						listeningStream.close();
-					}
-
-					@Override
-					public void onTimeout(jakarta.servlet.AsyncEvent event) throws IOException {
-						logger.debug("SSE connection timed out for session: {}", sessionId);
-						listeningStream.close();
-					}
-
-					@Override
-					public void onError(jakarta.servlet.AsyncEvent event) throws IOException {
-						logger.debug("SSE connection error for session: {}", sessionId);
-						listeningStream.close();
-					}
-
-					@Override
-					public void onStartAsync(jakarta.servlet.AsyncEvent event) throws IOException {
-						// No action needed
-					}
+					sessionTransport.close();
 				});
-			}
 		}
-		catch (Exception e) {
-			logger.error("Failed to handle GET request for session {}: {}", sessionId, e.getMessage());
-			response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		else {
+			streamCloser.set(session.listeningStream(sessionTransport)::close);
 		}
 	}
 
@@ -385,15 +542,24 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 		McpTransportContext transportContext = this.contextExtractor.extract(request);
 
-		try {
-			BufferedReader reader = request.getReader();
-			StringBuilder body = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				body.append(line);
-			}
+		if (this.nonBlockingIo) {
+			AsyncContext asyncContext = request.startAsync();
+			asyncContext.setTimeout(0);
+			NonBlockingServletWriter responseWriter = NonBlockingServletWriter.register(asyncContext);
+			String sessionId = request.getHeader(HttpHeaders.MCP_SESSION_ID);
+			ServletInputStream in = request.getInputStream();
+			in.setReadListener(new RequestBodyReader(in, body -> handlePost(body, sessionId, badRequestErrors,
+					transportContext, asyncContext, responseWriter), e -> {
+						logger.error("Failed to read message: {}", e.getMessage());
+						responseError(response, responseWriter, HttpServletResponse.SC_BAD_REQUEST,
+								new McpError("Failed to read message: " + e.getMessage()));
+					}));
+			return;
+		}
 
-			McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body.toString());
+		try {
+			McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper,
+					request.getInputStream());
 
 			// Handle initialization request
 			if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
@@ -404,12 +570,20 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 					return;
 				}
 
+				if (!this.sessionLimiter.tryAdmit()) {
+					response.setHeader(HttpHeaders.RETRY_AFTER, this.sessionLimiter.retryAfterSeconds());
+					this.responseError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+							new McpError("Maximum number of sessions reached"));
+					return;
+				}
+
 				McpSchema.InitializeRequest initializeRequest = jsonMapper.convertValue(jsonrpcRequest.params(),
 						new TypeRef<McpSchema.InitializeRequest>() {
 						});
 				McpStreamableServerSession.McpStreamableServerSessionInit init = this.sessionFactory
 					.startSession(initializeRequest);
 				this.sessions.put(init.session().getId(), init.session());
+				keepAlive(init.session());
 
 				try {
 					McpSchema.InitializeResult initResult = init.initResult().block();
@@ -419,16 +593,15 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 					response.setHeader(HttpHeaders.MCP_SESSION_ID, init.session().getId());
 					response.setStatus(HttpServletResponse.SC_OK);
 
-					String jsonResponse = jsonMapper.writeValueAsString(new McpSchema.JSONRPCResponse(
-							McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), initResult, null));
-
-					PrintWriter writer = response.getWriter();
-					writer.write(jsonResponse);
-					writer.flush();
+					ServletOutputStream out = response.getOutputStream();
+					jsonMapper.writeValue(out, new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION,
+							jsonrpcRequest.id(), initResult, null));
+					out.flush();
 					return;
 				}
 				catch (Exception e) {
 					logger.error("Failed to initialize session: {}", e.getMessage());
+					removeSession(init.session());
 					this.responseError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
 							new McpError("Failed to initialize session: " + e.getMessage()));
 					return;
@@ -447,7 +620,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				return;
 			}
 
-			McpStreamableServerSession session = this.sessions.get(sessionId);
+			McpStreamableServerSession session = this.findSession(sessionId).block();
 
 			if (session == null) {
 				this.responseError(response, HttpServletResponse.SC_NOT_FOUND,
@@ -469,11 +642,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			}
 			else if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
 				// For streaming responses, we need to return SSE
-				response.setContentType(TEXT_EVENT_STREAM);
-				response.setCharacterEncoding(UTF_8);
-				response.setHeader("Cache-Control", "no-cache");
-				response.setHeader("Connection", "keep-alive");
-				response.setHeader("Access-Control-Allow-Origin", "*");
+				setEventStreamHeaders(response);
 
 				AsyncContext asyncContext = request.startAsync();
 				asyncContext.setTimeout(0);
@@ -550,7 +719,29 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		}
 
 		String sessionId = request.getHeader(HttpHeaders.MCP_SESSION_ID);
-		McpStreamableServerSession session = this.sessions.get(sessionId);
+
+		if (this.nonBlockingIo) {
+			AsyncContext asyncContext = request.startAsync();
+			asyncContext.setTimeout(0);
+			NonBlockingServletWriter responseWriter = NonBlockingServletWriter.register(asyncContext);
+			this.findSession(sessionId)
+				.flatMap(session -> session.delete()
+					.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+					.then(Mono.fromRunnable(() -> this.sessions.remove(sessionId)))
+					.thenReturn(HttpServletResponse.SC_OK))
+				.defaultIfEmpty(HttpServletResponse.SC_NOT_FOUND)
+				.subscribe(status -> {
+					response.setStatus(status);
+					responseWriter.complete();
+				}, e -> {
+					logger.error("Failed to delete session {}: {}", sessionId, e.getMessage());
+					responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+							new McpError(e.getMessage()));
+				});
+			return;
+		}
+
+		McpStreamableServerSession session = this.findSession(sessionId).block();
 
 		if (session == null) {
 			response.sendError(HttpServletResponse.SC_NOT_FOUND);
@@ -575,15 +766,189 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		}
 	}
 
+	/**
+	 * Handles the JSON-RPC message of a POST request read without blocking. The request
+	 * is answered through the given writer once handled, and no thread waits for the
+	 * session in the meantime.
+	 * @param body The body of the request
+	 * @param sessionId The mcp-session-id header of the request, if any
+	 * @param badRequestErrors The errors found in the headers of the request
+	 * @param transportContext The transport context extracted from the request
+	 * @param asyncContext The async context of the request
+	 * @param responseWriter The non-blocking writer of the response
+	 */
+	private void handlePost(byte[] body, String sessionId, List<String> badRequestErrors,
+			McpTransportContext transportContext, AsyncContext asyncContext, NonBlockingServletWriter responseWriter) {
+		HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+
+		McpSchema.JSONRPCMessage message;
+		try {
+			message = McpSchema.deserializeJsonRpcMessage(jsonMapper, ByteBuffer.wrap(body));
+		}
+		catch (IllegalArgumentException | IOException e) {
+			logger.error("Failed to deserialize message: {}", e.getMessage());
+			this.responseError(response, responseWriter, HttpServletResponse.SC_BAD_REQUEST,
+					new McpError("Invalid message format: " + e.getMessage()));
+			return;
+		}
+
+		try {
+			// Handle initialization request
+			if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
+					&& jsonrpcRequest.method().equals(McpSchema.METHOD_INITIALIZE)) {
+				if (!badRequestErrors.isEmpty()) {
+					String combinedMessage = String.join("; ", badRequestErrors);
+					this.responseError(response, responseWriter, HttpServletResponse.SC_BAD_REQUEST,
+							new McpError(combinedMessage));
+					return;
+				}
+
+				if (!this.sessionLimiter.tryAdmit()) {
+					response.setHeader(HttpHeaders.RETRY_AFTER, this.sessionLimiter.retryAfterSeconds());
+					this.responseError(response, responseWriter, HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+							new McpError("Maximum number of sessions reached"));
+					return;
+				}
+
+				McpSchema.InitializeRequest initializeRequest = jsonMapper.convertValue(jsonrpcRequest.params(),
+						new TypeRef<McpSchema.InitializeRequest>() {
+						});
+				McpStreamableServerSession.McpStreamableServerSessionInit init = this.sessionFactory
+					.startSession(initializeRequest);
+				this.sessions.put(init.session().getId(), init.session());
+				keepAlive(init.session());
+
+				init.initResult().subscribe(initResult -> {
+					try {
+						byte[] json = jsonMapper.writeValueAsBytes(new McpSchema.JSONRPCResponse(
+								McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), initResult, null));
+						response.setContentType(APPLICATION_JSON);
+						response.setCharacterEncoding(UTF_8);
+						response.setHeader(HttpHeaders.MCP_SESSION_ID, init.session().getId());
+						response.setStatus(HttpServletResponse.SC_OK);
+						responseWriter.write(json, true);
+						responseWriter.complete();
+					}
+					catch (IOException e) {
+						logger.error("Failed to initialize session: {}", e.getMessage());
+						this.responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+								new McpError("Failed to initialize session: " + e.getMessage()));
+					}
+				}, e -> {
+					logger.error("Failed to initialize session: {}", e.getMessage());
+					removeSession(init.session());
+					this.responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+							new McpError("Failed to initialize session: " + e.getMessage()));
+				});
+				return;
+			}
+
+			if (sessionId == null || sessionId.isBlank()) {
+				badRequestErrors.add("Session ID required in mcp-session-id header");
+			}
+
+			if (!badRequestErrors.isEmpty()) {
+				String combinedMessage = String.join("; ", badRequestErrors);
+				this.responseError(response, responseWriter, HttpServletResponse.SC_BAD_REQUEST,
+						new McpError(combinedMessage));
+				return;
+			}
+
+			this.findSession(sessionId).singleOptional().subscribe(session -> {
+				if (session.isEmpty()) {
+					this.responseError(response, responseWriter, HttpServletResponse.SC_NOT_FOUND,
+							new McpError("Session not found: " + sessionId));
+					return;
+				}
+				handleSessionMessage(message, session.get(), sessionId, transportContext, asyncContext, responseWriter);
+			}, e -> {
+				logger.error("Error handling message: {}", e.getMessage());
+				this.responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+						new McpError("Error processing message: " + e.getMessage()));
+			});
+		}
+		catch (Exception e) {
+			logger.error("Error handling message: {}", e.getMessage());
+			this.responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+					new McpError("Error processing message: " + e.getMessage()));
+		}
+	}
+
+	/**
+	 * Handles a JSON-RPC message of a POST request read without blocking, once its
+	 * session is found.
+	 * @param message The JSON-RPC message
+	 * @param session The session the message is sent to
+	 * @param sessionId The ID of the session
+	 * @param transportContext The transport context extracted from the request
+	 * @param asyncContext The async context of the request
+	 * @param responseWriter The non-blocking writer of the response
+	 */
+	private void handleSessionMessage(McpSchema.JSONRPCMessage message, McpStreamableServerSession session,
+			String sessionId, McpTransportContext transportContext, AsyncContext asyncContext,
+			NonBlockingServletWriter responseWriter) {
+		HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+		try {
+			if (message instanceof McpSchema.JSONRPCResponse || message instanceof McpSchema.JSONRPCNotification) {
+				Mono<Void> accepted = (message instanceof McpSchema.JSONRPCResponse jsonrpcResponse)
+						? session.accept(jsonrpcResponse) : session.accept((McpSchema.JSONRPCNotification) message);
+				accepted.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)).subscribe(null, e -> {
+					logger.error("Error handling message: {}", e.getMessage());
+					this.responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+							new McpError("Error processing message: " + e.getMessage()));
+				}, () -> {
+					response.setStatus(HttpServletResponse.SC_ACCEPTED);
+					responseWriter.complete();
+				});
+			}
+			else if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
+				// For streaming responses, we need to return SSE
+				setEventStreamHeaders(response);
+
+				HttpServletStreamableMcpSessionTransport sessionTransport = new HttpServletStreamableMcpSessionTransport(
+						sessionId, asyncContext, responseWriter);
+
+				session.responseStream(jsonrpcRequest, sessionTransport)
+					.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+					.subscribe(null, e -> {
+						logger.error("Failed to handle request stream: {}", e.getMessage());
+						sessionTransport.close();
+					});
+			}
+			else {
+				this.responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+						new McpError("Unknown message type"));
+			}
+		}
+		catch (Exception e) {
+			logger.error("Error handling message: {}", e.getMessage());
+			this.responseError(response, responseWriter, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+					new McpError("Error processing message: " + e.getMessage()));
+		}
+	}
+
 	public void responseError(HttpServletResponse response, int httpCode, McpError mcpError) throws IOException {
 		response.setContentType(APPLICATION_JSON);
 		response.setCharacterEncoding(UTF_8);
 		response.setStatus(httpCode);
-		String jsonError = jsonMapper.writeValueAsString(mcpError);
-		PrintWriter writer = response.getWriter();
-		writer.write(jsonError);
-		writer.flush();
-		return;
+		ServletOutputStream out = response.getOutputStream();
+		jsonMapper.writeValue(out, mcpError);
+		out.flush();
+	}
+
+	private void responseError(HttpServletResponse response, NonBlockingServletWriter responseWriter, int httpCode,
+			McpError mcpError) {
+		try {
+			byte[] json = jsonMapper.writeValueAsBytes(mcpError);
+			response.setContentType(APPLICATION_JSON);
+			response.setCharacterEncoding(UTF_8);
+			response.setStatus(httpCode);
+			responseWriter.write(json, true);
+		}
+		catch (IOException | RuntimeException e) {
+			logger.error(FAILED_TO_SEND_ERROR_RESPONSE, e.getMessage());
+		}
+		responseWriter.complete();
 	}
 
 	/**
@@ -592,21 +957,46 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 * @param eventType The type of event (message or endpoint)
 	 * @param data The event data
 	 * @param id The event ID
+	 * @param flush Whether to flush the writer, and check that the client is still
+	 * connected, after the event
 	 * @throws IOException If an error occurs while writing the event
 	 */
-	private void sendEvent(PrintWriter writer, String eventType, String data, String id) throws IOException {
-		if (id != null) {
-			writer.write("id: " + id + "\n");
+	private void sendEvent(PrintWriter writer, String eventType, String data, String id, boolean flush)
+			throws IOException {
+		writer.write(formatEvent(eventType, data, id));
+
+		// checkError() flushes the writer as well
+		if (flush && writer.checkError()) {
+			throw new IOException("Client disconnected");
 		}
-		writer.write("event: " + eventType + "\n");
-		writer.write("data: " + data + "\n\n");
-		writer.flush();
+	}
 
-		if (writer.checkError()) {
+	/**
+	 * Sends an SSE event to a client with a specific ID without blocking.
+	 * @param responseWriter The non-blocking writer to send the event through
+	 * @param eventType The type of event (message or endpoint)
+	 * @param data The event data
+	 * @param id The event ID
+	 * @param flush Whether to flush the response after the event
+	 * @throws IOException If the client disconnected
+	 */
+	private void sendEvent(NonBlockingServletWriter responseWriter, String eventType, String data, String id,
+			boolean flush) throws IOException {
+		if (!responseWriter.write(formatEvent(eventType, data, id).getBytes(StandardCharsets.UTF_8), flush)) {
 			throw new IOException("Client disconnected");
 		}
 	}
 
+	private static String formatEvent(String eventType, String data, String id) {
+		StringBuilder event = new StringBuilder(data.length() + eventType.length() + 64);
+		if (id != null) {
+			event.append("id: ").append(id).append('\n');
+		}
+		event.append("event: ").append(eventType).append('\n');
+		event.append("data: ").append(data).append("\n\n");
+		return event.toString();
+	}
+
 	/**
 	 * Cleans up resources when the servlet is being destroyed.
 	 * <p>
@@ -637,10 +1027,14 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 		private final PrintWriter writer;
 
+		private final NonBlockingServletWriter responseWriter;
+
 		private volatile boolean closed = false;
 
 		private final ReentrantLock lock = new ReentrantLock();
 
+		private final WriteCoalescing.Coalescer coalescer = writeCoalescing.newCoalescer();
+
 		/**
 		 * Creates a new session transport with the specified ID and SSE writer.
 		 * @param sessionId The unique identifier for this session
@@ -651,9 +1045,26 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			this.sessionId = sessionId;
 			this.asyncContext = asyncContext;
 			this.writer = writer;
+			this.responseWriter = null;
 			logger.debug("Streamable session transport {} initialized with SSE writer", sessionId);
 		}
 
+		/**
+		 * Creates a new session transport with the specified ID, writing the SSE stream
+		 * without blocking.
+		 * @param sessionId The unique identifier for this session
+		 * @param asyncContext The async context for the session
+		 * @param responseWriter The non-blocking writer of the SSE stream
+		 */
+		HttpServletStreamableMcpSessionTransport(String sessionId, AsyncContext asyncContext,
+				NonBlockingServletWriter responseWriter) {
+			this.sessionId = sessionId;
+			this.asyncContext = asyncContext;
+			this.writer = null;
+			this.responseWriter = responseWriter;
+			logger.debug("Streamable session transport {} initialized with non-blocking SSE writer", sessionId);
+		}
+
 		/**
 		 * Sends a JSON-RPC message to the client through the SSE connection.
 		 * @param message The JSON-RPC message to send
@@ -679,22 +1090,34 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 					return;
 				}
 
+				// Senders waiting for the lock count as queued, so that the stream is
+				// flushed once for them all when coalescing
+				this.coalescer.queued();
 				lock.lock();
 				try {
 					if (this.closed) {
+						this.coalescer.discarded();
 						logger.debug("Session {} was closed during message send attempt", this.sessionId);
 						return;
 					}
 
 					String jsonText = jsonMapper.writeValueAsString(message);
-					HttpServletStreamableServerTransportProvider.this.sendEvent(writer, MESSAGE_EVENT_TYPE, jsonText,
-							messageId != null ? messageId : this.sessionId);
+					String eventId = messageId != null ? messageId : this.sessionId;
+					if (this.responseWriter != null) {
+						HttpServletStreamableServerTransportProvider.this.sendEvent(this.responseWriter,
+								MESSAGE_EVENT_TYPE, jsonText, eventId, this.coalescer.written());
+					}
+					else {
+						HttpServletStreamableServerTransportProvider.this.sendEvent(this.writer, MESSAGE_EVENT_TYPE,
+								jsonText, eventId, this.coalescer.written());
+					}
 					logger.debug("Message sent to session {} with ID {}", this.sessionId, messageId);
 				}
 				catch (Exception e) {
 					logger.error("Failed to send message to session {}: {}", this.sessionId, e.getMessage());
-					HttpServletStreamableServerTransportProvider.this.sessions.remove(this.sessionId);
-					this.asyncContext.complete();
+					// Only this stream is broken, the session can still resume it
+					this.closed = true;
+					complete();
 				}
 				finally {
 					lock.unlock();
@@ -740,7 +1163,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				this.closed = true;
 
 				// HttpServletStreamableServerTransportProvider.this.sessions.remove(this.sessionId);
-				this.asyncContext.complete();
+				complete();
 				logger.debug("Successfully completed async context for session {}", sessionId);
 			}
 			catch (Exception e) {
@@ -751,6 +1174,121 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			}
 		}
 
+		private void complete() {
+			if (this.responseWriter != null) {
+				// Sends the queued events first
+				this.responseWriter.complete();
+			}
+			else {
+				this.asyncContext.complete();
+			}
+		}
+
+	}
+
+	/**
+	 * Closes the stream of a GET request once its connection completes, times out or
+	 * fails. It is added to the request before the stream is opened, as listeners can no
+	 * longer be added once the request thread returned to the container, and closes a
+	 * stream opened after the connection was gone right away.
+	 */
+	private static final class StreamCloser implements jakarta.servlet.AsyncListener {
+
+		private final String sessionId;
+
+		private Runnable close;
+
+		private boolean done;
+
+		StreamCloser(String sessionId) {
+			this.sessionId = sessionId;
+		}
+
+		void set(Runnable close) {
+			synchronized (this) {
+				if (!this.done) {
+					this.close = close;
+					return;
+				}
+			}
+			close.run();
+		}
+
+		@Override
+		public void onComplete(jakarta.servlet.AsyncEvent event) {
+			close("completed");
+		}
+
+		@Override
+		public void onTimeout(jakarta.servlet.AsyncEvent event) {
+			close("timed out");
+		}
+
+		@Override
+		public void onError(jakarta.servlet.AsyncEvent event) {
+			close("failed");
+		}
+
+		@Override
+		public void onStartAsync(jakarta.servlet.AsyncEvent event) {
+			// No action needed
+		}
+
+		private void close(String reason) {
+			Runnable close;
+			synchronized (this) {
+				this.done = true;
+				close = this.close;
+				this.close = null;
+			}
+			logger.debug("SSE connection {} for session: {}", reason, this.sessionId);
+			if (close != null) {
+				close.run();
+			}
+		}
+
+	}
+
+	/**
+	 * Reads the body of a request without blocking, as the container makes it available.
+	 */
+	private static final class RequestBodyReader implements ReadListener {
+
+		private final ServletInputStream in;
+
+		private final Consumer<byte[]> onBody;
+
+		private final Consumer<Throwable> onError;
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		private final byte[] buffer = new byte[8192];
+
+		RequestBodyReader(ServletInputStream in, Consumer<byte[]> onBody, Consumer<Throwable> onError) {
+			this.in = in;
+			this.onBody = onBody;
+			this.onError = onError;
+		}
+
+		@Override
+		public void onDataAvailable() throws IOException {
+			// When not ready, the container calls onDataAvailable() again later on
+			int read;
+			while (this.in.isReady() && (read = this.in.read(this.buffer)) != -1) {
+				this.body.write(this.buffer, 0, read);
+			}
+		}
+
+		@Override
+		public void onAllDataRead() {
+			this.onBody.accept(this.body.toByteArray());
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			this.onError.accept(t);
+		}
+
 	}
 
 	public static Builder builder() {
@@ -774,6 +1312,20 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 		private Duration keepAliveInterval;
 
+		private int keepAliveMaxFailures = 0;
+
+		private Duration idleTimeout;
+
+		private int maxSessions = 0;
+
+		private EventStore eventStore;
+
+		private McpStreamableServerSessionStore sessionStore;
+
+		private WriteCoalescing writeCoalescing = WriteCoalescing.DISABLED;
+
+		private boolean nonBlockingIo = false;
+
 		/**
 		 * Sets the JsonMapper to use for JSON serialization/deserialization of MCP
 		 * messages.
@@ -833,6 +1385,102 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			return this;
 		}
 
+		/**
+		 * Sets the number of consecutive failed keep-alive pings after which a session is
+		 * deleted. Pings are sent over the listening stream of a session, so the sessions
+		 * of clients that do not open one fail every ping. Defaults to 0, never deleting
+		 * sessions.
+		 * @param keepAliveMaxFailures The number of failed pings, or 0 to keep the
+		 * sessions
+		 * @return this builder instance
+		 */
+		public Builder keepAliveMaxFailures(int keepAliveMaxFailures) {
+			Assert.isTrue(keepAliveMaxFailures >= 0, "Keep-alive max failures must not be negative");
+			this.keepAliveMaxFailures = keepAliveMaxFailures;
+			return this;
+		}
+
+		/**
+		 * Sets the time without traffic after which a session is deleted. Idle sessions
+		 * are swept in the background, so that the sessions of clients that disappear
+		 * without a DELETE are released. Defaults to null, keeping idle sessions.
+		 * @param idleTimeout The idle timeout, or null to keep idle sessions
+		 * @return this builder instance
+		 */
+		public Builder idleTimeout(Duration idleTimeout) {
+			Assert.isTrue(idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+					"Idle timeout must be positive");
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sessions. Initialize requests beyond it are rejected
+		 * with a 503 status and a Retry-After header. Defaults to 0, admitting any number
+		 * of sessions.
+		 * @param maxSessions The maximum number of sessions, or 0 for no maximum
+		 * @return this builder instance
+		 */
+		public Builder maxSessions(int maxSessions) {
+			Assert.isTrue(maxSessions >= 0, "Max sessions must not be negative");
+			this.maxSessions = maxSessions;
+			return this;
+		}
+
+		/**
+		 * Sets the store for the events sent over the SSE streams. If set, clients can
+		 * resume an interrupted stream with the Last-Event-ID header and receive the
+		 * messages they missed.
+		 * @param eventStore The event store. If null, streams cannot be resumed.
+		 * @return this builder instance
+		 */
+		public Builder eventStore(EventStore eventStore) {
+			this.eventStore = eventStore;
+			return this;
+		}
+
+		/**
+		 * Sets the store for the state of the sessions. If set, the sessions save their
+		 * state to it, and a request for a session started by another node serving the
+		 * same MCP server rebuilds the session from the store, so that clients do not
+		 * need sticky routing.
+		 * @param sessionStore The session store. If null, sessions are local to this
+		 * node.
+		 * @return this builder instance
+		 */
+		public Builder sessionStore(McpStreamableServerSessionStore sessionStore) {
+			this.sessionStore = sessionStore;
+			return this;
+		}
+
+		/**
+		 * Sets the policy for flushing the messages sent over the SSE streams. By
+		 * default, every message is flushed as soon as it is written.
+		 * @param writeCoalescing The policy for flushing the SSE streams. Must not be
+		 * null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if writeCoalescing is null
+		 */
+		public Builder writeCoalescing(WriteCoalescing writeCoalescing) {
+			Assert.notNull(writeCoalescing, "WriteCoalescing must not be null");
+			this.writeCoalescing = writeCoalescing;
+			return this;
+		}
+
+		/**
+		 * Sets whether to use the asynchronous, non-blocking I/O of Servlet 3.1. When
+		 * enabled, request bodies are read with a {@link ReadListener}, responses and SSE
+		 * streams are written with a {@link jakarta.servlet.WriteListener}, and the
+		 * container thread is released as soon as a request is received rather than
+		 * waiting for the session to handle it. Disabled by default.
+		 * @param nonBlockingIo true to use non-blocking I/O, false otherwise
+		 * @return this builder instance
+		 */
+		public Builder nonBlockingIo(boolean nonBlockingIo) {
+			this.nonBlockingIo = nonBlockingIo;
+			return this;
+		}
+
 		/**
 		 * Builds a new instance of {@link HttpServletStreamableServerTransportProvider}
 		 * with the configured settings.
@@ -843,7 +1491,8 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			Assert.notNull(this.mcpEndpoint, "MCP endpoint must be set");
 			return new HttpServletStreamableServerTransportProvider(
 					jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper, mcpEndpoint, disallowDelete,
-					contextExtractor, keepAliveInterval);
+					contextExtractor, keepAliveInterval, keepAliveMaxFailures, idleTimeout, maxSessions, eventStore,
+					sessionStore, writeCoalescing, nonBlockingIo);
 		}
 
 	}
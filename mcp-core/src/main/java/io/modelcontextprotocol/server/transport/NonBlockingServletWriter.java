@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes to the output stream of an asynchronous servlet response without blocking the
+ * calling thread. Data the container is not ready to accept is queued, and written from
+ * {@link WriteListener#onWritePossible()} once the client has caught up.
+ * <p>
+ * A client that stops reading is disconnected once {@link #MAX_PENDING_BYTES} are queued
+ * for it, rather than buffering without bound.
+ */
+final class NonBlockingServletWriter implements WriteListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(NonBlockingServletWriter.class);
+
+	/** The maximum number of bytes queued for a client that is not reading */
+	static final int MAX_PENDING_BYTES = 8 * 1024 * 1024;
+
+	private final AsyncContext asyncContext;
+
+	private final ServletOutputStream out;
+
+	// Guarded by this
+	private final Queue<Chunk> pending = new ArrayDeque<>();
+
+	private long pendingBytes;
+
+	private boolean completeRequested;
+
+	private boolean closed;
+
+	private NonBlockingServletWriter(AsyncContext asyncContext, ServletOutputStream out) {
+		this.asyncContext = asyncContext;
+		this.out = out;
+	}
+
+	/**
+	 * Switch the response of the given asynchronous request to non-blocking output. Must
+	 * be called on the container thread that started the asynchronous processing, and
+	 * before anything is written to the response.
+	 * @param asyncContext the context of the asynchronous request
+	 * @return the writer of the response
+	 * @throws IOException if the output stream cannot be obtained
+	 */
+	static NonBlockingServletWriter register(AsyncContext asyncContext) throws IOException {
+		ServletOutputStream out = asyncContext.getResponse().getOutputStream();
+		NonBlockingServletWriter writer = new NonBlockingServletWriter(asyncContext, out);
+		out.setWriteListener(writer);
+		return writer;
+	}
+
+	/**
+	 * Write data to the response, or queue it if the container is not ready to accept it.
+	 * @param data the data to write
+	 * @param flush whether to flush the response once the data is written
+	 * @return {@code false} if the response is closed or the client disconnected, in
+	 * which case the data is discarded
+	 */
+	synchronized boolean write(byte[] data, boolean flush) {
+		if (this.closed || this.completeRequested) {
+			return false;
+		}
+		if (this.pendingBytes + data.length > MAX_PENDING_BYTES) {
+			fail(new IOException("Client is not reading the response"));
+			return false;
+		}
+		this.pending.add(new Chunk(data, flush));
+		this.pendingBytes += data.length;
+		drain();
+		return !this.closed;
+	}
+
+	/**
+	 * Complete the response once the queued data is written.
+	 */
+	synchronized void complete() {
+		if (this.closed || this.completeRequested) {
+			return;
+		}
+		this.completeRequested = true;
+		drain();
+	}
+
+	@Override
+	public synchronized void onWritePossible() {
+		drain();
+	}
+
+	@Override
+	public synchronized void onError(Throwable t) {
+		fail(t);
+	}
+
+	private void drain() {
+		try {
+			while (!this.pending.isEmpty()) {
+				// When not ready, the container calls onWritePossible() later on
+				if (!this.out.isReady()) {
+					return;
+				}
+				Chunk chunk = this.pending.poll();
+				this.pendingBytes -= chunk.data().length;
+				this.out.write(chunk.data());
+				if (chunk.flush() && this.out.isReady()) {
+					this.out.flush();
+				}
+			}
+			if (this.completeRequested && !this.closed) {
+				this.closed = true;
+				this.asyncContext.complete();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			fail(e);
+		}
+	}
+
+	private void fail(Throwable t) {
+		if (this.closed) {
+			return;
+		}
+		logger.debug("Failed to write the response: {}", t.getMessage());
+		this.closed = true;
+		this.pending.clear();
+		this.pendingBytes = 0;
+		try {
+			this.asyncContext.complete();
+		}
+		catch (RuntimeException e) {
+			logger.debug("Failed to complete the async context: {}", e.getMessage());
+		}
+	}
+
+	private record Chunk(byte[] data, boolean flush) {
+	}
+
+}
@@ -4,14 +4,11 @@
 
 package io.modelcontextprotocol.server.transport;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -23,7 +20,12 @@ import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerTransport;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.McpSchedulers;
+import io.modelcontextprotocol.util.NewlineFrameReader;
+import io.modelcontextprotocol.util.NewlineFrameWriter;
+import io.modelcontextprotocol.util.WriteCoalescing;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +52,10 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 
 	private final OutputStream outputStream;
 
+	private final WriteCoalescing writeCoalescing;
+
+	private final boolean virtualThreads;
+
 	private McpServerSession session;
 
 	private final AtomicBoolean isClosing = new AtomicBoolean(false);
@@ -73,13 +79,47 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 	 * @param outputStream The output stream to write to
 	 */
 	public StdioServerTransportProvider(McpJsonMapper jsonMapper, InputStream inputStream, OutputStream outputStream) {
+		this(jsonMapper, inputStream, outputStream, WriteCoalescing.DISABLED);
+	}
+
+	/**
+	 * Creates a new StdioServerTransportProvider with the specified ObjectMapper, streams
+	 * and policy for flushing the output stream.
+	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param inputStream The input stream to read from
+	 * @param outputStream The output stream to write to
+	 * @param writeCoalescing The policy for flushing the messages queued for the output
+	 * stream in batches, {@link WriteCoalescing#DISABLED} to flush each message
+	 */
+	public StdioServerTransportProvider(McpJsonMapper jsonMapper, InputStream inputStream, OutputStream outputStream,
+			WriteCoalescing writeCoalescing) {
+		this(jsonMapper, inputStream, outputStream, writeCoalescing, false);
+	}
+
+	/**
+	 * Creates a new StdioServerTransportProvider with the specified ObjectMapper,
+	 * streams, policy for flushing the output stream, and kind of threads blocking on the
+	 * streams.
+	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param inputStream The input stream to read from
+	 * @param outputStream The output stream to write to
+	 * @param writeCoalescing The policy for flushing the messages queued for the output
+	 * stream in batches, {@link WriteCoalescing#DISABLED} to flush each message
+	 * @param virtualThreads Whether to read and write the streams on virtual threads,
+	 * when supported by the runtime
+	 */
+	public StdioServerTransportProvider(McpJsonMapper jsonMapper, InputStream inputStream, OutputStream outputStream,
+			WriteCoalescing writeCoalescing, boolean virtualThreads) {
 		Assert.notNull(jsonMapper, "The JsonMapper can not be null");
 		Assert.notNull(inputStream, "The InputStream can not be null");
 		Assert.notNull(outputStream, "The OutputStream can not be null");
+		Assert.notNull(writeCoalescing, "The WriteCoalescing can not be null");
 
 		this.jsonMapper = jsonMapper;
 		this.inputStream = inputStream;
 		this.outputStream = outputStream;
+		this.writeCoalescing = writeCoalescing;
+		this.virtualThreads = virtualThreads;
 	}
 
 	@Override
@@ -104,6 +144,17 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 			.doOnError(e -> logger.error("Failed to send notification: {}", e.getMessage()));
 	}
 
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpServerSession session = this.session;
+			if (session == null || !session.getId().equals(sessionId)) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
+		});
+	}
+
 	@Override
 	public Mono<Void> closeGracefully() {
 		if (this.session == null) {
@@ -131,26 +182,32 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 
 		private final Sinks.One<Void> outboundReady = Sinks.one();
 
+		private final NewlineFrameWriter frameWriter = new NewlineFrameWriter(jsonMapper);
+
+		private final WriteCoalescing.Coalescer coalescer = writeCoalescing.newCoalescer();
+
 		public StdioMcpSessionTransport() {
 
 			this.inboundSink = Sinks.many().unicast().onBackpressureBuffer();
 			this.outboundSink = Sinks.many().unicast().onBackpressureBuffer();
 
 			// Use bounded schedulers for better resource management
-			this.inboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(),
-					"stdio-inbound");
-			this.outboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(),
-					"stdio-outbound");
+			this.inboundScheduler = Schedulers.fromExecutorService(
+					McpSchedulers.newSingleThreadExecutor("stdio-inbound", virtualThreads), "stdio-inbound");
+			this.outboundScheduler = Schedulers.fromExecutorService(
+					McpSchedulers.newSingleThreadExecutor("stdio-outbound", virtualThreads), "stdio-outbound");
 		}
 
 		@Override
 		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
 
 			return Mono.zip(inboundReady.asMono(), outboundReady.asMono()).then(Mono.defer(() -> {
+				coalescer.queued();
 				if (outboundSink.tryEmitNext(message).isSuccess()) {
 					return Mono.empty();
 				}
 				else {
+					coalescer.discarded();
 					return Mono.error(new RuntimeException("Failed to enqueue message"));
 				}
 			}));
@@ -198,21 +255,19 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 			if (isStarted.compareAndSet(false, true)) {
 				this.inboundScheduler.schedule(() -> {
 					inboundReady.tryEmitValue(null);
-					BufferedReader reader = null;
 					try {
-						reader = new BufferedReader(new InputStreamReader(inputStream));
+						// Frames are parsed from the bytes read, not decoded to strings
+						NewlineFrameReader reader = new NewlineFrameReader(inputStream);
 						while (!isClosing.get()) {
 							try {
-								String line = reader.readLine();
-								if (line == null || isClosing.get()) {
+								ByteBuffer frame = reader.nextFrame();
+								if (frame == null || isClosing.get()) {
 									break;
 								}
 
-								logger.debug("Received JSON message: {}", line);
-
 								try {
 									McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper,
-											line);
+											frame);
 									if (!this.inboundSink.tryEmitNext(message).isSuccess()) {
 										// logIfNotClosing("Failed to enqueue message");
 										break;
@@ -255,14 +310,13 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 				 .handle((message, sink) -> {
 					 if (message != null && !isClosing.get()) {
 						 try {
-							 String jsonMessage = jsonMapper.writeValueAsString(message);
-							 // Escape any embedded newlines in the JSON message as per spec
-							 jsonMessage = jsonMessage.replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
-	
+							 // The message and its delimiter reach the stream in a single write,
+							 // flushed with the other messages already queued if coalescing
 							 synchronized (outputStream) {
-								 outputStream.write(jsonMessage.getBytes(StandardCharsets.UTF_8));
-								 outputStream.write("\n".getBytes(StandardCharsets.UTF_8));
-								 outputStream.flush();
+								 frameWriter.write(outputStream, message);
+								 if (coalescer.written()) {
+									 outputStream.flush();
+								 }
 							 }
 							 sink.next(message);
 						 }
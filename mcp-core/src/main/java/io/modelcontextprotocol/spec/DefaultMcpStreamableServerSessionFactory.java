@@ -6,6 +6,9 @@ package io.modelcontextprotocol.spec;
 
 import io.modelcontextprotocol.server.McpNotificationHandler;
 import io.modelcontextprotocol.server.McpRequestHandler;
+import io.modelcontextprotocol.server.events.EventStore;
+import io.modelcontextprotocol.server.sessions.McpStreamableServerSessionStore;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Map;
@@ -26,6 +29,10 @@ public class DefaultMcpStreamableServerSessionFactory implements McpStreamableSe
 
 	Map<String, McpNotificationHandler> notificationHandlers;
 
+	EventStore eventStore;
+
+	McpStreamableServerSessionStore sessionStore;
+
 	/**
 	 * Constructs an instance
 	 * @param requestTimeout timeout for requests
@@ -37,19 +44,75 @@ public class DefaultMcpStreamableServerSessionFactory implements McpStreamableSe
 			McpStreamableServerSession.InitRequestHandler initRequestHandler,
 			Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
+		this(requestTimeout, initRequestHandler, requestHandlers, notificationHandlers, null);
+	}
+
+	/**
+	 * Constructs an instance whose sessions record their events for stream resumption
+	 * @param requestTimeout timeout for requests
+	 * @param initRequestHandler initialization request handler
+	 * @param requestHandlers map of MCP request handlers keyed by method name
+	 * @param notificationHandlers map of MCP notification handlers keyed by method name
+	 * @param eventStore store for the events sent by the sessions, or {@code null} to
+	 * disable stream resumption
+	 */
+	public DefaultMcpStreamableServerSessionFactory(Duration requestTimeout,
+			McpStreamableServerSession.InitRequestHandler initRequestHandler,
+			Map<String, McpRequestHandler<?>> requestHandlers, Map<String, McpNotificationHandler> notificationHandlers,
+			EventStore eventStore) {
+		this(requestTimeout, initRequestHandler, requestHandlers, notificationHandlers, eventStore, null);
+	}
+
+	/**
+	 * Constructs an instance whose sessions record their events for stream resumption and
+	 * save their state for other nodes to rebuild them
+	 * @param requestTimeout timeout for requests
+	 * @param initRequestHandler initialization request handler
+	 * @param requestHandlers map of MCP request handlers keyed by method name
+	 * @param notificationHandlers map of MCP notification handlers keyed by method name
+	 * @param eventStore store for the events sent by the sessions, or {@code null} to
+	 * disable stream resumption
+	 * @param sessionStore store for the state of the sessions, or {@code null} to keep
+	 * the sessions local to this node
+	 */
+	public DefaultMcpStreamableServerSessionFactory(Duration requestTimeout,
+			McpStreamableServerSession.InitRequestHandler initRequestHandler,
+			Map<String, McpRequestHandler<?>> requestHandlers, Map<String, McpNotificationHandler> notificationHandlers,
+			EventStore eventStore, McpStreamableServerSessionStore sessionStore) {
 		this.requestTimeout = requestTimeout;
 		this.initRequestHandler = initRequestHandler;
 		this.requestHandlers = requestHandlers;
 		this.notificationHandlers = notificationHandlers;
+		this.eventStore = eventStore;
+		this.sessionStore = sessionStore;
 	}
 
 	@Override
 	public McpStreamableServerSession.McpStreamableServerSessionInit startSession(
 			McpSchema.InitializeRequest initializeRequest) {
-		return new McpStreamableServerSession.McpStreamableServerSessionInit(
-				new McpStreamableServerSession(UUID.randomUUID().toString(), initializeRequest.capabilities(),
-						initializeRequest.clientInfo(), requestTimeout, requestHandlers, notificationHandlers),
-				this.initRequestHandler.handle(initializeRequest));
+		McpStreamableServerSession session = new McpStreamableServerSession(UUID.randomUUID().toString(),
+				initializeRequest.capabilities(), initializeRequest.clientInfo(), requestTimeout, requestHandlers,
+				notificationHandlers, eventStore, sessionStore);
+		Mono<McpSchema.InitializeResult> initResult = this.initRequestHandler.handle(initializeRequest);
+		if (this.sessionStore != null) {
+			// The session must be known to all the nodes before the client learns its ID
+			initResult = this.sessionStore.saveSession(session.snapshot()).then(initResult);
+		}
+		return new McpStreamableServerSession.McpStreamableServerSessionInit(session, initResult);
+	}
+
+	@Override
+	public Mono<McpStreamableServerSession> loadSession(String sessionId) {
+		if (this.sessionStore == null) {
+			return Mono.empty();
+		}
+		return this.sessionStore.loadSession(sessionId).map(snapshot -> {
+			McpStreamableServerSession session = new McpStreamableServerSession(snapshot.sessionId(),
+					snapshot.clientCapabilities(), snapshot.clientInfo(), requestTimeout, requestHandlers,
+					notificationHandlers, eventStore, sessionStore);
+			session.restore(snapshot);
+			return session;
+		});
 	}
 
 }
@@ -53,4 +53,10 @@ public interface HttpHeaders {
 	 */
 	String CACHE_CONTROL = "Cache-Control";
 
+	/**
+	 * The HTTP Retry-After header.
+	 * @see <a href= "https://httpwg.org/specs/rfc9110.html#field.retry-after">RFC9110</a>
+	 */
+	String RETRY_AFTER = "Retry-After";
+
 }
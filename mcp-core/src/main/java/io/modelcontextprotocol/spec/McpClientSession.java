@@ -6,17 +6,17 @@ package io.modelcontextprotocol.spec;
 
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.RequestTimeoutWheel;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
 
 import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 /**
@@ -44,11 +44,14 @@ public class McpClientSession implements McpSession {
 	/** Duration to wait for request responses before timing out */
 	private final Duration requestTimeout;
 
+	/** Timer expiring the requests that did not get a response in time */
+	private final RequestTimeoutWheel requestTimeouts;
+
 	/** Transport layer implementation for message exchange */
 	private final McpClientTransport transport;
 
-	/** Map of pending responses keyed by request ID */
-	private final ConcurrentHashMap<Object, MonoSink<McpSchema.JSONRPCResponse>> pendingResponses = new ConcurrentHashMap<>();
+	/** Pending responses keyed by request ID, which they also generate */
+	private final PendingResponses pendingResponses;
 
 	/** Map of request handlers keyed by method name */
 	private final ConcurrentHashMap<String, RequestHandler<?>> requestHandlers = new ConcurrentHashMap<>();
@@ -56,12 +59,6 @@ public class McpClientSession implements McpSession {
 	/** Map of notification handlers keyed by method name */
 	private final ConcurrentHashMap<String, NotificationHandler> notificationHandlers = new ConcurrentHashMap<>();
 
-	/** Session-specific prefix for request IDs */
-	private final String sessionPrefix = UUID.randomUUID().toString().substring(0, 8);
-
-	/** Atomic counter for generating unique request IDs */
-	private final AtomicLong requestCounter = new AtomicLong(0);
-
 	/**
 	 * Functional interface for handling incoming JSON-RPC requests. Implementations
 	 * should process the request parameters and return a response.
@@ -123,6 +120,24 @@ public class McpClientSession implements McpSession {
 	public McpClientSession(Duration requestTimeout, McpClientTransport transport,
 			Map<String, RequestHandler<?>> requestHandlers, Map<String, NotificationHandler> notificationHandlers,
 			Function<? super Mono<Void>, ? extends Publisher<Void>> connectHook) {
+		this(requestTimeout, transport, requestHandlers, notificationHandlers, connectHook, false);
+	}
+
+	/**
+	 * Creates a new McpClientSession with the specified configuration and handlers.
+	 * @param requestTimeout Duration to wait for responses
+	 * @param transport Transport implementation for message exchange
+	 * @param requestHandlers Map of method names to request handlers
+	 * @param notificationHandlers Map of method names to notification handlers
+	 * @param connectHook Hook that allows transforming the connection Publisher prior to
+	 * subscribing
+	 * @param compactRequestIds Whether to send increasing numeric request IDs, matched
+	 * against responses without building or hashing strings, rather than string IDs
+	 * prefixed per session
+	 */
+	public McpClientSession(Duration requestTimeout, McpClientTransport transport,
+			Map<String, RequestHandler<?>> requestHandlers, Map<String, NotificationHandler> notificationHandlers,
+			Function<? super Mono<Void>, ? extends Publisher<Void>> connectHook, boolean compactRequestIds) {
 
 		Assert.notNull(requestTimeout, "The requestTimeout can not be null");
 		Assert.notNull(transport, "The transport can not be null");
@@ -130,7 +145,10 @@ public class McpClientSession implements McpSession {
 		Assert.notNull(notificationHandlers, "The notificationHandlers can not be null");
 
 		this.requestTimeout = requestTimeout;
+		this.requestTimeouts = RequestTimeoutWheel.builder(requestTimeout).build();
 		this.transport = transport;
+		this.pendingResponses = PendingResponses.create(UUID.randomUUID().toString().substring(0, 8),
+				compactRequestIds);
 		this.requestHandlers.putAll(requestHandlers);
 		this.notificationHandlers.putAll(notificationHandlers);
 
@@ -138,11 +156,10 @@ public class McpClientSession implements McpSession {
 	}
 
 	private void dismissPendingResponses() {
-		this.pendingResponses.forEach((id, sink) -> {
+		this.pendingResponses.drain((id, sink) -> {
 			logger.warn("Abruptly terminating exchange for request {}", id);
 			sink.error(new RuntimeException("MCP session with server terminated"));
 		});
-		this.pendingResponses.clear();
 	}
 
 	private void handle(McpSchema.JSONRPCMessage message) {
@@ -238,11 +255,12 @@ public class McpClientSession implements McpSession {
 
 	/**
 	 * Generates a unique request ID in a non-blocking way. Combines a session-specific
-	 * prefix with an atomic counter to ensure uniqueness.
-	 * @return A unique request ID string
+	 * prefix with an atomic counter to ensure uniqueness, or is the bare counter value in
+	 * compact mode.
+	 * @return A unique request ID, a string or a long in compact mode
 	 */
-	private String generateRequestId() {
-		return this.sessionPrefix + "-" + this.requestCounter.getAndIncrement();
+	private Object generateRequestId() {
+		return this.pendingResponses.nextId();
 	}
 
 	/**
@@ -255,11 +273,19 @@ public class McpClientSession implements McpSession {
 	 */
 	@Override
 	public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
-		String requestId = this.generateRequestId();
+		Object requestId = this.generateRequestId();
 
 		return Mono.deferContextual(ctx -> Mono.<McpSchema.JSONRPCResponse>create(pendingResponseSink -> {
 			logger.debug("Sending message for method {}", method);
 			this.pendingResponses.put(requestId, pendingResponseSink);
+			RequestTimeoutWheel.Timeout timeout = this.requestTimeouts.schedule(() -> {
+				if (this.pendingResponses.remove(requestId, pendingResponseSink)) {
+					pendingResponseSink.error(new TimeoutException("Did not receive a response to request " + requestId
+							+ " within " + this.requestTimeout.toMillis() + "ms"));
+				}
+			});
+			pendingResponseSink.onCancel(() -> this.pendingResponses.remove(requestId, pendingResponseSink));
+			pendingResponseSink.onDispose(timeout::cancel);
 			McpSchema.JSONRPCRequest jsonrpcRequest = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, method,
 					requestId, requestParams);
 			this.transport.sendMessage(jsonrpcRequest).contextWrite(ctx).subscribe(v -> {
@@ -267,7 +293,7 @@ public class McpClientSession implements McpSession {
 				this.pendingResponses.remove(requestId);
 				pendingResponseSink.error(error);
 			});
-		})).timeout(this.requestTimeout).handle((jsonRpcResponse, deliveredResponseSink) -> {
+		})).handle((jsonRpcResponse, deliveredResponseSink) -> {
 			if (jsonRpcResponse.error() != null) {
 				logger.error("Error handling request: {}", jsonRpcResponse.error());
 				deliveredResponseSink.error(new McpError(jsonRpcResponse.error()));
@@ -283,6 +309,15 @@ public class McpClientSession implements McpSession {
 		});
 	}
 
+	/**
+	 * Snapshot of the counters of the requests sent by this session: how many are
+	 * awaiting a response, got one, or expired, and how long they waited.
+	 * @return the request timeout counters
+	 */
+	public RequestTimeoutWheel.Stats requestTimeoutStats() {
+		return this.requestTimeouts.stats();
+	}
+
 	/**
 	 * Sends a JSON-RPC notification.
 	 * @param method The method name for the notification
@@ -5,11 +5,14 @@
 package io.modelcontextprotocol.spec;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -191,7 +194,19 @@ public final class McpSchema {
 	};
 
 	/**
-	 * Deserializes a JSON string into a JSONRPCMessage object.
+	 * JSON-RPC message properties whose binding may be deferred until a handler converts
+	 * them to a concrete type, if the {@link McpJsonMapper} supports it.
+	 */
+	private static final Set<String> DEFERRED_PROPERTIES = Set.of("params");
+
+	/**
+	 * Deserializes a JSON string into a JSONRPCMessage object. The message type is
+	 * determined from the top-level property names and the content is bound directly to
+	 * the matching record in a single pass, without an intermediate map.
+	 * <p>
+	 * If the mapper supports deferred binding, the {@code params} of requests and
+	 * notifications may be left unbound; handlers must then obtain typed parameters
+	 * through {@link McpJsonMapper#convertValue(Object, Class)} of the same mapper.
 	 * @param jsonMapper The JsonMapper instance to use for deserialization
 	 * @param jsonText The JSON string to deserialize
 	 * @return A JSONRPCMessage instance using either the {@link JSONRPCRequest},
@@ -205,20 +220,84 @@ public final class McpSchema {
 
 		logger.debug("Received JSON message: {}", jsonText);
 
-		var map = jsonMapper.readValue(jsonText, MAP_TYPE_REF);
+		return jsonMapper.<JSONRPCMessage>readValue(jsonText, propertyNames -> {
+			Class<? extends JSONRPCMessage> type = jsonRpcMessageType(propertyNames);
+			if (type == null) {
+				throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage: " + jsonText);
+			}
+			return type;
+		}, DEFERRED_PROPERTIES);
+	}
+
+	/**
+	 * Deserializes a JSON-RPC message read from a stream, parsing directly from the
+	 * stream without first buffering the content as a String. The stream is not closed.
+	 * @param jsonMapper The JsonMapper instance to use for deserialization
+	 * @param content The UTF-8 encoded JSON stream to deserialize
+	 * @return A JSONRPCMessage instance using either the {@link JSONRPCRequest},
+	 * {@link JSONRPCNotification}, or {@link JSONRPCResponse} classes.
+	 * @throws IOException If there's an error during deserialization
+	 * @throws IllegalArgumentException If the JSON structure doesn't match any known
+	 * message type
+	 * @see #deserializeJsonRpcMessage(McpJsonMapper, String)
+	 */
+	public static JSONRPCMessage deserializeJsonRpcMessage(McpJsonMapper jsonMapper, InputStream content)
+			throws IOException {
+
+		JSONRPCMessage message = jsonMapper.<JSONRPCMessage>readValue(content, McpSchema::requireJsonRpcMessageType,
+				DEFERRED_PROPERTIES);
+
+		logger.debug("Received JSON message: {}", message);
 
-		// Determine message type based on specific JSON structure
-		if (map.containsKey("method") && map.containsKey("id")) {
-			return jsonMapper.convertValue(map, JSONRPCRequest.class);
+		return message;
+	}
+
+	/**
+	 * Deserializes a JSON-RPC message held in the remaining bytes of a buffer, parsing
+	 * the bytes in place without first decoding them to a String. The buffer position is
+	 * not changed.
+	 * @param jsonMapper The JsonMapper instance to use for deserialization
+	 * @param content The UTF-8 encoded JSON buffer to deserialize
+	 * @return A JSONRPCMessage instance using either the {@link JSONRPCRequest},
+	 * {@link JSONRPCNotification}, or {@link JSONRPCResponse} classes.
+	 * @throws IOException If there's an error during deserialization
+	 * @throws IllegalArgumentException If the JSON structure doesn't match any known
+	 * message type
+	 * @see #deserializeJsonRpcMessage(McpJsonMapper, String)
+	 */
+	public static JSONRPCMessage deserializeJsonRpcMessage(McpJsonMapper jsonMapper, ByteBuffer content)
+			throws IOException {
+
+		JSONRPCMessage message = jsonMapper.<JSONRPCMessage>readValue(content, McpSchema::requireJsonRpcMessageType,
+				DEFERRED_PROPERTIES);
+
+		logger.debug("Received JSON message: {}", message);
+
+		return message;
+	}
+
+	private static Class<? extends JSONRPCMessage> requireJsonRpcMessageType(Set<String> propertyNames) {
+		Class<? extends JSONRPCMessage> type = jsonRpcMessageType(propertyNames);
+		if (type == null) {
+			throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage with properties: " + propertyNames);
 		}
-		else if (map.containsKey("method") && !map.containsKey("id")) {
-			return jsonMapper.convertValue(map, JSONRPCNotification.class);
+		return type;
+	}
+
+	/**
+	 * Determines the JSON-RPC message type based on the specific JSON structure.
+	 * @param propertyNames the top-level property names of the message
+	 * @return the message type or {@code null} if the structure doesn't match any known
+	 * message type
+	 */
+	private static Class<? extends JSONRPCMessage> jsonRpcMessageType(Set<String> propertyNames) {
+		if (propertyNames.contains("method")) {
+			return propertyNames.contains("id") ? JSONRPCRequest.class : JSONRPCNotification.class;
 		}
-		else if (map.containsKey("result") || map.containsKey("error")) {
-			return jsonMapper.convertValue(map, JSONRPCResponse.class);
+		else if (propertyNames.contains("result") || propertyNames.contains("error")) {
+			return JSONRPCResponse.class;
 		}
-
-		throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage: " + jsonText);
+		return null;
 	}
 
 	// ---------------------------
@@ -6,9 +6,8 @@ package io.modelcontextprotocol.spec;
 
 import java.time.Duration;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.modelcontextprotocol.common.McpTransportContext;
@@ -18,10 +17,10 @@ import io.modelcontextprotocol.server.McpNotificationHandler;
 import io.modelcontextprotocol.server.McpRequestHandler;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.RequestTimeoutWheel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Sinks;
 
 /**
@@ -32,14 +31,15 @@ public class McpServerSession implements McpLoggableSession {
 
 	private static final Logger logger = LoggerFactory.getLogger(McpServerSession.class);
 
-	private final ConcurrentHashMap<Object, MonoSink<McpSchema.JSONRPCResponse>> pendingResponses = new ConcurrentHashMap<>();
+	private final PendingResponses pendingResponses;
 
 	private final String id;
 
 	/** Duration to wait for request responses before timing out */
 	private final Duration requestTimeout;
 
-	private final AtomicLong requestCounter = new AtomicLong(0);
+	/** Timer expiring the requests that did not get a response in time */
+	private final RequestTimeoutWheel requestTimeouts;
 
 	private final McpInitRequestHandler initRequestHandler;
 
@@ -65,6 +65,10 @@ public class McpServerSession implements McpLoggableSession {
 
 	private volatile McpSchema.LoggingLevel minLoggingLevel = McpSchema.LoggingLevel.INFO;
 
+	private volatile long lastActivityNanos = System.nanoTime();
+
+	private final SessionCloseHandlers closeHandlers;
+
 	/**
 	 * Creates a new server session with the given parameters and the transport to use.
 	 * @param id session id
@@ -78,8 +82,30 @@ public class McpServerSession implements McpLoggableSession {
 	public McpServerSession(String id, Duration requestTimeout, McpServerTransport transport,
 			McpInitRequestHandler initHandler, Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
+		this(id, requestTimeout, transport, initHandler, requestHandlers, notificationHandlers, false);
+	}
+
+	/**
+	 * Creates a new server session with the given parameters and the transport to use.
+	 * @param id session id
+	 * @param transport the transport to use
+	 * @param initHandler called when a
+	 * {@link io.modelcontextprotocol.spec.McpSchema.InitializeRequest} is received by the
+	 * server
+	 * @param requestHandlers map of request handlers to use
+	 * @param notificationHandlers map of notification handlers to use
+	 * @param compactRequestIds whether the requests sent to the client, such as sampling,
+	 * elicitation, roots and ping, use increasing numeric IDs rather than string IDs
+	 * prefixed with the session id
+	 */
+	public McpServerSession(String id, Duration requestTimeout, McpServerTransport transport,
+			McpInitRequestHandler initHandler, Map<String, McpRequestHandler<?>> requestHandlers,
+			Map<String, McpNotificationHandler> notificationHandlers, boolean compactRequestIds) {
 		this.id = id;
+		this.closeHandlers = new SessionCloseHandlers(id);
+		this.pendingResponses = PendingResponses.create(id, compactRequestIds);
 		this.requestTimeout = requestTimeout;
+		this.requestTimeouts = RequestTimeoutWheel.builder(requestTimeout).build();
 		this.transport = transport;
 		this.initRequestHandler = initHandler;
 		this.requestHandlers = requestHandlers;
@@ -107,7 +133,10 @@ public class McpServerSession implements McpLoggableSession {
 			Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
 		this.id = id;
+		this.closeHandlers = new SessionCloseHandlers(id);
+		this.pendingResponses = PendingResponses.create(id, false);
 		this.requestTimeout = requestTimeout;
+		this.requestTimeouts = RequestTimeoutWheel.builder(requestTimeout).build();
 		this.transport = transport;
 		this.initRequestHandler = initHandler;
 		this.requestHandlers = requestHandlers;
@@ -122,6 +151,16 @@ public class McpServerSession implements McpLoggableSession {
 		return this.id;
 	}
 
+	/**
+	 * Registers a callback run once, when the session is closed, typically to release
+	 * what is held for the session outside of it. The callback runs right away if the
+	 * session is already closed.
+	 * @param closeHandler the callback
+	 */
+	public void addCloseHandler(Runnable closeHandler) {
+		this.closeHandlers.add(closeHandler);
+	}
+
 	/**
 	 * Called upon successful initialization sequence between the client and the server
 	 * with the client capabilities and information.
@@ -137,8 +176,8 @@ public class McpServerSession implements McpLoggableSession {
 		this.clientInfo.lazySet(clientInfo);
 	}
 
-	private String generateRequestId() {
-		return this.id + "-" + this.requestCounter.getAndIncrement();
+	private Object generateRequestId() {
+		return this.pendingResponses.nextId();
 	}
 
 	@Override
@@ -152,12 +191,26 @@ public class McpServerSession implements McpLoggableSession {
 		return loggingLevel.level() >= this.minLoggingLevel.level();
 	}
 
+	@Override
+	public long lastActivityNanos() {
+		return this.lastActivityNanos;
+	}
+
 	@Override
 	public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
-		String requestId = this.generateRequestId();
+		Object requestId = this.generateRequestId();
 
 		return Mono.<McpSchema.JSONRPCResponse>create(sink -> {
+			this.lastActivityNanos = System.nanoTime();
 			this.pendingResponses.put(requestId, sink);
+			RequestTimeoutWheel.Timeout timeout = this.requestTimeouts.schedule(() -> {
+				if (this.pendingResponses.remove(requestId, sink)) {
+					sink.error(new TimeoutException("Did not receive a response to request " + requestId + " within "
+							+ this.requestTimeout.toMillis() + "ms"));
+				}
+			});
+			sink.onCancel(() -> this.pendingResponses.remove(requestId, sink));
+			sink.onDispose(timeout::cancel);
 			McpSchema.JSONRPCRequest jsonrpcRequest = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, method,
 					requestId, requestParams);
 			this.transport.sendMessage(jsonrpcRequest).subscribe(v -> {
@@ -165,7 +218,7 @@ public class McpServerSession implements McpLoggableSession {
 				this.pendingResponses.remove(requestId);
 				sink.error(error);
 			});
-		}).timeout(requestTimeout).handle((jsonRpcResponse, sink) -> {
+		}).handle((jsonRpcResponse, sink) -> {
 			if (jsonRpcResponse.error() != null) {
 				sink.error(new McpError(jsonRpcResponse.error()));
 			}
@@ -180,11 +233,21 @@ public class McpServerSession implements McpLoggableSession {
 		});
 	}
 
+	/**
+	 * Snapshot of the counters of the requests sent to the client: how many are awaiting
+	 * a response, got one, or expired, and how long they waited.
+	 * @return the request timeout counters
+	 */
+	public RequestTimeoutWheel.Stats requestTimeoutStats() {
+		return this.requestTimeouts.stats();
+	}
+
 	@Override
 	public Mono<Void> sendNotification(String method, Object params) {
 		McpSchema.JSONRPCNotification jsonrpcNotification = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
 				method, params);
-		return this.transport.sendMessage(jsonrpcNotification);
+		return this.transport.sendMessage(jsonrpcNotification)
+			.doOnSubscribe(s -> this.lastActivityNanos = System.nanoTime());
 	}
 
 	/**
@@ -199,6 +262,7 @@ public class McpServerSession implements McpLoggableSession {
 	 */
 	public Mono<Void> handle(McpSchema.JSONRPCMessage message) {
 		return Mono.deferContextual(ctx -> {
+			this.lastActivityNanos = System.nanoTime();
 			McpTransportContext transportContext = ctx.getOrDefault(McpTransportContext.KEY, McpTransportContext.EMPTY);
 
 			// TODO handle errors for communication to without initialization happening
@@ -346,13 +410,18 @@ public class McpServerSession implements McpLoggableSession {
 	@Override
 	public Mono<Void> closeGracefully() {
 		// TODO: clear pendingResponses and emit errors?
-		return this.transport.closeGracefully();
+		return this.transport.closeGracefully().doFinally(signal -> this.closeHandlers.close());
 	}
 
 	@Override
 	public void close() {
 		// TODO: clear pendingResponses and emit errors?
-		this.transport.close();
+		try {
+			this.transport.close();
+		}
+		finally {
+			this.closeHandlers.close();
+		}
 	}
 
 	/**
@@ -45,6 +45,21 @@ public interface McpServerTransportProviderBase {
 	 */
 	Mono<Void> notifyClients(String method, Object params);
 
+	/**
+	 * Sends a notification to the client of a single session. Providers that do not
+	 * support it fail with an {@link UnsupportedOperationException}, in which case the
+	 * server notifies all the clients instead.
+	 * @param sessionId the id of the session to notify
+	 * @param method the name of the notification method to be called on the client
+	 * @param params parameters to be sent with the notification
+	 * @return a Mono that completes when the notification has been sent, or fails with a
+	 * {@link McpTransportSessionNotFoundException} if there is no such session
+	 */
+	default Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.error(new UnsupportedOperationException(
+				getClass().getName() + " does not support notifying the client of a single session"));
+	}
+
 	/**
 	 * Immediately closes all the transports with connected clients and releases any
 	 * associated resources.
@@ -77,4 +77,24 @@ public interface McpSession {
 	 */
 	void close();
 
+	/**
+	 * Returns when a message was last sent or received over this session, as given by
+	 * {@link System#nanoTime()}.
+	 * @return the time of the last activity, or {@code 0} if the session does not track
+	 * it
+	 */
+	default long lastActivityNanos() {
+		return 0;
+	}
+
+	/**
+	 * Returns whether the client holds a stream open to receive the messages of this
+	 * session, such as the listening stream of a Streamable HTTP session. Such a session
+	 * is in use even while no message goes through.
+	 * @return {@code true} if a stream of the session is open
+	 */
+	default boolean hasOpenStream() {
+		return false;
+	}
+
 }
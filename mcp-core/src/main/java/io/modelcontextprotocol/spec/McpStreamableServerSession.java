@@ -8,9 +8,9 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,8 +21,11 @@ import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpAsyncServerExchange;
 import io.modelcontextprotocol.server.McpNotificationHandler;
 import io.modelcontextprotocol.server.McpRequestHandler;
+import io.modelcontextprotocol.server.events.EventStore;
+import io.modelcontextprotocol.server.sessions.McpStreamableServerSessionStore;
 import io.modelcontextprotocol.spec.McpSchema.ErrorCodes;
 import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.RequestTimeoutWheel;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
@@ -42,12 +45,25 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 	private final ConcurrentHashMap<Object, McpStreamableServerSessionStream> requestIdToStream = new ConcurrentHashMap<>();
 
+	private final ConcurrentHashMap<String, McpStreamableServerSessionStream> activeResponseStreams = new ConcurrentHashMap<>();
+
 	private final String id;
 
 	private final Duration requestTimeout;
 
+	/**
+	 * Timer expiring the requests of all the streams that did not get a response in time
+	 */
+	private final RequestTimeoutWheel requestTimeouts;
+
 	private final AtomicLong requestCounter = new AtomicLong(0);
 
+	private final AtomicLong eventCounter = new AtomicLong(0);
+
+	private final EventStore eventStore;
+
+	private final McpStreamableServerSessionStore sessionStore;
+
 	private final Map<String, McpRequestHandler<?>> requestHandlers;
 
 	private final Map<String, McpNotificationHandler> notificationHandlers;
@@ -60,8 +76,26 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 	private final MissingMcpTransportSession missingMcpTransportSession;
 
+	private volatile String listeningStreamId;
+
 	private volatile McpSchema.LoggingLevel minLoggingLevel = McpSchema.LoggingLevel.INFO;
 
+	private volatile boolean initialized;
+
+	/**
+	 * Whether this session was rebuilt from a snapshot taken on another node
+	 */
+	private volatile boolean rebuilt;
+
+	/**
+	 * Version of the state of this session, increased on each change saved to the store
+	 */
+	private final AtomicLong stateVersion = new AtomicLong();
+
+	private volatile long lastActivityNanos = System.nanoTime();
+
+	private final SessionCloseHandlers closeHandlers;
+
 	/**
 	 * Create an instance of the streamable session.
 	 * @param id session ID
@@ -76,20 +110,137 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			McpSchema.Implementation clientInfo, Duration requestTimeout,
 			Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
+		this(id, clientCapabilities, clientInfo, requestTimeout, requestHandlers, notificationHandlers, null);
+	}
+
+	/**
+	 * Create an instance of the streamable session that records the events sent to the
+	 * client, allowing streams to be resumed with {@link #resume}.
+	 * @param id session ID
+	 * @param clientCapabilities client capabilities
+	 * @param clientInfo client info
+	 * @param requestTimeout timeout to use for requests
+	 * @param requestHandlers the map of MCP request handlers keyed by method name
+	 * @param notificationHandlers the map of MCP notification handlers keyed by method
+	 * name
+	 * @param eventStore the store for the sent events, or {@code null} to disable stream
+	 * resumption
+	 */
+	public McpStreamableServerSession(String id, McpSchema.ClientCapabilities clientCapabilities,
+			McpSchema.Implementation clientInfo, Duration requestTimeout,
+			Map<String, McpRequestHandler<?>> requestHandlers, Map<String, McpNotificationHandler> notificationHandlers,
+			EventStore eventStore) {
+		this(id, clientCapabilities, clientInfo, requestTimeout, requestHandlers, notificationHandlers, eventStore,
+				null);
+	}
+
+	/**
+	 * Create an instance of the streamable session that records the events sent to the
+	 * client and saves its state to a store shared with other nodes.
+	 * @param id session ID
+	 * @param clientCapabilities client capabilities
+	 * @param clientInfo client info
+	 * @param requestTimeout timeout to use for requests
+	 * @param requestHandlers the map of MCP request handlers keyed by method name
+	 * @param notificationHandlers the map of MCP notification handlers keyed by method
+	 * name
+	 * @param eventStore the store for the sent events, or {@code null} to disable stream
+	 * resumption
+	 * @param sessionStore the store for the session state, or {@code null} to keep the
+	 * session local to this node
+	 */
+	public McpStreamableServerSession(String id, McpSchema.ClientCapabilities clientCapabilities,
+			McpSchema.Implementation clientInfo, Duration requestTimeout,
+			Map<String, McpRequestHandler<?>> requestHandlers, Map<String, McpNotificationHandler> notificationHandlers,
+			EventStore eventStore, McpStreamableServerSessionStore sessionStore) {
 		this.id = id;
+		this.closeHandlers = new SessionCloseHandlers(id);
 		this.missingMcpTransportSession = new MissingMcpTransportSession(id);
 		this.listeningStreamRef = new AtomicReference<>(this.missingMcpTransportSession);
 		this.clientCapabilities.lazySet(clientCapabilities);
 		this.clientInfo.lazySet(clientInfo);
 		this.requestTimeout = requestTimeout;
+		this.requestTimeouts = RequestTimeoutWheel.builder(requestTimeout).build();
 		this.requestHandlers = requestHandlers;
 		this.notificationHandlers = notificationHandlers;
+		this.eventStore = eventStore;
+		this.sessionStore = sessionStore;
 	}
 
 	@Override
 	public void setMinLoggingLevel(McpSchema.LoggingLevel minLoggingLevel) {
 		Assert.notNull(minLoggingLevel, "minLoggingLevel must not be null");
 		this.minLoggingLevel = minLoggingLevel;
+		saveState().subscribe();
+	}
+
+	/**
+	 * Registers a callback run once, when the session is closed on this node, typically
+	 * to release what is held for the session outside of it. The callback runs right away
+	 * if the session is already closed.
+	 * @param closeHandler the callback
+	 */
+	public void addCloseHandler(Runnable closeHandler) {
+		this.closeHandlers.add(closeHandler);
+	}
+
+	/**
+	 * Capture the state of this session needed to rebuild it on another node.
+	 * @return the snapshot of the session
+	 */
+	public McpStreamableServerSessionStore.SessionSnapshot snapshot() {
+		return new McpStreamableServerSessionStore.SessionSnapshot(this.id, this.clientCapabilities.get(),
+				this.clientInfo.get(), this.minLoggingLevel, this.initialized, this.stateVersion.get());
+	}
+
+	/**
+	 * Restore the state captured by a snapshot of this session, without saving it back. A
+	 * snapshot older than the state of this session is ignored.
+	 * @param snapshot the snapshot of the session
+	 */
+	synchronized void restore(McpStreamableServerSessionStore.SessionSnapshot snapshot) {
+		this.rebuilt = true;
+		if (snapshot.version() < this.stateVersion.get()) {
+			return;
+		}
+		this.stateVersion.set(snapshot.version());
+		if (snapshot.minLoggingLevel() != null) {
+			this.minLoggingLevel = snapshot.minLoggingLevel();
+		}
+		this.initialized = snapshot.initialized();
+	}
+
+	/**
+	 * Saves the current state of this session under a new version, so that the store
+	 * keeps the latest state whatever the order in which concurrent saves complete.
+	 * @return a Mono that completes once the state is saved, or failed to be
+	 */
+	private Mono<Void> saveState() {
+		if (this.sessionStore == null || this.closeHandlers.isClosed()) {
+			return Mono.empty();
+		}
+		this.stateVersion.incrementAndGet();
+		McpStreamableServerSessionStore.SessionSnapshot snapshot = snapshot();
+		return this.sessionStore.saveSession(snapshot)
+			.doOnError(e -> logger.warn("Failed to save the state of session {}: {}", this.id, e.getMessage()))
+			.onErrorComplete();
+	}
+
+	/**
+	 * Checks that the client completed the initialization of a session rebuilt from the
+	 * store. The snapshot the session was rebuilt from may predate the initialized
+	 * notification received by another node, so the store is read again until it shows
+	 * the session initialized. Sessions started on this node are not checked.
+	 * @return a Mono emitting whether the session is initialized
+	 */
+	private Mono<Boolean> checkInitialized() {
+		if (this.initialized || !this.rebuilt) {
+			return Mono.just(true);
+		}
+		return this.sessionStore.loadSession(this.id).map(snapshot -> {
+			restore(snapshot);
+			return this.initialized;
+		}).defaultIfEmpty(false);
 	}
 
 	@Override
@@ -109,6 +260,26 @@ public class McpStreamableServerSession implements McpLoggableSession {
 		return this.id + "-" + this.requestCounter.getAndIncrement();
 	}
 
+	@Override
+	public long lastActivityNanos() {
+		return this.lastActivityNanos;
+	}
+
+	@Override
+	public boolean hasOpenStream() {
+		return this.listeningStreamRef.get() != this.missingMcpTransportSession;
+	}
+
+	/**
+	 * Snapshot of the counters of the requests sent to the client over all the streams of
+	 * this session: how many are awaiting a response, got one, or expired, and how long
+	 * they waited.
+	 * @return the request timeout counters
+	 */
+	public RequestTimeoutWheel.Stats requestTimeoutStats() {
+		return this.requestTimeouts.stats();
+	}
+
 	@Override
 	public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
 		return Mono.defer(() -> {
@@ -126,10 +297,10 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	}
 
 	public Mono<Void> delete() {
-		return this.closeGracefully().then(Mono.fromRunnable(() -> {
-			// TODO: review in the context of history storage
-			// delete history, etc.
-		}));
+		return this.closeGracefully()
+			.then(Mono.defer(() -> this.eventStore != null ? this.eventStore.removeSession(this.id) : Mono.empty()))
+			.then(Mono
+				.defer(() -> this.sessionStore != null ? this.sessionStore.removeSession(this.id) : Mono.empty()));
 	}
 
 	/**
@@ -140,14 +311,66 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	 */
 	public McpStreamableServerSessionStream listeningStream(McpStreamableServerTransport transport) {
 		McpStreamableServerSessionStream listeningStream = new McpStreamableServerSessionStream(transport);
+		this.listeningStreamId = listeningStream.streamId;
 		this.listeningStreamRef.set(listeningStream);
 		return listeningStream;
 	}
 
-	// TODO: keep track of history by keeping a map from eventId to stream and then
-	// iterate over the events using the lastEventId
+	/**
+	 * Provide the stored messages sent over a stream after the given event.
+	 * @param lastEventId the ID of the last event received by the client
+	 * @return the messages sent after the event, empty if no {@link EventStore} is
+	 * configured
+	 */
 	public Flux<McpSchema.JSONRPCMessage> replay(Object lastEventId) {
-		return Flux.empty();
+		String eventId = String.valueOf(lastEventId);
+		String streamId = EventStore.Event.streamIdOf(eventId);
+		if (streamId == null) {
+			return Flux.empty();
+		}
+		return replayEvents(streamId, EventStore.Event.sequenceOf(eventId)).map(EventStore.Event::message);
+	}
+
+	/**
+	 * Resume a stream (the generic HTTP GET request with a Last-Event-ID header). The
+	 * stored events that follow the given event are replayed to the transport, after
+	 * which it takes over the stream: subsequent messages of a request that is still in
+	 * progress, or of the listening stream, are sent to it. Resuming a stream that has
+	 * already completed closes the transport once the events are replayed.
+	 * @param lastEventId the ID of the last event received by the client
+	 * @param transport the dedicated SSE transport stream
+	 * @return Mono emitting the resumed stream once the replay is done, or completing
+	 * empty if the stream has already completed
+	 */
+	public Mono<McpStreamableServerSessionStream> resume(String lastEventId, McpStreamableServerTransport transport) {
+		return Mono.defer(() -> {
+			String streamId = EventStore.Event.streamIdOf(lastEventId);
+			if (streamId == null) {
+				return Mono.error(McpError.builder(ErrorCodes.INVALID_PARAMS)
+					.message("Invalid Last-Event-ID: " + lastEventId)
+					.build());
+			}
+			long sequence = EventStore.Event.sequenceOf(lastEventId);
+
+			McpStreamableServerSessionStream stream = this.activeResponseStreams.get(streamId);
+			if (stream == null && !streamId.equals(this.listeningStreamId)) {
+				return replayEvents(streamId, sequence)
+					.concatMap(event -> transport.sendMessage(event.message(), event.id()))
+					.then(transport.closeGracefully())
+					.then(Mono.empty());
+			}
+			if (stream == null) {
+				stream = new McpStreamableServerSessionStream(transport, streamId);
+				this.listeningStreamRef.set(stream);
+			}
+			McpStreamableServerSessionStream resumed = stream;
+			return resumed.resume(transport, sequence).thenReturn(resumed);
+		});
+	}
+
+	private Flux<EventStore.Event> replayEvents(String streamId, long sequence) {
+		return (this.eventStore != null) ? this.eventStore.replayEventsAfter(this.id, streamId, sequence)
+				: Flux.empty();
 	}
 
 	/**
@@ -158,6 +381,7 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	 */
 	public Mono<Void> responseStream(McpSchema.JSONRPCRequest jsonrpcRequest, McpStreamableServerTransport transport) {
 		return Mono.deferContextual(ctx -> {
+			this.lastActivityNanos = System.nanoTime();
 			McpTransportContext transportContext = ctx.getOrDefault(McpTransportContext.KEY, McpTransportContext.EMPTY);
 
 			McpStreamableServerSessionStream stream = new McpStreamableServerSessionStream(transport);
@@ -168,31 +392,49 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			// (sink)
 			if (requestHandler == null) {
 				MethodNotFoundError error = getMethodNotFoundError(jsonrpcRequest.method());
-				return transport
-					.sendMessage(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), null,
-							new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.METHOD_NOT_FOUND,
-									error.message(), error.data())));
+				return stream.send(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), null,
+						new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.METHOD_NOT_FOUND,
+								error.message(), error.data())));
+			}
+			if (!McpSchema.METHOD_PING.equals(jsonrpcRequest.method())) {
+				return checkInitialized().flatMap(initialized -> {
+					if (!initialized) {
+						return stream
+							.send(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), null,
+									new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INVALID_REQUEST,
+											"Session " + this.id + " is not initialized", null)))
+							.then(Mono.defer(() -> stream.transport.closeGracefully()));
+					}
+					return handleRequest(jsonrpcRequest, requestHandler, stream, transportContext);
+				});
 			}
-			return requestHandler
-				.handle(new McpAsyncServerExchange(this.id, stream, clientCapabilities.get(), clientInfo.get(),
-						transportContext), jsonrpcRequest.params())
-				.map(result -> new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), result,
-						null))
-				.onErrorResume(e -> {
-					McpSchema.JSONRPCResponse.JSONRPCError jsonRpcError = (e instanceof McpError mcpError
-							&& mcpError.getJsonRpcError() != null) ? mcpError.getJsonRpcError()
-									: new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
-											e.getMessage(), McpError.aggregateExceptionMessages(e));
-
-					var errorResponse = new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(),
-							null, jsonRpcError);
-					return Mono.just(errorResponse);
-				})
-				.flatMap(transport::sendMessage)
-				.then(transport.closeGracefully());
+			return handleRequest(jsonrpcRequest, requestHandler, stream, transportContext);
 		});
 	}
 
+	private Mono<Void> handleRequest(McpSchema.JSONRPCRequest jsonrpcRequest, McpRequestHandler<?> requestHandler,
+			McpStreamableServerSessionStream stream, McpTransportContext transportContext) {
+		// Keep the stream resumable until the response has been sent
+		this.activeResponseStreams.put(stream.streamId, stream);
+		return requestHandler
+			.handle(new McpAsyncServerExchange(this.id, stream, clientCapabilities.get(), clientInfo.get(),
+					transportContext), jsonrpcRequest.params())
+			.map(result -> new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), result, null))
+			.onErrorResume(e -> {
+				McpSchema.JSONRPCResponse.JSONRPCError jsonRpcError = (e instanceof McpError mcpError
+						&& mcpError.getJsonRpcError() != null) ? mcpError.getJsonRpcError()
+								: new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
+										e.getMessage(), McpError.aggregateExceptionMessages(e));
+
+				var errorResponse = new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), null,
+						jsonRpcError);
+				return Mono.just(errorResponse);
+			})
+			.flatMap(stream::send)
+			.then(Mono.defer(() -> stream.transport.closeGracefully()))
+			.doFinally(signal -> this.activeResponseStreams.remove(stream.streamId, stream));
+	}
+
 	/**
 	 * Handle the MCP notification.
 	 * @param notification MCP notification
@@ -200,15 +442,23 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	 */
 	public Mono<Void> accept(McpSchema.JSONRPCNotification notification) {
 		return Mono.deferContextual(ctx -> {
+			this.lastActivityNanos = System.nanoTime();
 			McpTransportContext transportContext = ctx.getOrDefault(McpTransportContext.KEY, McpTransportContext.EMPTY);
+			// Other nodes must see the session initialized once this is acknowledged
+			Mono<Void> saved = Mono.empty();
+			if (McpSchema.METHOD_NOTIFICATION_INITIALIZED.equals(notification.method()) && !this.initialized) {
+				this.initialized = true;
+				saved = saveState();
+			}
 			McpNotificationHandler notificationHandler = this.notificationHandlers.get(notification.method());
 			if (notificationHandler == null) {
 				logger.warn("No handler registered for notification method: {}", notification);
-				return Mono.empty();
+				return saved;
 			}
 			McpLoggableSession listeningStream = this.listeningStreamRef.get();
-			return notificationHandler.handle(new McpAsyncServerExchange(this.id, listeningStream,
-					this.clientCapabilities.get(), this.clientInfo.get(), transportContext), notification.params());
+			return saved.then(Mono.defer(() -> notificationHandler.handle(new McpAsyncServerExchange(this.id,
+					listeningStream, this.clientCapabilities.get(), this.clientInfo.get(), transportContext),
+					notification.params())));
 		});
 
 	}
@@ -220,6 +470,7 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	 */
 	public Mono<Void> accept(McpSchema.JSONRPCResponse response) {
 		return Mono.defer(() -> {
+			this.lastActivityNanos = System.nanoTime();
 			logger.debug("Received response: {}", response);
 
 			if (response.id() != null) {
@@ -262,14 +513,19 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			McpLoggableSession listeningStream = this.listeningStreamRef.getAndSet(missingMcpTransportSession);
 			return listeningStream.closeGracefully();
 			// TODO: Also close all the open streams
-		});
+		}).doFinally(signal -> this.closeHandlers.close());
 	}
 
 	@Override
 	public void close() {
 		McpLoggableSession listeningStream = this.listeningStreamRef.getAndSet(missingMcpTransportSession);
-		if (listeningStream != null) {
-			listeningStream.close();
+		try {
+			if (listeningStream != null) {
+				listeningStream.close();
+			}
+		}
+		finally {
+			this.closeHandlers.close();
 		}
 		// TODO: Also close all open streams
 	}
@@ -300,6 +556,16 @@ public class McpStreamableServerSession implements McpLoggableSession {
 		 */
 		McpStreamableServerSessionInit startSession(McpSchema.InitializeRequest initializeRequest);
 
+		/**
+		 * Rebuild a session started on another node from its stored snapshot.
+		 * @param sessionId the ID of the session
+		 * @return a Mono emitting the rebuilt session, or completing empty if the session
+		 * is unknown or sessions are not shared between nodes
+		 */
+		default Mono<McpStreamableServerSession> loadSession(String sessionId) {
+			return Mono.empty();
+		}
+
 	}
 
 	/**
@@ -321,22 +587,101 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 		private final ConcurrentHashMap<Object, MonoSink<McpSchema.JSONRPCResponse>> pendingResponses = new ConcurrentHashMap<>();
 
-		private final McpStreamableServerTransport transport;
+		private final String streamId;
 
-		private final String transportId;
+		private volatile McpStreamableServerTransport transport;
 
-		private final Supplier<String> uuidGenerator;
+		// Guarded by this: whether messages are sent to the transport directly or only
+		// stored while a resumed transport catches up with the replayed events
+		private boolean live = true;
+
+		private long lastStoredSequence;
 
 		/**
 		 * Constructor accepting the dedicated transport representing the SSE stream.
 		 * @param transport request-specific SSE transport stream
 		 */
 		public McpStreamableServerSessionStream(McpStreamableServerTransport transport) {
+			this(transport, UUID.randomUUID().toString());
+		}
+
+		private McpStreamableServerSessionStream(McpStreamableServerTransport transport, String streamId) {
 			this.transport = transport;
-			this.transportId = UUID.randomUUID().toString();
-			// This ID design allows for a constant-time extraction of the history by
-			// precisely identifying the SSE stream using the first component
-			this.uuidGenerator = () -> this.transportId + "_" + UUID.randomUUID();
+			this.streamId = streamId;
+		}
+
+		/**
+		 * Sends a message over this stream. Event IDs combine the stream ID with a
+		 * session-wide sequence number, which allows the stream to be identified from the
+		 * Last-Event-ID header alone.
+		 */
+		private Mono<Void> send(McpSchema.JSONRPCMessage message) {
+			return Mono.defer(() -> {
+				McpStreamableServerSession.this.lastActivityNanos = System.nanoTime();
+				EventStore.Event event = new EventStore.Event(this.streamId,
+						McpStreamableServerSession.this.eventCounter.incrementAndGet(), message);
+				EventStore eventStore = McpStreamableServerSession.this.eventStore;
+				if (eventStore == null) {
+					return this.transport.sendMessage(message, event.id());
+				}
+				return eventStore.storeEvent(McpStreamableServerSession.this.id, event).then(Mono.defer(() -> {
+					McpStreamableServerTransport target;
+					synchronized (this) {
+						this.lastStoredSequence = Math.max(this.lastStoredSequence, event.sequence());
+						target = this.live ? this.transport : null;
+					}
+					// A resuming transport picks the event up from the store
+					return (target != null) ? target.sendMessage(message, event.id()) : Mono.empty();
+				}));
+			});
+		}
+
+		private Mono<Void> resume(McpStreamableServerTransport transport, long sequence) {
+			McpStreamableServerTransport previous;
+			synchronized (this) {
+				previous = this.transport;
+				this.transport = transport;
+				this.live = false;
+			}
+			if (previous != transport) {
+				previous.close();
+			}
+			return catchUp(transport, sequence);
+		}
+
+		/**
+		 * Replays the stored events following the given sequence number, repeating until
+		 * no event has been stored in the meantime, and then switches the stream back to
+		 * sending messages directly.
+		 */
+		private Mono<Void> catchUp(McpStreamableServerTransport transport, long sequence) {
+			return replayEvents(this.streamId, sequence)
+				.concatMap(event -> transport.sendMessage(event.message(), event.id()).thenReturn(event.sequence()))
+				.reduce(sequence, Math::max)
+				.flatMap(replayed -> {
+					synchronized (this) {
+						// Events missing from the store (evicted, or no store at all)
+						// cannot be caught up with
+						if (this.transport != transport || replayed == sequence
+								|| this.lastStoredSequence <= replayed) {
+							this.live = this.live || this.transport == transport;
+							return Mono.<Void>empty();
+						}
+					}
+					return catchUp(transport, replayed);
+				});
+		}
+
+		/**
+		 * Closes this stream if it is still bound to the given transport, which is
+		 * typically done when the underlying connection terminates. A stream that has
+		 * since been resumed over a different transport is left open.
+		 * @param transport the transport whose connection terminated
+		 */
+		public void close(McpStreamableServerTransport transport) {
+			if (this.transport == transport) {
+				close();
+			}
 		}
 
 		@Override
@@ -358,13 +703,22 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 			return Mono.<McpSchema.JSONRPCResponse>create(sink -> {
 				this.pendingResponses.put(requestId, sink);
+				RequestTimeoutWheel.Timeout timeout = requestTimeouts.schedule(() -> {
+					if (this.pendingResponses.remove(requestId, sink)) {
+						sink.error(new TimeoutException("Did not receive a response to request " + requestId
+								+ " within " + requestTimeout.toMillis() + "ms"));
+					}
+				});
+				sink.onCancel(() -> {
+					this.pendingResponses.remove(requestId, sink);
+					McpStreamableServerSession.this.requestIdToStream.remove(requestId);
+				});
+				sink.onDispose(timeout::cancel);
 				McpSchema.JSONRPCRequest jsonrpcRequest = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
 						method, requestId, requestParams);
-				String messageId = this.uuidGenerator.get();
-				// TODO: store message in history
-				this.transport.sendMessage(jsonrpcRequest, messageId).subscribe(v -> {
+				this.send(jsonrpcRequest).subscribe(v -> {
 				}, sink::error);
-			}).timeout(requestTimeout).doOnError(e -> {
+			}).doOnError(e -> {
 				this.pendingResponses.remove(requestId);
 				McpStreamableServerSession.this.requestIdToStream.remove(requestId);
 			}).handle((jsonRpcResponse, sink) -> {
@@ -386,9 +740,7 @@ public class McpStreamableServerSession implements McpLoggableSession {
 		public Mono<Void> sendNotification(String method, Object params) {
 			McpSchema.JSONRPCNotification jsonrpcNotification = new McpSchema.JSONRPCNotification(
 					McpSchema.JSONRPC_VERSION, method, params);
-			String messageId = this.uuidGenerator.get();
-			// TODO: store message in history
-			return this.transport.sendMessage(jsonrpcNotification, messageId);
+			return this.send(jsonrpcNotification);
 		}
 
 		@Override
@@ -4,6 +4,8 @@
 
 package io.modelcontextprotocol.spec;
 
+import io.modelcontextprotocol.server.events.EventStore;
+import io.modelcontextprotocol.server.sessions.McpStreamableServerSessionStore;
 import reactor.core.publisher.Mono;
 
 /**
@@ -51,6 +53,25 @@ public interface McpStreamableServerTransportProvider extends McpServerTransport
 	 */
 	Mono<Void> notifyClients(String method, Object params);
 
+	/**
+	 * Returns the store in which the sessions of this provider record the events sent
+	 * over their SSE streams, so that the streams can be resumed with the
+	 * {@code Last-Event-ID} header.
+	 * @return the event store, or {@code null} if stream resumption is not supported
+	 */
+	default EventStore eventStore() {
+		return null;
+	}
+
+	/**
+	 * Returns the store in which the sessions of this provider save their state, so that
+	 * other nodes serving the same MCP server can rebuild them.
+	 * @return the session store, or {@code null} if sessions are local to this node
+	 */
+	default McpStreamableServerSessionStore sessionStore() {
+		return null;
+	}
+
 	/**
 	 * Immediately closes all the transports with connected clients and releases any
 	 * associated resources.
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import io.modelcontextprotocol.util.ConcurrentLongMap;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * The requests sent by a session that await a response, keyed by request ID.
+ * <p>
+ * By default, request IDs are strings combining a prefix unique to the session with a
+ * counter. In compact mode, request IDs are the bare counter values, sent as JSON
+ * numbers, and the pending responses are held in a {@link ConcurrentLongMap}, so that no
+ * string is built, hashed or compared per request. Responses whose ID is not a number are
+ * unknown in compact mode.
+ */
+final class PendingResponses {
+
+	private final String idPrefix;
+
+	private final AtomicLong counter = new AtomicLong();
+
+	private final ConcurrentHashMap<Object, MonoSink<McpSchema.JSONRPCResponse>> byId;
+
+	private final ConcurrentLongMap<MonoSink<McpSchema.JSONRPCResponse>> byNumericId;
+
+	private PendingResponses(String idPrefix, boolean compact) {
+		this.idPrefix = idPrefix;
+		this.byId = compact ? null : new ConcurrentHashMap<>();
+		this.byNumericId = compact ? new ConcurrentLongMap<>() : null;
+	}
+
+	/**
+	 * Creates the pending responses of a session.
+	 * @param idPrefix the prefix of the string request IDs, unique to the session
+	 * @param compact whether to use numeric request IDs
+	 * @return the pending responses
+	 */
+	static PendingResponses create(String idPrefix, boolean compact) {
+		return new PendingResponses(idPrefix, compact);
+	}
+
+	/**
+	 * Generates the ID of a new request.
+	 * @return a {@link Long} in compact mode, a {@link String} otherwise
+	 */
+	Object nextId() {
+		if (this.byNumericId != null) {
+			return this.counter.incrementAndGet();
+		}
+		return this.idPrefix + "-" + this.counter.getAndIncrement();
+	}
+
+	void put(Object id, MonoSink<McpSchema.JSONRPCResponse> sink) {
+		if (this.byNumericId != null) {
+			this.byNumericId.put((Long) id, sink);
+		}
+		else {
+			this.byId.put(id, sink);
+		}
+	}
+
+	MonoSink<McpSchema.JSONRPCResponse> remove(Object id) {
+		if (this.byNumericId == null) {
+			return this.byId.remove(id);
+		}
+		return (id instanceof Long || id instanceof Integer) ? this.byNumericId.remove(((Number) id).longValue())
+				: null;
+	}
+
+	boolean remove(Object id, MonoSink<McpSchema.JSONRPCResponse> sink) {
+		if (this.byNumericId != null) {
+			return this.byNumericId.remove((Long) id, sink);
+		}
+		return this.byId.remove(id, sink);
+	}
+
+	/**
+	 * Removes all the pending responses, handing each one to the consumer.
+	 * @param consumer the consumer of the request IDs and their pending responses
+	 */
+	void drain(BiConsumer<Object, MonoSink<McpSchema.JSONRPCResponse>> consumer) {
+		if (this.byNumericId != null) {
+			this.byNumericId.drain((id, sink) -> consumer.accept(id, sink));
+		}
+		else {
+			this.byId.forEach((id, sink) -> {
+				if (this.byId.remove(id, sink)) {
+					consumer.accept(id, sink);
+				}
+			});
+		}
+	}
+
+}
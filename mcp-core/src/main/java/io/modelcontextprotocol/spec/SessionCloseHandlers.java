@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The callbacks run when a server session is closed. Each callback runs once, including
+ * one added after the session was closed.
+ */
+final class SessionCloseHandlers {
+
+	private static final Logger logger = LoggerFactory.getLogger(SessionCloseHandlers.class);
+
+	private final String sessionId;
+
+	private final List<Runnable> handlers = new CopyOnWriteArrayList<>();
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	SessionCloseHandlers(String sessionId) {
+		this.sessionId = sessionId;
+	}
+
+	void add(Runnable handler) {
+		Assert.notNull(handler, "Close handler must not be null");
+		this.handlers.add(handler);
+		if (this.closed.get()) {
+			run(handler);
+		}
+	}
+
+	boolean isClosed() {
+		return this.closed.get();
+	}
+
+	void close() {
+		if (this.closed.compareAndSet(false, true)) {
+			this.handlers.forEach(this::run);
+		}
+	}
+
+	private void run(Runnable handler) {
+		// Removing the handler claims it, so that it runs once
+		if (this.handlers.remove(handler)) {
+			try {
+				handler.run();
+			}
+			catch (RuntimeException e) {
+				logger.warn("Close handler of session {} failed: {}", this.sessionId, e.getMessage());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+/**
+ * A concurrent map keyed by primitive {@code long} values, holding the entries in
+ * open-addressing tables without boxing the keys or allocating an entry per mapping.
+ * <p>
+ * The keys are spread over a fixed number of stripes, each one a linear probing table
+ * guarded by its own lock, so that threads working on different keys rarely contend. The
+ * tables grow when half full and shrink back when mostly empty, which suits maps whose
+ * entries are short-lived, such as the requests awaiting a response.
+ * <p>
+ * Null values are not supported.
+ *
+ * @param <V> the type of the values
+ */
+public final class ConcurrentLongMap<V> {
+
+	/** Default number of stripes */
+	public static final int DEFAULT_STRIPES = 16;
+
+	private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+	private static final int MIN_CAPACITY = 8;
+
+	private final Stripe[] stripes;
+
+	private final int stripeMask;
+
+	/**
+	 * Creates a map with the default number of stripes.
+	 */
+	public ConcurrentLongMap() {
+		this(DEFAULT_STRIPES);
+	}
+
+	/**
+	 * Creates a map with the given number of stripes, rounded up to a power of two.
+	 * @param stripes the number of stripes, bounding the number of threads updating the
+	 * map without contention
+	 */
+	public ConcurrentLongMap(int stripes) {
+		Assert.isTrue(stripes > 0, "Stripes must be positive");
+		int count = Integer.highestOneBit(stripes);
+		if (count < stripes) {
+			count <<= 1;
+		}
+		this.stripes = new Stripe[count];
+		for (int i = 0; i < count; i++) {
+			this.stripes[i] = new Stripe();
+		}
+		this.stripeMask = count - 1;
+	}
+
+	private Stripe stripe(long hash) {
+		return this.stripes[(int) (hash >>> 40) & this.stripeMask];
+	}
+
+	private static long hash(long key) {
+		return key * GOLDEN_RATIO;
+	}
+
+	/**
+	 * Associates the value with the key.
+	 * @param key the key
+	 * @param value the value, not null
+	 * @return the previous value of the key, or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		Assert.notNull(value, "Value must not be null");
+		long hash = hash(key);
+		return (V) stripe(hash).put(key, hash, value);
+	}
+
+	/**
+	 * Returns the value of the key.
+	 * @param key the key
+	 * @return the value, or null if the key is not mapped
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		long hash = hash(key);
+		return (V) stripe(hash).get(key, hash);
+	}
+
+	/**
+	 * Removes the mapping of the key.
+	 * @param key the key
+	 * @return the removed value, or null if the key was not mapped
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		long hash = hash(key);
+		return (V) stripe(hash).remove(key, hash, null);
+	}
+
+	/**
+	 * Removes the mapping of the key only if it is mapped to the given value.
+	 * @param key the key
+	 * @param value the expected value
+	 * @return {@code true} if the mapping was removed
+	 */
+	public boolean remove(long key, V value) {
+		Assert.notNull(value, "Value must not be null");
+		long hash = hash(key);
+		return stripe(hash).remove(key, hash, value) != null;
+	}
+
+	/**
+	 * Returns the number of mappings. The count is not a snapshot of the map while it is
+	 * updated concurrently.
+	 * @return the number of mappings
+	 */
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : this.stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Removes all the mappings, handing each removed entry to the consumer outside of the
+	 * locks of the map.
+	 * @param consumer the consumer of the removed entries
+	 */
+	@SuppressWarnings("unchecked")
+	public void drain(EntryConsumer<? super V> consumer) {
+		for (Stripe stripe : this.stripes) {
+			Stripe cleared = stripe.clear();
+			for (int i = 0; i < cleared.values.length; i++) {
+				if (cleared.values[i] != null) {
+					consumer.accept(cleared.keys[i], (V) cleared.values[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Consumer of the entries of a {@link ConcurrentLongMap}.
+	 *
+	 * @param <V> the type of the values
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+
+		/**
+		 * Consumes an entry.
+		 * @param key the key of the entry
+		 * @param value the value of the entry
+		 */
+		void accept(long key, V value);
+
+	}
+
+	/**
+	 * A linear probing table, deleting entries by shifting the following entries of their
+	 * cluster back rather than leaving tombstones.
+	 */
+	private static final class Stripe {
+
+		private long[] keys = new long[MIN_CAPACITY];
+
+		private Object[] values = new Object[MIN_CAPACITY];
+
+		private int size;
+
+		synchronized Object put(long key, long hash, Object value) {
+			int mask = this.values.length - 1;
+			int i = (int) hash & mask;
+			while (this.values[i] != null) {
+				if (this.keys[i] == key) {
+					Object previous = this.values[i];
+					this.values[i] = value;
+					return previous;
+				}
+				i = (i + 1) & mask;
+			}
+			this.keys[i] = key;
+			this.values[i] = value;
+			if (++this.size * 2 > this.values.length) {
+				resize(this.values.length * 2);
+			}
+			return null;
+		}
+
+		synchronized Object get(long key, long hash) {
+			int i = indexOf(key, hash);
+			return (i >= 0) ? this.values[i] : null;
+		}
+
+		synchronized Object remove(long key, long hash, Object expected) {
+			int i = indexOf(key, hash);
+			if (i < 0 || (expected != null && this.values[i] != expected)) {
+				return null;
+			}
+			Object previous = this.values[i];
+			deleteAt(i);
+			if (this.values.length > MIN_CAPACITY && this.size * 8 < this.values.length) {
+				resize(this.values.length / 2);
+			}
+			return previous;
+		}
+
+		synchronized int size() {
+			return this.size;
+		}
+
+		synchronized Stripe clear() {
+			Stripe cleared = new Stripe();
+			cleared.keys = this.keys;
+			cleared.values = this.values;
+			cleared.size = this.size;
+			this.keys = new long[MIN_CAPACITY];
+			this.values = new Object[MIN_CAPACITY];
+			this.size = 0;
+			return cleared;
+		}
+
+		private int indexOf(long key, long hash) {
+			int mask = this.values.length - 1;
+			int i = (int) hash & mask;
+			while (this.values[i] != null) {
+				if (this.keys[i] == key) {
+					return i;
+				}
+				i = (i + 1) & mask;
+			}
+			return -1;
+		}
+
+		private void deleteAt(int i) {
+			int mask = this.values.length - 1;
+			this.values[i] = null;
+			this.size--;
+			int j = i;
+			while (true) {
+				j = (j + 1) & mask;
+				if (this.values[j] == null) {
+					return;
+				}
+				int home = (int) hash(this.keys[j]) & mask;
+				// Move the entry back unless its home slot lies cyclically in (i, j]
+				boolean stays = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+				if (!stays) {
+					this.keys[i] = this.keys[j];
+					this.values[i] = this.values[j];
+					this.values[j] = null;
+					i = j;
+				}
+			}
+		}
+
+		private void resize(int capacity) {
+			long[] oldKeys = this.keys;
+			Object[] oldValues = this.values;
+			this.keys = new long[capacity];
+			this.values = new Object[capacity];
+			int mask = capacity - 1;
+			for (int k = 0; k < oldValues.length; k++) {
+				if (oldValues[k] != null) {
+					int i = (int) hash(oldKeys[k]) & mask;
+					while (this.values[i] != null) {
+						i = (i + 1) & mask;
+					}
+					this.keys[i] = oldKeys[k];
+					this.values[i] = oldValues[k];
+				}
+			}
+		}
+
+	}
+
+}
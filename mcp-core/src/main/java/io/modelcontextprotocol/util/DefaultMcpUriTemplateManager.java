@@ -28,6 +28,12 @@ public class DefaultMcpUriTemplateManager implements McpUriTemplateManager {
 
 	private final String uriTemplate;
 
+	/**
+	 * The regex pattern matching the URIs of this template, with a capturing group per
+	 * variable, or {@code null} if the template has no variables. Compiled once.
+	 */
+	private final Pattern uriPattern;
+
 	/**
 	 * Constructor for DefaultMcpUriTemplateManager.
 	 * @param uriTemplate The URI template to be used for variable extraction
@@ -35,6 +41,40 @@ public class DefaultMcpUriTemplateManager implements McpUriTemplateManager {
 	public DefaultMcpUriTemplateManager(String uriTemplate) {
 		Assert.hasText(uriTemplate, "URI template must not be null or empty");
 		this.uriTemplate = uriTemplate;
+		this.uriPattern = compileUriPattern(uriTemplate);
+	}
+
+	/**
+	 * Convert a URI template into a regex pattern by replacing each {variableName} with a
+	 * capturing group and quoting the literal text around them.
+	 */
+	private static Pattern compileUriPattern(String uriTemplate) {
+		StringBuilder patternBuilder = new StringBuilder("^");
+		Matcher variableMatcher = URI_VARIABLE_PATTERN.matcher(uriTemplate);
+		int lastEnd = 0;
+
+		while (variableMatcher.find()) {
+			// Add the text between the last variable and this one, escaped for regex
+			String textBefore = uriTemplate.substring(lastEnd, variableMatcher.start());
+			patternBuilder.append(Pattern.quote(textBefore));
+
+			// Add a capturing group for the variable
+			patternBuilder.append("([^/]+)");
+
+			lastEnd = variableMatcher.end();
+		}
+
+		if (lastEnd == 0) {
+			return null;
+		}
+
+		// Add any remaining text after the last variable
+		if (lastEnd < uriTemplate.length()) {
+			patternBuilder.append(Pattern.quote(uriTemplate.substring(lastEnd)));
+		}
+
+		patternBuilder.append("$");
+		return Pattern.compile(patternBuilder.toString());
 	}
 
 	/**
@@ -63,8 +103,8 @@ public class DefaultMcpUriTemplateManager implements McpUriTemplateManager {
 	/**
 	 * Extract URI variable values from the actual request URI.
 	 * <p>
-	 * This method converts the URI template into a regex pattern, then uses that pattern
-	 * to extract variable values from the request URI.
+	 * This method matches the request URI against the regex pattern compiled from the URI
+	 * template to extract the variable values.
 	 * @param requestUri The actual URI from the request
 	 * @return A map of variable names to their values
 	 * @throws IllegalArgumentException if the URI template is invalid or the request URI
@@ -80,35 +120,7 @@ public class DefaultMcpUriTemplateManager implements McpUriTemplateManager {
 		}
 
 		try {
-			// Create a regex pattern by replacing each {variableName} with a capturing
-			// group
-			StringBuilder patternBuilder = new StringBuilder("^");
-
-			// Find all variable placeholders and their positions
-			Matcher variableMatcher = URI_VARIABLE_PATTERN.matcher(uriTemplate);
-			int lastEnd = 0;
-
-			while (variableMatcher.find()) {
-				// Add the text between the last variable and this one, escaped for regex
-				String textBefore = uriTemplate.substring(lastEnd, variableMatcher.start());
-				patternBuilder.append(Pattern.quote(textBefore));
-
-				// Add a capturing group for the variable
-				patternBuilder.append("([^/]+)");
-
-				lastEnd = variableMatcher.end();
-			}
-
-			// Add any remaining text after the last variable
-			if (lastEnd < uriTemplate.length()) {
-				patternBuilder.append(Pattern.quote(uriTemplate.substring(lastEnd)));
-			}
-
-			patternBuilder.append("$");
-
-			// Compile the pattern and match against the request URI
-			Pattern pattern = Pattern.compile(patternBuilder.toString());
-			Matcher matcher = pattern.matcher(requestUri);
+			Matcher matcher = this.uriPattern.matcher(requestUri);
 
 			if (matcher.find() && matcher.groupCount() == uriVariables.size()) {
 				for (int i = 0; i < uriVariables.size(); i++) {
@@ -137,16 +149,12 @@ public class DefaultMcpUriTemplateManager implements McpUriTemplateManager {
 	@Override
 	public boolean matches(String uri) {
 		// If the uriTemplate doesn't contain variables, do a direct comparison
-		if (!this.isUriTemplate(this.uriTemplate)) {
+		if (this.uriPattern == null) {
 			return uri.equals(this.uriTemplate);
 		}
 
-		// Convert the pattern to a regex
-		String regex = this.uriTemplate.replaceAll("\\{[^/]+?\\}", "([^/]+?)");
-		regex = regex.replace("/", "\\/");
-
-		// Check if the URI matches the regex
-		return Pattern.compile(regex).matcher(uri).matches();
+		// Check if the URI matches the precompiled regex
+		return this.uriPattern.matcher(uri).matches();
 	}
 
 	@Override
@@ -5,7 +5,16 @@
 package io.modelcontextprotocol.util;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -17,15 +26,26 @@ import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSession;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
 
 /**
  * A utility class for scheduling regular keep-alive calls to maintain connections. It
  * sends periodic keep-alive, ping, messages to connected mcp clients to prevent idle
  * timeouts.
  *
- * The pings are sent to all active mcp sessions at regular intervals.
+ * The pings are sent to all active mcp sessions at regular intervals. To avoid a burst of
+ * pings on every interval, the sessions can be hashed into the slots of a timing wheel
+ * that turns once per interval, each session being pinged when its slot comes up. The
+ * sessions that sent or received a message during the last half interval are not pinged,
+ * the number of pings awaiting a response is capped, and the sessions that fail a number
+ * of pings in a row can be evicted.
+ *
+ * The sessions are either {@link #register(McpSession) registered} with the scheduler,
+ * which keeps them by slot so that each tick only visits the sessions due, or supplied
+ * anew on each tick and filtered by slot.
  *
  * @author Christian Tzolov
  */
@@ -36,6 +56,12 @@ public class KeepAliveScheduler {
 	private static final TypeRef<Object> OBJECT_TYPE_REF = new TypeRef<>() {
 	};
 
+	/**
+	 * Number of slots the transports spread the pings of their sessions over, one tick of
+	 * the wheel per slot.
+	 */
+	public static final int TRANSPORT_WHEEL_SLOTS = 32;
+
 	/** Initial delay before the first keepAlive call */
 	private final Duration initialDelay;
 
@@ -54,9 +80,29 @@ public class KeepAliveScheduler {
 	// TODO Currently we do not support the streams (streamable http session created by
 	// http post/get)
 
-	/** Supplier for reactive McpSession instances */
+	/**
+	 * Supplier for reactive McpSession instances, or null to only ping registered ones
+	 */
 	private final Supplier<Flux<McpSession>> mcpSessions;
 
+	/** Registered sessions, by slot of the timing wheel */
+	private final List<Set<McpSession>> slots;
+
+	/** Number of slots of the timing wheel, pinged one after the other */
+	private final int wheelSlots;
+
+	/** Maximum number of pings awaiting a response */
+	private final int maxInFlight;
+
+	/** Number of consecutive failed pings evicting a session, 0 to never evict */
+	private final int maxFailures;
+
+	/** Called with the evicted sessions */
+	private final Consumer<McpSession> evictionHandler;
+
+	/** Number of consecutive failed pings, by session */
+	private final Map<McpSession, Integer> failures = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Creates a KeepAliveScheduler with a custom scheduler, initial delay, interval and a
 	 * supplier for McpSession instances.
@@ -67,10 +113,38 @@ public class KeepAliveScheduler {
 	 */
 	KeepAliveScheduler(Scheduler scheduler, Duration initialDelay, Duration interval,
 			Supplier<Flux<McpSession>> mcpSessions) {
+		this(scheduler, initialDelay, interval, mcpSessions, 1, Queues.SMALL_BUFFER_SIZE, 0, null);
+	}
+
+	/**
+	 * Creates a KeepAliveScheduler spreading the pings over a timing wheel.
+	 * @param scheduler The scheduler to use for executing keepAlive calls
+	 * @param initialDelay Initial delay before the first keepAlive call
+	 * @param interval Interval between subsequent keepAlive calls to a session
+	 * @param mcpSessions Supplier for McpSession instances, or null to only ping the
+	 * registered sessions
+	 * @param wheelSlots Number of slots the interval is divided into
+	 * @param maxInFlight Maximum number of pings awaiting a response
+	 * @param maxFailures Number of consecutive failed pings evicting a session, 0 to
+	 * never evict
+	 * @param evictionHandler Called with the evicted sessions, or null to close them
+	 */
+	KeepAliveScheduler(Scheduler scheduler, Duration initialDelay, Duration interval,
+			Supplier<Flux<McpSession>> mcpSessions, int wheelSlots, int maxInFlight, int maxFailures,
+			Consumer<McpSession> evictionHandler) {
 		this.scheduler = scheduler;
 		this.initialDelay = initialDelay;
 		this.interval = interval;
 		this.mcpSessions = mcpSessions;
+		this.wheelSlots = wheelSlots;
+		this.maxInFlight = maxInFlight;
+		this.maxFailures = maxFailures;
+		this.evictionHandler = (evictionHandler != null) ? evictionHandler
+				: session -> session.closeGracefully().onErrorComplete().subscribe();
+		this.slots = new ArrayList<>(wheelSlots);
+		for (int i = 0; i < wheelSlots; i++) {
+			this.slots.add(ConcurrentHashMap.newKeySet());
+		}
 	}
 
 	/**
@@ -81,6 +155,36 @@ public class KeepAliveScheduler {
 		return new Builder(mcpSessions);
 	}
 
+	/**
+	 * Creates a new Builder instance for a KeepAliveScheduler pinging the sessions
+	 * {@link #register(McpSession) registered} with it.
+	 * @return A new Builder instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Registers a session to ping. The session is kept in the slot of the timing wheel
+	 * its hash falls into until it is unregistered.
+	 * @param session The session to ping
+	 */
+	public void register(McpSession session) {
+		Assert.notNull(session, "Session must not be null");
+		this.slots.get(slotOf(session)).add(session);
+	}
+
+	/**
+	 * Stops pinging a registered session, typically once it is removed or closed.
+	 * @param session The session to stop pinging, ignored if null or not registered
+	 */
+	public void unregister(McpSession session) {
+		if (session != null) {
+			this.slots.get(slotOf(session)).remove(session);
+			this.failures.remove(session);
+		}
+	}
+
 	/**
 	 * Starts regular keepAlive calls with sessions supplier.
 	 * @return Disposable to control the scheduled execution
@@ -88,15 +192,27 @@ public class KeepAliveScheduler {
 	public Disposable start() {
 		if (this.isRunning.compareAndSet(false, true)) {
 
-			this.currentSubscription = Flux.interval(this.initialDelay, this.interval, this.scheduler)
-				.doOnNext(tick -> {
-					this.mcpSessions.get()
-						.flatMap(session -> session.sendRequest(McpSchema.METHOD_PING, null, OBJECT_TYPE_REF)
-							.doOnError(e -> logger.warn("Failed to send keep-alive ping to session {}: {}", session,
-									e.getMessage()))
-							.onErrorComplete())
-						.subscribe();
-				})
+			Duration tick = this.interval.dividedBy(this.wheelSlots);
+			// Sessions with traffic since then are known to be alive
+			long activeWithinNanos = this.interval.toNanos() / 2;
+
+			// The first tick not processed yet
+			AtomicLong nextTick = new AtomicLong();
+
+			this.currentSubscription = Flux.interval(this.initialDelay, tick, this.scheduler)
+				.onBackpressureDrop(
+						t -> logger.debug("Delaying keep-alive tick {}, the previous pings are still pending", t))
+				// Ticks are dropped rather than queued while pings are pending
+				.concatMap(t -> {
+					// Catch up on the slots of the ticks dropped meanwhile, up to a full
+					// turn
+					long from = Math.max(nextTick.getAndSet(t + 1), t - this.wheelSlots + 1);
+					long now = System.nanoTime();
+					return Flux.range(0, (int) (t - from + 1))
+						.concatMap(i -> dueSessions((int) ((from + i) % this.wheelSlots)))
+						.filter(session -> !isActive(session, now, activeWithinNanos));
+				}, 1)
+				.flatMap(this::ping, this.maxInFlight)
 				.doOnCancel(() -> this.isRunning.set(false))
 				.doOnComplete(() -> this.isRunning.set(false))
 				.onErrorComplete(error -> {
@@ -113,6 +229,43 @@ public class KeepAliveScheduler {
 		}
 	}
 
+	private Mono<Void> ping(McpSession session) {
+		return session.sendRequest(McpSchema.METHOD_PING, null, OBJECT_TYPE_REF)
+			.doOnSuccess(r -> this.failures.remove(session))
+			.doOnError(e -> {
+				logger.warn("Failed to send keep-alive ping to session {}: {}", session, e.getMessage());
+				if (this.maxFailures > 0 && this.failures.merge(session, 1, Integer::sum) >= this.maxFailures) {
+					unregister(session);
+					logger.warn("Evicting session {} after {} failed keep-alive pings", session, this.maxFailures);
+					this.evictionHandler.accept(session);
+				}
+			})
+			.onErrorComplete()
+			.then();
+	}
+
+	private Flux<McpSession> dueSessions(int slot) {
+		Flux<McpSession> registered = Flux.fromIterable(this.slots.get(slot));
+		if (this.mcpSessions == null) {
+			return registered;
+		}
+		return registered.concatWith(Flux.defer(this.mcpSessions).filter(session -> slotOf(session) == slot));
+	}
+
+	private int slotOf(McpSession session) {
+		if (this.wheelSlots == 1) {
+			return 0;
+		}
+		// Spread the identity hash codes, which are not uniformly distributed
+		int hash = System.identityHashCode(session) * 0x9E3779B9;
+		return Math.floorMod(hash ^ (hash >>> 16), this.wheelSlots);
+	}
+
+	private static boolean isActive(McpSession session, long now, long activeWithinNanos) {
+		long lastActivity = session.lastActivityNanos();
+		return lastActivity != 0 && now - lastActivity < activeWithinNanos;
+	}
+
 	/**
 	 * Stops the currently running keepAlive scheduler.
 	 */
@@ -154,6 +307,14 @@ public class KeepAliveScheduler {
 
 		private Supplier<Flux<McpSession>> mcpSessions;
 
+		private int wheelSlots = 1;
+
+		private int maxInFlight = Queues.SMALL_BUFFER_SIZE;
+
+		private int maxFailures = 0;
+
+		private Consumer<McpSession> evictionHandler;
+
 		/**
 		 * Creates a new Builder instance with a supplier for McpSession instances.
 		 * @param mcpSessions The supplier for McpSession instances
@@ -163,6 +324,12 @@ public class KeepAliveScheduler {
 			this.mcpSessions = mcpSessions;
 		}
 
+		/**
+		 * Creates a new Builder instance for a scheduler pinging registered sessions.
+		 */
+		Builder() {
+		}
+
 		/**
 		 * Sets the scheduler to use for executing keepAlive calls.
 		 * @param scheduler The scheduler to use:
@@ -204,12 +371,65 @@ public class KeepAliveScheduler {
 			return this;
 		}
 
+		/**
+		 * Sets the number of slots of the timing wheel. The interval is divided into that
+		 * many ticks, and each session is pinged on the tick of the slot its hash falls
+		 * into, which spreads the pings over the interval. Defaults to 1, pinging all the
+		 * sessions at once.
+		 * @param wheelSlots The number of slots, at least 1
+		 * @return This builder instance for method chaining
+		 * @see #TRANSPORT_WHEEL_SLOTS
+		 */
+		public Builder wheelSlots(int wheelSlots) {
+			Assert.isTrue(wheelSlots > 0, "Wheel slots must be positive");
+			this.wheelSlots = wheelSlots;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of pings awaiting a response. The sessions due for a
+		 * ping beyond it wait for earlier pings to complete. Defaults to 256.
+		 * @param maxInFlight The maximum number of pings in flight, at least 1
+		 * @return This builder instance for method chaining
+		 */
+		public Builder maxInFlight(int maxInFlight) {
+			Assert.isTrue(maxInFlight > 0, "Max in flight must be positive");
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
+		/**
+		 * Sets the number of consecutive failed pings after which a session is evicted.
+		 * Defaults to 0, never evicting sessions.
+		 * @param maxFailures The number of failed pings, or 0 to never evict sessions
+		 * @return This builder instance for method chaining
+		 */
+		public Builder maxFailures(int maxFailures) {
+			Assert.isTrue(maxFailures >= 0, "Max failures must not be negative");
+			this.maxFailures = maxFailures;
+			return this;
+		}
+
+		/**
+		 * Sets the handler of the evicted sessions, typically removing them from the
+		 * sessions of the transport and closing them. By default, the evicted sessions
+		 * are closed.
+		 * @param evictionHandler The handler of the evicted sessions
+		 * @return This builder instance for method chaining
+		 */
+		public Builder evictionHandler(Consumer<McpSession> evictionHandler) {
+			Assert.notNull(evictionHandler, "Eviction handler must not be null");
+			this.evictionHandler = evictionHandler;
+			return this;
+		}
+
 		/**
 		 * Builds and returns a new KeepAliveScheduler instance.
 		 * @return A new KeepAliveScheduler configured with the builder's settings
 		 */
 		public KeepAliveScheduler build() {
-			return new KeepAliveScheduler(scheduler, initialDelay, interval, mcpSessions);
+			return new KeepAliveScheduler(scheduler, initialDelay, interval, mcpSessions, wheelSlots, maxInFlight,
+					maxFailures, evictionHandler);
 		}
 
 	}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A page of the values held by a registry that assigns an increasing sequence number to
+ * every registered value. Pages are addressed by the sequence number of the last value of
+ * the previous page, which stays valid however the registry changes in the meantime:
+ * values registered later are appended to the end, and values removed are simply skipped.
+ *
+ * @param <T> the type of the values
+ * @param items the values of the page
+ * @param lastSequence the sequence number of the last value of the page, from which the
+ * next page starts, or {@code -1} if this is the last page
+ */
+public record McpPage<T>(List<T> items, long lastSequence) {
+
+	/**
+	 * Return whether more values follow this page.
+	 * @return {@code true} if this is not the last page
+	 */
+	public boolean hasMore() {
+		return this.lastSequence >= 0;
+	}
+
+	/**
+	 * Create the page of values registered after the given sequence number.
+	 * @param <T> the type of the values
+	 * @param values all the values, ordered by sequence number
+	 * @param sequences the sequence numbers of the values, in increasing order
+	 * @param afterSequence the sequence number to start after, or {@code -1} to start
+	 * with the first value
+	 * @param pageSize the maximum number of values in the page, or a non-positive number
+	 * to return all the remaining values
+	 * @return the page
+	 */
+	public static <T> McpPage<T> of(List<T> values, long[] sequences, long afterSequence, int pageSize) {
+		Assert.isTrue(values.size() == sequences.length, "Each value must have a sequence number");
+		int from = Arrays.binarySearch(sequences, afterSequence);
+		from = (from >= 0) ? from + 1 : -(from + 1);
+		if (pageSize <= 0 || values.size() - from <= pageSize) {
+			return new McpPage<>((from == 0) ? values : values.subList(from, values.size()), -1);
+		}
+		int to = from + pageSize;
+		return new McpPage<>(values.subList(from, to), sequences[to - 1]);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Schedulers and executors backed by virtual threads, for running blocking code such as
+ * the handlers of synchronous servers and clients, or the read and write loops of the
+ * stdio transports.
+ * <p>
+ * The SDK is compiled for Java 17, so virtual threads are looked up reflectively. On a
+ * runtime without them, the methods of this class fall back to
+ * {@link Schedulers#boundedElastic()} and platform threads, and log a warning once.
+ */
+public final class McpSchedulers {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpSchedulers.class);
+
+	private McpSchedulers() {
+	}
+
+	/**
+	 * Whether the runtime supports virtual threads.
+	 * @return {@code true} on Java 21 and later
+	 */
+	public static boolean isVirtualThreadsSupported() {
+		return VirtualThreads.OF_VIRTUAL != null;
+	}
+
+	/**
+	 * Return a shared scheduler running each task on a new virtual thread, and therefore
+	 * not capped like {@link Schedulers#boundedElastic()}. Falls back to
+	 * {@link Schedulers#boundedElastic()} if virtual threads are not supported.
+	 * @return the scheduler
+	 */
+	public static Scheduler virtualThreads() {
+		Scheduler scheduler = VirtualThreads.SCHEDULER;
+		return (scheduler != null) ? scheduler : Schedulers.boundedElastic();
+	}
+
+	/**
+	 * Create a single-threaded executor, whose thread is a virtual thread if requested
+	 * and supported.
+	 * @param name the name of the thread
+	 * @param virtual whether to use a virtual thread
+	 * @return the executor
+	 */
+	public static ExecutorService newSingleThreadExecutor(String name, boolean virtual) {
+		ThreadFactory threadFactory = virtual ? VirtualThreads.factory(name) : null;
+		if (threadFactory == null) {
+			threadFactory = runnable -> {
+				// Like the default thread factory, apart from the name
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(false);
+				thread.setPriority(Thread.NORM_PRIORITY);
+				return thread;
+			};
+		}
+		return Executors.newSingleThreadExecutor(threadFactory);
+	}
+
+	/**
+	 * Reflective access to the virtual thread API, resolved once.
+	 */
+	private static final class VirtualThreads {
+
+		/** {@code Thread.ofVirtual()}, returning a new builder on each call */
+		private static final Method OF_VIRTUAL;
+
+		/** {@code Thread.Builder.name(String)} */
+		private static final Method NAME;
+
+		/** {@code Thread.Builder.factory()} */
+		private static final Method FACTORY;
+
+		private static final Scheduler SCHEDULER;
+
+		static {
+			Method ofVirtual = null;
+			Method name = null;
+			Method factory = null;
+			Scheduler scheduler = null;
+			try {
+				ofVirtual = Thread.class.getMethod("ofVirtual");
+				Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+				name = builderClass.getMethod("name", String.class);
+				factory = builderClass.getMethod("factory");
+				Object builder = builderClass.getMethod("name", String.class, long.class)
+					.invoke(ofVirtual.invoke(null), "mcp-virtual-", 0L);
+				ExecutorService executor = (ExecutorService) Executors.class
+					.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+					.invoke(null, factory.invoke(builder));
+				scheduler = Schedulers.fromExecutorService(executor, "mcp-virtual");
+			}
+			catch (ReflectiveOperationException | RuntimeException e) {
+				logger.warn("Virtual threads are not supported by this runtime, falling back to platform threads");
+				ofVirtual = null;
+			}
+			OF_VIRTUAL = ofVirtual;
+			NAME = name;
+			FACTORY = factory;
+			SCHEDULER = scheduler;
+		}
+
+		private static ThreadFactory factory(String threadName) {
+			if (OF_VIRTUAL == null) {
+				return null;
+			}
+			try {
+				return (ThreadFactory) FACTORY.invoke(NAME.invoke(OF_VIRTUAL.invoke(null), threadName));
+			}
+			catch (ReflectiveOperationException e) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSession;
+import io.modelcontextprotocol.spec.McpStreamableServerSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Fans a notification, or a graceful close, out to many sessions.
+ * <p>
+ * The notification params are serialized once, with
+ * {@link McpJsonMapper#writeValueAsRawValue}, rather than once per session. Sessions are
+ * then served with bounded concurrency on a dedicated scheduler, so that transports
+ * writing to blocking outputs neither tie up the caller nor the common fork-join pool. A
+ * session that fails is logged and counted as dropped without affecting the others.
+ */
+public class McpSessionBroadcaster {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpSessionBroadcaster.class);
+
+	/** Default maximum number of sessions served concurrently */
+	public static final int DEFAULT_CONCURRENCY = 64;
+
+	private final McpJsonMapper jsonMapper;
+
+	private final int concurrency;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Create a broadcaster serving up to {@link #DEFAULT_CONCURRENCY} sessions at a time
+	 * on a shared scheduler dedicated to broadcasts.
+	 * @param jsonMapper the mapper used to serialize the notification params
+	 */
+	public McpSessionBroadcaster(McpJsonMapper jsonMapper) {
+		this(jsonMapper, DEFAULT_CONCURRENCY, SchedulerHolder.SCHEDULER);
+	}
+
+	/**
+	 * Create a broadcaster.
+	 * @param jsonMapper the mapper used to serialize the notification params
+	 * @param concurrency the maximum number of sessions served concurrently
+	 * @param scheduler the scheduler the sessions are served on
+	 */
+	public McpSessionBroadcaster(McpJsonMapper jsonMapper, int concurrency, Scheduler scheduler) {
+		Assert.notNull(jsonMapper, "JsonMapper must not be null");
+		Assert.isTrue(concurrency > 0, "Concurrency must be positive");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		this.jsonMapper = jsonMapper;
+		this.concurrency = concurrency;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Send a notification to the given sessions.
+	 * @param sessions the sessions to notify
+	 * @param method the method name of the notification
+	 * @param params the params of the notification, possibly {@code null}
+	 * @return a Mono emitting the outcome of the broadcast once all sessions have been
+	 * served
+	 */
+	public Mono<Result> notify(Collection<? extends McpSession> sessions, String method, Object params) {
+		return Mono.defer(() -> {
+			Object payload;
+			try {
+				payload = (params != null) ? this.jsonMapper.writeValueAsRawValue(params) : null;
+			}
+			catch (IOException e) {
+				return Mono.error(e);
+			}
+			return broadcast(sessions, session -> session.sendNotification(method, payload), "send message to");
+		});
+	}
+
+	/**
+	 * Gracefully close the given sessions.
+	 * @param sessions the sessions to close
+	 * @return a Mono emitting the outcome once all sessions have been served
+	 */
+	public Mono<Result> closeGracefully(Collection<? extends McpSession> sessions) {
+		return broadcast(sessions, McpSession::closeGracefully, "close");
+	}
+
+	private Mono<Result> broadcast(Collection<? extends McpSession> sessions, Function<McpSession, Mono<Void>> action,
+			String description) {
+		if (sessions.isEmpty()) {
+			return Mono.just(new Result(0, 0));
+		}
+		AtomicInteger delivered = new AtomicInteger();
+		AtomicInteger dropped = new AtomicInteger();
+		return Flux.fromIterable(List.copyOf(sessions))
+			.flatMap(session -> Mono.defer(() -> action.apply(session))
+				.subscribeOn(this.scheduler)
+				.doOnSuccess(v -> delivered.incrementAndGet())
+				.onErrorResume(e -> {
+					dropped.incrementAndGet();
+					logger.error("Failed to {} session {}: {}", description, sessionId(session), e.getMessage());
+					return Mono.empty();
+				}), this.concurrency)
+			.then(Mono.fromSupplier(() -> new Result(delivered.get(), dropped.get())));
+	}
+
+	private static Object sessionId(McpSession session) {
+		return (session instanceof McpStreamableServerSession streamable) ? streamable.getId() : session;
+	}
+
+	/**
+	 * The outcome of a broadcast.
+	 *
+	 * @param delivered the number of sessions that were served successfully
+	 * @param dropped the number of sessions that failed
+	 */
+	public record Result(int delivered, int dropped) {
+	}
+
+	private static final class SchedulerHolder {
+
+		private static final Scheduler SCHEDULER = Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+				Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "mcp-broadcast", 60, true);
+
+	}
+
+}
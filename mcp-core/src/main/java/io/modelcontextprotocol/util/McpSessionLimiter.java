@@ -0,0 +1,272 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.modelcontextprotocol.spec.McpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Bounds the sessions held by a transport provider, both in number and in lifetime.
+ * <p>
+ * New sessions are only admitted while the provider holds fewer than the maximum number
+ * of sessions, and a background sweep evicts the sessions that neither sent nor received
+ * a message, as given by {@link McpSession#lastActivityNanos()}, for longer than the idle
+ * timeout. Sessions that do not track their activity, or whose client holds a stream open
+ * ({@link McpSession#hasOpenStream()}), are never evicted. The limiter works on the
+ * session map of the provider, so sessions removed elsewhere, on DELETE or on a transport
+ * error, are accounted for as well.
+ * <p>
+ * The maximum is checked before the session is created, without reserving a place, so
+ * concurrent initializations may briefly exceed it by the number of requests in flight.
+ *
+ * @param <S> the type of the sessions
+ */
+public class McpSessionLimiter<S extends McpSession> {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpSessionLimiter.class);
+
+	/** Default delay clients are asked to wait before retrying a rejected session */
+	public static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(5);
+
+	private final Map<String, S> sessions;
+
+	private final Duration idleTimeout;
+
+	private final int maxSessions;
+
+	private final Duration retryAfter;
+
+	private final Consumer<S> evictionHandler;
+
+	private final Scheduler scheduler;
+
+	private final AtomicLong evicted = new AtomicLong();
+
+	private final AtomicLong rejected = new AtomicLong();
+
+	private volatile Disposable sweeper;
+
+	private McpSessionLimiter(Map<String, S> sessions, Duration idleTimeout, int maxSessions, Duration retryAfter,
+			Consumer<S> evictionHandler, Scheduler scheduler) {
+		this.sessions = sessions;
+		this.idleTimeout = idleTimeout;
+		this.maxSessions = maxSessions;
+		this.retryAfter = retryAfter;
+		this.evictionHandler = evictionHandler;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Create a builder of a limiter working on the given session map.
+	 * @param <S> the type of the sessions
+	 * @param sessions the sessions of the provider, keyed by session id
+	 * @return a new builder
+	 */
+	public static <S extends McpSession> Builder<S> builder(Map<String, S> sessions) {
+		return new Builder<>(sessions);
+	}
+
+	/**
+	 * Check whether a new session can be created, counting a rejection if not.
+	 * @return {@code true} if the provider holds fewer sessions than the maximum
+	 */
+	public boolean tryAdmit() {
+		if (this.maxSessions > 0 && this.sessions.size() >= this.maxSessions) {
+			this.rejected.incrementAndGet();
+			logger.warn("Rejecting new session, the maximum of {} sessions is reached", this.maxSessions);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * The delay clients are asked to wait before retrying a rejected session.
+	 * @return the value of the Retry-After header of the rejections, in seconds
+	 */
+	public String retryAfterSeconds() {
+		return String.valueOf(Math.max(1, this.retryAfter.toSeconds()));
+	}
+
+	/**
+	 * Start sweeping the idle sessions, every half idle timeout. Does nothing if no idle
+	 * timeout is set or if the sweep is already running.
+	 * @return this limiter
+	 */
+	public synchronized McpSessionLimiter<S> start() {
+		if (this.idleTimeout != null && this.sweeper == null) {
+			Duration period = this.idleTimeout.dividedBy(2);
+			this.sweeper = Flux.interval(period, period, this.scheduler)
+				.subscribe(tick -> sweep(), error -> logger.error("Idle session sweep failed", error));
+		}
+		return this;
+	}
+
+	/**
+	 * Evict the sessions idle for longer than the idle timeout.
+	 * @return the number of evicted sessions
+	 */
+	public int sweep() {
+		if (this.idleTimeout == null) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		long idleTimeoutNanos = this.idleTimeout.toNanos();
+		int count = 0;
+		for (Map.Entry<String, S> entry : this.sessions.entrySet()) {
+			S session = entry.getValue();
+			long lastActivity = session.lastActivityNanos();
+			if (lastActivity != 0 && now - lastActivity > idleTimeoutNanos && !session.hasOpenStream()
+					&& this.sessions.remove(entry.getKey(), session)) {
+				logger.debug("Evicting session {} idle for longer than {}", entry.getKey(), this.idleTimeout);
+				this.evicted.incrementAndGet();
+				count++;
+				try {
+					this.evictionHandler.accept(session);
+				}
+				catch (RuntimeException e) {
+					logger.warn("Failed to close evicted session {}: {}", entry.getKey(), e.getMessage());
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Stop sweeping the idle sessions.
+	 */
+	public synchronized void stop() {
+		if (this.sweeper != null) {
+			this.sweeper.dispose();
+			this.sweeper = null;
+		}
+	}
+
+	/**
+	 * Snapshot of the counters of this limiter.
+	 * @return the number of active sessions, and the number of sessions evicted and
+	 * rejected so far
+	 */
+	public Stats stats() {
+		return new Stats(this.sessions.size(), this.evicted.get(), this.rejected.get());
+	}
+
+	/**
+	 * Counters of a limiter.
+	 *
+	 * @param active the number of sessions currently held by the provider
+	 * @param evicted the number of sessions evicted for being idle
+	 * @param rejected the number of new sessions rejected for exceeding the maximum
+	 */
+	public record Stats(int active, long evicted, long rejected) {
+	}
+
+	/**
+	 * Builder for {@link McpSessionLimiter}.
+	 *
+	 * @param <S> the type of the sessions
+	 */
+	public static class Builder<S extends McpSession> {
+
+		private final Map<String, S> sessions;
+
+		private Duration idleTimeout;
+
+		private int maxSessions = 0;
+
+		private Duration retryAfter = DEFAULT_RETRY_AFTER;
+
+		private Consumer<S> evictionHandler = session -> session.closeGracefully().onErrorComplete().subscribe();
+
+		private Scheduler scheduler = Schedulers.boundedElastic();
+
+		private Builder(Map<String, S> sessions) {
+			Assert.notNull(sessions, "Sessions must not be null");
+			this.sessions = sessions;
+		}
+
+		/**
+		 * Sets how long a session may stay without traffic before being evicted. Defaults
+		 * to null, never evicting sessions.
+		 * @param idleTimeout the idle timeout, or null to keep idle sessions
+		 * @return this builder
+		 */
+		public Builder<S> idleTimeout(Duration idleTimeout) {
+			Assert.isTrue(idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+					"Idle timeout must be positive");
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sessions. Defaults to 0, admitting any number of
+		 * sessions.
+		 * @param maxSessions the maximum number of sessions, or 0 for no maximum
+		 * @return this builder
+		 */
+		public Builder<S> maxSessions(int maxSessions) {
+			Assert.isTrue(maxSessions >= 0, "Max sessions must not be negative");
+			this.maxSessions = maxSessions;
+			return this;
+		}
+
+		/**
+		 * Sets the delay clients are asked to wait before retrying a rejected session.
+		 * Defaults to {@link McpSessionLimiter#DEFAULT_RETRY_AFTER}.
+		 * @param retryAfter the delay, rounded down to seconds
+		 * @return this builder
+		 */
+		public Builder<S> retryAfter(Duration retryAfter) {
+			Assert.notNull(retryAfter, "Retry after must not be null");
+			this.retryAfter = retryAfter;
+			return this;
+		}
+
+		/**
+		 * Sets how the evicted sessions, already removed from the session map, are
+		 * closed. By default, they are closed gracefully.
+		 * @param evictionHandler the handler of the evicted sessions
+		 * @return this builder
+		 */
+		public Builder<S> evictionHandler(Consumer<S> evictionHandler) {
+			Assert.notNull(evictionHandler, "Eviction handler must not be null");
+			this.evictionHandler = evictionHandler;
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler the sweep runs on. Defaults to the bounded elastic
+		 * scheduler.
+		 * @param scheduler the scheduler
+		 * @return this builder
+		 */
+		public Builder<S> scheduler(Scheduler scheduler) {
+			Assert.notNull(scheduler, "Scheduler must not be null");
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Builds the limiter. The sweep is started with
+		 * {@link McpSessionLimiter#start()}.
+		 * @return a new limiter
+		 */
+		public McpSessionLimiter<S> build() {
+			return new McpSessionLimiter<>(this.sessions, this.idleTimeout, this.maxSessions, this.retryAfter,
+					this.evictionHandler, this.scheduler);
+		}
+
+	}
+
+}
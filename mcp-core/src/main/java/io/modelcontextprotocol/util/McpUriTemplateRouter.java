@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes URIs to the values registered under matching URIs or URI templates.
+ * <p>
+ * Every URI is compiled into a {@link McpUriTemplateManager} once, when it is registered.
+ * Routing a URI first looks for a value registered under that exact URI, which is a hash
+ * lookup. Otherwise, the URI is walked down a trie of the literal prefixes of the
+ * registered templates (the part before the first variable), and only the templates whose
+ * prefix the URI starts with are matched, most specific prefix first.
+ * <p>
+ * Values are listed in registration order, and can be listed page by page (see
+ * {@link #page}). A value replacing another one under the same URI keeps its position.
+ * <p>
+ * Reads go to an immutable snapshot and never lock. Writes are serialized and publish a
+ * new snapshot; they never recompile the templates that are already registered.
+ *
+ * @param <T> the type of the routed values
+ */
+public class McpUriTemplateRouter<T> {
+
+	private final McpUriTemplateManagerFactory uriTemplateManagerFactory;
+
+	private volatile Routes<T> routes = new Routes<>(Map.of(), new PrefixNode<>(), List.of(), new long[0], 0);
+
+	private long sequenceCounter;
+
+	/**
+	 * Create an empty router using the default URI template syntax.
+	 */
+	public McpUriTemplateRouter() {
+		this(new DeafaultMcpUriTemplateManagerFactory());
+	}
+
+	/**
+	 * Create an empty router.
+	 * @param uriTemplateManagerFactory the factory compiling the registered URIs and URI
+	 * templates
+	 */
+	public McpUriTemplateRouter(McpUriTemplateManagerFactory uriTemplateManagerFactory) {
+		Assert.notNull(uriTemplateManagerFactory, "URI template manager factory must not be null");
+		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
+	}
+
+	/**
+	 * Register a value under a URI or URI template, replacing any value registered under
+	 * the same URI.
+	 * @param uri the URI or URI template
+	 * @param value the value to register
+	 * @return the replaced value, or {@code null} if there was none
+	 */
+	public synchronized T put(String uri, T value) {
+		Assert.notNull(value, "Value must not be null");
+		Map<String, Route<T>> byUri = new LinkedHashMap<>(this.routes.byUri());
+		Route<T> previous = byUri.put(uri, compile(uri, value, byUri.get(uri)));
+		publish(byUri);
+		return (previous != null) ? previous.value() : null;
+	}
+
+	/**
+	 * Register several values, keyed by URI or URI template, replacing any value
+	 * registered under the same URI.
+	 * @param values the values to register
+	 */
+	public synchronized void putAll(Map<String, ? extends T> values) {
+		if (values.isEmpty()) {
+			return;
+		}
+		Map<String, Route<T>> byUri = new LinkedHashMap<>(this.routes.byUri());
+		values.forEach((uri, value) -> byUri.put(uri, compile(uri, value, byUri.get(uri))));
+		publish(byUri);
+	}
+
+	/**
+	 * Unregister the value registered under a URI or URI template.
+	 * @param uri the URI or URI template
+	 * @return the removed value, or {@code null} if there was none
+	 */
+	public synchronized T remove(String uri) {
+		if (!this.routes.byUri().containsKey(uri)) {
+			return null;
+		}
+		Map<String, Route<T>> byUri = new LinkedHashMap<>(this.routes.byUri());
+		Route<T> removed = byUri.remove(uri);
+		publish(byUri);
+		return removed.value();
+	}
+
+	/**
+	 * Return the value registered under exactly the given URI or URI template.
+	 * @param uri the URI or URI template
+	 * @return the registered value, or {@code null} if there is none
+	 */
+	public T get(String uri) {
+		Route<T> route = this.routes.byUri().get(uri);
+		return (route != null) ? route.value() : null;
+	}
+
+	/**
+	 * Return the value registered under the given URI, or else under a URI template
+	 * matching it.
+	 * @param uri the URI to route
+	 * @return the matching value, or {@code null} if there is none
+	 */
+	public T match(String uri) {
+		Routes<T> routes = this.routes;
+		Route<T> route = routes.byUri().get(uri);
+		if (route == null) {
+			route = match(routes.templates(), uri, 0);
+		}
+		return (route != null) ? route.value() : null;
+	}
+
+	/**
+	 * Return all registered values in registration order.
+	 * @return an unmodifiable list of the registered values
+	 */
+	public List<T> values() {
+		return this.routes.values();
+	}
+
+	/**
+	 * Return the version of the router, which changes whenever values are registered or
+	 * removed.
+	 * @return the version
+	 */
+	public long version() {
+		return this.routes.version();
+	}
+
+	/**
+	 * Return a page of the registered values, in registration order.
+	 * @param afterSequence the {@link McpPage#lastSequence() last sequence number} of the
+	 * previous page, or {@code -1} for the first page
+	 * @param pageSize the maximum number of values in the page, or a non-positive number
+	 * for all the remaining values
+	 * @return the page
+	 */
+	public McpPage<T> page(long afterSequence, int pageSize) {
+		Routes<T> routes = this.routes;
+		return McpPage.of(routes.values(), routes.sequences(), afterSequence, pageSize);
+	}
+
+	private Route<T> compile(String uri, T value, Route<T> replaced) {
+		// A replacing value keeps the position of the replaced one
+		long sequence = (replaced != null) ? replaced.sequence() : this.sequenceCounter++;
+		return new Route<>(uri, this.uriTemplateManagerFactory.create(uri), value, sequence);
+	}
+
+	private void publish(Map<String, Route<T>> byUri) {
+		PrefixNode<T> templates = new PrefixNode<>();
+		List<T> values = new ArrayList<>(byUri.size());
+		long[] sequences = new long[byUri.size()];
+		for (Route<T> route : byUri.values()) {
+			sequences[values.size()] = route.sequence();
+			values.add(route.value());
+			if (route.uriTemplateManager().isUriTemplate(route.uri())) {
+				templates.insert(route);
+			}
+		}
+		this.routes = new Routes<>(Collections.unmodifiableMap(byUri), templates, Collections.unmodifiableList(values),
+				sequences, this.routes.version() + 1);
+	}
+
+	private static <T> Route<T> match(PrefixNode<T> node, String uri, int index) {
+		// Templates with a longer literal prefix are more specific, try them first
+		if (index < uri.length()) {
+			PrefixNode<T> child = node.children.get(uri.charAt(index));
+			if (child != null) {
+				Route<T> route = match(child, uri, index + 1);
+				if (route != null) {
+					return route;
+				}
+			}
+		}
+		for (Route<T> route : node.routes) {
+			if (route.uriTemplateManager().matches(uri)) {
+				return route;
+			}
+		}
+		return null;
+	}
+
+	private record Route<T>(String uri, McpUriTemplateManager uriTemplateManager, T value, long sequence) {
+	}
+
+	private record Routes<T>(Map<String, Route<T>> byUri, PrefixNode<T> templates, List<T> values, long[] sequences,
+			long version) {
+	}
+
+	/**
+	 * Node of the trie of URI template literal prefixes, holding the templates whose
+	 * prefix ends at this node.
+	 */
+	private static final class PrefixNode<T> {
+
+		private final Map<Character, PrefixNode<T>> children = new HashMap<>();
+
+		private final List<Route<T>> routes = new ArrayList<>();
+
+		void insert(Route<T> route) {
+			String uri = route.uri();
+			int variableStart = uri.indexOf('{');
+			int prefixLength = (variableStart >= 0) ? variableStart : 0;
+			PrefixNode<T> node = this;
+			for (int i = 0; i < prefixLength; i++) {
+				node = node.children.computeIfAbsent(uri.charAt(i), c -> new PrefixNode<>());
+			}
+			node.routes.add(route);
+		}
+
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads newline delimited frames, such as the JSON-RPC messages of the stdio transports,
+ * from a stream without decoding them to strings.
+ * <p>
+ * The stream is read into a buffer that is reused across frames, and each frame is
+ * returned as a slice of that buffer, ready to be handed to
+ * {@link io.modelcontextprotocol.json.McpJsonMapper#readValue(ByteBuffer, Class)}. A
+ * trailing {@code '\r'} is stripped from each frame and blank lines are skipped. The
+ * buffer grows to fit the largest frame, and is given back once a frame larger than
+ * {@value #MAX_RETAINED_CAPACITY} bytes has been consumed.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class NewlineFrameReader {
+
+	private static final int DEFAULT_CAPACITY = 8192;
+
+	private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+	private final InputStream inputStream;
+
+	private byte[] buffer = new byte[DEFAULT_CAPACITY];
+
+	/** Start of the bytes not returned as a frame yet */
+	private int start;
+
+	/** End of the bytes read from the stream */
+	private int end;
+
+	/** Position from which to resume searching for the next delimiter */
+	private int scanned;
+
+	private boolean eof;
+
+	/**
+	 * Create a reader of the frames of the given stream.
+	 * @param inputStream the stream to read, which is not closed by this reader
+	 */
+	public NewlineFrameReader(InputStream inputStream) {
+		Assert.notNull(inputStream, "InputStream must not be null");
+		this.inputStream = inputStream;
+	}
+
+	/**
+	 * Read the next frame, blocking until it is complete. The bytes of the last frame of
+	 * the stream do not need to be followed by a newline.
+	 * @return the frame, without its delimiter, which is only valid until the next call
+	 * to this method, or {@code null} at the end of the stream
+	 * @throws IOException if reading from the stream fails
+	 */
+	public ByteBuffer nextFrame() throws IOException {
+		while (true) {
+			for (int i = this.scanned; i < this.end; i++) {
+				if (this.buffer[i] == '\n') {
+					ByteBuffer frame = frame(this.start, i);
+					this.start = i + 1;
+					this.scanned = this.start;
+					if (frame != null) {
+						return frame;
+					}
+				}
+			}
+			this.scanned = this.end;
+			if (this.eof) {
+				ByteBuffer frame = frame(this.start, this.end);
+				this.start = this.end;
+				return frame;
+			}
+			fill();
+		}
+	}
+
+	private ByteBuffer frame(int from, int to) {
+		if (to > from && this.buffer[to - 1] == '\r') {
+			to--;
+		}
+		return (to > from) ? ByteBuffer.wrap(this.buffer, from, to - from) : null;
+	}
+
+	private void fill() throws IOException {
+		int pending = this.end - this.start;
+		if (this.start > 0 || pending == this.buffer.length) {
+			byte[] target = this.buffer;
+			if (pending == this.buffer.length) {
+				target = new byte[this.buffer.length * 2];
+			}
+			else if (this.buffer.length > MAX_RETAINED_CAPACITY && pending < DEFAULT_CAPACITY) {
+				target = new byte[DEFAULT_CAPACITY];
+			}
+			System.arraycopy(this.buffer, this.start, target, 0, pending);
+			this.buffer = target;
+			this.start = 0;
+			this.end = pending;
+			this.scanned = pending;
+		}
+		int read = this.inputStream.read(this.buffer, this.end, this.buffer.length - this.end);
+		if (read < 0) {
+			this.eof = true;
+		}
+		else {
+			this.end += read;
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+
+/**
+ * Writes values as newline delimited JSON frames, such as the JSON-RPC messages of the
+ * stdio transports.
+ * <p>
+ * Each value is serialized, followed by its delimiter, into a buffer reused across
+ * frames, then written to the stream with a single call, so that the stream sees neither
+ * the small writes of the serializer nor a separate write for the delimiter. Compact JSON
+ * never contains raw newlines, so the serialized value needs no escaping. A buffer grown
+ * beyond {@value #MAX_RETAINED_CAPACITY} bytes by a large frame is not retained.
+ * <p>
+ * This class is not thread-safe, it is meant to be used by the single thread writing to a
+ * stream.
+ */
+public class NewlineFrameWriter {
+
+	private static final int DEFAULT_CAPACITY = 8192;
+
+	private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+	private final McpJsonMapper jsonMapper;
+
+	private FrameBuffer buffer = new FrameBuffer();
+
+	/**
+	 * Create a writer serializing values with the given mapper.
+	 * @param jsonMapper the mapper used to serialize values
+	 */
+	public NewlineFrameWriter(McpJsonMapper jsonMapper) {
+		Assert.notNull(jsonMapper, "JsonMapper must not be null");
+		this.jsonMapper = jsonMapper;
+	}
+
+	/**
+	 * Write a value as a frame. The stream is not flushed.
+	 * @param out the stream to write to
+	 * @param value the value to serialize
+	 * @throws IOException if serializing the value or writing to the stream fails
+	 */
+	public void write(OutputStream out, Object value) throws IOException {
+		FrameBuffer frame = this.buffer;
+		frame.reset();
+		try {
+			this.jsonMapper.writeValue(frame, value);
+			frame.write('\n');
+			frame.writeTo(out);
+		}
+		finally {
+			if (frame.capacity() > MAX_RETAINED_CAPACITY) {
+				this.buffer = new FrameBuffer();
+			}
+		}
+	}
+
+	private static final class FrameBuffer extends ByteArrayOutputStream {
+
+		private FrameBuffer() {
+			super(DEFAULT_CAPACITY);
+		}
+
+		private int capacity() {
+			return this.buf.length;
+		}
+
+	}
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A hashed timing wheel expiring the requests of a session that did not get a response
+ * within the request timeout.
+ * <p>
+ * Instead of scheduling a timer task per request, every request is placed in the slot of
+ * the wheel its deadline falls in, and a single task turns the wheel one slot per tick,
+ * expiring the requests of the slot in one batch. A request that gets a response is only
+ * marked as done, and dropped from its slot when the slot comes up. The wheel only turns
+ * while requests are pending, so idle sessions cost nothing.
+ * <p>
+ * Requests expire up to one tick after their deadline, the tick being the timeout divided
+ * by the number of slots. Time is read from the scheduler turning the wheel, as for the
+ * {@code timeout} operators of Reactor.
+ */
+public class RequestTimeoutWheel {
+
+	private static final Logger logger = LoggerFactory.getLogger(RequestTimeoutWheel.class);
+
+	/** Default number of slots of the wheel */
+	public static final int DEFAULT_SLOTS = 32;
+
+	/** Shortest tick of the wheel, bounding the rate it turns at for short timeouts */
+	private static final long MIN_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final Duration timeout;
+
+	private final long timeoutNanos;
+
+	private final long tickNanos;
+
+	private final Scheduler scheduler;
+
+	private final long startNanos;
+
+	/** Slots of the wheel, only accessed by the task turning the wheel */
+	private final List<List<Timeout>> slots;
+
+	/** Requests scheduled since the last tick, moved to their slot on the next one */
+	private final ConcurrentLinkedQueue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final AtomicLong completed = new AtomicLong();
+
+	private final AtomicLong expired = new AtomicLong();
+
+	private final AtomicLong totalWaitNanos = new AtomicLong();
+
+	private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+	private long lastTick;
+
+	private volatile Scheduler.Worker worker;
+
+	private RequestTimeoutWheel(Duration timeout, int slotCount, Scheduler scheduler) {
+		this.timeout = timeout;
+		this.timeoutNanos = timeout.toNanos();
+		this.tickNanos = Math.max(MIN_TICK_NANOS, this.timeoutNanos / slotCount);
+		this.scheduler = scheduler;
+		this.startNanos = now();
+		this.slots = new ArrayList<>(slotCount);
+		for (int i = 0; i < slotCount; i++) {
+			this.slots.add(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Create a builder of a wheel expiring requests after the given timeout.
+	 * @param timeout the request timeout
+	 * @return a new builder
+	 */
+	public static Builder builder(Duration timeout) {
+		return new Builder(timeout);
+	}
+
+	/**
+	 * The timeout of the requests.
+	 * @return the request timeout
+	 */
+	public Duration timeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * Schedule the expiration of a request, one timeout from now.
+	 * @param onExpire run on the timer thread if the request is still pending at its
+	 * deadline
+	 * @return the handle to call when the request gets a response
+	 */
+	public Timeout schedule(Runnable onExpire) {
+		Assert.notNull(onExpire, "onExpire must not be null");
+		Timeout timeout = new Timeout(onExpire, now());
+		this.pending.incrementAndGet();
+		this.scheduled.add(timeout);
+		if (this.worker == null) {
+			startIfPending();
+		}
+		return timeout;
+	}
+
+	private synchronized void startIfPending() {
+		if (this.worker == null && this.pending.get() > 0) {
+			this.worker = this.scheduler.createWorker();
+			this.worker.schedulePeriodically(this::tick, this.tickNanos, this.tickNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private synchronized void stopIfIdle() {
+		if (this.worker != null && this.pending.get() == 0) {
+			this.worker.dispose();
+			this.worker = null;
+			this.slots.forEach(List::clear);
+			// A request scheduled meanwhile may have seen the worker still running
+			startIfPending();
+		}
+	}
+
+	/**
+	 * Turn the wheel to the current tick, expiring the requests of the slots it passes.
+	 */
+	void tick() {
+		try {
+			long now = now();
+			long currentTick = (now - this.startNanos) / this.tickNanos;
+			int slotCount = this.slots.size();
+			// After a pause, one turn of the wheel visits all the slots
+			long firstTick = Math.max(this.lastTick + 1, currentTick - slotCount + 1);
+
+			for (Timeout timeout; (timeout = this.scheduled.poll()) != null;) {
+				if (timeout.isPending()) {
+					long deadline = timeout.startNanos + this.timeoutNanos - this.startNanos;
+					long deadlineTick = ceilDiv(deadline, this.tickNanos);
+					this.slots.get((int) (Math.max(deadlineTick, firstTick) % slotCount)).add(timeout);
+				}
+			}
+
+			for (long tick = firstTick; tick <= currentTick; tick++) {
+				expire(this.slots.get((int) (tick % slotCount)), now);
+			}
+			this.lastTick = currentTick;
+		}
+		catch (RuntimeException e) {
+			logger.error("Failed to expire pending requests", e);
+		}
+		if (this.pending.get() == 0) {
+			stopIfIdle();
+		}
+	}
+
+	private void expire(List<Timeout> slot, long now) {
+		Iterator<Timeout> iterator = slot.iterator();
+		while (iterator.hasNext()) {
+			Timeout timeout = iterator.next();
+			if (!timeout.isPending()) {
+				iterator.remove();
+			}
+			else if (timeout.startNanos + this.timeoutNanos <= now) {
+				iterator.remove();
+				if (timeout.finish(now)) {
+					this.expired.incrementAndGet();
+					try {
+						timeout.onExpire.run();
+					}
+					catch (RuntimeException e) {
+						logger.warn("Failed to expire a pending request: {}", e.getMessage());
+					}
+				}
+			}
+		}
+	}
+
+	private long now() {
+		return this.scheduler.now(TimeUnit.NANOSECONDS);
+	}
+
+	private static long ceilDiv(long x, long y) {
+		return -Math.floorDiv(-x, y);
+	}
+
+	/**
+	 * Snapshot of the counters of this wheel.
+	 * @return the number of pending, completed and expired requests, and how long they
+	 * waited
+	 */
+	public Stats stats() {
+		return new Stats(this.pending.get(), this.completed.get(), this.expired.get(),
+				Duration.ofNanos(this.totalWaitNanos.get()), Duration.ofNanos(this.maxWaitNanos.get()));
+	}
+
+	/**
+	 * Counters of a wheel.
+	 *
+	 * @param pending the number of requests awaiting a response
+	 * @param completed the number of requests that got a response, or were cancelled,
+	 * before their deadline
+	 * @param expired the number of requests expired at their deadline
+	 * @param totalWait the time waited by the completed and expired requests, in total
+	 * @param maxWait the longest time waited by a completed or expired request
+	 */
+	public record Stats(int pending, long completed, long expired, Duration totalWait, Duration maxWait) {
+
+		/**
+		 * The average time waited by the completed and expired requests.
+		 * @return the average wait, or zero if no request completed or expired yet
+		 */
+		public Duration averageWait() {
+			long count = this.completed + this.expired;
+			return (count == 0) ? Duration.ZERO : this.totalWait.dividedBy(count);
+		}
+
+	}
+
+	/**
+	 * The expiration of a pending request.
+	 */
+	public final class Timeout {
+
+		private static final int PENDING = 0;
+
+		private static final int DONE = 1;
+
+		private final AtomicInteger state = new AtomicInteger(PENDING);
+
+		private final Runnable onExpire;
+
+		private final long startNanos;
+
+		private Timeout(Runnable onExpire, long startNanos) {
+			this.onExpire = onExpire;
+			this.startNanos = startNanos;
+		}
+
+		/**
+		 * Cancel the expiration of the request, once it got a response or was cancelled.
+		 * Does nothing if the request already expired.
+		 * @return {@code true} if the expiration was cancelled
+		 */
+		public boolean cancel() {
+			if (finish(now())) {
+				completed.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Whether the request is still awaiting a response.
+		 * @return {@code true} until the request is completed or expires
+		 */
+		public boolean isPending() {
+			return this.state.get() == PENDING;
+		}
+
+		private boolean finish(long now) {
+			if (!this.state.compareAndSet(PENDING, DONE)) {
+				return false;
+			}
+			long waitNanos = now - this.startNanos;
+			totalWaitNanos.addAndGet(waitNanos);
+			maxWaitNanos.accumulate(waitNanos);
+			pending.decrementAndGet();
+			return true;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link RequestTimeoutWheel}.
+	 */
+	public static class Builder {
+
+		private final Duration timeout;
+
+		private int slots = DEFAULT_SLOTS;
+
+		private Scheduler scheduler = Schedulers.parallel();
+
+		private Builder(Duration timeout) {
+			Assert.notNull(timeout, "Timeout must not be null");
+			Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+			this.timeout = timeout;
+		}
+
+		/**
+		 * Sets the number of slots of the wheel. More slots expire requests closer to
+		 * their deadline, at the cost of turning the wheel more often. Defaults to
+		 * {@link RequestTimeoutWheel#DEFAULT_SLOTS}.
+		 * @param slots the number of slots
+		 * @return this builder
+		 */
+		public Builder slots(int slots) {
+			Assert.isTrue(slots > 0, "Slots must be positive");
+			this.slots = slots;
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler turning the wheel and running the expirations. Defaults to
+		 * the parallel scheduler.
+		 * @param scheduler the scheduler
+		 * @return this builder
+		 */
+		public Builder scheduler(Scheduler scheduler) {
+			Assert.notNull(scheduler, "Scheduler must not be null");
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Builds the wheel. It turns as soon as a request is scheduled.
+		 * @return a new wheel
+		 */
+		public RequestTimeoutWheel build() {
+			return new RequestTimeoutWheel(this.timeout, this.slots, this.scheduler);
+		}
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Policy for flushing the messages written to a stream, such as the stdout of the stdio
+ * transport or an SSE stream, in batches rather than one by one.
+ * <p>
+ * Flushing is adaptive: a message is flushed right away when no other message is queued
+ * for the stream, so an idle stream sees no added latency. During a burst, the messages
+ * are written as they come but flushed once for the whole batch, as soon as the queue is
+ * drained, {@link #maxBatchSize()} messages are unflushed, or the oldest unflushed
+ * message has waited for {@link #maxLatency()}.
+ *
+ * @param maxBatchSize the maximum number of messages written between two flushes
+ * @param maxLatency the maximum time a message written during a burst waits to be
+ * flushed, or {@link Duration#ZERO} to only bound batches by size
+ */
+public record WriteCoalescing(int maxBatchSize, Duration maxLatency) {
+
+	/** Flushes every message as soon as it is written */
+	public static final WriteCoalescing DISABLED = new WriteCoalescing(1, Duration.ZERO);
+
+	public WriteCoalescing {
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be positive");
+		Assert.notNull(maxLatency, "Max latency must not be null");
+		Assert.isTrue(!maxLatency.isNegative(), "Max latency must not be negative");
+	}
+
+	/**
+	 * Create a coalescing policy.
+	 * @param maxBatchSize the maximum number of messages written between two flushes
+	 * @param maxLatency the maximum time a message written during a burst waits to be
+	 * flushed
+	 * @return the policy
+	 */
+	public static WriteCoalescing of(int maxBatchSize, Duration maxLatency) {
+		return new WriteCoalescing(maxBatchSize, maxLatency);
+	}
+
+	/**
+	 * Create the state tracking the messages queued and written to one stream.
+	 * @return a new coalescer
+	 */
+	public Coalescer newCoalescer() {
+		return new Coalescer(this.maxBatchSize, this.maxLatency.toNanos());
+	}
+
+	/**
+	 * Tracks the messages queued for and written to one stream, and decides when to flush
+	 * it.
+	 */
+	public static final class Coalescer {
+
+		private final int maxBatchSize;
+
+		private final long maxLatencyNanos;
+
+		private final AtomicInteger queued = new AtomicInteger();
+
+		// Guarded by the lock serializing the writes to the stream
+		private int unflushed;
+
+		private long firstUnflushedNanos;
+
+		private Coalescer(int maxBatchSize, long maxLatencyNanos) {
+			this.maxBatchSize = maxBatchSize;
+			this.maxLatencyNanos = maxLatencyNanos;
+		}
+
+		/**
+		 * Record that a message is queued, and will be written with a call to
+		 * {@link #written()} or given up with a call to {@link #discarded()}.
+		 */
+		public void queued() {
+			this.queued.incrementAndGet();
+		}
+
+		/**
+		 * Record that a queued message will not be written.
+		 */
+		public void discarded() {
+			this.queued.decrementAndGet();
+		}
+
+		/**
+		 * Record that a queued message was written to the stream. Must be called by the
+		 * thread holding the lock serializing the writes to the stream.
+		 * @return whether the stream should be flushed now
+		 */
+		public boolean written() {
+			int stillQueued = this.queued.decrementAndGet();
+			if (this.maxBatchSize == 1) {
+				return true;
+			}
+			if (this.unflushed++ == 0) {
+				this.firstUnflushedNanos = (this.maxLatencyNanos > 0) ? System.nanoTime() : 0;
+			}
+			if (stillQueued <= 0 || this.unflushed >= this.maxBatchSize || (this.maxLatencyNanos > 0
+					&& System.nanoTime() - this.firstUnflushedNanos >= this.maxLatencyNanos)) {
+				this.unflushed = 0;
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -8,6 +8,7 @@ import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerSession.Factory;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import reactor.core.publisher.Mono;
 
 /**
@@ -38,6 +39,17 @@ public class MockMcpServerTransportProvider implements McpServerTransportProvide
 		return session.sendNotification(method, params);
 	}
 
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpServerSession session = this.session;
+			if (session == null || !session.getId().equals(sessionId)) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
+		});
+	}
+
 	@Override
 	public Mono<Void> closeGracefully() {
 		return session.closeGracefully();
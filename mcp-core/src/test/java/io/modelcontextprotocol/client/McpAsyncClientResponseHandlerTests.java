@@ -5,9 +5,12 @@
 package io.modelcontextprotocol.client;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import io.modelcontextprotocol.json.TypeRef;
@@ -21,11 +24,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import static io.modelcontextprotocol.spec.McpSchema.METHOD_INITIALIZE;
 import static io.modelcontextprotocol.util.McpJsonMapperUtils.JSON_MAPPER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 class McpAsyncClientResponseHandlerTests {
 
@@ -165,6 +170,190 @@ class McpAsyncClientResponseHandlerTests {
 		asyncMcpClient.closeGracefully();
 	}
 
+	private static MockMcpClientTransport pagedToolsTransport(AtomicInteger toolsListRequests) {
+		McpSchema.InitializeResult initResult = new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+				SERVER_CAPABILITIES, SERVER_INFO, null);
+		McpSchema.JsonSchema inputSchema = new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+		return new MockMcpClientTransport((t, message) -> {
+			if (!(message instanceof McpSchema.JSONRPCRequest r)) {
+				return;
+			}
+			Object result = initResult;
+			if (McpSchema.METHOD_TOOLS_LIST.equals(r.method())) {
+				toolsListRequests.incrementAndGet();
+				// Three pages of two tools, the cursor being the number of the next page
+				PaginatedRequest request = JSON_MAPPER.convertValue(r.params(), PaginatedRequest.class);
+				int page = (request.cursor() != null) ? Integer.parseInt(request.cursor()) : 1;
+				List<McpSchema.Tool> tools = List.of(
+						McpSchema.Tool.builder().name("tool-" + page + "a").inputSchema(inputSchema).build(),
+						McpSchema.Tool.builder().name("tool-" + page + "b").inputSchema(inputSchema).build());
+				result = new McpSchema.ListToolsResult(tools, (page < 3) ? String.valueOf(page + 1) : null);
+			}
+			t.simulateIncomingMessage(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), result, null));
+		});
+	}
+
+	@Test
+	void testStreamToolsEmitsAllPagesInOrder() {
+		AtomicInteger toolsListRequests = new AtomicInteger();
+		McpAsyncClient asyncMcpClient = McpClient.async(pagedToolsTransport(toolsListRequests)).build();
+		assertThat(asyncMcpClient.initialize().block()).isNotNull();
+
+		StepVerifier.create(asyncMcpClient.streamTools().map(McpSchema.Tool::name))
+			.expectNext("tool-1a", "tool-1b", "tool-2a", "tool-2b", "tool-3a", "tool-3b")
+			.verifyComplete();
+		assertThat(toolsListRequests).hasValue(3);
+
+		asyncMcpClient.closeGracefully();
+	}
+
+	@Test
+	void testStreamToolsPrefetchesOnePageAndStopsOnCancel() {
+		AtomicInteger toolsListRequests = new AtomicInteger();
+		McpAsyncClient asyncMcpClient = McpClient.async(pagedToolsTransport(toolsListRequests)).build();
+		assertThat(asyncMcpClient.initialize().block()).isNotNull();
+
+		StepVerifier.create(asyncMcpClient.streamTools().map(McpSchema.Tool::name), 1)
+			.expectNext("tool-1a")
+			// The second page is listed while the first one is consumed
+			.then(() -> await().atMost(Duration.ofSeconds(5))
+				.untilAsserted(() -> assertThat(toolsListRequests).hasValue(2)))
+			.thenCancel()
+			.verify(Duration.ofSeconds(5));
+		assertThat(toolsListRequests).hasValue(2);
+
+		asyncMcpClient.closeGracefully();
+	}
+
+	@Test
+	void testCallToolsReturnsOrderedResultsWithPerCallFailures() {
+		McpSchema.InitializeResult initResult = new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+				SERVER_CAPABILITIES, SERVER_INFO, null);
+		List<McpSchema.JSONRPCRequest> pendingCalls = new CopyOnWriteArrayList<>();
+		MockMcpClientTransport transport = new MockMcpClientTransport((t, message) -> {
+			if (message instanceof McpSchema.JSONRPCRequest r) {
+				if (METHOD_INITIALIZE.equals(r.method())) {
+					t.simulateIncomingMessage(
+							new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), initResult, null));
+				}
+				else if (McpSchema.METHOD_TOOLS_CALL.equals(r.method())) {
+					pendingCalls.add(r);
+				}
+			}
+		});
+		McpAsyncClient asyncMcpClient = McpClient.async(transport).build();
+		assertThat(asyncMcpClient.initialize().block()).isNotNull();
+
+		List<McpSchema.CallToolRequest> requests = List.of(new McpSchema.CallToolRequest("first", Map.of()),
+				new McpSchema.CallToolRequest("broken", Map.of()), new McpSchema.CallToolRequest("third", Map.of()));
+		var results = asyncMcpClient.callTools(requests, 2).toFuture();
+
+		// Only two calls are in flight, answered in reverse order
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(pendingCalls).hasSize(2));
+		McpSchema.JSONRPCRequest second = pendingCalls.get(1);
+		transport.simulateIncomingMessage(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, second.id(), null,
+				new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR, "Tool crashed", null)));
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(pendingCalls).hasSize(3));
+		for (McpSchema.JSONRPCRequest call : List.of(pendingCalls.get(2), pendingCalls.get(0))) {
+			String name = JSON_MAPPER.convertValue(call.params(), McpSchema.CallToolRequest.class).name();
+			McpSchema.CallToolResult result = McpSchema.CallToolResult.builder().addTextContent(name).build();
+			transport.simulateIncomingMessage(
+					new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, call.id(), result, null));
+		}
+
+		List<McpSchema.CallToolResult> callToolResults = results.join();
+		assertThat(callToolResults).hasSize(3);
+		assertThat(((McpSchema.TextContent) callToolResults.get(0).content().get(0)).text()).isEqualTo("first");
+		assertThat(callToolResults.get(1).isError()).isTrue();
+		assertThat(((McpSchema.TextContent) callToolResults.get(1).content().get(0)).text()).contains("Tool crashed");
+		assertThat(((McpSchema.TextContent) callToolResults.get(2).content().get(0)).text()).isEqualTo("third");
+
+		asyncMcpClient.closeGracefully();
+	}
+
+	@Test
+	void testCallToolsIsolatesResultsNotMatchingOutputSchema() {
+		McpSchema.InitializeResult initResult = new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+				SERVER_CAPABILITIES, SERVER_INFO, null);
+		Map<String, Object> outputSchema = Map.of("type", "object", "properties",
+				Map.of("result", Map.of("type", "number")), "required", List.of("result"));
+		McpSchema.ListToolsResult tools = new McpSchema.ListToolsResult(List.of(
+				McpSchema.Tool.builder()
+					.name("valid")
+					.inputSchema(JSON_MAPPER, "{\"type\": \"object\"}")
+					.outputSchema(outputSchema)
+					.build(),
+				McpSchema.Tool.builder()
+					.name("invalid")
+					.inputSchema(JSON_MAPPER, "{\"type\": \"object\"}")
+					.outputSchema(outputSchema)
+					.build()),
+				null);
+		MockMcpClientTransport transport = new MockMcpClientTransport((t, message) -> {
+			if (message instanceof McpSchema.JSONRPCRequest r) {
+				Object result = switch (r.method()) {
+					case METHOD_INITIALIZE -> initResult;
+					case McpSchema.METHOD_TOOLS_LIST -> tools;
+					case McpSchema.METHOD_TOOLS_CALL -> {
+						String name = JSON_MAPPER.convertValue(r.params(), McpSchema.CallToolRequest.class).name();
+						yield McpSchema.CallToolResult.builder()
+							.addTextContent(name)
+							.structuredContent(Map.of("result", "valid".equals(name) ? 5 : "five"))
+							.build();
+					}
+					default -> null;
+				};
+				t.simulateIncomingMessage(
+						new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), result, null));
+			}
+		});
+		McpAsyncClient asyncMcpClient = McpClient.async(transport).enableCallToolSchemaCaching(true).build();
+		assertThat(asyncMcpClient.initialize().block()).isNotNull();
+
+		List<McpSchema.CallToolResult> results = asyncMcpClient
+			.callTools(List.of(new McpSchema.CallToolRequest("invalid", Map.of()),
+					new McpSchema.CallToolRequest("valid", Map.of())), 2)
+			.block();
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).isError()).isTrue();
+		assertThat(((McpSchema.TextContent) results.get(0).content().get(0)).text())
+			.contains("Tool call result validation failed");
+		assertThat(results.get(1).isError()).isNotEqualTo(Boolean.TRUE);
+		assertThat(results.get(1).structuredContent()).isEqualTo(Map.of("result", 5));
+
+		asyncMcpClient.closeGracefully();
+	}
+
+	@Test
+	void testCallToolsFailsWhenClientCannotInitialize() {
+		AtomicInteger toolCalls = new AtomicInteger();
+		MockMcpClientTransport transport = new MockMcpClientTransport((t, message) -> {
+			if (message instanceof McpSchema.JSONRPCRequest r) {
+				if (METHOD_INITIALIZE.equals(r.method())) {
+					t.simulateIncomingMessage(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), null,
+							new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
+									"Server unavailable", null)));
+				}
+				else if (McpSchema.METHOD_TOOLS_CALL.equals(r.method())) {
+					toolCalls.incrementAndGet();
+				}
+			}
+		});
+		McpAsyncClient asyncMcpClient = McpClient.async(transport).build();
+
+		List<McpSchema.CallToolRequest> requests = List.of(new McpSchema.CallToolRequest("first", Map.of()),
+				new McpSchema.CallToolRequest("second", Map.of()));
+
+		// A session that cannot serve any call fails the batch rather than each result
+		StepVerifier.create(asyncMcpClient.callTools(requests, 2))
+			.expectErrorSatisfies(error -> assertThat(error).hasMessageContaining("Client failed to initialize"))
+			.verify(Duration.ofSeconds(5));
+		assertThat(toolCalls).hasValue(0);
+
+		asyncMcpClient.closeGracefully();
+	}
+
 	@Test
 	void testRootsListRequestHandling() {
 		MockMcpClientTransport transport = initializationEnabledTransport();
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import static io.modelcontextprotocol.spec.McpSchema.METHOD_INITIALIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.MockMcpClientTransport;
+import io.modelcontextprotocol.client.McpCatalogCache.Catalog;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Tests for {@link McpCatalogCache}.
+ */
+class McpCatalogCacheTests {
+
+	private static final Duration TTL = Duration.ofMinutes(1);
+
+	private VirtualTimeScheduler virtualTimeScheduler;
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		virtualTimeScheduler = VirtualTimeScheduler.create();
+	}
+
+	@AfterEach
+	void tearDown() {
+		virtualTimeScheduler.dispose();
+	}
+
+	private Mono<String> load() {
+		return Mono.fromSupplier(() -> "catalog-" + loads.incrementAndGet());
+	}
+
+	@Test
+	void testServesCatalogUntilInvalidated() {
+		McpCatalogCache cache = McpCatalogCache.builder().clock(virtualTimeScheduler).build();
+
+		assertThat(cache.get(Catalog.TOOLS, this::load).block()).isEqualTo("catalog-1");
+		virtualTimeScheduler.advanceTimeBy(Duration.ofDays(1));
+		assertThat(cache.get(Catalog.TOOLS, this::load).block()).isEqualTo("catalog-1");
+
+		cache.invalidate(Catalog.TOOLS);
+		assertThat(cache.get(Catalog.TOOLS, this::load).block()).isEqualTo("catalog-2");
+
+		McpCatalogCache.Stats stats = cache.stats(Catalog.TOOLS);
+		assertThat(stats.hits()).isEqualTo(1);
+		assertThat(stats.misses()).isEqualTo(2);
+		assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+		assertThat(cache.stats(Catalog.PROMPTS).hitRate()).isZero();
+	}
+
+	@Test
+	void testExpiresCatalogAfterTtl() {
+		McpCatalogCache cache = McpCatalogCache.builder().ttl(TTL).clock(virtualTimeScheduler).build();
+
+		assertThat(cache.get(Catalog.PROMPTS, this::load).block()).isEqualTo("catalog-1");
+		virtualTimeScheduler.advanceTimeBy(TTL.minusSeconds(1));
+		assertThat(cache.get(Catalog.PROMPTS, this::load).block()).isEqualTo("catalog-1");
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(1));
+		assertThat(cache.get(Catalog.PROMPTS, this::load).block()).isEqualTo("catalog-2");
+		assertThat(cache.stats().misses()).isEqualTo(2);
+	}
+
+	@Test
+	void testServesStaleCatalogWhileRevalidating() {
+		McpCatalogCache cache = McpCatalogCache.builder()
+			.ttl(TTL)
+			.staleWhileRevalidate(true)
+			.clock(virtualTimeScheduler)
+			.build();
+		Sinks.One<String> refresh = Sinks.one();
+
+		assertThat(cache.get(Catalog.RESOURCES, this::load).block()).isEqualTo("catalog-1");
+		virtualTimeScheduler.advanceTimeBy(TTL);
+
+		assertThat(cache.get(Catalog.RESOURCES, refresh::asMono).block()).isEqualTo("catalog-1");
+		assertThat(cache.get(Catalog.RESOURCES, refresh::asMono).block()).isEqualTo("catalog-1");
+		refresh.tryEmitValue("catalog-2");
+		assertThat(cache.get(Catalog.RESOURCES, this::load).block()).isEqualTo("catalog-2");
+
+		McpCatalogCache.Stats stats = cache.stats(Catalog.RESOURCES);
+		assertThat(stats.staleHits()).isEqualTo(2);
+		assertThat(stats.hits()).isEqualTo(1);
+		assertThat(stats.misses()).isEqualTo(1);
+	}
+
+	@Test
+	void testConcurrentMissesShareOneLoad() {
+		McpCatalogCache cache = McpCatalogCache.builder().build();
+		AtomicInteger subscriptions = new AtomicInteger();
+		Sinks.One<String> listing = Sinks.one();
+		Mono<String> loader = listing.asMono().doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+		var first = cache.get(Catalog.TOOLS, () -> loader).toFuture();
+		var second = cache.get(Catalog.TOOLS, () -> loader).toFuture();
+		listing.tryEmitValue("catalog");
+
+		assertThat(first.join()).isEqualTo("catalog");
+		assertThat(second.join()).isEqualTo("catalog");
+		assertThat(subscriptions).hasValue(1);
+		assertThat(cache.stats(Catalog.TOOLS).misses()).isEqualTo(2);
+	}
+
+	@Test
+	void testInvalidationDuringLoadDiscardsResult() {
+		McpCatalogCache cache = McpCatalogCache.builder().build();
+		Sinks.One<String> listing = Sinks.one();
+
+		var pending = cache.get(Catalog.TOOLS, listing::asMono).toFuture();
+		cache.invalidate(Catalog.TOOLS);
+		listing.tryEmitValue("outdated");
+
+		assertThat(pending.join()).isEqualTo("outdated");
+		assertThat(cache.get(Catalog.TOOLS, this::load).block()).isEqualTo("catalog-1");
+	}
+
+	@Test
+	void testBuilderRejectsInvalidSettings() {
+		assertThatThrownBy(() -> McpCatalogCache.builder().ttl(Duration.ZERO))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> McpCatalogCache.builder().clock(null)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testClientServesToolsFromCacheUntilListChanged() {
+		AtomicInteger toolsListRequests = new AtomicInteger();
+		McpSchema.InitializeResult initializeResult = new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+				McpSchema.ServerCapabilities.builder().tools(true).build(),
+				new McpSchema.Implementation("test-server", "1.0.0"), null);
+		MockMcpClientTransport transport = new MockMcpClientTransport((t, message) -> {
+			if (message instanceof McpSchema.JSONRPCRequest r) {
+				Object result = initializeResult;
+				if (McpSchema.METHOD_TOOLS_LIST.equals(r.method())) {
+					McpSchema.Tool tool = McpSchema.Tool.builder()
+						.name("tool-" + toolsListRequests.incrementAndGet())
+						.inputSchema(new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null))
+						.build();
+					result = new McpSchema.ListToolsResult(List.of(tool), null);
+				}
+				else if (!METHOD_INITIALIZE.equals(r.method())) {
+					return;
+				}
+				t.simulateIncomingMessage(
+						new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), result, null));
+			}
+		});
+		McpCatalogCache cache = McpCatalogCache.builder().build();
+		McpAsyncClient client = McpClient.async(transport).catalogCache(cache).build();
+
+		assertThat(client.initialize().block()).isNotNull();
+		assertThat(client.listTools().block().tools().get(0).name()).isEqualTo("tool-1");
+		assertThat(client.listTools().block().tools().get(0).name()).isEqualTo("tool-1");
+		assertThat(toolsListRequests).hasValue(1);
+
+		transport.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED, null));
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(toolsListRequests).hasValue(2));
+
+		assertThat(client.listTools().block().tools().get(0).name()).isEqualTo("tool-2");
+		assertThat(toolsListRequests).hasValue(2);
+
+		client.closeGracefully().block();
+	}
+
+}
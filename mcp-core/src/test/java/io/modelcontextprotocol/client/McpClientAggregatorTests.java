@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import static io.modelcontextprotocol.util.McpJsonMapperUtils.JSON_MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.modelcontextprotocol.MockMcpClientTransport;
+import io.modelcontextprotocol.client.McpClientAggregator.ConflictPolicy;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests for {@link McpClientAggregator}.
+ */
+class McpClientAggregatorTests {
+
+	private static final McpSchema.JsonSchema INPUT_SCHEMA = new McpSchema.JsonSchema("object", Map.of(), List.of(),
+			null, null, null);
+
+	/** How a test server handles the tool calls */
+	private enum Calls {
+
+		/** Returns the server name and the tool name */
+		ANSWER,
+
+		/** Never answers */
+		IGNORE,
+
+		/** Answers with a JSON-RPC error */
+		FAIL
+
+	}
+
+	/**
+	 * A server providing the given tools, whose calls return the server name and the tool
+	 * name, unless it is unavailable.
+	 */
+	private static MockMcpClientTransport serverTransport(String serverName, boolean available, boolean answerCalls,
+			String... toolNames) {
+		return serverTransport(serverName, available, answerCalls ? Calls.ANSWER : Calls.IGNORE, toolNames);
+	}
+
+	private static MockMcpClientTransport serverTransport(String serverName, boolean available, Calls calls,
+			String... toolNames) {
+		return serverTransport(serverName, new AtomicBoolean(available), calls,
+				new AtomicReference<>(List.of(toolNames)));
+	}
+
+	private static MockMcpClientTransport serverTransport(String serverName, AtomicBoolean available, Calls calls,
+			AtomicReference<List<String>> toolNames) {
+		McpSchema.InitializeResult initResult = new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+				McpSchema.ServerCapabilities.builder().tools(true).build(),
+				new McpSchema.Implementation(serverName, "1.0.0"), null);
+		return new MockMcpClientTransport((t, message) -> {
+			if (!(message instanceof McpSchema.JSONRPCRequest r)) {
+				return;
+			}
+			McpSchema.JSONRPCResponse response = switch (r.method()) {
+				case McpSchema.METHOD_INITIALIZE ->
+					available.get() ? new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), initResult, null)
+							: new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), null,
+									new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
+											"Unavailable", null));
+				case McpSchema.METHOD_TOOLS_LIST -> (toolNames.get() != null)
+						? new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(),
+								new McpSchema.ListToolsResult(tools(toolNames.get()), null), null)
+						: new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), null,
+								new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
+										"Unavailable", null));
+				case McpSchema.METHOD_TOOLS_CALL -> {
+					McpSchema.CallToolRequest request = JSON_MAPPER.convertValue(r.params(),
+							McpSchema.CallToolRequest.class);
+					McpSchema.CallToolResult result = McpSchema.CallToolResult.builder()
+						.addTextContent(serverName + ":" + request.name())
+						.build();
+					yield switch (calls) {
+						case ANSWER -> new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), result, null);
+						case IGNORE -> null;
+						case FAIL -> new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), null,
+								new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
+										"Failed", null));
+					};
+				}
+				default -> null;
+			};
+			if (response != null) {
+				t.simulateIncomingMessage(response);
+			}
+		});
+	}
+
+	private static List<McpSchema.Tool> tools(List<String> toolNames) {
+		return toolNames.stream()
+			.map(name -> McpSchema.Tool.builder().name(name).inputSchema(INPUT_SCHEMA).build())
+			.toList();
+	}
+
+	private static String text(McpSchema.CallToolResult result) {
+		return ((McpSchema.TextContent) result.content().get(0)).text();
+	}
+
+	private static List<String> toolNames(McpClientAggregator aggregator) {
+		return aggregator.tools().stream().map(McpSchema.Tool::name).toList();
+	}
+
+	@Test
+	void testMergesCatalogsWithPrefixedConflicts() {
+		McpClientAggregator aggregator = McpClientAggregator.builder()
+			.server("a", McpClient.async(serverTransport("a", true, true, "search", "read")))
+			.server("b", McpClient.async(serverTransport("b", true, true, "search", "write")))
+			.server("down", McpClient.async(serverTransport("down", false, true, "delete")))
+			.conflictPolicy(ConflictPolicy.PREFIX)
+			.build();
+
+		StepVerifier.create(aggregator.initialize()).verifyComplete();
+
+		assertThat(toolNames(aggregator)).containsExactly("a.search", "b.search", "read", "write");
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("b.search", Map.of())).block()))
+			.isEqualTo("b:search");
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("write", Map.of())).block()))
+			.isEqualTo("b:write");
+		StepVerifier.create(aggregator.callTool(new McpSchema.CallToolRequest("delete", Map.of())))
+			.verifyError(IllegalArgumentException.class);
+
+		assertThat(aggregator.stats().get("b").calls()).isEqualTo(2);
+		assertThat(aggregator.stats().get("down").errors()).isEqualTo(1);
+
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testPrefixesToolsClashingWithPrefixedNames() {
+		McpClientAggregator aggregator = McpClientAggregator.builder()
+			.server("a", McpClient.async(serverTransport("a", true, true, "search")))
+			.server("b", McpClient.async(serverTransport("b", true, true, "search")))
+			.server("c", McpClient.async(serverTransport("c", true, true, "a.search")))
+			.conflictPolicy(ConflictPolicy.PREFIX)
+			.build();
+		aggregator.initialize().block();
+
+		assertThat(toolNames(aggregator)).containsExactly("a.search", "b.search", "c.a.search");
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("a.search", Map.of())).block()))
+			.isEqualTo("a:search");
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("c.a.search", Map.of())).block()))
+			.isEqualTo("c:a.search");
+
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testFirstServerWinsConflictsByDefault() {
+		McpClientAggregator aggregator = McpClientAggregator.builder()
+			.server("a", McpClient.async(serverTransport("a", true, true, "search")))
+			.server("b", McpClient.async(serverTransport("b", true, true, "search")))
+			.build();
+		aggregator.initialize().block();
+
+		assertThat(toolNames(aggregator)).containsExactly("search");
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("search", Map.of())).block()))
+			.isEqualTo("a:search");
+
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testBalancesCallsAwayFromBusyServers() {
+		McpClientAggregator aggregator = McpClientAggregator.builder()
+			.server("slow", McpClient.async(serverTransport("slow", true, false, "search")))
+			.server("fast", McpClient.async(serverTransport("fast", true, true, "search")))
+			.conflictPolicy(ConflictPolicy.BALANCE)
+			.build();
+		aggregator.initialize().block();
+		assertThat(aggregator.route("search")).isEqualTo("slow");
+
+		// The call to the first server never gets a response
+		Disposable pending = aggregator.callTool(new McpSchema.CallToolRequest("search", Map.of())).subscribe();
+		assertThat(aggregator.stats().get("slow").inFlight()).isEqualTo(1);
+
+		assertThat(aggregator.route("search")).isEqualTo("fast");
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("search", Map.of())).block()))
+			.isEqualTo("fast:search");
+
+		pending.dispose();
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testLeavesFailingServersOutOfBalancing() {
+		McpClientAggregator aggregator = McpClientAggregator.builder()
+			.server("failing", McpClient.async(serverTransport("failing", true, Calls.FAIL, "search")))
+			.server("ok", McpClient.async(serverTransport("ok", true, Calls.ANSWER, "search")))
+			.conflictPolicy(ConflictPolicy.BALANCE)
+			.build();
+		aggregator.initialize().block();
+
+		for (int i = 0; i < 10; i++) {
+			aggregator.callTool(new McpSchema.CallToolRequest("search", Map.of()))
+				.onErrorResume(error -> Mono.empty())
+				.block();
+		}
+
+		assertThat(aggregator.stats().get("failing").errors()).isEqualTo(3);
+		assertThat(aggregator.stats().get("ok").calls()).isEqualTo(7);
+		assertThat(aggregator.route("search")).isEqualTo("ok");
+
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testRetriesServersThatFailedToInitialize() {
+		// The tools of the second server cannot be listed at first
+		AtomicReference<List<String>> toolNames = new AtomicReference<>();
+		McpClientAggregator aggregator = McpClientAggregator.builder()
+			.server("a", McpClient.async(serverTransport("a", true, true, "search")))
+			.server("b", McpClient.async(serverTransport("b", new AtomicBoolean(true), Calls.ANSWER, toolNames)))
+			.build();
+		aggregator.initialize().block();
+		assertThat(toolNames(aggregator)).containsExactly("search");
+		assertThat(aggregator.stats().get("b").errors()).isEqualTo(1);
+
+		toolNames.set(List.of("write"));
+		aggregator.initialize().block();
+
+		assertThat(toolNames(aggregator)).containsExactly("search", "write");
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("write", Map.of())).block()))
+			.isEqualTo("b:write");
+
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testLeavesClientSpecificationUnchanged() {
+		AtomicReference<List<String>> toolNames = new AtomicReference<>(List.of("search"));
+		MockMcpClientTransport transport = serverTransport("a", new AtomicBoolean(true), Calls.ANSWER, toolNames);
+		McpClient.AsyncSpec spec = McpClient.async(transport);
+		McpClientAggregator unused = McpClientAggregator.builder().server("a", spec).build();
+		McpClientAggregator aggregator = McpClientAggregator.builder().server("a", spec).build();
+		aggregator.initialize().block();
+
+		toolNames.set(List.of("search", "read"));
+		transport.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED, null));
+
+		await().atMost(Duration.ofSeconds(5))
+			.untilAsserted(() -> assertThat(toolNames(aggregator)).containsExactly("search", "read"));
+		// The client of the other aggregator does not notify this one
+		assertThat(unused.tools()).isEmpty();
+
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testUpdatesCatalogOnToolsListChanged() {
+		AtomicReference<List<String>> toolNames = new AtomicReference<>(List.of("search"));
+		MockMcpClientTransport transport = serverTransport("a", new AtomicBoolean(true), Calls.ANSWER, toolNames);
+		McpClientAggregator aggregator = McpClientAggregator.builder()
+			.server("a", McpClient.async(transport))
+			.server("b", McpClient.async(serverTransport("b", true, true, "write")))
+			.build();
+		aggregator.initialize().block();
+		assertThat(toolNames(aggregator)).containsExactly("search", "write");
+
+		toolNames.set(List.of("search", "read"));
+		transport.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED, null));
+
+		await().atMost(Duration.ofSeconds(5))
+			.untilAsserted(() -> assertThat(toolNames(aggregator)).containsExactly("search", "read", "write"));
+		assertThat(text(aggregator.callTool(new McpSchema.CallToolRequest("read", Map.of())).block()))
+			.isEqualTo("a:read");
+
+		aggregator.closeGracefully().block();
+	}
+
+	@Test
+	void testBuilderRejectsInvalidSettings() {
+		assertThatThrownBy(() -> McpClientAggregator.builder().build()).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> McpClientAggregator.builder()
+			.server("a", McpClient.async(new MockMcpClientTransport()))
+			.server("a", McpClient.async(new MockMcpClientTransport()))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> McpClientAggregator.builder().initializationConcurrency(0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
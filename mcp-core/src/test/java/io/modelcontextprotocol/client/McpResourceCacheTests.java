@@ -0,0 +1,322 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import static io.modelcontextprotocol.spec.McpSchema.METHOD_INITIALIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.MockMcpClientTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Tests for {@link McpResourceCache}.
+ */
+class McpResourceCacheTests {
+
+	private VirtualTimeScheduler virtualTimeScheduler;
+
+	@BeforeEach
+	void setUp() {
+		virtualTimeScheduler = VirtualTimeScheduler.create();
+	}
+
+	@AfterEach
+	void tearDown() {
+		virtualTimeScheduler.dispose();
+	}
+
+	private static McpSchema.ReadResourceResult text(String uri, String text) {
+		return new McpSchema.ReadResourceResult(List.of(new McpSchema.TextResourceContents(uri, "text/plain", text)));
+	}
+
+	private static void put(McpResourceCache cache, String uri, McpSchema.ReadResourceResult result) {
+		long generation = cache.beginLoad(uri);
+		cache.put(uri, generation, result);
+		cache.endLoad(uri, generation);
+	}
+
+	@Test
+	void testExpiresContentsAfterTtl() {
+		McpResourceCache cache = McpResourceCache.builder()
+			.ttl(Duration.ofSeconds(30))
+			.clock(virtualTimeScheduler)
+			.build();
+		AtomicInteger unsubscriptions = new AtomicInteger();
+		put(cache, "file:///a", text("file:///a", "a"));
+		cache.subscribe("file:///b", uri -> Mono.just(true), uri -> Mono.fromRunnable(unsubscriptions::incrementAndGet))
+			.block();
+		put(cache, "file:///b", text("file:///b", "b"));
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(29));
+		assertThat(cache.get("file:///a")).isEqualTo(text("file:///a", "a"));
+
+		// Subscribed contents expire as well, in case the updates stopped arriving
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(1));
+		assertThat(cache.get("file:///a")).isNull();
+		assertThat(cache.get("file:///b")).isNull();
+		assertThat(unsubscriptions).hasValue(1);
+
+		McpResourceCache.Stats stats = cache.stats();
+		assertThat(stats.hits()).isEqualTo(1);
+		assertThat(stats.misses()).isEqualTo(2);
+		assertThat(stats.entries()).isEqualTo(0);
+	}
+
+	@Test
+	void testEvictsLeastRecentlyReadBeyondBudget() {
+		McpResourceCache cache = McpResourceCache.builder().maxBytes(20).clock(virtualTimeScheduler).build();
+		put(cache, "a", text("a", "0123456789"));
+		put(cache, "b", text("b", "0123456789"));
+		cache.get("a");
+		put(cache, "c", text("c", "0123456789"));
+
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("c")).isNotNull();
+		assertThat(cache.stats().evictions()).isEqualTo(1);
+		assertThat(cache.stats().bytes()).isEqualTo(20);
+	}
+
+	@Test
+	void testEvictsLeastFrequentlyReadBeyondBudget() {
+		McpResourceCache cache = McpResourceCache.builder()
+			.maxBytes(20)
+			.eviction(McpResourceCache.Eviction.LFU)
+			.clock(virtualTimeScheduler)
+			.build();
+		put(cache, "a", text("a", "0123456789"));
+		put(cache, "b", text("b", "0123456789"));
+		cache.get("a");
+		cache.get("a");
+		cache.get("b");
+		cache.get("a");
+		put(cache, "c", text("c", "0123456789"));
+
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("b")).isNull();
+	}
+
+	@Test
+	void testDoesNotCacheContentsInvalidatedWhileRead() {
+		McpResourceCache cache = McpResourceCache.builder().clock(virtualTimeScheduler).build();
+		long generation = cache.beginLoad("a");
+		cache.invalidate("a");
+		cache.put("a", generation, text("a", "outdated"));
+
+		assertThat(cache.get("a")).isNull();
+	}
+
+	@Test
+	void testDoesNotCacheContentsOfSupersededRead() {
+		McpResourceCache cache = McpResourceCache.builder().clock(virtualTimeScheduler).build();
+		long first = cache.beginLoad("a");
+		long second = cache.beginLoad("a");
+
+		cache.put("a", second, text("a", "latest"));
+		cache.put("a", first, text("a", "outdated"));
+
+		assertThat(cache.get("a")).isEqualTo(text("a", "latest"));
+	}
+
+	@Test
+	void testSharesPendingSubscriptionAndRetriesFailedOne() {
+		McpResourceCache cache = McpResourceCache.builder().clock(virtualTimeScheduler).build();
+		AtomicInteger attempts = new AtomicInteger();
+		Sinks.One<Boolean> outcome = Sinks.one();
+		Function<String, Mono<Boolean>> subscriber = uri -> {
+			attempts.incrementAndGet();
+			return outcome.asMono();
+		};
+
+		Function<String, Mono<Void>> unsubscriber = uri -> Mono.empty();
+
+		StepVerifier
+			.create(Mono.zip(cache.subscribe("a", subscriber, unsubscriber),
+					cache.subscribe("a", subscriber, unsubscriber)))
+			.then(() -> outcome.tryEmitValue(false))
+			.assertNext(both -> assertThat(both.getT1() || both.getT2()).isFalse())
+			.verifyComplete();
+		assertThat(attempts).hasValue(1);
+
+		StepVerifier.create(cache.subscribe("a", uri -> Mono.just(true), unsubscriber))
+			.expectNext(true)
+			.verifyComplete();
+		StepVerifier.create(cache.subscribe("a", subscriber, unsubscriber)).expectNext(true).verifyComplete();
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void testUnsubscribesFromResourcesLeavingTheCache() {
+		McpResourceCache cache = McpResourceCache.builder().maxBytes(20).clock(virtualTimeScheduler).build();
+		AtomicInteger subscriptions = new AtomicInteger();
+		List<String> unsubscribed = new CopyOnWriteArrayList<>();
+		Function<String, Mono<Boolean>> subscriber = uri -> Mono.fromSupplier(subscriptions::incrementAndGet)
+			.thenReturn(true);
+		Function<String, Mono<Void>> unsubscriber = uri -> Mono.fromRunnable(() -> unsubscribed.add(uri));
+		for (String uri : List.of("a", "b", "c", "d")) {
+			cache.subscribe(uri, subscriber, unsubscriber).block();
+		}
+
+		put(cache, "a", text("a", "0123456789"));
+		put(cache, "b", text("b", "0123456789"));
+		put(cache, "c", text("c", "0123456789"));
+		cache.invalidate("b");
+		// Contents too large to cache are not kept subscribed either
+		put(cache, "d", text("d", "0123456789".repeat(3)));
+		assertThat(unsubscribed).containsExactly("a", "b", "d");
+
+		// A resource that left the cache is subscribed to again when read again
+		cache.subscribe("a", subscriber, unsubscriber).block();
+		assertThat(subscriptions).hasValue(5);
+
+		// The cache never unsubscribes from what the application subscribed to
+		cache.subscribedByApplication("c");
+		cache.invalidate("c");
+		assertThat(unsubscribed).containsExactly("a", "b", "d");
+	}
+
+	@Test
+	void testHoldsLargeBlobsOffHeap(@TempDir Path spillDirectory) {
+		byte[] data = new byte[4096];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) i;
+		}
+		String base64 = Base64.getEncoder().encodeToString(data);
+		McpSchema.ReadResourceResult result = new McpSchema.ReadResourceResult(
+				List.of(new McpSchema.BlobResourceContents("blob", "application/octet-stream", base64),
+						new McpSchema.TextResourceContents("blob", "text/plain", "small")));
+
+		for (Path directory : new Path[] { null, spillDirectory }) {
+			McpResourceCache cache = McpResourceCache.builder()
+				.offHeapThreshold(1024)
+				.spillDirectory(directory)
+				.clock(virtualTimeScheduler)
+				.build();
+			put(cache, "blob", result);
+
+			assertThat(cache.get("blob")).isEqualTo(result);
+			assertThat(cache.stats().offHeapBytes()).isEqualTo(base64.length());
+			assertThat(cache.stats().bytes()).isEqualTo(base64.length() + 5);
+		}
+		assertThat(spillDirectory).isEmptyDirectory();
+	}
+
+	@Test
+	void testBuilderRejectsInvalidSettings() {
+		assertThatThrownBy(() -> McpResourceCache.builder().maxBytes(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> McpResourceCache.builder().ttl(Duration.ZERO))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> McpResourceCache.builder().offHeapThreshold(-1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testClientSubscribesToCachedResourcesAndEvictsThemOnUpdate() {
+		AtomicInteger reads = new AtomicInteger();
+		AtomicInteger subscriptions = new AtomicInteger();
+		McpSchema.ServerCapabilities capabilities = McpSchema.ServerCapabilities.builder()
+			.resources(true, false)
+			.build();
+		McpSchema.InitializeResult initializeResult = new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+				capabilities, new McpSchema.Implementation("test-server", "1.0.0"), null);
+		MockMcpClientTransport transport = new MockMcpClientTransport((t, message) -> {
+			if (message instanceof McpSchema.JSONRPCRequest r) {
+				Object result = switch (r.method()) {
+					case METHOD_INITIALIZE -> initializeResult;
+					case McpSchema.METHOD_RESOURCES_SUBSCRIBE -> {
+						subscriptions.incrementAndGet();
+						yield Map.of();
+					}
+					case McpSchema.METHOD_RESOURCES_READ -> text("file:///a", "version-" + reads.incrementAndGet());
+					default -> null;
+				};
+				t.simulateIncomingMessage(
+						new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), result, null));
+			}
+		});
+		McpResourceCache cache = McpResourceCache.builder().build();
+		McpAsyncClient client = McpClient.async(transport).resourceCache(cache).build();
+		McpSchema.ReadResourceRequest request = new McpSchema.ReadResourceRequest("file:///a");
+
+		assertThat(client.initialize().block()).isNotNull();
+		assertThat(client.readResource(request).block()).isEqualTo(text("file:///a", "version-1"));
+		assertThat(client.readResource(request).block()).isEqualTo(text("file:///a", "version-1"));
+		assertThat(reads).hasValue(1);
+		assertThat(subscriptions).hasValue(1);
+
+		transport.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_RESOURCES_UPDATED,
+				new McpSchema.ResourcesUpdatedNotification("file:///a")));
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+			assertThat(reads).hasValue(2);
+			assertThat(cache.stats().entries()).isEqualTo(1);
+		});
+
+		assertThat(client.readResource(request).block()).isEqualTo(text("file:///a", "version-2"));
+		assertThat(reads).hasValue(2);
+		assertThat(subscriptions).hasValue(1);
+
+		client.closeGracefully().block();
+	}
+
+	@Test
+	void testClientReadsAgainAfterUnsubscribing() {
+		AtomicInteger version = new AtomicInteger(1);
+		AtomicInteger subscriptions = new AtomicInteger();
+		McpSchema.ServerCapabilities capabilities = McpSchema.ServerCapabilities.builder()
+			.resources(true, false)
+			.build();
+		McpSchema.InitializeResult initializeResult = new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+				capabilities, new McpSchema.Implementation("test-server", "1.0.0"), null);
+		MockMcpClientTransport transport = new MockMcpClientTransport((t, message) -> {
+			if (message instanceof McpSchema.JSONRPCRequest r) {
+				Object result = switch (r.method()) {
+					case METHOD_INITIALIZE -> initializeResult;
+					case McpSchema.METHOD_RESOURCES_SUBSCRIBE -> {
+						subscriptions.incrementAndGet();
+						yield Map.of();
+					}
+					case McpSchema.METHOD_RESOURCES_READ -> text("file:///a", "version-" + version.get());
+					default -> Map.of();
+				};
+				t.simulateIncomingMessage(
+						new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, r.id(), result, null));
+			}
+		});
+		McpAsyncClient client = McpClient.async(transport).resourceCache(McpResourceCache.builder().build()).build();
+		McpSchema.ReadResourceRequest request = new McpSchema.ReadResourceRequest("file:///a");
+
+		assertThat(client.initialize().block()).isNotNull();
+		assertThat(client.readResource(request).block()).isEqualTo(text("file:///a", "version-1"));
+		client.unsubscribeResource(new McpSchema.UnsubscribeRequest("file:///a")).block();
+
+		// No update is notified once unsubscribed, so the contents must be read again
+		version.set(2);
+		assertThat(client.readResource(request).block()).isEqualTo(text("file:///a", "version-2"));
+		assertThat(subscriptions).hasValue(2);
+
+		client.closeGracefully().block();
+	}
+
+}
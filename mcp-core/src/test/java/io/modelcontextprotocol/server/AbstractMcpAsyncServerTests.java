@@ -267,6 +267,31 @@ public abstract class AbstractMcpAsyncServerTests {
 		assertThatCode(() -> mcpAsyncServer.closeGracefully().block(Duration.ofSeconds(10))).doesNotThrowAnyException();
 	}
 
+	@Test
+	void testAddAndRemoveTools() {
+		var mcpAsyncServer = prepareAsyncServerBuilder().serverInfo("test-server", "1.0.0")
+			.capabilities(ServerCapabilities.builder().tools(true).build())
+			.build();
+
+		List<McpServerFeatures.AsyncToolSpecification> toolSpecifications = List.of("tool-1", "tool-2", "tool-3")
+			.stream()
+			.map(name -> McpServerFeatures.AsyncToolSpecification.builder()
+				.tool(McpSchema.Tool.builder().name(name).inputSchema(EMPTY_JSON_SCHEMA).build())
+				.callHandler((exchange, request) -> Mono.just(new CallToolResult(List.of(), false)))
+				.build())
+			.toList();
+
+		StepVerifier.create(mcpAsyncServer.addTools(toolSpecifications)).verifyComplete();
+		assertThat(mcpAsyncServer.listTools().map(Tool::name).collectList().block()).containsExactly("tool-1", "tool-2",
+				"tool-3");
+
+		StepVerifier.create(mcpAsyncServer.removeTools(List.of("tool-1", "tool-3", "nonexistent-tool")))
+			.verifyComplete();
+		assertThat(mcpAsyncServer.listTools().map(Tool::name).collectList().block()).containsExactly("tool-2");
+
+		assertThatCode(() -> mcpAsyncServer.closeGracefully().block(Duration.ofSeconds(10))).doesNotThrowAnyException();
+	}
+
 	@Test
 	void testNotifyToolsListChanged() {
 		Tool too = McpSchema.Tool.builder()
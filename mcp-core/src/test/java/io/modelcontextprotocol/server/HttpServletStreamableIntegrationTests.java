@@ -44,11 +44,7 @@ class HttpServletStreamableIntegrationTests extends AbstractMcpClientServerInteg
 	@BeforeEach
 	public void before() {
 		// Create and configure the transport provider
-		mcpServerTransportProvider = HttpServletStreamableServerTransportProvider.builder()
-			.contextExtractor(TEST_CONTEXT_EXTRACTOR)
-			.mcpEndpoint(MESSAGE_ENDPOINT)
-			.keepAliveInterval(Duration.ofSeconds(1))
-			.build();
+		mcpServerTransportProvider = transportProviderBuilder().build();
 
 		tomcat = TomcatTestUtil.createTomcatServer("", PORT, mcpServerTransportProvider);
 		try {
@@ -66,6 +62,13 @@ class HttpServletStreamableIntegrationTests extends AbstractMcpClientServerInteg
 						.build()).requestTimeout(Duration.ofHours(10)));
 	}
 
+	protected HttpServletStreamableServerTransportProvider.Builder transportProviderBuilder() {
+		return HttpServletStreamableServerTransportProvider.builder()
+			.contextExtractor(TEST_CONTEXT_EXTRACTOR)
+			.mcpEndpoint(MESSAGE_ENDPOINT)
+			.keepAliveInterval(Duration.ofSeconds(1));
+	}
+
 	@Override
 	protected AsyncSpecification<?> prepareAsyncServerBuilder() {
 		return McpServer.async(this.mcpServerTransportProvider);
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import io.modelcontextprotocol.server.transport.HttpServletStreamableServerTransportProvider;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Runs the integration tests of {@link HttpServletStreamableIntegrationTests} with the
+ * non-blocking servlet I/O enabled.
+ */
+@Timeout(15)
+class HttpServletStreamableNonBlockingIntegrationTests extends HttpServletStreamableIntegrationTests {
+
+	@Override
+	protected HttpServletStreamableServerTransportProvider.Builder transportProviderBuilder() {
+		return super.transportProviderBuilder().nonBlockingIo(true);
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link ListResultCache}.
+ */
+class ListResultCacheTests {
+
+	private final McpJsonMapper jsonMapper = McpJsonMapper.getDefault();
+
+	private final ListResultCache cache = new ListResultCache(this.jsonMapper);
+
+	@Test
+	void serializesEachPageOncePerVersion() throws Exception {
+		AtomicInteger computations = new AtomicInteger();
+
+		Object first = this.cache.get(1, -1, () -> Map.of("page", computations.incrementAndGet()));
+		Object second = this.cache.get(1, -1, () -> Map.of("page", computations.incrementAndGet()));
+		Object next = this.cache.get(1, 3, () -> Map.of("page", computations.incrementAndGet()));
+
+		assertThat(second).isSameAs(first);
+		assertThat(computations).hasValue(2);
+		assertThatJson(this.jsonMapper.writeValueAsString(first)).isEqualTo("{\"page\":1}");
+		assertThatJson(this.jsonMapper.writeValueAsString(next)).isEqualTo("{\"page\":2}");
+	}
+
+	@Test
+	void newVersionInvalidatesAllPages() throws Exception {
+		this.cache.get(1, -1, () -> Map.of("version", 1));
+
+		Object page = this.cache.get(2, -1, () -> Map.of("version", 2));
+
+		assertThatJson(this.jsonMapper.writeValueAsString(page)).isEqualTo("{\"version\":2}");
+	}
+
+	@Test
+	void outdatedVersionIsNotCached() throws Exception {
+		Object current = this.cache.get(2, -1, () -> Map.of("version", 2));
+
+		this.cache.get(1, -1, () -> Map.of("version", 1));
+
+		assertThat(this.cache.get(2, -1, () -> Map.of("version", 3))).isSameAs(current);
+	}
+
+	@Test
+	void serverListsFromCacheUntilCatalogChanges() throws Exception {
+		MockMcpServerTransport transport = new MockMcpServerTransport();
+		MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(transport);
+		McpAsyncServer server = McpServer.async(transportProvider)
+			.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+			.listPageSizes(McpListPageSizes.of(1))
+			.tools(toolSpecification("a"), toolSpecification("b"))
+			.build();
+		initialize(transportProvider);
+
+		Object firstPage = listTools(transport, transportProvider, null);
+		assertThat(listTools(transport, transportProvider, null)).isSameAs(firstPage);
+		McpSchema.ListToolsResult first = this.jsonMapper.convertValue(firstPage, McpSchema.ListToolsResult.class);
+		assertThat(first.tools()).extracting(McpSchema.Tool::name).containsExactly("a");
+
+		McpSchema.ListToolsResult second = this.jsonMapper
+			.convertValue(listTools(transport, transportProvider, first.nextCursor()), McpSchema.ListToolsResult.class);
+		assertThat(second.tools()).extracting(McpSchema.Tool::name).containsExactly("b");
+		assertThat(second.nextCursor()).isNull();
+
+		server.addTool(toolSpecification("c")).block();
+
+		assertThat(listTools(transport, transportProvider, null)).isNotSameAs(firstPage);
+		McpSchema.ListToolsResult last = this.jsonMapper
+			.convertValue(listTools(transport, transportProvider, first.nextCursor()), McpSchema.ListToolsResult.class);
+		assertThat(last.tools()).extracting(McpSchema.Tool::name).containsExactly("b");
+		assertThat(last.nextCursor()).isNotNull();
+
+		server.closeGracefully().block();
+	}
+
+	private static McpServerFeatures.AsyncToolSpecification toolSpecification(String name) {
+		return McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(McpSchema.Tool.builder()
+				.name(name)
+				.inputSchema(McpJsonMapper.getDefault(), "{\"type\":\"object\"}")
+				.build())
+			.callHandler((exchange, request) -> Mono.just(McpSchema.CallToolResult.builder().build()))
+			.build();
+	}
+
+	private void initialize(MockMcpServerTransportProvider transportProvider) throws Exception {
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(this.jsonMapper, """
+				{"jsonrpc":"2.0","id":"init","method":"initialize","params":{"protocolVersion":"2025-06-18",
+				"capabilities":{},"clientInfo":{"name":"client","version":"1.0.0"}}}"""));
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(this.jsonMapper, """
+				{"jsonrpc":"2.0","method":"notifications/initialized"}"""));
+	}
+
+	private Object listTools(MockMcpServerTransport transport, MockMcpServerTransportProvider transportProvider,
+			String cursor) {
+		transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_TOOLS_LIST, "list", new McpSchema.PaginatedRequest(cursor)));
+		var response = (McpSchema.JSONRPCResponse) transport.getLastSentMessage();
+		assertThat(response.error()).isNull();
+		return response.result();
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.McpPage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PaginationCursors}.
+ */
+class PaginationCursorsTests {
+
+	private final McpJsonMapper jsonMapper = McpJsonMapper.getDefault();
+
+	@Test
+	void decodesEncodedCursor() {
+		assertThat(PaginationCursors.decode(PaginationCursors.encode(42))).isEqualTo(42);
+	}
+
+	@Test
+	void firstPageWithoutParamsOrCursor() {
+		assertThat(PaginationCursors.afterSequence(this.jsonMapper, null)).isEqualTo(-1);
+		assertThat(PaginationCursors.afterSequence(this.jsonMapper, Map.of())).isEqualTo(-1);
+	}
+
+	@Test
+	void readsCursorFromParams() {
+		Map<String, Object> params = Map.of("cursor", PaginationCursors.encode(7));
+
+		assertThat(PaginationCursors.afterSequence(this.jsonMapper, params)).isEqualTo(7);
+	}
+
+	@Test
+	void nextCursorOnlyWhenMoreItemsFollow() {
+		assertThat(PaginationCursors.nextCursor(new McpPage<>(List.of("a"), 3))).isEqualTo(PaginationCursors.encode(3));
+		assertThat(PaginationCursors.nextCursor(new McpPage<>(List.of("a"), -1))).isNull();
+	}
+
+	@Test
+	void rejectsInvalidCursor() {
+		for (String cursor : List.of("not a cursor", PaginationCursors.encode(1).substring(1), "c2VxOi0x")) {
+			assertThatThrownBy(() -> PaginationCursors.decode(cursor)).isInstanceOf(McpError.class)
+				.satisfies(e -> assertThat(((McpError) e).getJsonRpcError().code())
+					.isEqualTo(McpSchema.ErrorCodes.INVALID_PARAMS));
+		}
+	}
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import io.modelcontextprotocol.util.DeafaultMcpUriTemplateManagerFactory;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link ResourceSubscriptions}.
+ */
+class ResourceSubscriptionsTests {
+
+	private final ResourceSubscriptions subscriptions = new ResourceSubscriptions(
+			new DeafaultMcpUriTemplateManagerFactory());
+
+	@Test
+	void findsSubscribersOfUri() {
+		this.subscriptions.subscribe("s1", "file:///a");
+		this.subscriptions.subscribe("s2", "file:///a");
+		this.subscriptions.subscribe("s2", "file:///b");
+
+		assertThat(this.subscriptions.subscribers("file:///a")).containsExactlyInAnyOrder("s1", "s2");
+		assertThat(this.subscriptions.subscribers("file:///b")).containsExactly("s2");
+		assertThat(this.subscriptions.subscribers("file:///c")).isEmpty();
+	}
+
+	@Test
+	void findsSubscribersOfMatchingTemplates() {
+		this.subscriptions.subscribe("s1", "file:///logs/{name}");
+		this.subscriptions.subscribe("s2", "file:///logs/app");
+
+		assertThat(this.subscriptions.subscribers("file:///logs/app")).containsExactlyInAnyOrder("s1", "s2");
+		assertThat(this.subscriptions.subscribers("file:///logs/db")).containsExactly("s1");
+		assertThat(this.subscriptions.subscribers("file:///other")).isEmpty();
+	}
+
+	@Test
+	void unsubscribesFromUriAndTemplate() {
+		this.subscriptions.subscribe("s1", "file:///a");
+		this.subscriptions.subscribe("s1", "file:///logs/{name}");
+
+		this.subscriptions.unsubscribe("s1", "file:///a");
+		this.subscriptions.unsubscribe("s1", "file:///logs/{name}");
+
+		assertThat(this.subscriptions.subscribers("file:///a")).isEmpty();
+		assertThat(this.subscriptions.subscribers("file:///logs/app")).isEmpty();
+	}
+
+	@Test
+	void removesAllSubscriptionsOfSession() {
+		this.subscriptions.subscribe("s1", "file:///a");
+		this.subscriptions.subscribe("s1", "file:///logs/{name}");
+		this.subscriptions.subscribe("s2", "file:///a");
+
+		this.subscriptions.removeSession("s1");
+
+		assertThat(this.subscriptions.subscribers("file:///a")).containsExactly("s2");
+		assertThat(this.subscriptions.subscribers("file:///logs/app")).isEmpty();
+	}
+
+	@Test
+	void serverNotifiesSubscribersOnly() throws Exception {
+		McpJsonMapper jsonMapper = McpJsonMapper.getDefault();
+		MockMcpServerTransport transport = new MockMcpServerTransport();
+		MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(transport);
+		McpAsyncServer server = McpServer.async(transportProvider)
+			.capabilities(McpSchema.ServerCapabilities.builder().resources(true, false).build())
+			.build();
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(jsonMapper, """
+				{"jsonrpc":"2.0","id":"init","method":"initialize","params":{"protocolVersion":"2025-06-18",
+				"capabilities":{},"clientInfo":{"name":"client","version":"1.0.0"}}}"""));
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(jsonMapper, """
+				{"jsonrpc":"2.0","method":"notifications/initialized"}"""));
+
+		transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_RESOURCES_SUBSCRIBE, "sub", new McpSchema.SubscribeRequest("file:///logs/{name}")));
+		var response = (McpSchema.JSONRPCResponse) transport.getLastSentMessage();
+		assertThat(response.error()).isNull();
+		assertThat(response.result()).isEqualTo(Map.of());
+		transport.clearSentMessages();
+
+		server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification("file:///other")).block();
+		assertThat(transport.getAllSentMessages()).isEmpty();
+
+		server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification("file:///logs/app")).block();
+		var notification = (McpSchema.JSONRPCNotification) transport.getLastSentMessage();
+		assertThat(notification.method()).isEqualTo(McpSchema.METHOD_NOTIFICATION_RESOURCES_UPDATED);
+		assertThat(jsonMapper.convertValue(notification.params(), McpSchema.ResourcesUpdatedNotification.class).uri())
+			.isEqualTo("file:///logs/app");
+
+		transportProvider.simulateIncomingMessage(
+				new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_RESOURCES_UNSUBSCRIBE, "unsub",
+						new McpSchema.UnsubscribeRequest("file:///logs/{name}")));
+		transport.clearSentMessages();
+
+		server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification("file:///logs/app")).block();
+		assertThat(transport.getAllSentMessages()).isEmpty();
+
+		server.closeGracefully().block();
+	}
+
+	@Test
+	void serverBroadcastsUpdatesWhenProviderCannotNotifySingleSession() throws Exception {
+		McpJsonMapper jsonMapper = McpJsonMapper.getDefault();
+		MockMcpServerTransport transport = new MockMcpServerTransport();
+		BroadcastOnlyTransportProvider transportProvider = new BroadcastOnlyTransportProvider(transport);
+		McpAsyncServer server = McpServer.async(transportProvider)
+			.capabilities(McpSchema.ServerCapabilities.builder().resources(true, false).build())
+			.build();
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(jsonMapper, """
+				{"jsonrpc":"2.0","id":"init","method":"initialize","params":{"protocolVersion":"2025-06-18",
+				"capabilities":{},"clientInfo":{"name":"client","version":"1.0.0"}}}"""));
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(jsonMapper, """
+				{"jsonrpc":"2.0","method":"notifications/initialized"}"""));
+		transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_RESOURCES_SUBSCRIBE, "sub", new McpSchema.SubscribeRequest("file:///a")));
+		assertThat(((McpSchema.JSONRPCResponse) transport.getLastSentMessage()).error()).isNull();
+		transport.clearSentMessages();
+
+		server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification("file:///a")).block();
+
+		assertThat(transport.getAllSentMessages()).singleElement()
+			.isInstanceOfSatisfying(McpSchema.JSONRPCNotification.class,
+					notification -> assertThat(notification.method())
+						.isEqualTo(McpSchema.METHOD_NOTIFICATION_RESOURCES_UPDATED));
+
+		server.closeGracefully().block();
+	}
+
+	/**
+	 * A provider relying on the default of
+	 * {@link McpServerTransportProvider#notifyClient(String, String, Object)}.
+	 */
+	private static final class BroadcastOnlyTransportProvider implements McpServerTransportProvider {
+
+		private final MockMcpServerTransport transport;
+
+		private McpServerSession session;
+
+		BroadcastOnlyTransportProvider(MockMcpServerTransport transport) {
+			this.transport = transport;
+		}
+
+		@Override
+		public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+			this.session = sessionFactory.create(this.transport);
+		}
+
+		@Override
+		public Mono<Void> notifyClients(String method, Object params) {
+			return this.session.sendNotification(method, params);
+		}
+
+		@Override
+		public Mono<Void> closeGracefully() {
+			return this.session.closeGracefully();
+		}
+
+		void simulateIncomingMessage(McpSchema.JSONRPCMessage message) {
+			this.session.handle(message).subscribe();
+		}
+
+	}
+
+	@Test
+	void serverDropsSubscriptionsOfClosedSession() throws Exception {
+		McpJsonMapper jsonMapper = McpJsonMapper.getDefault();
+		MockMcpServerTransport transport = new MockMcpServerTransport();
+		MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(transport);
+		McpAsyncServer server = McpServer.async(transportProvider)
+			.capabilities(McpSchema.ServerCapabilities.builder().resources(true, false).build())
+			.build();
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(jsonMapper, """
+				{"jsonrpc":"2.0","id":"init","method":"initialize","params":{"protocolVersion":"2025-06-18",
+				"capabilities":{},"clientInfo":{"name":"client","version":"1.0.0"}}}"""));
+		transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_RESOURCES_SUBSCRIBE, "sub", new McpSchema.SubscribeRequest("file:///a")));
+
+		// The mock provider still delivers to a closed session, so nothing is sent
+		// only because the subscription is gone
+		transportProvider.closeGracefully().block();
+		transport.clearSentMessages();
+
+		server.notifyResourcesUpdated(new McpSchema.ResourcesUpdatedNotification("file:///a")).block();
+		assertThat(transport.getAllSentMessages()).isEmpty();
+	}
+
+}
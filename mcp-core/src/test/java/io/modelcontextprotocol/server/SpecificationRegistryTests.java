@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import io.modelcontextprotocol.util.McpPage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SpecificationRegistry}.
+ */
+class SpecificationRegistryTests {
+
+	record Spec(String name, int version) {
+	}
+
+	private final SpecificationRegistry<Spec> registry = new SpecificationRegistry<>(Spec::name);
+
+	@Test
+	void looksUpSpecificationsByName() {
+		this.registry.addAll(List.of(new Spec("a", 1), new Spec("b", 1)));
+
+		assertThat(this.registry.get("b")).isEqualTo(new Spec("b", 1));
+		assertThat(this.registry.get("c")).isNull();
+	}
+
+	@Test
+	void listsSpecificationsInRegistrationOrder() {
+		this.registry.addAll(List.of(new Spec("c", 1), new Spec("a", 1)));
+		this.registry.addAll(List.of(new Spec("b", 1)));
+
+		assertThat(this.registry.list()).extracting(Spec::name).containsExactly("c", "a", "b");
+	}
+
+	@Test
+	void replacedSpecificationKeepsItsPosition() {
+		this.registry.addAll(List.of(new Spec("a", 1), new Spec("b", 1)));
+
+		List<String> replaced = this.registry.addAll(List.of(new Spec("a", 2)));
+		this.registry.put(new Spec("b", 2));
+
+		assertThat(replaced).containsExactly("a");
+		assertThat(this.registry.list()).containsExactly(new Spec("a", 2), new Spec("b", 2));
+	}
+
+	@Test
+	void removesOnlyRegisteredSpecifications() {
+		this.registry.addAll(List.of(new Spec("a", 1), new Spec("b", 1), new Spec("c", 1)));
+
+		assertThat(this.registry.removeAll(List.of("a", "c", "d"))).containsExactlyInAnyOrder("a", "c");
+		assertThat(this.registry.list()).extracting(Spec::name).containsExactly("b");
+		assertThat(this.registry.get("a")).isNull();
+		assertThat(this.registry.removeAll(List.of("d"))).isEmpty();
+	}
+
+	@Test
+	void listIsAnImmutableSnapshot() {
+		this.registry.addAll(List.of(new Spec("a", 1)));
+		List<Spec> snapshot = this.registry.list();
+
+		this.registry.addAll(List.of(new Spec("b", 1)));
+
+		assertThat(snapshot).extracting(Spec::name).containsExactly("a");
+		assertThatThrownBy(() -> snapshot.add(new Spec("c", 1))).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void pagesThroughSpecifications() {
+		this.registry.addAll(List.of(new Spec("a", 1), new Spec("b", 1), new Spec("c", 1)));
+
+		McpPage<Spec> first = this.registry.page(-1, 2);
+		McpPage<Spec> second = this.registry.page(first.lastSequence(), 2);
+
+		assertThat(first.items()).extracting(Spec::name).containsExactly("a", "b");
+		assertThat(first.hasMore()).isTrue();
+		assertThat(second.items()).extracting(Spec::name).containsExactly("c");
+		assertThat(second.hasMore()).isFalse();
+	}
+
+	@Test
+	void pageCursorSurvivesChanges() {
+		this.registry.addAll(List.of(new Spec("a", 1), new Spec("b", 1), new Spec("c", 1)));
+		McpPage<Spec> first = this.registry.page(-1, 2);
+
+		this.registry.removeAll(List.of("b", "c"));
+		this.registry.addAll(List.of(new Spec("d", 1), new Spec("a", 2)));
+
+		// "a" was already listed in the first page and is not listed again
+		assertThat(this.registry.page(first.lastSequence(), 2).items()).containsExactly(new Spec("d", 1));
+	}
+
+	@Test
+	void unpaginatedPageHoldsAllSpecifications() {
+		this.registry.addAll(List.of(new Spec("a", 1), new Spec("b", 1)));
+
+		McpPage<Spec> page = this.registry.page(-1, 0);
+
+		assertThat(page.items()).extracting(Spec::name).containsExactly("a", "b");
+		assertThat(page.hasMore()).isFalse();
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests for the {@link EventStore} implementations.
+ */
+class EventStoreTests {
+
+	private static final String SESSION_ID = "session-1";
+
+	@TempDir
+	static Path tempDir;
+
+	static Stream<Arguments> eventStores() throws IOException {
+		return Stream.of(Arguments.of(new InMemoryEventStore()),
+				Arguments.of(new MemoryMappedFileEventStore(Files.createTempDirectory(tempDir, "events"),
+						McpJsonMapper.getDefault())));
+	}
+
+	static Stream<Arguments> smallEventStores() throws IOException {
+		// Both retain only the most recent events
+		return Stream.of(Arguments.of(new InMemoryEventStore(4)),
+				Arguments.of(new MemoryMappedFileEventStore(Files.createTempDirectory(tempDir, "events"),
+						McpJsonMapper.getDefault(), 256, 2)));
+	}
+
+	@ParameterizedTest
+	@MethodSource("eventStores")
+	void replaysEventsOfStreamAfterSequence(EventStore eventStore) {
+		store(eventStore, "a", 1);
+		store(eventStore, "b", 2);
+		store(eventStore, "a", 3);
+		store(eventStore, "a", 4);
+
+		List<EventStore.Event> events = eventStore.replayEventsAfter(SESSION_ID, "a", 1).collectList().block();
+
+		assertThat(events).extracting(EventStore.Event::sequence).containsExactly(3L, 4L);
+		assertThat(events).extracting(EventStore.Event::streamId).containsOnly("a");
+		assertThat(events.get(0).message()).isEqualTo(notification(3));
+		assertThat(eventStore.replayEventsAfter(SESSION_ID, "b", 0).collectList().block())
+			.extracting(EventStore.Event::sequence)
+			.containsExactly(2L);
+		assertThat(eventStore.replayEventsAfter("other-session", "a", 0).collectList().block()).isEmpty();
+	}
+
+	@ParameterizedTest
+	@MethodSource("smallEventStores")
+	void evictsOldestEventsBeyondRetention(EventStore eventStore) {
+		for (int i = 1; i <= 50; i++) {
+			store(eventStore, "a", i);
+		}
+
+		List<Long> sequences = eventStore.replayEventsAfter(SESSION_ID, "a", 0)
+			.map(EventStore.Event::sequence)
+			.collectList()
+			.block();
+
+		assertThat(sequences).isNotEmpty().doesNotContain(1L).endsWith(50L).isSorted();
+	}
+
+	@ParameterizedTest
+	@MethodSource("eventStores")
+	void removeSessionDropsItsEvents(EventStore eventStore) {
+		store(eventStore, "a", 1);
+		store(eventStore, "a", 2);
+
+		eventStore.removeSession(SESSION_ID).block();
+
+		assertThat(eventStore.replayEventsAfter(SESSION_ID, "a", 0).collectList().block()).isEmpty();
+	}
+
+	@ParameterizedTest
+	@MethodSource("eventStores")
+	void storeEventDoesNotRecreateRemovedSession(EventStore eventStore) {
+		store(eventStore, "a", 1);
+		eventStore.removeSession(SESSION_ID).block();
+
+		store(eventStore, "a", 2);
+
+		assertThat(eventStore.replayEventsAfter(SESSION_ID, "a", 0).collectList().block()).isEmpty();
+	}
+
+	@Test
+	void memoryMappedStoreDeletesSessionFiles() throws Exception {
+		Path directory = tempDir.resolve("files");
+		var eventStore = new MemoryMappedFileEventStore(directory, McpJsonMapper.getDefault(), 128, 3);
+		for (int i = 1; i <= 20; i++) {
+			store(eventStore, "a", i);
+		}
+		try (Stream<Path> files = Files.walk(directory)) {
+			// Session directory and retained segments
+			assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(3);
+		}
+
+		eventStore.removeSession(SESSION_ID).block();
+
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void memoryMappedStoreKeepsSegmentsReadByReplayUntilDone() throws Exception {
+		Path directory = tempDir.resolve("replayed");
+		var eventStore = new MemoryMappedFileEventStore(directory, McpJsonMapper.getDefault(), 128, 3);
+		store(eventStore, "a", 1);
+		store(eventStore, "a", 2);
+
+		StepVerifier.create(eventStore.replayEventsAfter(SESSION_ID, "a", 0), 1)
+			.expectNextCount(1)
+			.then(() -> eventStore.removeSession(SESSION_ID).block())
+			.thenRequest(Long.MAX_VALUE)
+			.expectNextMatches(event -> event.message().equals(notification(2)))
+			.verifyComplete();
+
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void memoryMappedStoreKeepsEventsLargerThanSegment() {
+		var eventStore = new MemoryMappedFileEventStore(tempDir.resolve("large"), McpJsonMapper.getDefault(), 64, 2);
+		var message = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, "notifications/message",
+				Map.of("data", "x".repeat(1000)));
+
+		eventStore.storeEvent(SESSION_ID, new EventStore.Event("a", 1, message)).block();
+
+		assertThat(eventStore.replayEventsAfter(SESSION_ID, "a", 0).collectList().block())
+			.extracting(EventStore.Event::message)
+			.containsExactly(message);
+	}
+
+	@Test
+	void eventIdCombinesStreamAndSequence() {
+		var event = new EventStore.Event("stream_1", 42, notification(42));
+
+		assertThat(EventStore.Event.streamIdOf(event.id())).isEqualTo("stream_1");
+		assertThat(EventStore.Event.sequenceOf(event.id())).isEqualTo(42);
+		assertThat(EventStore.Event.streamIdOf("no-sequence")).isNull();
+		assertThat(EventStore.Event.streamIdOf("stream_abc")).isNull();
+		assertThat(EventStore.Event.sequenceOf("stream_-1")).isEqualTo(-1);
+	}
+
+	private static void store(EventStore eventStore, String streamId, long sequence) {
+		eventStore.storeEvent(SESSION_ID, new EventStore.Event(streamId, sequence, notification(sequence))).block();
+	}
+
+	private static McpSchema.JSONRPCNotification notification(long sequence) {
+		return new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_NOTIFICATION_PROGRESS,
+				Map.of("progressToken", "token", "progress", (int) sequence));
+	}
+
+}
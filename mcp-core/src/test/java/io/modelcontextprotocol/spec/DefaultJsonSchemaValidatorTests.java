@@ -13,6 +13,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -696,4 +699,94 @@ class DefaultJsonSchemaValidatorTests {
 		assertNotEquals(response1, response2);
 	}
 
+	@Test
+	void testSchemaCacheCountsHitsAndMisses() {
+		Map<String, Object> schema = Map.of("type", "object");
+
+		validator.validate(schema, Map.of());
+		validator.validate(toMap("{\"type\": \"object\"}"), Map.of());
+
+		DefaultJsonSchemaValidator.CacheStatistics statistics = validator.getCacheStatistics();
+		assertEquals(1, statistics.misses());
+		assertEquals(1, statistics.hits());
+		assertEquals(1, statistics.size());
+	}
+
+	@Test
+	void testSchemaCacheDistinguishesSchemasWithSameHashCode() {
+		// "Aa" and "BB" have the same hash code
+		Map<String, Object> schemaA = Map.of("type", "object", "properties", Map.of("Aa", Map.of("type", "integer")),
+				"required", List.of("Aa"));
+		Map<String, Object> schemaB = Map.of("type", "object", "properties", Map.of("BB", Map.of("type", "integer")),
+				"required", List.of("BB"));
+		assertEquals(schemaA.hashCode(), schemaB.hashCode());
+
+		assertTrue(validator.validate(schemaA, Map.of("Aa", 1)).valid());
+		assertFalse(validator.validate(schemaB, Map.of("Aa", 1)).valid());
+		assertEquals(2, validator.getCacheSize());
+	}
+
+	@Test
+	void testSchemaCacheIsNotAffectedByLaterChangesToSchema() {
+		// "Aa" and "BB" have the same hash code
+		Map<String, Object> schema = new HashMap<>(Map.of("type", "object", "properties",
+				Map.of("Aa", Map.of("type", "integer")), "required", List.of("Aa")));
+		assertTrue(validator.validate(schema, Map.of("Aa", 1)).valid());
+
+		schema.put("properties", Map.of("BB", Map.of("type", "integer")));
+		schema.put("required", List.of("BB"));
+
+		assertFalse(validator.validate(schema, Map.of("Aa", 1)).valid());
+	}
+
+	@Test
+	void testSchemaCacheEvictsLeastRecentlyUsedBeyondMaxSize() {
+		DefaultJsonSchemaValidator boundedValidator = new DefaultJsonSchemaValidator(new ObjectMapper(), 2,
+				Duration.ZERO);
+		Map<String, Object> first = Map.of("type", "object", "title", "first");
+		Map<String, Object> second = Map.of("type", "object", "title", "second");
+		Map<String, Object> third = Map.of("type", "object", "title", "third");
+
+		boundedValidator.validate(first, Map.of());
+		boundedValidator.validate(second, Map.of());
+		boundedValidator.validate(first, Map.of());
+		boundedValidator.validate(third, Map.of());
+
+		assertEquals(2, boundedValidator.getCacheSize());
+		assertEquals(1, boundedValidator.getCacheStatistics().evictions());
+
+		// The second schema was the least recently used one
+		boundedValidator.validate(first, Map.of());
+		assertEquals(2, boundedValidator.getCacheStatistics().hits());
+		boundedValidator.validate(second, Map.of());
+		assertEquals(4, boundedValidator.getCacheStatistics().misses());
+	}
+
+	@Test
+	void testSchemaCacheExpiresUnusedSchemas() throws InterruptedException {
+		DefaultJsonSchemaValidator expiringValidator = new DefaultJsonSchemaValidator(new ObjectMapper(), 10,
+				Duration.ofMillis(1));
+		Map<String, Object> schema = Map.of("type", "object");
+
+		expiringValidator.validate(schema, Map.of());
+		Thread.sleep(20);
+		expiringValidator.validate(schema, Map.of());
+
+		DefaultJsonSchemaValidator.CacheStatistics statistics = expiringValidator.getCacheStatistics();
+		assertEquals(2, statistics.misses());
+		assertEquals(1, statistics.evictions());
+		assertEquals(1, statistics.size());
+	}
+
+	@Test
+	void testPrecompileCachesSchema() {
+		Map<String, Object> schema = Map.of("type", "object");
+
+		validator.precompile(schema);
+		validator.validate(schema, Map.of());
+
+		assertEquals(1, validator.getCacheStatistics().hits());
+		assertEquals(1, validator.getCacheSize());
+	}
+
 }
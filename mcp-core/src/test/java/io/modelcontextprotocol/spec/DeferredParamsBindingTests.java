@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 - 2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.json.jackson.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for deferred binding of JSON-RPC {@code params} with
+ * {@link JacksonMcpJsonMapper}.
+ */
+class DeferredParamsBindingTests {
+
+	private static final String TOOL_CALL = """
+			{"jsonrpc":"2.0","id":1,"method":"tools/call","params":{"name":"echo","arguments":{"text":"hi","n":2}}}""";
+
+	private final McpJsonMapper deferredMapper = new JacksonMcpJsonMapper(new ObjectMapper(), true);
+
+	@Test
+	void paramsAreLeftUnboundWhenDeferredBindingIsEnabled() throws Exception {
+		var request = (McpSchema.JSONRPCRequest) McpSchema.deserializeJsonRpcMessage(deferredMapper, TOOL_CALL);
+
+		assertThat(request.method()).isEqualTo(McpSchema.METHOD_TOOLS_CALL);
+		assertThat(request.id()).isEqualTo(1);
+		assertThat(request.params()).isNotNull().isNotInstanceOf(Map.class);
+	}
+
+	@Test
+	void paramsAreBoundEagerlyByDefault() throws Exception {
+		var mapper = new JacksonMcpJsonMapper(new ObjectMapper());
+
+		var request = (McpSchema.JSONRPCRequest) McpSchema.deserializeJsonRpcMessage(mapper, TOOL_CALL);
+
+		assertThat(request.params()).isInstanceOf(Map.class);
+	}
+
+	@Test
+	void deferredParamsBindToRequestedType() throws Exception {
+		var request = (McpSchema.JSONRPCRequest) McpSchema.deserializeJsonRpcMessage(deferredMapper, TOOL_CALL);
+
+		McpSchema.CallToolRequest callToolRequest = deferredMapper.convertValue(request.params(),
+				McpSchema.CallToolRequest.class);
+		assertThat(callToolRequest.name()).isEqualTo("echo");
+		assertThat(callToolRequest.arguments()).containsEntry("text", "hi").containsEntry("n", 2);
+
+		// Deferred values can be bound more than once
+		Map<String, Object> asMap = deferredMapper.convertValue(request.params(), new TypeRef<Map<String, Object>>() {
+		});
+		assertThat(asMap).containsEntry("name", "echo");
+	}
+
+	@Test
+	void deferredParamsSerializeUnchanged() throws Exception {
+		var request = McpSchema.deserializeJsonRpcMessage(deferredMapper, TOOL_CALL);
+
+		assertThatJson(deferredMapper.writeValueAsString(request)).isEqualTo(TOOL_CALL);
+	}
+
+	@Test
+	void scalarAndNullParamsAreNotDeferred() throws Exception {
+		var withNull = (McpSchema.JSONRPCNotification) McpSchema.deserializeJsonRpcMessage(deferredMapper, """
+				{"jsonrpc":"2.0","method":"notifications/initialized","params":null}""");
+		assertThat(withNull.params()).isNull();
+
+		var withoutParams = (McpSchema.JSONRPCRequest) McpSchema.deserializeJsonRpcMessage(deferredMapper, """
+				{"jsonrpc":"2.0","id":"p-1","method":"ping"}""");
+		assertThat(withoutParams.params()).isNull();
+	}
+
+	@Test
+	void serverHandlesDeferredParams() throws Exception {
+		MockMcpServerTransport transport = new MockMcpServerTransport();
+		MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(transport);
+
+		var tool = McpSchema.Tool.builder().name("echo").inputSchema(deferredMapper, """
+				{"type":"object","properties":{"text":{"type":"string"}}}""").build();
+		var toolSpecification = McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(tool)
+			.callHandler((exchange,
+					request) -> Mono.just(McpSchema.CallToolResult.builder()
+						.addTextContent("echo: " + request.arguments().get("text"))
+						.build()))
+			.build();
+
+		var prompt = new McpSchema.Prompt("greeting", "Greeting",
+				List.of(new McpSchema.PromptArgument("name", "Name", true)));
+		var promptSpecification = new McpServerFeatures.AsyncPromptSpecification(prompt,
+				(exchange, request) -> Mono.just(new McpSchema.GetPromptResult(null, List.of())));
+
+		var completionSpecification = new McpServerFeatures.AsyncCompletionSpecification(
+				new McpSchema.PromptReference("greeting"), (exchange, request) -> {
+					var completion = new McpSchema.CompleteResult.CompleteCompletion(
+							List.of(request.argument().value() + "!"), 1, false);
+					return Mono.just(new McpSchema.CompleteResult(completion));
+				});
+
+		McpAsyncServer server = McpServer.async(transportProvider)
+			.jsonMapper(deferredMapper)
+			.capabilities(McpSchema.ServerCapabilities.builder().tools(false).prompts(false).completions().build())
+			.tools(toolSpecification)
+			.prompts(promptSpecification)
+			.completions(completionSpecification)
+			.build();
+
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(deferredMapper, """
+				{"jsonrpc":"2.0","id":"init","method":"initialize","params":{"protocolVersion":"2025-06-18",
+				"capabilities":{},"clientInfo":{"name":"client","version":"1.0.0"}}}"""));
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(deferredMapper, """
+				{"jsonrpc":"2.0","method":"notifications/initialized"}"""));
+
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(deferredMapper, TOOL_CALL));
+		var toolResponse = (McpSchema.JSONRPCResponse) transport.getLastSentMessage();
+		assertThat(toolResponse.error()).isNull();
+		assertThat(((McpSchema.CallToolResult) toolResponse.result()).content())
+			.containsExactly(new McpSchema.TextContent("echo: hi"));
+
+		transportProvider.simulateIncomingMessage(McpSchema.deserializeJsonRpcMessage(deferredMapper, """
+				{"jsonrpc":"2.0","id":2,"method":"completion/complete","params":{"ref":{"type":"ref/prompt",
+				"name":"greeting"},"argument":{"name":"name","value":"Al"}}}"""));
+		var completionResponse = (McpSchema.JSONRPCResponse) transport.getLastSentMessage();
+		assertThat(completionResponse.error()).isNull();
+		assertThat(((McpSchema.CompleteResult) completionResponse.result()).completion().values())
+			.containsExactly("Al!");
+
+		server.closeGracefully().block();
+	}
+
+}
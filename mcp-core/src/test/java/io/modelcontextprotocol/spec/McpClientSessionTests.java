@@ -6,6 +6,7 @@ package io.modelcontextprotocol.spec;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Function;
 
 import io.modelcontextprotocol.MockMcpClientTransport;
 import io.modelcontextprotocol.json.TypeRef;
@@ -119,6 +120,28 @@ class McpClientSessionTests {
 			.verify(TIMEOUT.plusSeconds(1));
 	}
 
+	@Test
+	void testSendRequestWithCompactRequestIds() {
+		transport = new MockMcpClientTransport();
+		session = new McpClientSession(TIMEOUT, transport, Map.of(), Map.of(), Function.identity(), true);
+
+		Mono<String> responseMono = session.sendRequest(TEST_METHOD, "test", responseType);
+
+		StepVerifier.create(responseMono).then(() -> {
+			McpSchema.JSONRPCRequest request = transport.getLastSentMessageAsRequest();
+			assertThat(request.id()).isEqualTo(1L);
+			// Small numeric IDs are read back from JSON as integers
+			transport.simulateIncomingMessage(
+					new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, 1, "compact response", null));
+		}).expectNext("compact response").verifyComplete();
+
+		StepVerifier.create(session.sendRequest(TEST_METHOD, "test", responseType)).then(() -> {
+			assertThat(transport.getLastSentMessageAsRequest().id()).isEqualTo(2L);
+			transport.simulateIncomingMessage(
+					new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, 2L, "second response", null));
+		}).expectNext("second response").verifyComplete();
+	}
+
 	@Test
 	void testSendNotification() {
 		Map<String, Object> params = Map.of("key", "value");
@@ -10,6 +10,10 @@ import static net.javacrumbs.jsonunit.assertj.JsonAssertions.json;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -306,6 +310,96 @@ public class McpSchemaTests {
 					{"jsonrpc":"2.0","id":1,"error":{"code":-32600,"message":"Invalid request"}}"""));
 	}
 
+	@Test
+	void testDeserializeJSONRPCRequest() throws Exception {
+		McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, """
+				{"params":{"name":"echo","arguments":{"text":"hi"}},"jsonrpc":"2.0","method":"tools/call","id":7}""");
+
+		assertThat(message).isInstanceOf(McpSchema.JSONRPCRequest.class);
+		McpSchema.JSONRPCRequest request = (McpSchema.JSONRPCRequest) message;
+		assertThat(request.jsonrpc()).isEqualTo(McpSchema.JSONRPC_VERSION);
+		assertThat(request.method()).isEqualTo(McpSchema.METHOD_TOOLS_CALL);
+		assertThat(request.id()).isEqualTo(7);
+		assertThat(request.params()).isInstanceOf(Map.class);
+
+		McpSchema.CallToolRequest callToolRequest = JSON_MAPPER.convertValue(request.params(),
+				McpSchema.CallToolRequest.class);
+		assertThat(callToolRequest.name()).isEqualTo("echo");
+		assertThat(callToolRequest.arguments()).containsEntry("text", "hi");
+	}
+
+	@Test
+	void testDeserializeJSONRPCNotification() throws Exception {
+		McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, """
+				{"jsonrpc":"2.0","method":"notifications/initialized"}""");
+
+		assertThat(message).isInstanceOf(McpSchema.JSONRPCNotification.class);
+		assertThat(((McpSchema.JSONRPCNotification) message).method())
+			.isEqualTo(McpSchema.METHOD_NOTIFICATION_INITIALIZED);
+	}
+
+	@Test
+	void testDeserializeJSONRPCResponse() throws Exception {
+		McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, """
+				{"jsonrpc":"2.0","id":"abc-1","result":{"result_key":"result_value"}}""");
+
+		assertThat(message).isInstanceOf(McpSchema.JSONRPCResponse.class);
+		McpSchema.JSONRPCResponse response = (McpSchema.JSONRPCResponse) message;
+		assertThat(response.id()).isEqualTo("abc-1");
+		assertThat(response.result()).isEqualTo(Map.of("result_key", "result_value"));
+		assertThat(response.error()).isNull();
+	}
+
+	@Test
+	void testDeserializeJSONRPCResponseWithError() throws Exception {
+		McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, """
+				{"jsonrpc":"2.0","id":1,"error":{"code":-32600,"message":"Invalid request"}}""");
+
+		assertThat(message).isInstanceOf(McpSchema.JSONRPCResponse.class);
+		McpSchema.JSONRPCResponse response = (McpSchema.JSONRPCResponse) message;
+		assertThat(response.error().code()).isEqualTo(McpSchema.ErrorCodes.INVALID_REQUEST);
+		assertThat(response.error().message()).isEqualTo("Invalid request");
+	}
+
+	@Test
+	void testDeserializeUnknownJSONRPCMessage() {
+		assertThatThrownBy(() -> McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, """
+				{"jsonrpc":"2.0","id":1}""")).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Cannot deserialize JSONRPCMessage");
+	}
+
+	@Test
+	void testDeserializeNonObjectJSONRPCMessage() {
+		assertThatThrownBy(() -> McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, """
+				[{"jsonrpc":"2.0","method":"ping","id":1}]""")).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void testDeserializeJSONRPCMessageFromInputStream() throws Exception {
+		var content = new ByteArrayInputStream("""
+				{"jsonrpc":"2.0","method":"tools/call","id":"s-1","params":{"name":"echo"}}"""
+			.getBytes(StandardCharsets.UTF_8));
+
+		var message = McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, content);
+
+		assertThat(message).isInstanceOf(McpSchema.JSONRPCRequest.class);
+		assertThat(((McpSchema.JSONRPCRequest) message).id()).isEqualTo("s-1");
+		// The caller owns the stream
+		assertThat(content.read()).isEqualTo(-1);
+	}
+
+	@Test
+	void testWriteJSONRPCMessageToOutputStream() throws Exception {
+		var notification = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, "notifications/initialized",
+				null);
+		var out = new ByteArrayOutputStream();
+
+		JSON_MAPPER.writeValue(out, notification);
+		out.write('\n');
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(JSON_MAPPER.writeValueAsString(notification) + "\n");
+	}
+
 	// Initialization Tests
 
 	@Test
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.server.McpRequestHandler;
+import io.modelcontextprotocol.server.events.EventStore;
+import io.modelcontextprotocol.server.events.InMemoryEventStore;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests for resuming the SSE streams of a {@link McpStreamableServerSession}.
+ */
+class McpStreamableServerSessionResumeTests {
+
+	private static final String SLOW_METHOD = "test/slow";
+
+	private final Sinks.One<String> result = Sinks.one();
+
+	private final McpRequestHandler<String> slowHandler = (exchange, params) -> exchange
+		.progressNotification(new McpSchema.ProgressNotification("token", 0.5, 1.0, "halfway"))
+		.then(this.result.asMono());
+
+	private final McpSchema.JSONRPCRequest request = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+			SLOW_METHOD, "req-1", null);
+
+	@Test
+	void resumedRequestStreamReceivesRemainingMessages() {
+		var session = createSession(new InMemoryEventStore());
+		var first = new RecordingTransport();
+
+		Disposable requestStream = session.responseStream(this.request, first).subscribe();
+		assertThat(first.events).hasSize(1);
+		String lastEventId = first.events.get(0).id();
+
+		// The connection drops while the request is in progress, then the client resumes
+		first.closeGracefully().block();
+		var second = new RecordingTransport();
+		var resumed = session.resume(lastEventId, second).block();
+
+		assertThat(resumed).isNotNull();
+		assertThat(first.events).hasSize(1);
+
+		this.result.tryEmitValue("done");
+
+		assertThat(second.events).hasSize(1);
+		var response = (McpSchema.JSONRPCResponse) second.events.get(0).message();
+		assertThat(response.id()).isEqualTo("req-1");
+		assertThat(response.result()).isEqualTo("done");
+		assertThat(EventStore.Event.streamIdOf(second.events.get(0).id()))
+			.isEqualTo(EventStore.Event.streamIdOf(lastEventId));
+		assertThat(second.closed).isTrue();
+		requestStream.dispose();
+	}
+
+	@Test
+	void replaysEventsSentWhileDisconnected() {
+		var session = createSession(new InMemoryEventStore());
+		var first = new RecordingTransport();
+		first.dropMessages = true;
+
+		session.responseStream(this.request, first).subscribe();
+		this.result.tryEmitValue("done");
+		assertThat(first.events).isEmpty();
+
+		// The client has not received any event of the stream yet
+		String streamId = EventStore.Event.streamIdOf(first.attemptedIds.get(0));
+		var second = new RecordingTransport();
+		var resumed = session.resume(streamId + "_0", second).block();
+
+		// The request has completed: events are replayed and the stream is closed
+		assertThat(resumed).isNull();
+		assertThat(second.events).extracting(Event::message)
+			.hasExactlyElementsOfTypes(McpSchema.JSONRPCNotification.class, McpSchema.JSONRPCResponse.class);
+		assertThat(second.events).extracting(Event::id).isEqualTo(first.attemptedIds);
+		assertThat(second.closed).isTrue();
+	}
+
+	@Test
+	void resumedListeningStreamKeepsStreamId() {
+		var session = createSession(new InMemoryEventStore());
+		var first = new RecordingTransport();
+		var listeningStream = session.listeningStream(first);
+
+		session.sendNotification("notifications/one", null).block();
+		session.sendNotification("notifications/two", null).block();
+		String lastEventId = first.events.get(0).id();
+		listeningStream.close(first);
+
+		var second = new RecordingTransport();
+		session.resume(lastEventId, second).block();
+		session.sendNotification("notifications/three", null).block();
+
+		assertThat(second.events).extracting(event -> ((McpSchema.JSONRPCNotification) event.message()).method())
+			.containsExactly("notifications/two", "notifications/three");
+		assertThat(second.events).extracting(event -> EventStore.Event.streamIdOf(event.id()))
+			.containsOnly(EventStore.Event.streamIdOf(lastEventId));
+	}
+
+	@Test
+	void resumeWithoutEventStoreReplaysNothing() {
+		var session = createSession(null);
+		var first = new RecordingTransport();
+		session.listeningStream(first);
+		session.sendNotification("notifications/one", null).block();
+
+		var second = new RecordingTransport();
+		session.resume(first.events.get(0).id(), second).block();
+		session.sendNotification("notifications/two", null).block();
+
+		assertThat(second.events).extracting(event -> ((McpSchema.JSONRPCNotification) event.message()).method())
+			.containsExactly("notifications/two");
+	}
+
+	@Test
+	void deleteRemovesStoredEvents() {
+		var eventStore = new InMemoryEventStore();
+		var session = createSession(eventStore);
+		var transport = new RecordingTransport();
+		session.listeningStream(transport);
+		session.sendNotification("notifications/one", null).block();
+		String streamId = EventStore.Event.streamIdOf(transport.events.get(0).id());
+
+		session.delete().block();
+
+		assertThat(eventStore.replayEventsAfter(session.getId(), streamId, 0).collectList().block()).isEmpty();
+	}
+
+	private McpStreamableServerSession createSession(EventStore eventStore) {
+		return new McpStreamableServerSession("session-1", McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("client", "1.0.0"), Duration.ofSeconds(10),
+				Map.of(SLOW_METHOD, this.slowHandler), Map.of(), eventStore);
+	}
+
+	record Event(String id, McpSchema.JSONRPCMessage message) {
+	}
+
+	static class RecordingTransport implements McpStreamableServerTransport {
+
+		final List<Event> events = new CopyOnWriteArrayList<>();
+
+		final List<String> attemptedIds = new CopyOnWriteArrayList<>();
+
+		volatile boolean dropMessages;
+
+		volatile boolean closed;
+
+		@Override
+		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message, String messageId) {
+			return Mono.fromRunnable(() -> {
+				this.attemptedIds.add(messageId);
+				if (!this.closed && !this.dropMessages) {
+					this.events.add(new Event(messageId, message));
+				}
+			});
+		}
+
+		@Override
+		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
+			return sendMessage(message, null);
+		}
+
+		@Override
+		public <T> T unmarshalFrom(Object data, TypeRef<T> typeRef) {
+			return McpJsonMapper.getDefault().convertValue(data, typeRef);
+		}
+
+		@Override
+		public Mono<Void> closeGracefully() {
+			return Mono.fromRunnable(() -> this.closed = true);
+		}
+
+		@Override
+		public void close() {
+			this.closed = true;
+		}
+
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.server.sessions.InMemoryMcpStreamableServerSessionStore;
+import io.modelcontextprotocol.server.sessions.McpStreamableServerSessionStore;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for rebuilding a {@link McpStreamableServerSession} from a
+ * {@link McpStreamableServerSessionStore} shared between nodes.
+ */
+class McpStreamableServerSessionStoreTests {
+
+	private final McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+			McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().roots(true).build(),
+			new McpSchema.Implementation("client", "1.0.0"));
+
+	private final McpSchema.InitializeResult initializeResult = new McpSchema.InitializeResult(
+			McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ServerCapabilities.builder().build(),
+			new McpSchema.Implementation("server", "1.0.0"), null);
+
+	@Test
+	void snapshotSurvivesSerialization() throws Exception {
+		var snapshot = new McpStreamableServerSessionStore.SessionSnapshot("session-1",
+				this.initializeRequest.capabilities(), this.initializeRequest.clientInfo(),
+				McpSchema.LoggingLevel.DEBUG, true, 3);
+
+		byte[] bytes = snapshot.toBytes(McpJsonMapper.getDefault());
+
+		assertThat(McpStreamableServerSessionStore.SessionSnapshot.fromBytes(McpJsonMapper.getDefault(), bytes))
+			.isEqualTo(snapshot);
+	}
+
+	@Test
+	void sessionStartedOnOneNodeIsRebuiltOnAnother() {
+		var store = new InMemoryMcpStreamableServerSessionStore();
+		var first = createFactory(store);
+		var second = createFactory(store);
+
+		var init = first.startSession(this.initializeRequest);
+		assertThat(init.initResult().block()).isEqualTo(this.initializeResult);
+		var session = init.session();
+		session
+			.accept(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+					McpSchema.METHOD_NOTIFICATION_INITIALIZED, null))
+			.block();
+		session.setMinLoggingLevel(McpSchema.LoggingLevel.ERROR);
+
+		var rebuilt = second.loadSession(session.getId()).block();
+
+		assertThat(rebuilt).isNotNull().isNotSameAs(session);
+		assertThat(rebuilt.snapshot()).isEqualTo(session.snapshot());
+		assertThat(rebuilt.snapshot().initialized()).isTrue();
+		assertThat(rebuilt.isNotificationForLevelAllowed(McpSchema.LoggingLevel.WARNING)).isFalse();
+		assertThat(rebuilt.isNotificationForLevelAllowed(McpSchema.LoggingLevel.ERROR)).isTrue();
+	}
+
+	@Test
+	void olderSnapshotDoesNotReplaceNewerOne() {
+		var store = new InMemoryMcpStreamableServerSessionStore();
+		var newer = new McpStreamableServerSessionStore.SessionSnapshot("session-1",
+				this.initializeRequest.capabilities(), this.initializeRequest.clientInfo(),
+				McpSchema.LoggingLevel.ERROR, true, 2);
+		var older = new McpStreamableServerSessionStore.SessionSnapshot("session-1",
+				this.initializeRequest.capabilities(), this.initializeRequest.clientInfo(),
+				McpSchema.LoggingLevel.DEBUG, false, 1);
+
+		store.saveSession(newer).then(store.saveSession(older)).block();
+
+		assertThat(store.loadSession("session-1").block()).isEqualTo(newer);
+	}
+
+	@Test
+	void rebuiltSessionRejectsRequestsUntilInitialized() {
+		var store = new InMemoryMcpStreamableServerSessionStore();
+		var init = createFactory(store).startSession(this.initializeRequest);
+		init.initResult().block();
+		var rebuilt = createFactory(store).loadSession(init.session().getId()).block();
+
+		var rejected = new McpStreamableServerSessionResumeTests.RecordingTransport();
+		rebuilt.responseStream(request("1"), rejected).block();
+
+		assertThat(rejected.events).singleElement()
+			.extracting(event -> ((McpSchema.JSONRPCResponse) event.message()).error().code())
+			.isEqualTo(McpSchema.ErrorCodes.INVALID_REQUEST);
+
+		// The client completes the initialization on the node that started the session
+		init.session()
+			.accept(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+					McpSchema.METHOD_NOTIFICATION_INITIALIZED, null))
+			.block();
+		var accepted = new McpStreamableServerSessionResumeTests.RecordingTransport();
+		rebuilt.responseStream(request("2"), accepted).block();
+
+		assertThat(accepted.events).singleElement()
+			.extracting(event -> ((McpSchema.JSONRPCResponse) event.message()).result())
+			.isEqualTo(Map.of());
+	}
+
+	@Test
+	void deletedSessionCannotBeRebuilt() {
+		var store = new InMemoryMcpStreamableServerSessionStore();
+		var session = createFactory(store).startSession(this.initializeRequest);
+		session.initResult().block();
+		assertThat(store.size()).isEqualTo(1);
+
+		session.session().delete().block();
+
+		assertThat(store.size()).isZero();
+		assertThat(createFactory(store).loadSession(session.session().getId()).block()).isNull();
+	}
+
+	@Test
+	void unknownSessionsAreNotRebuilt() {
+		assertThat(createFactory(new InMemoryMcpStreamableServerSessionStore()).loadSession("unknown").block())
+			.isNull();
+		assertThat(createFactory(null).loadSession("unknown").block()).isNull();
+	}
+
+	private DefaultMcpStreamableServerSessionFactory createFactory(McpStreamableServerSessionStore store) {
+		return new DefaultMcpStreamableServerSessionFactory(Duration.ofSeconds(10),
+				request -> Mono.just(this.initializeResult),
+				Map.of(McpSchema.METHOD_TOOLS_LIST, (exchange, params) -> Mono.just(Map.of())), Map.of(), null, store);
+	}
+
+	private McpSchema.JSONRPCRequest request(String id) {
+		return new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_TOOLS_LIST, id, null);
+	}
+
+}
@@ -4,7 +4,11 @@ import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.json.TypeRef;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -97,6 +101,28 @@ class GsonMcpJsonMapperTests {
 		assertEquals("z", params.get("y"));
 	}
 
+	@Test
+	void readAndWriteStreamsWithDefaultMethods() throws IOException {
+		var mapper = new GsonMcpJsonMapper();
+		var input = new Person("Carol", 27);
+
+		var out = new ByteArrayOutputStream();
+		mapper.writeValue(out, input);
+		byte[] bytes = out.toByteArray();
+
+		assertEquals(input, mapper.readValue(new ByteArrayInputStream(bytes), Person.class));
+
+		var buffer = ByteBuffer
+			.wrap(("xx" + new String(bytes, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8));
+		buffer.position(2);
+		assertEquals(input, mapper.readValue(buffer, Person.class));
+		assertEquals(2, buffer.position());
+
+		var message = McpSchema.deserializeJsonRpcMessage(mapper, new ByteArrayInputStream("""
+				{"jsonrpc":"2.0","id":"1","method":"ping"}""".getBytes(StandardCharsets.UTF_8)));
+		assertTrue(message instanceof McpSchema.JSONRPCRequest);
+	}
+
 	@Test
 	void integrateWithMcpSchemaStaticMapperForStringParsing() {
 		var gsonMapper = new GsonMcpJsonMapper();
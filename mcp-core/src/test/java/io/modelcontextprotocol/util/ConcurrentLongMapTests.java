@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ConcurrentLongMap}.
+ */
+class ConcurrentLongMapTests {
+
+	@Test
+	void testPutGetAndRemove() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+
+		assertThat(map.put(1, "one")).isNull();
+		assertThat(map.put(2, "two")).isNull();
+		assertThat(map.put(1, "uno")).isEqualTo("one");
+
+		assertThat(map.get(1)).isEqualTo("uno");
+		assertThat(map.get(3)).isNull();
+		assertThat(map.size()).isEqualTo(2);
+
+		assertThat(map.remove(2)).isEqualTo("two");
+		assertThat(map.remove(2)).isNull();
+		assertThat(map.size()).isEqualTo(1);
+	}
+
+	@Test
+	void testConditionalRemoveMatchesTheValueInstance() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+		String value = "value";
+		map.put(7, value);
+
+		assertThat(map.remove(7, new String("value"))).isFalse();
+		assertThat(map.remove(7, value)).isTrue();
+		assertThat(map.get(7)).isNull();
+	}
+
+	@Test
+	void testMatchesHashMapUnderRandomOperations() {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(4);
+		Map<Long, Long> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 100_000; i++) {
+			long key = random.nextInt(2_000);
+			if (random.nextInt(3) == 0) {
+				assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+			}
+			else {
+				assertThat(map.put(key, key + i)).isEqualTo(expected.put(key, key + i));
+			}
+		}
+
+		assertThat(map.size()).isEqualTo(expected.size());
+		expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+	}
+
+	@Test
+	void testDrainRemovesAllEntries() {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+		for (long key = 0; key < 1_000; key++) {
+			map.put(key, key * 10);
+		}
+
+		Map<Long, Long> drained = new HashMap<>();
+		map.drain(drained::put);
+
+		assertThat(drained).hasSize(1_000).containsEntry(999L, 9_990L);
+		assertThat(map.size()).isZero();
+	}
+
+	@Test
+	void testConcurrentUpdatesOfDistinctKeys() throws Exception {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<?>[] futures = new Future<?>[4];
+			for (int t = 0; t < futures.length; t++) {
+				long base = t * 1_000_000L;
+				futures[t] = executor.submit(() -> {
+					for (long key = base; key < base + 10_000; key++) {
+						map.put(key, key);
+					}
+					for (long key = base; key < base + 10_000; key += 2) {
+						assertThat(map.remove(key)).isEqualTo(key);
+					}
+				});
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(map.size()).isEqualTo(20_000);
+		assertThat(map.get(1_000_001L)).isEqualTo(1_000_001L);
+		assertThat(map.get(1_000_000L)).isNull();
+	}
+
+	@Test
+	void testRejectsInvalidArguments() {
+		assertThatThrownBy(() -> new ConcurrentLongMap<>(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new ConcurrentLongMap<String>().put(1, null))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
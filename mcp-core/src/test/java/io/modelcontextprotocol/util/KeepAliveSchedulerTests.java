@@ -9,6 +9,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -23,6 +25,7 @@ import io.modelcontextprotocol.spec.McpSession;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.scheduler.VirtualTimeScheduler;
 
 /**
@@ -249,6 +252,191 @@ class KeepAliveSchedulerTests {
 		assertThat(scheduler.isRunning()).isFalse();
 	}
 
+	@Test
+	void testWheelSpreadsPingsOverInterval() {
+		List<MockMcpSession> sessions = new ArrayList<>();
+		for (int i = 0; i < 64; i++) {
+			sessions.add(new MockMcpSession());
+		}
+		mockSessionsSupplier = () -> Flux.fromIterable(sessions);
+
+		KeepAliveScheduler scheduler = KeepAliveScheduler.builder(mockSessionsSupplier)
+			.scheduler(virtualTimeScheduler)
+			.initialDelay(Duration.ZERO)
+			.interval(Duration.ofSeconds(4))
+			.wheelSlots(4)
+			.build();
+
+		scheduler.start();
+
+		// The first slot only
+		virtualTimeScheduler.advanceTimeBy(Duration.ZERO);
+		int firstSlot = totalPings(sessions);
+		assertThat(firstSlot).isGreaterThan(0).isLessThan(64);
+
+		// One full turn of the wheel pings each session once
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(3));
+		assertThat(sessions).allSatisfy(session -> assertThat(session.getPingCount()).isEqualTo(1));
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(4));
+		assertThat(sessions).allSatisfy(session -> assertThat(session.getPingCount()).isEqualTo(2));
+
+		scheduler.stop();
+	}
+
+	@Test
+	void testPingsRegisteredSessionsUntilUnregistered() {
+		List<MockMcpSession> sessions = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			sessions.add(new MockMcpSession());
+		}
+
+		KeepAliveScheduler scheduler = KeepAliveScheduler.builder()
+			.scheduler(virtualTimeScheduler)
+			.initialDelay(Duration.ZERO)
+			.interval(Duration.ofSeconds(4))
+			.wheelSlots(4)
+			.build();
+		sessions.forEach(scheduler::register);
+
+		scheduler.start();
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(3));
+		assertThat(sessions).allSatisfy(session -> assertThat(session.getPingCount()).isEqualTo(1));
+
+		scheduler.unregister(sessions.get(0));
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(4));
+
+		assertThat(sessions.get(0).getPingCount()).isEqualTo(1);
+		assertThat(sessions.subList(1, sessions.size()))
+			.allSatisfy(session -> assertThat(session.getPingCount()).isEqualTo(2));
+
+		scheduler.stop();
+	}
+
+	@Test
+	void testCatchesUpOnTicksDroppedWhilePingsArePending() {
+		Sinks.One<Object> pong = Sinks.one();
+		List<MockMcpSession> sessions = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			MockMcpSession session = new MockMcpSession();
+			session.setPingResponse(pong.asMono());
+			sessions.add(session);
+		}
+
+		KeepAliveScheduler scheduler = KeepAliveScheduler.builder()
+			.scheduler(virtualTimeScheduler)
+			.initialDelay(Duration.ZERO)
+			.interval(Duration.ofSeconds(4))
+			.wheelSlots(4)
+			.maxInFlight(1)
+			.build();
+		sessions.forEach(scheduler::register);
+
+		scheduler.start();
+
+		// The first ping blocks the wheel while the following ticks are dropped
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(10));
+		assertThat(totalPings(sessions)).isEqualTo(1);
+		pong.tryEmitValue(new Object());
+
+		// The next tick visits the slots of the dropped ticks as well, once
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(1));
+		assertThat(sessions).allSatisfy(session -> assertThat(session.getPingCount()).isBetween(1, 2));
+
+		scheduler.stop();
+	}
+
+	@Test
+	void testSkipsRecentlyActiveSessions() {
+		mockSessionsSupplier = () -> Flux.just(mockSession1, mockSession2);
+		mockSession1.setLastActivityNanos(System.nanoTime());
+
+		KeepAliveScheduler scheduler = KeepAliveScheduler.builder(mockSessionsSupplier)
+			.scheduler(virtualTimeScheduler)
+			.initialDelay(Duration.ofSeconds(1))
+			.interval(Duration.ofHours(1))
+			.build();
+
+		scheduler.start();
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+		assertThat(mockSession1.getPingCount()).isEqualTo(0);
+		assertThat(mockSession2.getPingCount()).isEqualTo(1);
+
+		scheduler.stop();
+	}
+
+	@Test
+	void testCapsPingsInFlight() {
+		List<MockMcpSession> sessions = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			MockMcpSession session = new MockMcpSession();
+			session.setPingResponse(Mono.never());
+			sessions.add(session);
+		}
+		mockSessionsSupplier = () -> Flux.fromIterable(sessions);
+
+		KeepAliveScheduler scheduler = KeepAliveScheduler.builder(mockSessionsSupplier)
+			.scheduler(virtualTimeScheduler)
+			.initialDelay(Duration.ofSeconds(1))
+			.interval(Duration.ofSeconds(2))
+			.maxInFlight(3)
+			.build();
+
+		scheduler.start();
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(5));
+
+		assertThat(totalPings(sessions)).isEqualTo(3);
+		assertThat(scheduler.isRunning()).isTrue();
+
+		scheduler.stop();
+	}
+
+	@Test
+	void testEvictsSessionAfterConsecutiveFailures() {
+		mockSessionsSupplier = () -> Flux.just(mockSession1, mockSession2);
+		mockSession1.setShouldFailPing(true);
+		List<McpSession> evicted = new ArrayList<>();
+
+		KeepAliveScheduler scheduler = KeepAliveScheduler.builder(mockSessionsSupplier)
+			.scheduler(virtualTimeScheduler)
+			.initialDelay(Duration.ofSeconds(1))
+			.interval(Duration.ofSeconds(2))
+			.maxFailures(3)
+			.evictionHandler(evicted::add)
+			.build();
+
+		scheduler.start();
+
+		// Two failures, then a success resets the count
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(3));
+		mockSession1.setShouldFailPing(false);
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(2));
+		mockSession1.setShouldFailPing(true);
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(4));
+		assertThat(evicted).isEmpty();
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(2));
+		assertThat(evicted).containsExactly(mockSession1);
+		assertThat(mockSession1.getPingCount()).isEqualTo(6);
+
+		scheduler.stop();
+	}
+
+	@Test
+	void testBuilderRejectsInvalidLimits() {
+		assertThatThrownBy(() -> KeepAliveScheduler.builder(mockSessionsSupplier).wheelSlots(0))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> KeepAliveScheduler.builder(mockSessionsSupplier).maxInFlight(0))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> KeepAliveScheduler.builder(mockSessionsSupplier).maxFailures(-1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static int totalPings(List<MockMcpSession> sessions) {
+		return sessions.stream().mapToInt(MockMcpSession::getPingCount).sum();
+	}
+
 	/**
 	 * Simple mock implementation of McpSession for testing purposes.
 	 */
@@ -258,6 +446,10 @@ class KeepAliveSchedulerTests {
 
 		private boolean shouldFailPing = false;
 
+		private Mono<Object> pingResponse = Mono.just(new Object());
+
+		private long lastActivityNanos = 0;
+
 		@Override
 		public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
 			if (McpSchema.METHOD_PING.equals(method)) {
@@ -265,7 +457,7 @@ class KeepAliveSchedulerTests {
 				if (shouldFailPing) {
 					return Mono.error(new RuntimeException("Connection failed"));
 				}
-				return Mono.just((T) new Object());
+				return (Mono<T>) pingResponse;
 			}
 			return Mono.empty();
 		}
@@ -293,6 +485,19 @@ class KeepAliveSchedulerTests {
 			this.shouldFailPing = shouldFailPing;
 		}
 
+		public void setPingResponse(Mono<Object> pingResponse) {
+			this.pingResponse = pingResponse;
+		}
+
+		@Override
+		public long lastActivityNanos() {
+			return lastActivityNanos;
+		}
+
+		public void setLastActivityNanos(long lastActivityNanos) {
+			this.lastActivityNanos = lastActivityNanos;
+		}
+
 		@Override
 		public String toString() {
 			return "MockMcpSession";
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Tests for {@link McpSchedulers}.
+ */
+class McpSchedulersTests {
+
+	@Test
+	void supportsVirtualThreadsFromJava21() {
+		assertThat(McpSchedulers.isVirtualThreadsSupported()).isEqualTo(Runtime.version().feature() >= 21);
+	}
+
+	@Test
+	void virtualThreadsSchedulerRunsTasks() {
+		if (!McpSchedulers.isVirtualThreadsSupported()) {
+			assertThat(McpSchedulers.virtualThreads()).isSameAs(Schedulers.boundedElastic());
+		}
+
+		String threadName = Mono.fromCallable(() -> Thread.currentThread().getName())
+			.subscribeOn(McpSchedulers.virtualThreads())
+			.block();
+
+		assertThat(threadName).isNotNull();
+	}
+
+	@Test
+	void singleThreadExecutorUsesNamedThread() throws Exception {
+		for (boolean virtual : new boolean[] { false, true }) {
+			ExecutorService executor = McpSchedulers.newSingleThreadExecutor("mcp-test", virtual);
+			try {
+				Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+				assertThat(thread.getName()).isEqualTo("mcp-test");
+				assertThat(thread.isDaemon()).isEqualTo(virtual && McpSchedulers.isVirtualThreadsSupported());
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+}
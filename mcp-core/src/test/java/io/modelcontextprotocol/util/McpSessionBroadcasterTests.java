@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSession;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Tests for {@link McpSessionBroadcaster}.
+ */
+class McpSessionBroadcasterTests {
+
+	private final McpJsonMapper jsonMapper = McpJsonMapper.getDefault();
+
+	private final McpSessionBroadcaster broadcaster = new McpSessionBroadcaster(this.jsonMapper);
+
+	@Test
+	void countsDeliveredAndDroppedSessions() {
+		List<Object> sent = Collections.synchronizedList(new ArrayList<>());
+		McpSession healthy = session(Mono.fromRunnable(() -> sent.add("ok")));
+		McpSession failing = session(Mono.error(new IllegalStateException("gone")));
+
+		var result = this.broadcaster.notify(List.of(healthy, failing, healthy), "notifications/test", null).block();
+
+		assertThat(result).isEqualTo(new McpSessionBroadcaster.Result(2, 1));
+		assertThat(sent).hasSize(2);
+	}
+
+	@Test
+	void serializesParamsOnce() throws Exception {
+		List<Object> payloads = Collections.synchronizedList(new ArrayList<>());
+		McpSession first = mock(McpSession.class);
+		McpSession second = mock(McpSession.class);
+		for (McpSession session : List.of(first, second)) {
+			when(session.sendNotification(eq("notifications/test"), any())).thenAnswer(invocation -> {
+				payloads.add(invocation.getArgument(1));
+				return Mono.empty();
+			});
+		}
+
+		this.broadcaster.notify(List.of(first, second), "notifications/test", Map.of("uri", "file:///a")).block();
+
+		assertThat(payloads).hasSize(2);
+		assertThat(payloads.get(0)).isSameAs(payloads.get(1));
+		assertThatJson(this.jsonMapper.writeValueAsString(payloads.get(0))).isEqualTo("{\"uri\":\"file:///a\"}");
+	}
+
+	@Test
+	void boundsConcurrency() {
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		McpSession session = session(Mono.fromRunnable(() -> {
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			active.decrementAndGet();
+		}));
+		var broadcaster = new McpSessionBroadcaster(this.jsonMapper, 2, Schedulers.boundedElastic());
+
+		var result = broadcaster.notify(List.of(session, session, session, session, session, session), "test", null)
+			.block();
+
+		assertThat(result.delivered()).isEqualTo(6);
+		assertThat(maxActive.get()).isBetween(1, 2);
+	}
+
+	@Test
+	void closesAllSessions() {
+		McpSession session = mock(McpSession.class);
+		when(session.closeGracefully()).thenReturn(Mono.empty());
+
+		var result = this.broadcaster.closeGracefully(List.of(session, session)).block();
+
+		assertThat(result).isEqualTo(new McpSessionBroadcaster.Result(2, 0));
+		assertThat(this.broadcaster.closeGracefully(List.of()).block())
+			.isEqualTo(new McpSessionBroadcaster.Result(0, 0));
+	}
+
+	private static McpSession session(Mono<Void> notification) {
+		McpSession session = mock(McpSession.class);
+		when(session.sendNotification(any(), any())).thenReturn(notification);
+		return session;
+	}
+
+}
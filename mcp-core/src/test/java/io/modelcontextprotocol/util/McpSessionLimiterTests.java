@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSession;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Unit tests for {@link McpSessionLimiter}.
+ */
+class McpSessionLimiterTests {
+
+	private final Map<String, MockMcpSession> sessions = new ConcurrentHashMap<>();
+
+	private VirtualTimeScheduler virtualTimeScheduler;
+
+	@BeforeEach
+	void setUp() {
+		virtualTimeScheduler = VirtualTimeScheduler.create();
+	}
+
+	@AfterEach
+	void tearDown() {
+		virtualTimeScheduler.dispose();
+	}
+
+	@Test
+	void testAdmitsAnyNumberOfSessionsByDefault() {
+		McpSessionLimiter<MockMcpSession> limiter = McpSessionLimiter.builder(sessions).build();
+		for (int i = 0; i < 100; i++) {
+			sessions.put("s" + i, new MockMcpSession(0));
+		}
+
+		assertThat(limiter.tryAdmit()).isTrue();
+		assertThat(limiter.stats()).isEqualTo(new McpSessionLimiter.Stats(100, 0, 0));
+	}
+
+	@Test
+	void testRejectsSessionsBeyondMaximum() {
+		McpSessionLimiter<MockMcpSession> limiter = McpSessionLimiter.builder(sessions).maxSessions(2).build();
+
+		sessions.put("a", new MockMcpSession(0));
+		assertThat(limiter.tryAdmit()).isTrue();
+		sessions.put("b", new MockMcpSession(0));
+		assertThat(limiter.tryAdmit()).isFalse();
+		assertThat(limiter.tryAdmit()).isFalse();
+
+		sessions.remove("a");
+		assertThat(limiter.tryAdmit()).isTrue();
+		assertThat(limiter.stats().rejected()).isEqualTo(2);
+	}
+
+	@Test
+	void testRetryAfterIsRoundedToWholeSeconds() {
+		assertThat(McpSessionLimiter.builder(sessions).build().retryAfterSeconds()).isEqualTo("5");
+		assertThat(McpSessionLimiter.builder(sessions).retryAfter(Duration.ofMillis(1500)).build().retryAfterSeconds())
+			.isEqualTo("1");
+		assertThat(McpSessionLimiter.builder(sessions).retryAfter(Duration.ZERO).build().retryAfterSeconds())
+			.isEqualTo("1");
+	}
+
+	@Test
+	void testSweepEvictsIdleSessionsOnly() {
+		List<MockMcpSession> evicted = new ArrayList<>();
+		McpSessionLimiter<MockMcpSession> limiter = McpSessionLimiter.builder(sessions)
+			.idleTimeout(Duration.ofMinutes(1))
+			.evictionHandler(evicted::add)
+			.build();
+
+		long now = System.nanoTime();
+		MockMcpSession idle = new MockMcpSession(now - Duration.ofMinutes(2).toNanos());
+		MockMcpSession active = new MockMcpSession(now);
+		MockMcpSession untracked = new MockMcpSession(0);
+		sessions.put("idle", idle);
+		sessions.put("active", active);
+		sessions.put("untracked", untracked);
+
+		assertThat(limiter.sweep()).isEqualTo(1);
+		assertThat(evicted).containsExactly(idle);
+		assertThat(sessions).containsOnlyKeys("active", "untracked");
+		assertThat(limiter.stats()).isEqualTo(new McpSessionLimiter.Stats(2, 1, 0));
+	}
+
+	@Test
+	void testSweepKeepsIdleSessionsWithOpenStream() {
+		McpSessionLimiter<MockMcpSession> limiter = McpSessionLimiter.builder(sessions)
+			.idleTimeout(Duration.ofMinutes(1))
+			.build();
+
+		MockMcpSession listening = new MockMcpSession(System.nanoTime() - Duration.ofMinutes(2).toNanos());
+		listening.openStream = true;
+		sessions.put("listening", listening);
+
+		assertThat(limiter.sweep()).isZero();
+		assertThat(sessions).containsOnlyKeys("listening");
+	}
+
+	@Test
+	void testSweepsInBackgroundUntilStopped() {
+		List<MockMcpSession> evicted = new ArrayList<>();
+		McpSessionLimiter<MockMcpSession> limiter = McpSessionLimiter.builder(sessions)
+			.idleTimeout(Duration.ofMinutes(1))
+			.evictionHandler(evicted::add)
+			.scheduler(virtualTimeScheduler)
+			.build()
+			.start();
+
+		MockMcpSession idle = new MockMcpSession(System.nanoTime() - Duration.ofMinutes(2).toNanos());
+		sessions.put("idle", idle);
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(30));
+		assertThat(evicted).containsExactly(idle);
+
+		limiter.stop();
+		sessions.put("idle", idle);
+		virtualTimeScheduler.advanceTimeBy(Duration.ofMinutes(5));
+		assertThat(evicted).containsExactly(idle);
+	}
+
+	@Test
+	void testNoSweepWithoutIdleTimeout() {
+		McpSessionLimiter<MockMcpSession> limiter = McpSessionLimiter.builder(sessions).build().start();
+		sessions.put("idle", new MockMcpSession(1));
+
+		assertThat(limiter.sweep()).isZero();
+		assertThat(sessions).containsKey("idle");
+		limiter.stop();
+	}
+
+	@Test
+	void testBuilderRejectsInvalidLimits() {
+		assertThatThrownBy(() -> McpSessionLimiter.builder(null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> McpSessionLimiter.builder(sessions).maxSessions(-1))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> McpSessionLimiter.builder(sessions).idleTimeout(Duration.ZERO))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static class MockMcpSession implements McpSession {
+
+		private final long lastActivityNanos;
+
+		private boolean openStream;
+
+		MockMcpSession(long lastActivityNanos) {
+			this.lastActivityNanos = lastActivityNanos;
+		}
+
+		@Override
+		public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
+			return Mono.empty();
+		}
+
+		@Override
+		public Mono<Void> sendNotification(String method, Object params) {
+			return Mono.empty();
+		}
+
+		@Override
+		public Mono<Void> closeGracefully() {
+			return Mono.empty();
+		}
+
+		@Override
+		public void close() {
+			// No-op for mock
+		}
+
+		@Override
+		public long lastActivityNanos() {
+			return lastActivityNanos;
+		}
+
+		@Override
+		public boolean hasOpenStream() {
+			return openStream;
+		}
+
+	}
+
+}
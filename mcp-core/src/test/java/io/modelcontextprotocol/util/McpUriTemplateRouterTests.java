@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link McpUriTemplateRouter}.
+ */
+class McpUriTemplateRouterTests {
+
+	private final McpUriTemplateRouter<String> router = new McpUriTemplateRouter<>();
+
+	@Test
+	void routesExactUris() {
+		this.router.put("file:///docs/readme.md", "readme");
+		this.router.put("file:///docs/{name}", "doc");
+
+		assertThat(this.router.match("file:///docs/readme.md")).isEqualTo("readme");
+		assertThat(this.router.match("file:///docs/guide.md")).isEqualTo("doc");
+		assertThat(this.router.match("file:///other/guide.md")).isNull();
+	}
+
+	@Test
+	void prefersTemplatesWithLongerLiteralPrefix() {
+		this.router.put("db://{table}/{id}", "generic");
+		this.router.put("db://users/{id}", "users");
+
+		assertThat(this.router.match("db://users/42")).isEqualTo("users");
+		assertThat(this.router.match("db://orders/42")).isEqualTo("generic");
+	}
+
+	@Test
+	void templateVariablesDoNotSpanSegments() {
+		this.router.put("test://{a}/{b}", "two-segments");
+
+		assertThat(this.router.match("test://x/y")).isEqualTo("two-segments");
+		assertThat(this.router.match("test://x/y/z")).isNull();
+		assertThat(this.router.match("test://x")).isNull();
+	}
+
+	@Test
+	void templateMatchesItsOwnUri() {
+		this.router.put("test://resource/{id}", "template");
+
+		assertThat(this.router.match("test://resource/{id}")).isEqualTo("template");
+		assertThat(this.router.get("test://resource/{id}")).isEqualTo("template");
+		assertThat(this.router.get("test://resource/1")).isNull();
+	}
+
+	@Test
+	void putReplacesAndRemoveUnregisters() {
+		assertThat(this.router.put("test://{id}", "first")).isNull();
+		assertThat(this.router.put("test://{id}", "second")).isEqualTo("first");
+		assertThat(this.router.match("test://1")).isEqualTo("second");
+
+		assertThat(this.router.remove("test://{id}")).isEqualTo("second");
+		assertThat(this.router.remove("test://{id}")).isNull();
+		assertThat(this.router.match("test://1")).isNull();
+	}
+
+	@Test
+	void listsValuesInRegistrationOrder() {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("c://{x}", "c");
+		values.put("a://x", "a");
+		this.router.putAll(values);
+		this.router.put("b://x", "b");
+
+		assertThat(this.router.values()).containsExactly("c", "a", "b");
+	}
+
+	@Test
+	void compilesEachUriOnceAtRegistration() {
+		AtomicInteger compilations = new AtomicInteger();
+		McpUriTemplateManagerFactory factory = uriTemplate -> {
+			compilations.incrementAndGet();
+			return new DefaultMcpUriTemplateManager(uriTemplate);
+		};
+		var router = new McpUriTemplateRouter<String>(factory);
+		router.put("test://a/{id}", "a");
+		router.put("test://b/{id}", "b");
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(router.match("test://b/" + i)).isEqualTo("b");
+		}
+
+		assertThat(compilations).hasValue(2);
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NewlineFrameReader} and {@link NewlineFrameWriter}.
+ */
+class NewlineFrameReaderTests {
+
+	@Test
+	void readsFramesSplitAcrossReads() throws IOException {
+		String content = "{\"a\":1}\n{\"b\":2}\r\n\n{\"c\":3}";
+
+		List<String> frames = readAll(new TrickleInputStream(content.getBytes(StandardCharsets.UTF_8), 3));
+
+		assertThat(frames).containsExactly("{\"a\":1}", "{\"b\":2}", "{\"c\":3}");
+	}
+
+	@Test
+	void growsBufferForLargeFrames() throws IOException {
+		String large = "x".repeat(100_000);
+		String content = "small\n" + large + "\nlast\n";
+
+		List<String> frames = readAll(new TrickleInputStream(content.getBytes(StandardCharsets.UTF_8), 4096));
+
+		assertThat(frames).containsExactly("small", large, "last");
+	}
+
+	@Test
+	void returnsNullAtEndOfEmptyStream() throws IOException {
+		NewlineFrameReader reader = new NewlineFrameReader(new ByteArrayInputStream(new byte[0]));
+
+		assertThat(reader.nextFrame()).isNull();
+	}
+
+	@Test
+	void writesEachFrameWithSingleWrite() throws IOException {
+		NewlineFrameWriter writer = new NewlineFrameWriter(McpJsonMapperUtils.JSON_MAPPER);
+		List<String> writes = new ArrayList<>();
+		OutputStream out = new OutputStream() {
+			@Override
+			public void write(int b) {
+				writes.add(String.valueOf((char) b));
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				writes.add(new String(b, off, len, StandardCharsets.UTF_8));
+			}
+		};
+
+		writer.write(out, Map.of("a", "line\nbreak"));
+		writer.write(out, List.of(1, 2));
+
+		assertThat(writes).containsExactly("{\"a\":\"line\\nbreak\"}\n", "[1,2]\n");
+	}
+
+	@Test
+	void roundTripsJsonRpcMessages() throws IOException {
+		NewlineFrameWriter writer = new NewlineFrameWriter(McpJsonMapperUtils.JSON_MAPPER);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		var request = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, "ping", 1, null);
+		var notification = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, "notifications/initialized",
+				null);
+		writer.write(out, request);
+		writer.write(out, notification);
+
+		NewlineFrameReader reader = new NewlineFrameReader(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(McpSchema.deserializeJsonRpcMessage(McpJsonMapperUtils.JSON_MAPPER, reader.nextFrame()))
+			.isEqualTo(request);
+		assertThat(McpSchema.deserializeJsonRpcMessage(McpJsonMapperUtils.JSON_MAPPER, reader.nextFrame()))
+			.isEqualTo(notification);
+		assertThat(reader.nextFrame()).isNull();
+	}
+
+	private static List<String> readAll(InputStream in) throws IOException {
+		NewlineFrameReader reader = new NewlineFrameReader(in);
+		List<String> frames = new ArrayList<>();
+		ByteBuffer frame;
+		while ((frame = reader.nextFrame()) != null) {
+			frames.add(StandardCharsets.UTF_8.decode(frame).toString());
+		}
+		return frames;
+	}
+
+	/**
+	 * Returns at most a few bytes per read, as pipes do under load.
+	 */
+	private static final class TrickleInputStream extends FilterInputStream {
+
+		private final int chunk;
+
+		private TrickleInputStream(byte[] content, int chunk) {
+			super(new ByteArrayInputStream(content));
+			this.chunk = chunk;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return super.read(b, off, Math.min(len, this.chunk));
+		}
+
+	}
+
+}
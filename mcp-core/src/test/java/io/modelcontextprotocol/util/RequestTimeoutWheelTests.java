@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Unit tests for {@link RequestTimeoutWheel}.
+ */
+class RequestTimeoutWheelTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(8);
+
+	private VirtualTimeScheduler virtualTimeScheduler;
+
+	private RequestTimeoutWheel wheel;
+
+	@BeforeEach
+	void setUp() {
+		virtualTimeScheduler = VirtualTimeScheduler.create();
+		wheel = RequestTimeoutWheel.builder(TIMEOUT).slots(8).scheduler(virtualTimeScheduler).build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		virtualTimeScheduler.dispose();
+	}
+
+	@Test
+	void testExpiresRequestsWithinOneTickOfTheirDeadline() {
+		List<String> expired = new ArrayList<>();
+		wheel.schedule(() -> expired.add("first"));
+		virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(500));
+		wheel.schedule(() -> expired.add("second"));
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(7400));
+		assertThat(expired).isEmpty();
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofMillis(100));
+		assertThat(expired).containsExactly("first");
+
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(1));
+		assertThat(expired).containsExactly("first", "second");
+		assertThat(wheel.stats().expired()).isEqualTo(2);
+		assertThat(wheel.stats().pending()).isZero();
+	}
+
+	@Test
+	void testCancelledRequestsDoNotExpire() {
+		List<String> expired = new ArrayList<>();
+		RequestTimeoutWheel.Timeout timeout = wheel.schedule(() -> expired.add("answered"));
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(2));
+
+		assertThat(timeout.cancel()).isTrue();
+		assertThat(timeout.cancel()).isFalse();
+		assertThat(timeout.isPending()).isFalse();
+
+		virtualTimeScheduler.advanceTimeBy(TIMEOUT.multipliedBy(2));
+		assertThat(expired).isEmpty();
+
+		RequestTimeoutWheel.Stats stats = wheel.stats();
+		assertThat(stats.completed()).isEqualTo(1);
+		assertThat(stats.expired()).isZero();
+		assertThat(stats.maxWait()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(stats.averageWait()).isEqualTo(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void testExpiredRequestsCannotBeCancelled() {
+		RequestTimeoutWheel.Timeout timeout = wheel.schedule(() -> {
+		});
+		virtualTimeScheduler.advanceTimeBy(TIMEOUT.plusSeconds(1));
+
+		assertThat(timeout.cancel()).isFalse();
+		assertThat(wheel.stats().completed()).isZero();
+		assertThat(wheel.stats().expired()).isEqualTo(1);
+	}
+
+	@Test
+	void testWheelStopsWhenIdleAndRestarts() {
+		List<String> expired = new ArrayList<>();
+		wheel.schedule(() -> {
+		}).cancel();
+		virtualTimeScheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+		// Nothing is pending, the wheel no longer turns
+		virtualTimeScheduler.advanceTimeBy(Duration.ofMinutes(10));
+
+		wheel.schedule(() -> expired.add("late"));
+		virtualTimeScheduler.advanceTimeBy(TIMEOUT.plusSeconds(1));
+		assertThat(expired).containsExactly("late");
+	}
+
+	@Test
+	void testBuilderRejectsInvalidSettings() {
+		assertThatThrownBy(() -> RequestTimeoutWheel.builder(null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RequestTimeoutWheel.builder(Duration.ZERO))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> RequestTimeoutWheel.builder(TIMEOUT).slots(0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
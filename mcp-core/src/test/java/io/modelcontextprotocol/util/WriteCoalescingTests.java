@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WriteCoalescing}.
+ */
+class WriteCoalescingTests {
+
+	@Test
+	void disabledFlushesEveryMessage() {
+		WriteCoalescing.Coalescer coalescer = WriteCoalescing.DISABLED.newCoalescer();
+		coalescer.queued();
+		coalescer.queued();
+
+		assertThat(coalescer.written()).isTrue();
+		assertThat(coalescer.written()).isTrue();
+	}
+
+	@Test
+	void flushesOnceQueueIsDrained() {
+		WriteCoalescing.Coalescer coalescer = WriteCoalescing.of(64, Duration.ZERO).newCoalescer();
+		coalescer.queued();
+		coalescer.queued();
+		coalescer.queued();
+
+		assertThat(coalescer.written()).isFalse();
+		assertThat(coalescer.written()).isFalse();
+		assertThat(coalescer.written()).isTrue();
+
+		// An idle stream is flushed right away
+		coalescer.queued();
+		assertThat(coalescer.written()).isTrue();
+	}
+
+	@Test
+	void flushesWhenBatchIsFull() {
+		WriteCoalescing.Coalescer coalescer = WriteCoalescing.of(2, Duration.ZERO).newCoalescer();
+		for (int i = 0; i < 5; i++) {
+			coalescer.queued();
+		}
+
+		assertThat(coalescer.written()).isFalse();
+		assertThat(coalescer.written()).isTrue();
+		assertThat(coalescer.written()).isFalse();
+		assertThat(coalescer.written()).isTrue();
+		assertThat(coalescer.written()).isTrue();
+	}
+
+	@Test
+	void flushesWhenMaxLatencyIsReached() throws InterruptedException {
+		WriteCoalescing.Coalescer coalescer = WriteCoalescing.of(64, Duration.ofMillis(1)).newCoalescer();
+		coalescer.queued();
+		coalescer.queued();
+		coalescer.queued();
+
+		assertThat(coalescer.written()).isFalse();
+		Thread.sleep(10);
+		assertThat(coalescer.written()).isTrue();
+	}
+
+	@Test
+	void discardedMessagesDoNotDelayFlush() {
+		WriteCoalescing.Coalescer coalescer = WriteCoalescing.of(64, Duration.ZERO).newCoalescer();
+		coalescer.queued();
+		coalescer.queued();
+		coalescer.discarded();
+
+		assertThat(coalescer.written()).isTrue();
+	}
+
+	@Test
+	void rejectsInvalidSettings() {
+		assertThatIllegalArgumentException().isThrownBy(() -> WriteCoalescing.of(0, Duration.ZERO));
+		assertThatIllegalArgumentException().isThrownBy(() -> WriteCoalescing.of(1, Duration.ofMillis(-1)));
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 - 2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * A JSON value whose binding has been deferred. The parsed tokens are kept in a
+ * {@link TokenBuffer} until {@link JacksonMcpJsonMapper#convertValue} binds them to a
+ * concrete type. Serializing it writes the buffered tokens back unchanged.
+ */
+final class DeferredJsonValue implements JsonSerializable {
+
+	private final TokenBuffer tokens;
+
+	DeferredJsonValue(TokenBuffer tokens) {
+		this.tokens = tokens;
+	}
+
+	TokenBuffer tokens() {
+		return this.tokens;
+	}
+
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		this.tokens.serialize(gen);
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+			throws IOException {
+		serialize(gen, serializers);
+	}
+
+	@Override
+	public String toString() {
+		return "DeferredJsonValue" + this.tokens;
+	}
+
+}
@@ -4,12 +4,26 @@
 
 package io.modelcontextprotocol.json.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Jackson-based implementation of JsonMapper. Wraps a Jackson ObjectMapper but keeps the
@@ -19,6 +33,8 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 
 	private final ObjectMapper objectMapper;
 
+	private final boolean deferredBinding;
+
 	/**
 	 * Constructs a new JacksonMcpJsonMapper instance with the given ObjectMapper.
 	 * @param objectMapper the ObjectMapper to be used for JSON serialization and
@@ -26,10 +42,29 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 	 * @throws IllegalArgumentException if the provided ObjectMapper is null.
 	 */
 	public JacksonMcpJsonMapper(ObjectMapper objectMapper) {
+		this(objectMapper, false);
+	}
+
+	/**
+	 * Constructs a new JacksonMcpJsonMapper instance with the given ObjectMapper.
+	 * <p>
+	 * When {@code deferredBinding} is enabled, the values of the deferred properties
+	 * requested through {@link #readValue(String, Function, Set)} (such as JSON-RPC
+	 * {@code params}) are kept as buffered tokens instead of being materialized as a
+	 * {@link java.util.Map} tree. They are bound once, directly to the requested type, by
+	 * {@link #convertValue(Object, Class)}. Code that inspects such values must convert
+	 * them with this mapper rather than cast them to a {@link java.util.Map}.
+	 * @param objectMapper the ObjectMapper to be used for JSON serialization and
+	 * deserialization. Must not be null.
+	 * @param deferredBinding whether to defer the binding of deferred properties
+	 * @throws IllegalArgumentException if the provided ObjectMapper is null.
+	 */
+	public JacksonMcpJsonMapper(ObjectMapper objectMapper, boolean deferredBinding) {
 		if (objectMapper == null) {
 			throw new IllegalArgumentException("ObjectMapper must not be null");
 		}
 		this.objectMapper = objectMapper;
+		this.deferredBinding = deferredBinding;
 	}
 
 	/**
@@ -63,17 +98,172 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 		return objectMapper.readValue(content, javaType);
 	}
 
+	@Override
+	public <T> T readValue(InputStream content, Class<T> type) throws IOException {
+		try (JsonParser parser = createParser(content)) {
+			return objectMapper.readValue(parser, type);
+		}
+	}
+
+	@Override
+	public <T> T readValue(InputStream content, TypeRef<T> type) throws IOException {
+		JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
+		try (JsonParser parser = createParser(content)) {
+			return objectMapper.readValue(parser, javaType);
+		}
+	}
+
+	@Override
+	public <T> T readValue(ByteBuffer content, Class<T> type) throws IOException {
+		try (JsonParser parser = createParser(content)) {
+			return objectMapper.readValue(parser, type);
+		}
+	}
+
+	@Override
+	public <T> T readValue(ByteBuffer content, TypeRef<T> type) throws IOException {
+		JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
+		try (JsonParser parser = createParser(content)) {
+			return objectMapper.readValue(parser, javaType);
+		}
+	}
+
+	@Override
+	public <T> T readValue(String content, Function<Set<String>, Class<? extends T>> typeResolver) throws IOException {
+		return readValue(content, typeResolver, Set.of());
+	}
+
+	@Override
+	public <T> T readValue(byte[] content, Function<Set<String>, Class<? extends T>> typeResolver) throws IOException {
+		return readValue(content, typeResolver, Set.of());
+	}
+
+	@Override
+	public <T> T readValue(String content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		try (JsonParser parser = objectMapper.createParser(content)) {
+			return readValue(parser, typeResolver, deferredProperties);
+		}
+	}
+
+	@Override
+	public <T> T readValue(byte[] content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		try (JsonParser parser = objectMapper.createParser(content)) {
+			return readValue(parser, typeResolver, deferredProperties);
+		}
+	}
+
+	@Override
+	public <T> T readValue(InputStream content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		try (JsonParser parser = createParser(content)) {
+			return readValue(parser, typeResolver, deferredProperties);
+		}
+	}
+
+	@Override
+	public <T> T readValue(ByteBuffer content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		try (JsonParser parser = createParser(content)) {
+			return readValue(parser, typeResolver, deferredProperties);
+		}
+	}
+
+	private JsonParser createParser(InputStream content) throws IOException {
+		JsonParser parser = objectMapper.createParser(content);
+		parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+		return parser;
+	}
+
+	private JsonParser createParser(ByteBuffer content) throws IOException {
+		if (content.hasArray()) {
+			return objectMapper.createParser(content.array(), content.arrayOffset() + content.position(),
+					content.remaining());
+		}
+		return objectMapper.createParser(new ByteBufferBackedInputStream(content.duplicate()));
+	}
+
+	/**
+	 * Streams the top-level object into a {@link TokenBuffer} while collecting its
+	 * property names, then binds the buffered tokens directly to the resolved type. The
+	 * input is tokenized only once and no intermediate map tree is built. With deferred
+	 * binding enabled, structured values of deferred properties are embedded as
+	 * {@link DeferredJsonValue}s and left unbound.
+	 */
+	private <T> T readValue(JsonParser parser, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			throw MismatchedInputException.from(parser, Object.class,
+					"Expected a JSON object but found: " + parser.currentToken());
+		}
+		Set<String> propertyNames = new HashSet<>();
+		try (TokenBuffer buffer = new TokenBuffer(parser)) {
+			buffer.writeStartObject();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.currentName();
+				propertyNames.add(name);
+				buffer.writeFieldName(name);
+				JsonToken valueToken = parser.nextToken();
+				if (this.deferredBinding && valueToken.isStructStart() && deferredProperties.contains(name)) {
+					TokenBuffer value = new TokenBuffer(parser);
+					value.copyCurrentStructure(parser);
+					buffer.writeEmbeddedObject(new DeferredJsonValue(value));
+				}
+				else {
+					buffer.copyCurrentStructure(parser);
+				}
+			}
+			buffer.writeEndObject();
+
+			Class<? extends T> type = typeResolver.apply(propertyNames);
+			try (JsonParser bufferParser = buffer.asParser(objectMapper)) {
+				return objectMapper.readValue(bufferParser, type);
+			}
+		}
+	}
+
 	@Override
 	public <T> T convertValue(Object fromValue, Class<T> type) {
+		if (fromValue instanceof DeferredJsonValue deferred) {
+			return bindDeferred(deferred, objectMapper.constructType(type));
+		}
+		if (fromValue instanceof RawJsonValue raw) {
+			return bindRaw(raw, objectMapper.constructType(type));
+		}
 		return objectMapper.convertValue(fromValue, type);
 	}
 
 	@Override
 	public <T> T convertValue(Object fromValue, TypeRef<T> type) {
 		JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
+		if (fromValue instanceof DeferredJsonValue deferred) {
+			return bindDeferred(deferred, javaType);
+		}
+		if (fromValue instanceof RawJsonValue raw) {
+			return bindRaw(raw, javaType);
+		}
 		return objectMapper.convertValue(fromValue, javaType);
 	}
 
+	private <T> T bindDeferred(DeferredJsonValue deferred, JavaType javaType) {
+		try (JsonParser parser = deferred.tokens().asParser(objectMapper)) {
+			return objectMapper.readValue(parser, javaType);
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	private <T> T bindRaw(RawJsonValue raw, JavaType javaType) {
+		try {
+			return objectMapper.readValue(raw.json().getValue(), javaType);
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
 	@Override
 	public String writeValueAsString(Object value) throws IOException {
 		return objectMapper.writeValueAsString(value);
@@ -84,4 +274,18 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 		return objectMapper.writeValueAsBytes(value);
 	}
 
+	@Override
+	public Object writeValueAsRawValue(Object value) throws IOException {
+		return new RawJsonValue(new SerializedString(objectMapper.writeValueAsString(value)));
+	}
+
+	@Override
+	public void writeValue(OutputStream out, Object value) throws IOException {
+		objectMapper.writer()
+			.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+			.without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+			.writeValue(out, value);
+	}
+
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 - 2025 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A value serialized ahead of time by {@link JacksonMcpJsonMapper#writeValueAsRawValue}.
+ * Serializing it writes the JSON verbatim: the {@link SerializedString} caches its UTF-8
+ * encoding, so writing to a byte stream is a plain copy.
+ */
+final class RawJsonValue implements JsonSerializable {
+
+	private final SerializedString json;
+
+	RawJsonValue(SerializedString json) {
+		this.json = json;
+	}
+
+	SerializedString json() {
+		return this.json;
+	}
+
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeRawValue(this.json);
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+			throws IOException {
+		serialize(gen, serializers);
+	}
+
+	@Override
+	public String toString() {
+		return "RawJsonValue" + this.json;
+	}
+
+}
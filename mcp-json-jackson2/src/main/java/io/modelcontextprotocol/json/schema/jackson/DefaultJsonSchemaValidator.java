@@ -3,9 +3,9 @@
  */
 package io.modelcontextprotocol.json.schema.jackson;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
 import org.slf4j.Logger;
@@ -24,6 +24,10 @@ import com.networknt.schema.ValidationMessage;
  * Default implementation of the {@link JsonSchemaValidator} interface. This class
  * provides methods to validate structured content against a JSON schema. It uses the
  * NetworkNT JSON Schema Validator library for validation.
+ * <p>
+ * Compiled schemas are cached, by default up to {@value #DEFAULT_MAX_CACHE_SIZE} of them
+ * and for {@link #DEFAULT_CACHE_TTL} after their last use, so that servers whose tools
+ * come and go and clients talking to many servers do not retain them forever.
  *
  * @author Christian Tzolov
  */
@@ -31,21 +35,43 @@ public class DefaultJsonSchemaValidator implements JsonSchemaValidator {
 
 	private static final Logger logger = LoggerFactory.getLogger(DefaultJsonSchemaValidator.class);
 
+	/** Default maximum number of compiled schemas kept in the cache */
+	public static final int DEFAULT_MAX_CACHE_SIZE = 512;
+
+	/** Default time after its last use a compiled schema is evicted from the cache */
+	public static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(1);
+
 	private final ObjectMapper objectMapper;
 
 	private final JsonSchemaFactory schemaFactory;
 
-	// TODO: Implement a strategy to purge the cache (TTL, size limit, etc.)
-	private final ConcurrentHashMap<String, JsonSchema> schemaCache;
+	private final JsonSchemaCache schemaCache;
 
 	public DefaultJsonSchemaValidator() {
 		this(new ObjectMapper());
 	}
 
 	public DefaultJsonSchemaValidator(ObjectMapper objectMapper) {
+		this(objectMapper, DEFAULT_MAX_CACHE_SIZE, DEFAULT_CACHE_TTL);
+	}
+
+	/**
+	 * Create a validator with a custom schema cache.
+	 * @param objectMapper the mapper used to convert schemas and content to JSON trees
+	 * @param maxCacheSize the maximum number of compiled schemas kept in the cache
+	 * @param cacheTtl the time after its last use a compiled schema is evicted, or
+	 * {@link Duration#ZERO} to only evict by size
+	 */
+	public DefaultJsonSchemaValidator(ObjectMapper objectMapper, int maxCacheSize, Duration cacheTtl) {
+		if (maxCacheSize <= 0) {
+			throw new IllegalArgumentException("Max cache size must be positive");
+		}
+		if (cacheTtl == null || cacheTtl.isNegative()) {
+			throw new IllegalArgumentException("Cache TTL must not be null or negative");
+		}
 		this.objectMapper = objectMapper;
 		this.schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
-		this.schemaCache = new ConcurrentHashMap<>();
+		this.schemaCache = new JsonSchemaCache(maxCacheSize, cacheTtl, System::nanoTime);
 	}
 
 	@Override
@@ -84,6 +110,20 @@ public class DefaultJsonSchemaValidator implements JsonSchemaValidator {
 		}
 	}
 
+	@Override
+	public void precompile(Map<String, Object> schema) {
+		if (schema == null) {
+			return;
+		}
+		try {
+			this.getOrCreateJsonSchema(schema);
+		}
+		catch (Exception e) {
+			// Reported again, to the caller, on validation
+			logger.debug("Failed to precompile JSON schema: {}", e.getMessage());
+		}
+	}
+
 	/**
 	 * Gets a cached JsonSchema or creates and caches a new one.
 	 * @param schema the schema map to convert
@@ -91,21 +131,12 @@ public class DefaultJsonSchemaValidator implements JsonSchemaValidator {
 	 * @throws JsonProcessingException if schema processing fails
 	 */
 	private JsonSchema getOrCreateJsonSchema(Map<String, Object> schema) throws JsonProcessingException {
-		// Generate cache key based on schema content
-		String cacheKey = this.generateCacheKey(schema);
-
-		// Try to get from cache first
+		JsonSchemaCache.SchemaKey cacheKey = JsonSchemaCache.SchemaKey.of(schema);
 		JsonSchema cachedSchema = this.schemaCache.get(cacheKey);
 		if (cachedSchema != null) {
 			return cachedSchema;
 		}
-
-		// Create new schema if not in cache
-		JsonSchema newSchema = this.createJsonSchema(schema);
-
-		// Cache the schema
-		JsonSchema existingSchema = this.schemaCache.putIfAbsent(cacheKey, newSchema);
-		return existingSchema != null ? existingSchema : newSchema;
+		return this.schemaCache.put(cacheKey, this.createJsonSchema(schema));
 	}
 
 	/**
@@ -143,15 +174,12 @@ public class DefaultJsonSchemaValidator implements JsonSchemaValidator {
 	 * Generates a cache key for the given schema map.
 	 * @param schema the schema map
 	 * @return a cache key string
+	 * @deprecated The cache is now keyed by the structure of the schema and no longer
+	 * calls this method, which returns the structural hash code of the schema.
 	 */
+	@Deprecated
 	protected String generateCacheKey(Map<String, Object> schema) {
-		if (schema.containsKey("$id")) {
-			// Use the (optional) "$id" field as the cache key if present
-			return "" + schema.get("$id");
-		}
-		// Fall back to schema's hash code as a simple cache key
-		// For more sophisticated caching, could use content-based hashing
-		return String.valueOf(schema.hashCode());
+		return String.valueOf(JsonSchemaCache.SchemaKey.of(schema).hashCode());
 	}
 
 	/**
@@ -169,4 +197,23 @@ public class DefaultJsonSchemaValidator implements JsonSchemaValidator {
 		return this.schemaCache.size();
 	}
 
+	/**
+	 * Returns the hit, miss and eviction counts of the schema cache since its creation.
+	 * @return the cache statistics
+	 */
+	public CacheStatistics getCacheStatistics() {
+		return this.schemaCache.statistics();
+	}
+
+	/**
+	 * Statistics of the schema cache.
+	 *
+	 * @param hits the number of lookups served from the cache
+	 * @param misses the number of lookups that compiled the schema
+	 * @param evictions the number of schemas evicted because of the size limit or TTL
+	 * @param size the number of schemas currently cached
+	 */
+	public record CacheStatistics(long hits, long misses, long evictions, int size) {
+	}
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025-2025 the original author or authors.
+ */
+package io.modelcontextprotocol.json.schema.jackson;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import com.networknt.schema.JsonSchema;
+
+/**
+ * Cache of compiled {@link JsonSchema}s, bounded in size and in time since last access.
+ * <p>
+ * Schemas are keyed by their structural hash code, confirmed by structural equality, so
+ * that a lookup neither serializes the schema nor confuses two schemas sharing a hash
+ * code. Hits are lock-free. When an insertion exceeds the maximum size, expired entries
+ * and then the least recently used ones are evicted; compilation costs far more than that
+ * scan.
+ */
+final class JsonSchemaCache {
+
+	private final Map<SchemaKey, Entry> entries = new ConcurrentHashMap<>();
+
+	private final int maxSize;
+
+	private final long ttlNanos;
+
+	private final LongSupplier nanoClock;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	JsonSchemaCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+		this.maxSize = maxSize;
+		this.ttlNanos = ttl.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Return the compiled schema cached for the given schema, if any and not expired.
+	 * @param key the key of the schema
+	 * @return the compiled schema, or {@code null} on a miss
+	 */
+	JsonSchema get(SchemaKey key) {
+		Entry entry = this.entries.get(key);
+		long now = this.nanoClock.getAsLong();
+		if (entry != null && !isExpired(entry, now)) {
+			entry.lastAccess = now;
+			this.hits.increment();
+			return entry.schema;
+		}
+		if (entry != null && this.entries.remove(key, entry)) {
+			this.evictions.increment();
+		}
+		this.misses.increment();
+		return null;
+	}
+
+	/**
+	 * Cache a compiled schema, unless another thread cached one for the same key first.
+	 * @param key the key of the schema
+	 * @param schema the compiled schema
+	 * @return the cached schema
+	 */
+	JsonSchema put(SchemaKey key, JsonSchema schema) {
+		Entry entry = new Entry(schema, this.nanoClock.getAsLong());
+		Entry existing = this.entries.putIfAbsent(key.copy(), entry);
+		if (existing != null) {
+			return existing.schema;
+		}
+		if (this.entries.size() > this.maxSize) {
+			evict(entry.lastAccess);
+		}
+		return schema;
+	}
+
+	private synchronized void evict(long now) {
+		this.entries.entrySet().removeIf(e -> {
+			if (isExpired(e.getValue(), now)) {
+				this.evictions.increment();
+				return true;
+			}
+			return false;
+		});
+		while (this.entries.size() > this.maxSize) {
+			Map.Entry<SchemaKey, Entry> eldest = null;
+			for (Map.Entry<SchemaKey, Entry> e : this.entries.entrySet()) {
+				if (eldest == null || e.getValue().lastAccess - eldest.getValue().lastAccess < 0) {
+					eldest = e;
+				}
+			}
+			if (eldest != null && this.entries.remove(eldest.getKey(), eldest.getValue())) {
+				this.evictions.increment();
+			}
+		}
+	}
+
+	private boolean isExpired(Entry entry, long now) {
+		return this.ttlNanos > 0 && now - entry.lastAccess > this.ttlNanos;
+	}
+
+	void clear() {
+		this.entries.clear();
+	}
+
+	int size() {
+		return this.entries.size();
+	}
+
+	DefaultJsonSchemaValidator.CacheStatistics statistics() {
+		return new DefaultJsonSchemaValidator.CacheStatistics(this.hits.sum(), this.misses.sum(), this.evictions.sum(),
+				this.entries.size());
+	}
+
+	/**
+	 * Key of a schema, holding its structural hash code so that it is computed once per
+	 * lookup. Equality is the structural equality of the schema maps. Lookup keys wrap
+	 * the caller's schema; the cache stores an immutable {@link #copy()} of them, so that
+	 * the caller changing its schema later cannot corrupt the cache.
+	 */
+	record SchemaKey(Map<String, Object> schema, int hash) {
+
+		static SchemaKey of(Map<String, Object> schema) {
+			return new SchemaKey(schema, schema.hashCode());
+		}
+
+		/**
+		 * Returns a key holding a deep, immutable copy of the schema.
+		 */
+		@SuppressWarnings("unchecked")
+		SchemaKey copy() {
+			return new SchemaKey((Map<String, Object>) deepCopy(this.schema), this.hash);
+		}
+
+		private static Object deepCopy(Object value) {
+			if (value instanceof Map<?, ?> map) {
+				Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+				map.forEach((k, v) -> copy.put(k, deepCopy(v)));
+				return Collections.unmodifiableMap(copy);
+			}
+			if (value instanceof List<?> list) {
+				List<Object> copy = new ArrayList<>(list.size());
+				list.forEach(v -> copy.add(deepCopy(v)));
+				return Collections.unmodifiableList(copy);
+			}
+			return value;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return this == other
+					|| (other instanceof SchemaKey key && this.hash == key.hash && this.schema.equals(key.schema));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final JsonSchema schema;
+
+		private volatile long lastAccess;
+
+		private Entry(JsonSchema schema, long lastAccess) {
+			this.schema = schema;
+			this.lastAccess = lastAccess;
+		}
+
+	}
+
+}
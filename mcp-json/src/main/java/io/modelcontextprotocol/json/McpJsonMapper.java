@@ -5,6 +5,12 @@
 package io.modelcontextprotocol.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Abstraction for JSON serialization/deserialization to decouple the SDK from any
@@ -53,6 +59,185 @@ public interface McpJsonMapper {
 	 */
 	<T> T readValue(byte[] content, TypeRef<T> type) throws IOException;
 
+	/**
+	 * Deserialize JSON read from a stream into a target type. The stream is read until
+	 * the end of the JSON value and is not closed.
+	 * <p>
+	 * The default implementation reads the remaining bytes into memory first.
+	 * Implementations are encouraged to override it to parse directly from the stream.
+	 * @param content UTF-8 encoded JSON stream
+	 * @param type target class
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on I/O or parse errors
+	 */
+	default <T> T readValue(InputStream content, Class<T> type) throws IOException {
+		return readValue(content.readAllBytes(), type);
+	}
+
+	/**
+	 * Deserialize JSON read from a stream into a parameterized target type. The stream is
+	 * read until the end of the JSON value and is not closed.
+	 * @param content UTF-8 encoded JSON stream
+	 * @param type parameterized type reference
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on I/O or parse errors
+	 * @see #readValue(InputStream, Class)
+	 */
+	default <T> T readValue(InputStream content, TypeRef<T> type) throws IOException {
+		return readValue(content.readAllBytes(), type);
+	}
+
+	/**
+	 * Deserialize the remaining bytes of a buffer into a target type. The buffer position
+	 * is not changed.
+	 * <p>
+	 * The default implementation copies the remaining bytes into an array first.
+	 * Implementations are encouraged to override it to parse the buffer in place.
+	 * @param content UTF-8 encoded JSON buffer
+	 * @param type target class
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on parse errors
+	 */
+	default <T> T readValue(ByteBuffer content, Class<T> type) throws IOException {
+		return readValue(remainingBytes(content), type);
+	}
+
+	/**
+	 * Deserialize the remaining bytes of a buffer into a parameterized target type. The
+	 * buffer position is not changed.
+	 * @param content UTF-8 encoded JSON buffer
+	 * @param type parameterized type reference
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on parse errors
+	 * @see #readValue(ByteBuffer, Class)
+	 */
+	default <T> T readValue(ByteBuffer content, TypeRef<T> type) throws IOException {
+		return readValue(remainingBytes(content), type);
+	}
+
+	/**
+	 * Deserialize a JSON object string into a type selected from its top-level property
+	 * names. Useful for polymorphic payloads, such as JSON-RPC messages, whose concrete
+	 * type can only be determined by the presence of certain properties.
+	 * <p>
+	 * The default implementation reads the content into a {@link Map} and converts it to
+	 * the resolved type. Implementations are encouraged to override it with a single pass
+	 * that binds directly to the resolved type without an intermediate tree.
+	 * @param content JSON object as String
+	 * @param typeResolver resolves the target class from the set of top-level property
+	 * names; may throw an unchecked exception if no type matches
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on parse errors or if the content is not a JSON object
+	 */
+	default <T> T readValue(String content, Function<Set<String>, Class<? extends T>> typeResolver) throws IOException {
+		Map<String, Object> map = readValue(content, new TypeRef<Map<String, Object>>() {
+		});
+		return convertValue(map, typeResolver.apply(map.keySet()));
+	}
+
+	/**
+	 * Deserialize JSON object bytes into a type selected from its top-level property
+	 * names.
+	 * @param content JSON object as bytes
+	 * @param typeResolver resolves the target class from the set of top-level property
+	 * names; may throw an unchecked exception if no type matches
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on parse errors or if the content is not a JSON object
+	 * @see #readValue(String, Function)
+	 */
+	default <T> T readValue(byte[] content, Function<Set<String>, Class<? extends T>> typeResolver) throws IOException {
+		Map<String, Object> map = readValue(content, new TypeRef<Map<String, Object>>() {
+		});
+		return convertValue(map, typeResolver.apply(map.keySet()));
+	}
+
+	/**
+	 * Deserialize a JSON object string into a type selected from its top-level property
+	 * names, optionally deferring the binding of some top-level property values.
+	 * <p>
+	 * Implementations that support deferred binding may keep the values of the
+	 * {@code deferredProperties} in a raw, unbound form; such values can only be bound by
+	 * passing them to {@link #convertValue(Object, Class)} or
+	 * {@link #convertValue(Object, TypeRef)} of the same mapper, and are bound exactly
+	 * once per conversion. The default implementation ignores {@code deferredProperties}
+	 * and binds eagerly.
+	 * @param content JSON object as String
+	 * @param typeResolver resolves the target class from the set of top-level property
+	 * names; may throw an unchecked exception if no type matches
+	 * @param deferredProperties names of the top-level properties whose values may be
+	 * left unbound
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on parse errors or if the content is not a JSON object
+	 */
+	default <T> T readValue(String content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		return readValue(content, typeResolver);
+	}
+
+	/**
+	 * Deserialize JSON object bytes into a type selected from its top-level property
+	 * names, optionally deferring the binding of some top-level property values.
+	 * @param content JSON object as bytes
+	 * @param typeResolver resolves the target class from the set of top-level property
+	 * names; may throw an unchecked exception if no type matches
+	 * @param deferredProperties names of the top-level properties whose values may be
+	 * left unbound
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on parse errors or if the content is not a JSON object
+	 * @see #readValue(String, Function, Set)
+	 */
+	default <T> T readValue(byte[] content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		return readValue(content, typeResolver);
+	}
+
+	/**
+	 * Deserialize a JSON object read from a stream into a type selected from its
+	 * top-level property names, optionally deferring the binding of some top-level
+	 * property values. The stream is read until the end of the JSON object and is not
+	 * closed.
+	 * @param content UTF-8 encoded JSON object stream
+	 * @param typeResolver resolves the target class from the set of top-level property
+	 * names; may throw an unchecked exception if no type matches
+	 * @param deferredProperties names of the top-level properties whose values may be
+	 * left unbound
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on I/O or parse errors or if the content is not a JSON object
+	 * @see #readValue(String, Function, Set)
+	 */
+	default <T> T readValue(InputStream content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		return readValue(content.readAllBytes(), typeResolver, deferredProperties);
+	}
+
+	/**
+	 * Deserialize a JSON object held in the remaining bytes of a buffer into a type
+	 * selected from its top-level property names, optionally deferring the binding of
+	 * some top-level property values. The buffer position is not changed.
+	 * @param content UTF-8 encoded JSON object buffer
+	 * @param typeResolver resolves the target class from the set of top-level property
+	 * names; may throw an unchecked exception if no type matches
+	 * @param deferredProperties names of the top-level properties whose values may be
+	 * left unbound
+	 * @return deserialized instance
+	 * @param <T> generic type
+	 * @throws IOException on parse errors or if the content is not a JSON object
+	 * @see #readValue(String, Function, Set)
+	 */
+	default <T> T readValue(ByteBuffer content, Function<Set<String>, Class<? extends T>> typeResolver,
+			Set<String> deferredProperties) throws IOException {
+		return readValue(remainingBytes(content), typeResolver, deferredProperties);
+	}
+
 	/**
 	 * Convert a value to a given type, useful for mapping nested JSON structures.
 	 * @param fromValue source value
@@ -87,6 +272,36 @@ public interface McpJsonMapper {
 	 */
 	byte[] writeValueAsBytes(Object value) throws IOException;
 
+	/**
+	 * Serialize an object once, into a value that this mapper writes verbatim whenever it
+	 * is serialized again, for instance as the result of a JSON-RPC response. Useful to
+	 * cache payloads that are sent repeatedly without serializing them every time.
+	 * <p>
+	 * The returned value can only be serialized, or converted with
+	 * {@link #convertValue(Object, Class)} of the same mapper. The default implementation
+	 * returns the value itself, so that it is serialized every time.
+	 * @param value object to serialize
+	 * @return the pre-serialized value
+	 * @throws IOException on serialization errors
+	 */
+	default Object writeValueAsRawValue(Object value) throws IOException {
+		return value;
+	}
+
+	/**
+	 * Serialize an object as UTF-8 encoded JSON to a stream. The stream is neither
+	 * flushed nor closed, so that callers can append framing and flush once.
+	 * <p>
+	 * The default implementation serializes into a byte array first. Implementations are
+	 * encouraged to override it to write directly to the stream.
+	 * @param out target stream
+	 * @param value object to serialize
+	 * @throws IOException on I/O or serialization errors
+	 */
+	default void writeValue(OutputStream out, Object value) throws IOException {
+		out.write(writeValueAsBytes(value));
+	}
+
 	/**
 	 * Returns the default {@link McpJsonMapper}.
 	 * @return The default {@link McpJsonMapper}
@@ -107,4 +322,10 @@ public interface McpJsonMapper {
 		return McpJsonInternal.createDefaultMapper();
 	}
 
+	private static byte[] remainingBytes(ByteBuffer content) {
+		byte[] bytes = new byte[content.remaining()];
+		content.duplicate().get(bytes);
+		return bytes;
+	}
+
 }
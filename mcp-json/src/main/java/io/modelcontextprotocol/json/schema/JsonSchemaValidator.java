@@ -41,6 +41,16 @@ public interface JsonSchemaValidator {
 	 */
 	ValidationResponse validate(Map<String, Object> schema, Object structuredContent);
 
+	/**
+	 * Prepares the validation against the given JSON schema ahead of time, for instance
+	 * when a tool declaring it is registered, so that the first validation does not pay
+	 * for compiling it. Invalid schemas are reported by {@link #validate} rather than
+	 * here. The default implementation does nothing.
+	 * @param schema The JSON schema that content will be validated against.
+	 */
+	default void precompile(Map<String, Object> schema) {
+	}
+
 	/**
 	 * Creates the default {@link JsonSchemaValidator}.
 	 * @return The default {@link JsonSchemaValidator}
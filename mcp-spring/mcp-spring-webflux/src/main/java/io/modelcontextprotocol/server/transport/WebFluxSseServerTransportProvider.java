@@ -14,14 +14,17 @@ import io.modelcontextprotocol.json.TypeRef;
 
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.spec.HttpHeaders;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerTransport;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.KeepAliveScheduler;
+import io.modelcontextprotocol.util.McpSessionLimiter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -131,6 +134,11 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 	 */
 	private KeepAliveScheduler keepAliveScheduler;
 
+	/**
+	 * Evicts the idle sessions and caps the number of sessions. Unbounded by default.
+	 */
+	private final McpSessionLimiter<McpServerSession> sessionLimiter;
+
 	/**
 	 * Constructs a new WebFlux SSE server transport provider instance.
 	 * @param jsonMapper The ObjectMapper to use for JSON serialization/deserialization of
@@ -141,12 +149,15 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 	 * setup. Must not be null.
 	 * @param sseEndpoint The SSE endpoint path. Must not be null.
 	 * @param keepAliveInterval The interval for sending keep-alive pings to clients.
+	 * @param idleTimeout The time without traffic after which a session is closed, or
+	 * null to keep idle sessions.
+	 * @param maxSessions The maximum number of sessions, or 0 for no maximum.
 	 * @param contextExtractor The context extractor to use for extracting MCP transport
 	 * context from HTTP requests. Must not be null.
 	 * @throws IllegalArgumentException if either parameter is null
 	 */
 	private WebFluxSseServerTransportProvider(McpJsonMapper jsonMapper, String baseUrl, String messageEndpoint,
-			String sseEndpoint, Duration keepAliveInterval,
+			String sseEndpoint, Duration keepAliveInterval, Duration idleTimeout, int maxSessions,
 			McpTransportContextExtractor<ServerRequest> contextExtractor) {
 		Assert.notNull(jsonMapper, "ObjectMapper must not be null");
 		Assert.notNull(baseUrl, "Message base path must not be null");
@@ -159,6 +170,11 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 		this.messageEndpoint = messageEndpoint;
 		this.sseEndpoint = sseEndpoint;
 		this.contextExtractor = contextExtractor;
+		this.sessionLimiter = McpSessionLimiter.builder(this.sessions)
+			.idleTimeout(idleTimeout)
+			.maxSessions(maxSessions)
+			.build()
+			.start();
 		this.routerFunction = RouterFunctions.route()
 			.GET(this.sseEndpoint, this::handleSseConnection)
 			.POST(this.messageEndpoint, this::handleMessage)
@@ -166,10 +182,10 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 
 		if (keepAliveInterval != null) {
 
-			this.keepAliveScheduler = KeepAliveScheduler
-				.builder(() -> (isClosing) ? Flux.empty() : Flux.fromIterable(sessions.values()))
+			this.keepAliveScheduler = KeepAliveScheduler.builder()
 				.initialDelay(keepAliveInterval)
 				.interval(keepAliveInterval)
+				.wheelSlots(KeepAliveScheduler.TRANSPORT_WHEEL_SLOTS)
 				.build();
 
 			this.keepAliveScheduler.start();
@@ -224,6 +240,26 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 	// FIXME: This javadoc makes claims about using isClosing flag but it's not
 	// actually
 	// doing that.
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpServerSession session = this.sessions.get(sessionId);
+			if (session == null) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
+		});
+	}
+
+	/**
+	 * Returns the number of active sessions, and the number of sessions evicted for being
+	 * idle or rejected for exceeding the maximum number of sessions.
+	 * @return a snapshot of the session counters
+	 */
+	public McpSessionLimiter.Stats sessionStats() {
+		return this.sessionLimiter.stats();
+	}
+
 	/**
 	 * Initiates a graceful shutdown of all the sessions. This method ensures all active
 	 * sessions are properly closed and cleaned up.
@@ -238,6 +274,7 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 			.doOnSuccess(v -> {
 				logger.debug("Graceful shutdown completed");
 				sessions.clear();
+				this.sessionLimiter.stop();
 				if (this.keepAliveScheduler != null) {
 					this.keepAliveScheduler.shutdown();
 				}
@@ -271,6 +308,12 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 			return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).bodyValue("Server is shutting down");
 		}
 
+		if (!this.sessionLimiter.tryAdmit()) {
+			return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, this.sessionLimiter.retryAfterSeconds())
+				.bodyValue("Maximum number of sessions reached");
+		}
+
 		McpTransportContext transportContext = this.contextExtractor.extract(request);
 
 		return ServerResponse.ok()
@@ -283,6 +326,7 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 
 				logger.debug("Created new SSE connection for session: {}", sessionId);
 				sessions.put(sessionId, session);
+				keepAlive(session);
 
 				// Send initial endpoint event
 				logger.debug("Sending initial endpoint event to session: {}", sessionId);
@@ -292,11 +336,30 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 					.build());
 				sink.onCancel(() -> {
 					logger.debug("Session {} cancelled", sessionId);
-					sessions.remove(sessionId);
+					removeSession(sessionId);
 				});
 			}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)), ServerSentEvent.class);
 	}
 
+	/**
+	 * Has the keep-alive scheduler, if any, ping the session until it is removed or
+	 * closed.
+	 * @param session the new session
+	 */
+	private void keepAlive(McpServerSession session) {
+		if (this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.register(session);
+			session.addCloseHandler(() -> this.keepAliveScheduler.unregister(session));
+		}
+	}
+
+	private void removeSession(String sessionId) {
+		McpServerSession session = this.sessions.remove(sessionId);
+		if (session != null && this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.unregister(session);
+		}
+	}
+
 	/**
 	 * Handles incoming JSON-RPC messages from clients. Deserializes the message and
 	 * processes it through the configured message handler.
@@ -418,6 +481,10 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 
 		private Duration keepAliveInterval;
 
+		private Duration idleTimeout;
+
+		private int maxSessions = 0;
+
 		private McpTransportContextExtractor<ServerRequest> contextExtractor = (
 				serverRequest) -> McpTransportContext.EMPTY;
 
@@ -482,6 +549,32 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 			return this;
 		}
 
+		/**
+		 * Sets the time without traffic after which a session is closed and removed.
+		 * @param idleTimeout The idle timeout. If null, idle sessions are kept until
+		 * their SSE connection is cancelled.
+		 * @return this builder instance
+		 */
+		public Builder idleTimeout(Duration idleTimeout) {
+			Assert.isTrue(idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+					"Idle timeout must be positive");
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sessions. SSE connections beyond it are rejected
+		 * with a 503 status and a Retry-After header.
+		 * @param maxSessions The maximum number of sessions. If 0, any number of sessions
+		 * is admitted.
+		 * @return this builder instance
+		 */
+		public Builder maxSessions(int maxSessions) {
+			Assert.isTrue(maxSessions >= 0, "Max sessions must not be negative");
+			this.maxSessions = maxSessions;
+			return this;
+		}
+
 		/**
 		 * Sets the context extractor that allows providing the MCP feature
 		 * implementations to inspect HTTP transport level metadata that was present at
@@ -507,7 +600,8 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 		public WebFluxSseServerTransportProvider build() {
 			Assert.notNull(messageEndpoint, "Message endpoint must be set");
 			return new WebFluxSseServerTransportProvider(jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper,
-					baseUrl, messageEndpoint, sseEndpoint, keepAliveInterval, contextExtractor);
+					baseUrl, messageEndpoint, sseEndpoint, keepAliveInterval, idleTimeout, maxSessions,
+					contextExtractor);
 		}
 
 	}
@@ -8,6 +8,8 @@ import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.server.events.EventStore;
+import io.modelcontextprotocol.server.sessions.McpStreamableServerSessionStore;
 import io.modelcontextprotocol.spec.HttpHeaders;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -15,8 +17,11 @@ import io.modelcontextprotocol.spec.McpStreamableServerSession;
 import io.modelcontextprotocol.spec.McpStreamableServerTransport;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.KeepAliveScheduler;
+import io.modelcontextprotocol.util.McpSessionBroadcaster;
+import io.modelcontextprotocol.util.McpSessionLimiter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,9 +72,18 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 
 	private KeepAliveScheduler keepAliveScheduler;
 
+	private final EventStore eventStore;
+
+	private final McpStreamableServerSessionStore sessionStore;
+
+	private final McpSessionBroadcaster broadcaster;
+
+	private final McpSessionLimiter<McpStreamableServerSession> sessionLimiter;
+
 	private WebFluxStreamableServerTransportProvider(McpJsonMapper jsonMapper, String mcpEndpoint,
 			McpTransportContextExtractor<ServerRequest> contextExtractor, boolean disallowDelete,
-			Duration keepAliveInterval) {
+			Duration keepAliveInterval, Duration idleTimeout, int maxSessions, EventStore eventStore,
+			McpStreamableServerSessionStore sessionStore) {
 		Assert.notNull(jsonMapper, "JsonMapper must not be null");
 		Assert.notNull(mcpEndpoint, "Message endpoint must not be null");
 		Assert.notNull(contextExtractor, "Context extractor must not be null");
@@ -78,6 +92,15 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 		this.mcpEndpoint = mcpEndpoint;
 		this.contextExtractor = contextExtractor;
 		this.disallowDelete = disallowDelete;
+		this.eventStore = eventStore;
+		this.sessionStore = sessionStore;
+		this.broadcaster = new McpSessionBroadcaster(jsonMapper);
+		this.sessionLimiter = McpSessionLimiter.builder(this.sessions)
+			.idleTimeout(idleTimeout)
+			.maxSessions(maxSessions)
+			.evictionHandler(this::evict)
+			.build()
+			.start();
 		this.routerFunction = RouterFunctions.route()
 			.GET(this.mcpEndpoint, this::handleGet)
 			.POST(this.mcpEndpoint, this::handlePost)
@@ -85,10 +108,10 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 			.build();
 
 		if (keepAliveInterval != null) {
-			this.keepAliveScheduler = KeepAliveScheduler
-				.builder(() -> (isClosing) ? Flux.empty() : Flux.fromIterable(this.sessions.values()))
+			this.keepAliveScheduler = KeepAliveScheduler.builder()
 				.initialDelay(keepAliveInterval)
 				.interval(keepAliveInterval)
+				.wheelSlots(KeepAliveScheduler.TRANSPORT_WHEEL_SLOTS)
 				.build();
 
 			this.keepAliveScheduler.start();
@@ -106,33 +129,130 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 		this.sessionFactory = sessionFactory;
 	}
 
+	@Override
+	public EventStore eventStore() {
+		return this.eventStore;
+	}
+
+	@Override
+	public McpStreamableServerSessionStore sessionStore() {
+		return this.sessionStore;
+	}
+
+	/**
+	 * Finds the session with the given ID, rebuilding it from the session store if it was
+	 * started on another node.
+	 * @param sessionId the ID of the session
+	 * @return a Mono emitting the session, or completing empty if the session is unknown
+	 */
+	private Mono<McpStreamableServerSession> findSession(String sessionId) {
+		return Mono.defer(() -> {
+			McpStreamableServerSession session = this.sessions.get(sessionId);
+			if (session != null || this.sessionStore == null) {
+				return Mono.justOrEmpty(session);
+			}
+			return this.sessionFactory.loadSession(sessionId).map(loaded -> {
+				logger.debug("Rebuilt session {} from the session store", sessionId);
+				McpStreamableServerSession existing = this.sessions.putIfAbsent(sessionId, loaded);
+				if (existing != null) {
+					return existing;
+				}
+				keepAlive(loaded);
+				return loaded;
+			});
+		});
+	}
+
+	/**
+	 * Has the keep-alive scheduler, if any, ping the session until it is closed.
+	 * @param session the new session
+	 */
+	private void keepAlive(McpStreamableServerSession session) {
+		if (this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.register(session);
+			session.addCloseHandler(() -> this.keepAliveScheduler.unregister(session));
+		}
+	}
+
+	/**
+	 * Deletes a session evicted from this node, along with its state in the session
+	 * store, if any, so that snapshots do not outlive the sessions.
+	 * @param session the evicted session
+	 */
+	private void evict(McpStreamableServerSession session) {
+		session.delete().onErrorComplete().subscribe();
+	}
+
+	/**
+	 * Broadcasts a notification to all connected clients through their SSE connections.
+	 * If any errors occur during sending to a particular client, they are logged but
+	 * don't prevent sending to other clients.
+	 * @param method The method name for the notification
+	 * @param params The parameters for the notification
+	 * @return A Mono that completes when the broadcast attempt is finished
+	 * @see #broadcastNotification(String, Object)
+	 */
 	@Override
 	public Mono<Void> notifyClients(String method, Object params) {
-		if (sessions.isEmpty()) {
+		return broadcastNotification(method, params).then();
+	}
+
+	/**
+	 * Broadcasts a notification to all connected clients and reports the outcome. The
+	 * notification is serialized once, and the sessions are served concurrently without
+	 * blocking the caller.
+	 * @param method The method name for the notification
+	 * @param params The parameters for the notification
+	 * @return A Mono emitting the number of sessions the notification was delivered to
+	 * and the number of sessions it was dropped for
+	 */
+	public Mono<McpSessionBroadcaster.Result> broadcastNotification(String method, Object params) {
+		if (this.sessions.isEmpty()) {
 			logger.debug("No active sessions to broadcast message to");
-			return Mono.empty();
+			return Mono.just(new McpSessionBroadcaster.Result(0, 0));
 		}
 
-		logger.debug("Attempting to broadcast message to {} active sessions", sessions.size());
+		logger.debug("Attempting to broadcast message to {} active sessions", this.sessions.size());
 
-		return Flux.fromIterable(sessions.values())
-			.flatMap(session -> session.sendNotification(method, params)
-				.doOnError(
-						e -> logger.error("Failed to send message to session {}: {}", session.getId(), e.getMessage()))
-				.onErrorComplete())
-			.then();
+		return this.broadcaster.notify(this.sessions.values(), method, params)
+			.doOnNext(result -> logger.debug("Broadcast message delivered to {} sessions and dropped for {}",
+					result.delivered(), result.dropped()));
 	}
 
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpStreamableServerSession session = this.sessions.get(sessionId);
+			if (session == null) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
+		});
+	}
+
+	/**
+	 * Returns the number of active sessions, and the number of sessions evicted for being
+	 * idle or rejected for exceeding the maximum number of sessions.
+	 * @return a snapshot of the session counters
+	 */
+	public McpSessionLimiter.Stats sessionStats() {
+		return this.sessionLimiter.stats();
+	}
+
+	/**
+	 * Initiates a graceful shutdown of the transport.
+	 * @return A Mono that completes when all cleanup operations are finished
+	 */
 	@Override
 	public Mono<Void> closeGracefully() {
 		return Mono.defer(() -> {
 			this.isClosing = true;
-			return Flux.fromIterable(sessions.values())
-				.doFirst(() -> logger.debug("Initiating graceful shutdown with {} active sessions", sessions.size()))
-				.flatMap(McpStreamableServerSession::closeGracefully)
-				.then();
+			logger.debug("Initiating graceful shutdown with {} active sessions", this.sessions.size());
+			return this.broadcaster.closeGracefully(this.sessions.values());
 		}).then().doOnSuccess(v -> {
-			sessions.clear();
+			this.sessions.clear();
+			logger.debug("Graceful shutdown completed");
+			this.sessionLimiter.stop();
 			if (this.keepAliveScheduler != null) {
 				this.keepAliveScheduler.shutdown();
 			}
@@ -181,33 +301,31 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 
 			String sessionId = request.headers().asHttpHeaders().getFirst(HttpHeaders.MCP_SESSION_ID);
 
-			McpStreamableServerSession session = this.sessions.get(sessionId);
-
-			if (session == null) {
-				return ServerResponse.notFound().build();
-			}
+			return this.findSession(sessionId).flatMap(session -> {
+				if (request.headers().asHttpHeaders().containsKey(HttpHeaders.LAST_EVENT_ID)) {
+					String lastId = request.headers().asHttpHeaders().getFirst(HttpHeaders.LAST_EVENT_ID);
+					return ServerResponse.ok()
+						.contentType(MediaType.TEXT_EVENT_STREAM)
+						.body(Flux.<ServerSentEvent<?>>create(sink -> {
+							var sessionTransport = new WebFluxStreamableMcpSessionTransport(sink);
+							Disposable resume = session.resume(lastId, sessionTransport)
+								.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+								.subscribe(stream -> sink.onDispose(() -> stream.close(sessionTransport)), sink::error);
+							sink.onCancel(resume);
+						}), ServerSentEvent.class);
+				}
 
-			if (request.headers().asHttpHeaders().containsKey(HttpHeaders.LAST_EVENT_ID)) {
-				String lastId = request.headers().asHttpHeaders().getFirst(HttpHeaders.LAST_EVENT_ID);
 				return ServerResponse.ok()
 					.contentType(MediaType.TEXT_EVENT_STREAM)
-					.body(session.replay(lastId)
-						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)),
-							ServerSentEvent.class);
-			}
-
-			return ServerResponse.ok()
-				.contentType(MediaType.TEXT_EVENT_STREAM)
-				.body(Flux.<ServerSentEvent<?>>create(sink -> {
-					WebFluxStreamableMcpSessionTransport sessionTransport = new WebFluxStreamableMcpSessionTransport(
-							sink);
-					McpStreamableServerSession.McpStreamableServerSessionStream listeningStream = session
-						.listeningStream(sessionTransport);
-					sink.onDispose(listeningStream::close);
-					// TODO Clarify why the outer context is not present in the
-					// Flux.create sink?
-				}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)), ServerSentEvent.class);
-
+					.body(Flux.<ServerSentEvent<?>>create(sink -> {
+						var sessionTransport = new WebFluxStreamableMcpSessionTransport(sink);
+						McpStreamableServerSession.McpStreamableServerSessionStream listeningStream = session
+							.listeningStream(sessionTransport);
+						sink.onDispose(listeningStream::close);
+						// TODO Clarify why the outer context is not present in the
+						// Flux.create sink?
+					}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)), ServerSentEvent.class);
+			}).switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()));
 		}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext));
 	}
 
@@ -234,6 +352,11 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 				McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body);
 				if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
 						&& jsonrpcRequest.method().equals(McpSchema.METHOD_INITIALIZE)) {
+					if (!this.sessionLimiter.tryAdmit()) {
+						return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+							.header(HttpHeaders.RETRY_AFTER, this.sessionLimiter.retryAfterSeconds())
+							.bodyValue(new McpError("Maximum number of sessions reached"));
+					}
 					var typeReference = new TypeRef<McpSchema.InitializeRequest>() {
 					};
 					McpSchema.InitializeRequest initializeRequest = jsonMapper.convertValue(jsonrpcRequest.params(),
@@ -241,6 +364,7 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 					McpStreamableServerSession.McpStreamableServerSessionInit init = this.sessionFactory
 						.startSession(initializeRequest);
 					sessions.put(init.session().getId(), init.session());
+					keepAlive(init.session());
 					return init.initResult().map(initializeResult -> {
 						McpSchema.JSONRPCResponse jsonrpcResponse = new McpSchema.JSONRPCResponse(
 								McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), initializeResult, null);
@@ -263,38 +387,36 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 				}
 
 				String sessionId = request.headers().asHttpHeaders().getFirst(HttpHeaders.MCP_SESSION_ID);
-				McpStreamableServerSession session = sessions.get(sessionId);
-
-				if (session == null) {
-					return ServerResponse.status(HttpStatus.NOT_FOUND)
-						.bodyValue(new McpError("Session not found: " + sessionId));
-				}
-
-				if (message instanceof McpSchema.JSONRPCResponse jsonrpcResponse) {
-					return session.accept(jsonrpcResponse).then(ServerResponse.accepted().build());
-				}
-				else if (message instanceof McpSchema.JSONRPCNotification jsonrpcNotification) {
-					return session.accept(jsonrpcNotification).then(ServerResponse.accepted().build());
-				}
-				else if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
-					return ServerResponse.ok()
-						.contentType(MediaType.TEXT_EVENT_STREAM)
-						.body(Flux.<ServerSentEvent<?>>create(sink -> {
-							WebFluxStreamableMcpSessionTransport st = new WebFluxStreamableMcpSessionTransport(sink);
-							Mono<Void> stream = session.responseStream(jsonrpcRequest, st);
-							Disposable streamSubscription = stream.onErrorComplete(err -> {
-								sink.error(err);
-								return true;
-							}).contextWrite(sink.contextView()).subscribe();
-							sink.onCancel(streamSubscription);
-							// TODO Clarify why the outer context is not present in the
-							// Flux.create sink?
-						}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)),
-								ServerSentEvent.class);
-				}
-				else {
-					return ServerResponse.badRequest().bodyValue(new McpError("Unknown message type"));
-				}
+				return this.findSession(sessionId).flatMap(session -> {
+					if (message instanceof McpSchema.JSONRPCResponse jsonrpcResponse) {
+						return session.accept(jsonrpcResponse).then(ServerResponse.accepted().build());
+					}
+					else if (message instanceof McpSchema.JSONRPCNotification jsonrpcNotification) {
+						return session.accept(jsonrpcNotification).then(ServerResponse.accepted().build());
+					}
+					else if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
+						return ServerResponse.ok()
+							.contentType(MediaType.TEXT_EVENT_STREAM)
+							.body(Flux.<ServerSentEvent<?>>create(sink -> {
+								var st = new WebFluxStreamableMcpSessionTransport(sink);
+								Mono<Void> stream = session.responseStream(jsonrpcRequest, st);
+								Disposable streamSubscription = stream.onErrorComplete(err -> {
+									sink.error(err);
+									return true;
+								}).contextWrite(sink.contextView()).subscribe();
+								sink.onCancel(streamSubscription);
+								// TODO Clarify why the outer context is not present in
+								// the
+								// Flux.create sink?
+							}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)),
+									ServerSentEvent.class);
+					}
+					else {
+						return ServerResponse.badRequest().bodyValue(new McpError("Unknown message type"));
+					}
+				})
+					.switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.NOT_FOUND)
+						.bodyValue(new McpError("Session not found: " + sessionId))));
 			}
 			catch (IllegalArgumentException | IOException e) {
 				logger.error("Failed to deserialize message: {}", e.getMessage());
@@ -324,13 +446,11 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 
 			String sessionId = request.headers().asHttpHeaders().getFirst(HttpHeaders.MCP_SESSION_ID);
 
-			McpStreamableServerSession session = this.sessions.get(sessionId);
-
-			if (session == null) {
-				return ServerResponse.notFound().build();
-			}
-
-			return session.delete().then(ServerResponse.ok().build());
+			return this.findSession(sessionId)
+				.flatMap(session -> session.delete()
+					.then(Mono.fromRunnable(() -> this.sessions.remove(sessionId, session)))
+					.then(ServerResponse.ok().build()))
+				.switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()));
 		}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext));
 	}
 
@@ -410,6 +530,14 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 
 		private Duration keepAliveInterval;
 
+		private Duration idleTimeout;
+
+		private int maxSessions = 0;
+
+		private EventStore eventStore;
+
+		private McpStreamableServerSessionStore sessionStore;
+
 		private Builder() {
 			// used by a static method
 		}
@@ -477,6 +605,59 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 			return this;
 		}
 
+		/**
+		 * Sets the time without traffic after which a session is deleted. Idle sessions
+		 * are swept in the background, so that the sessions of clients that disappear
+		 * without a DELETE are released.
+		 * @param idleTimeout The idle timeout. If null, idle sessions are kept.
+		 * @return this builder instance
+		 */
+		public Builder idleTimeout(Duration idleTimeout) {
+			Assert.isTrue(idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+					"Idle timeout must be positive");
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sessions. Initialize requests beyond it are rejected
+		 * with a 503 status and a Retry-After header.
+		 * @param maxSessions The maximum number of sessions. If 0, any number of sessions
+		 * is admitted.
+		 * @return this builder instance
+		 */
+		public Builder maxSessions(int maxSessions) {
+			Assert.isTrue(maxSessions >= 0, "Max sessions must not be negative");
+			this.maxSessions = maxSessions;
+			return this;
+		}
+
+		/**
+		 * Sets the store for the events sent over the SSE streams. If set, clients can
+		 * resume an interrupted stream with the Last-Event-ID header and receive the
+		 * messages they missed.
+		 * @param eventStore The event store. If null, streams cannot be resumed.
+		 * @return this builder instance
+		 */
+		public Builder eventStore(EventStore eventStore) {
+			this.eventStore = eventStore;
+			return this;
+		}
+
+		/**
+		 * Sets the store for the state of the sessions. If set, the sessions save their
+		 * state to it, and a request for a session started by another node serving the
+		 * same MCP server rebuilds the session from the store, so that clients do not
+		 * need sticky routing.
+		 * @param sessionStore The session store. If null, sessions are local to this
+		 * node.
+		 * @return this builder instance
+		 */
+		public Builder sessionStore(McpStreamableServerSessionStore sessionStore) {
+			this.sessionStore = sessionStore;
+			return this;
+		}
+
 		/**
 		 * Builds a new instance of {@link WebFluxStreamableServerTransportProvider} with
 		 * the configured settings.
@@ -487,7 +668,7 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 			Assert.notNull(mcpEndpoint, "Message endpoint must be set");
 			return new WebFluxStreamableServerTransportProvider(
 					jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper, mcpEndpoint, contextExtractor,
-					disallowDelete, keepAliveInterval);
+					disallowDelete, keepAliveInterval, idleTimeout, maxSessions, eventStore, sessionStore);
 		}
 
 	}
@@ -7,7 +7,6 @@ package io.modelcontextprotocol.server.transport;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -16,14 +15,17 @@ import io.modelcontextprotocol.json.TypeRef;
 
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.spec.HttpHeaders;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpServerTransport;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
 import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.KeepAliveScheduler;
+import io.modelcontextprotocol.util.McpSessionLimiter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,6 +120,8 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 
 	private KeepAliveScheduler keepAliveScheduler;
 
+	private final McpSessionLimiter<McpServerSession> sessionLimiter;
+
 	/**
 	 * Constructs a new WebMvcSseServerTransportProvider instance.
 	 * @param jsonMapper The McpJsonMapper to use for JSON serialization/deserialization
@@ -129,12 +133,15 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 	 * SSE connection's initial endpoint event.
 	 * @param sseEndpoint The endpoint URI where clients establish their SSE connections.
 	 * @param keepAliveInterval The interval for sending keep-alive messages to clients.
+	 * @param idleTimeout The time without traffic after which a session is closed, or
+	 * null to keep idle sessions.
+	 * @param maxSessions The maximum number of sessions, or 0 for no maximum.
 	 * @param contextExtractor The contextExtractor to fill in a
 	 * {@link McpTransportContext}.
 	 * @throws IllegalArgumentException if any parameter is null
 	 */
 	private WebMvcSseServerTransportProvider(McpJsonMapper jsonMapper, String baseUrl, String messageEndpoint,
-			String sseEndpoint, Duration keepAliveInterval,
+			String sseEndpoint, Duration keepAliveInterval, Duration idleTimeout, int maxSessions,
 			McpTransportContextExtractor<ServerRequest> contextExtractor) {
 		Assert.notNull(jsonMapper, "McpJsonMapper must not be null");
 		Assert.notNull(baseUrl, "Message base URL must not be null");
@@ -147,6 +154,11 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 		this.messageEndpoint = messageEndpoint;
 		this.sseEndpoint = sseEndpoint;
 		this.contextExtractor = contextExtractor;
+		this.sessionLimiter = McpSessionLimiter.builder(this.sessions)
+			.idleTimeout(idleTimeout)
+			.maxSessions(maxSessions)
+			.build()
+			.start();
 		this.routerFunction = RouterFunctions.route()
 			.GET(this.sseEndpoint, this::handleSseConnection)
 			.POST(this.messageEndpoint, this::handleMessage)
@@ -154,10 +166,10 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 
 		if (keepAliveInterval != null) {
 
-			this.keepAliveScheduler = KeepAliveScheduler
-				.builder(() -> (isClosing) ? Flux.empty() : Flux.fromIterable(sessions.values()))
+			this.keepAliveScheduler = KeepAliveScheduler.builder()
 				.initialDelay(keepAliveInterval)
 				.interval(keepAliveInterval)
+				.wheelSlots(KeepAliveScheduler.TRANSPORT_WHEEL_SLOTS)
 				.build();
 
 			this.keepAliveScheduler.start();
@@ -200,6 +212,26 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 			.then();
 	}
 
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpServerSession session = this.sessions.get(sessionId);
+			if (session == null) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
+		});
+	}
+
+	/**
+	 * Returns the number of active sessions, and the number of sessions evicted for being
+	 * idle or rejected for exceeding the maximum number of sessions.
+	 * @return a snapshot of the session counters
+	 */
+	public McpSessionLimiter.Stats sessionStats() {
+		return this.sessionLimiter.stats();
+	}
+
 	/**
 	 * Initiates a graceful shutdown of the transport. This method:
 	 * <ul>
@@ -217,6 +249,7 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 		}).flatMap(McpServerSession::closeGracefully).then().doOnSuccess(v -> {
 			logger.debug("Graceful shutdown completed");
 			sessions.clear();
+			this.sessionLimiter.stop();
 			if (this.keepAliveScheduler != null) {
 				this.keepAliveScheduler.shutdown();
 			}
@@ -255,24 +288,33 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 			return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).body("Server is shutting down");
 		}
 
-		String sessionId = UUID.randomUUID().toString();
-		logger.debug("Creating new SSE connection for session: {}", sessionId);
+		if (!this.sessionLimiter.tryAdmit()) {
+			return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, this.sessionLimiter.retryAfterSeconds())
+				.body("Maximum number of sessions reached");
+		}
 
 		// Send initial endpoint event
 		try {
 			return ServerResponse.sse(sseBuilder -> {
+				// Sessions are keyed by the id of the MCP session, which the client sends
+				// back with its messages
+				WebMvcMcpSessionTransport sessionTransport = new WebMvcMcpSessionTransport(sseBuilder);
+				McpServerSession session = sessionFactory.create(sessionTransport);
+				String sessionId = session.getId();
+				sessionTransport.bind(sessionId);
+				logger.debug("Creating new SSE connection for session: {}", sessionId);
+
 				sseBuilder.onComplete(() -> {
 					logger.debug("SSE connection completed for session: {}", sessionId);
-					sessions.remove(sessionId);
+					removeSession(sessionId);
 				});
 				sseBuilder.onTimeout(() -> {
 					logger.debug("SSE connection timed out for session: {}", sessionId);
-					sessions.remove(sessionId);
+					removeSession(sessionId);
 				});
-
-				WebMvcMcpSessionTransport sessionTransport = new WebMvcMcpSessionTransport(sessionId, sseBuilder);
-				McpServerSession session = sessionFactory.create(sessionTransport);
 				this.sessions.put(sessionId, session);
+				keepAlive(session);
 
 				try {
 					sseBuilder.id(sessionId)
@@ -286,12 +328,30 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 			}, Duration.ZERO);
 		}
 		catch (Exception e) {
-			logger.error("Failed to send initial endpoint event to session {}: {}", sessionId, e.getMessage());
-			sessions.remove(sessionId);
+			logger.error("Failed to open SSE connection: {}", e.getMessage());
 			return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 		}
 	}
 
+	/**
+	 * Has the keep-alive scheduler, if any, ping the session until it is removed or
+	 * closed.
+	 * @param session the new session
+	 */
+	private void keepAlive(McpServerSession session) {
+		if (this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.register(session);
+			session.addCloseHandler(() -> this.keepAliveScheduler.unregister(session));
+		}
+	}
+
+	private void removeSession(String sessionId) {
+		McpServerSession session = this.sessions.remove(sessionId);
+		if (session != null && this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.unregister(session);
+		}
+	}
+
 	/**
 	 * Handles incoming JSON-RPC messages from clients. This method:
 	 * <ul>
@@ -349,8 +409,6 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 	 */
 	private class WebMvcMcpSessionTransport implements McpServerTransport {
 
-		private final String sessionId;
-
 		private final SseBuilder sseBuilder;
 
 		/**
@@ -359,14 +417,23 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 		 */
 		private final ReentrantLock sseBuilderLock = new ReentrantLock();
 
+		private volatile String sessionId;
+
 		/**
-		 * Creates a new session transport with the specified ID and SSE builder.
-		 * @param sessionId The unique identifier for this session
+		 * Creates a new session transport with the specified SSE builder.
 		 * @param sseBuilder The SSE builder for sending server events to the client
 		 */
-		WebMvcMcpSessionTransport(String sessionId, SseBuilder sseBuilder) {
-			this.sessionId = sessionId;
+		WebMvcMcpSessionTransport(SseBuilder sseBuilder) {
 			this.sseBuilder = sseBuilder;
+		}
+
+		/**
+		 * Binds this transport to the session created for it, before the session is
+		 * published.
+		 * @param sessionId The id of the session
+		 */
+		void bind(String sessionId) {
+			this.sessionId = sessionId;
 			logger.debug("Session transport {} initialized with SSE builder", sessionId);
 		}
 
@@ -475,6 +542,10 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 
 		private Duration keepAliveInterval;
 
+		private Duration idleTimeout;
+
+		private int maxSessions = 0;
+
 		private McpTransportContextExtractor<ServerRequest> contextExtractor = (
 				serverRequest) -> McpTransportContext.EMPTY;
 
@@ -537,6 +608,34 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 			return this;
 		}
 
+		/**
+		 * Sets the time without traffic after which a session is closed and removed.
+		 * <p>
+		 * If not specified, idle sessions are kept until their SSE connection completes.
+		 * @param idleTimeout The idle timeout, or null to keep idle sessions
+		 * @return This builder instance for method chaining
+		 */
+		public Builder idleTimeout(Duration idleTimeout) {
+			Assert.isTrue(idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+					"Idle timeout must be positive");
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sessions. SSE connections beyond it are rejected
+		 * with a 503 status and a Retry-After header.
+		 * <p>
+		 * If not specified, any number of sessions is admitted.
+		 * @param maxSessions The maximum number of sessions, or 0 for no maximum
+		 * @return This builder instance for method chaining
+		 */
+		public Builder maxSessions(int maxSessions) {
+			Assert.isTrue(maxSessions >= 0, "Max sessions must not be negative");
+			this.maxSessions = maxSessions;
+			return this;
+		}
+
 		/**
 		 * Sets the context extractor that allows providing the MCP feature
 		 * implementations to inspect HTTP transport level metadata that was present at
@@ -564,7 +663,8 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 				throw new IllegalStateException("MessageEndpoint must be set");
 			}
 			return new WebMvcSseServerTransportProvider(jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper,
-					baseUrl, messageEndpoint, sseEndpoint, keepAliveInterval, contextExtractor);
+					baseUrl, messageEndpoint, sseEndpoint, keepAliveInterval, idleTimeout, maxSessions,
+					contextExtractor);
 		}
 
 	}
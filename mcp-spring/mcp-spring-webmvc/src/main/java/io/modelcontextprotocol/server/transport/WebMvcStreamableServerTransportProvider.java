@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 import io.modelcontextprotocol.json.McpJsonMapper;
@@ -25,6 +26,8 @@ import io.modelcontextprotocol.json.TypeRef;
 
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.server.events.EventStore;
+import io.modelcontextprotocol.server.sessions.McpStreamableServerSessionStore;
 import io.modelcontextprotocol.spec.HttpHeaders;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
@@ -32,9 +35,11 @@ import io.modelcontextprotocol.spec.McpStreamableServerSession;
 import io.modelcontextprotocol.spec.McpStreamableServerTransport;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.KeepAliveScheduler;
-import reactor.core.publisher.Flux;
+import io.modelcontextprotocol.util.McpSessionBroadcaster;
+import io.modelcontextprotocol.util.McpSessionLimiter;
 import reactor.core.publisher.Mono;
 
 /**
@@ -102,6 +107,28 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 
 	private KeepAliveScheduler keepAliveScheduler;
 
+	/**
+	 * Store for the events sent over the SSE streams, used to resume them. Disabled by
+	 * default.
+	 */
+	private final EventStore eventStore;
+
+	/**
+	 * Store for the state of the sessions, used to rebuild the sessions started on other
+	 * nodes. Disabled by default.
+	 */
+	private final McpStreamableServerSessionStore sessionStore;
+
+	/**
+	 * Sends notifications to, and closes, all the sessions at once.
+	 */
+	private final McpSessionBroadcaster broadcaster;
+
+	/**
+	 * Evicts the idle sessions and caps the number of sessions. Unbounded by default.
+	 */
+	private final McpSessionLimiter<McpStreamableServerSession> sessionLimiter;
+
 	/**
 	 * Constructs a new WebMvcStreamableServerTransportProvider instance.
 	 * @param jsonMapper The McpJsonMapper to use for JSON serialization/deserialization
@@ -111,11 +138,19 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 	 * @param mcpEndpoint The endpoint URI where clients should send their JSON-RPC
 	 * messages via HTTP. This endpoint will handle GET, POST, and DELETE requests.
 	 * @param disallowDelete Whether to disallow DELETE requests on the endpoint.
+	 * @param idleTimeout The time without traffic after which a session is deleted, or
+	 * null to keep idle sessions.
+	 * @param maxSessions The maximum number of sessions, or 0 for no maximum.
+	 * @param eventStore The store for the events sent over the SSE streams, or null to
+	 * disable stream resumption.
+	 * @param sessionStore The store for the state of the sessions, or null to keep the
+	 * sessions local to this node.
 	 * @throws IllegalArgumentException if any parameter is null
 	 */
 	private WebMvcStreamableServerTransportProvider(McpJsonMapper jsonMapper, String mcpEndpoint,
 			boolean disallowDelete, McpTransportContextExtractor<ServerRequest> contextExtractor,
-			Duration keepAliveInterval) {
+			Duration keepAliveInterval, Duration idleTimeout, int maxSessions, EventStore eventStore,
+			McpStreamableServerSessionStore sessionStore) {
 		Assert.notNull(jsonMapper, "McpJsonMapper must not be null");
 		Assert.notNull(mcpEndpoint, "MCP endpoint must not be null");
 		Assert.notNull(contextExtractor, "McpTransportContextExtractor must not be null");
@@ -124,6 +159,15 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 		this.mcpEndpoint = mcpEndpoint;
 		this.disallowDelete = disallowDelete;
 		this.contextExtractor = contextExtractor;
+		this.eventStore = eventStore;
+		this.sessionStore = sessionStore;
+		this.broadcaster = new McpSessionBroadcaster(jsonMapper);
+		this.sessionLimiter = McpSessionLimiter.builder(this.sessions)
+			.idleTimeout(idleTimeout)
+			.maxSessions(maxSessions)
+			.evictionHandler(this::evict)
+			.build()
+			.start();
 		this.routerFunction = RouterFunctions.route()
 			.GET(this.mcpEndpoint, this::handleGet)
 			.POST(this.mcpEndpoint, this::handlePost)
@@ -131,10 +175,10 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			.build();
 
 		if (keepAliveInterval != null) {
-			this.keepAliveScheduler = KeepAliveScheduler
-				.builder(() -> (isClosing) ? Flux.empty() : Flux.fromIterable(this.sessions.values()))
+			this.keepAliveScheduler = KeepAliveScheduler.builder()
 				.initialDelay(keepAliveInterval)
 				.interval(keepAliveInterval)
+				.wheelSlots(KeepAliveScheduler.TRANSPORT_WHEEL_SLOTS)
 				.build();
 
 			this.keepAliveScheduler.start();
@@ -152,6 +196,60 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 		this.sessionFactory = sessionFactory;
 	}
 
+	@Override
+	public EventStore eventStore() {
+		return this.eventStore;
+	}
+
+	@Override
+	public McpStreamableServerSessionStore sessionStore() {
+		return this.sessionStore;
+	}
+
+	/**
+	 * Finds the session with the given ID, rebuilding it from the session store if it was
+	 * started on another node. The store is queried on the calling thread.
+	 * @param sessionId the ID of the session
+	 * @return the session, or null if the session is unknown
+	 */
+	private McpStreamableServerSession findSession(String sessionId) {
+		McpStreamableServerSession session = this.sessions.get(sessionId);
+		if (session != null || this.sessionStore == null) {
+			return session;
+		}
+		McpStreamableServerSession loaded = this.sessionFactory.loadSession(sessionId).block();
+		if (loaded == null) {
+			return null;
+		}
+		logger.debug("Rebuilt session {} from the session store", sessionId);
+		McpStreamableServerSession existing = this.sessions.putIfAbsent(sessionId, loaded);
+		if (existing != null) {
+			return existing;
+		}
+		keepAlive(loaded);
+		return loaded;
+	}
+
+	/**
+	 * Has the keep-alive scheduler, if any, ping the session until it is closed.
+	 * @param session the new session
+	 */
+	private void keepAlive(McpStreamableServerSession session) {
+		if (this.keepAliveScheduler != null) {
+			this.keepAliveScheduler.register(session);
+			session.addCloseHandler(() -> this.keepAliveScheduler.unregister(session));
+		}
+	}
+
+	/**
+	 * Deletes a session evicted from this node, along with its state in the session
+	 * store, if any, so that snapshots do not outlive the sessions.
+	 * @param session the evicted session
+	 */
+	private void evict(McpStreamableServerSession session) {
+		session.delete().onErrorComplete().subscribe();
+	}
+
 	/**
 	 * Broadcasts a notification to all connected clients through their SSE connections.
 	 * If any errors occur during sending to a particular client, they are logged but
@@ -159,50 +257,69 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 	 * @param method The method name for the notification
 	 * @param params The parameters for the notification
 	 * @return A Mono that completes when the broadcast attempt is finished
+	 * @see #broadcastNotification(String, Object)
 	 */
 	@Override
 	public Mono<Void> notifyClients(String method, Object params) {
+		return broadcastNotification(method, params).then();
+	}
+
+	/**
+	 * Broadcasts a notification to all connected clients and reports the outcome. The
+	 * notification is serialized once, and the sessions are served concurrently without
+	 * blocking the caller.
+	 * @param method The method name for the notification
+	 * @param params The parameters for the notification
+	 * @return A Mono emitting the number of sessions the notification was delivered to
+	 * and the number of sessions it was dropped for
+	 */
+	public Mono<McpSessionBroadcaster.Result> broadcastNotification(String method, Object params) {
 		if (this.sessions.isEmpty()) {
 			logger.debug("No active sessions to broadcast message to");
-			return Mono.empty();
+			return Mono.just(new McpSessionBroadcaster.Result(0, 0));
 		}
 
 		logger.debug("Attempting to broadcast message to {} active sessions", this.sessions.size());
 
-		return Mono.fromRunnable(() -> {
-			this.sessions.values().parallelStream().forEach(session -> {
-				try {
-					session.sendNotification(method, params).block();
-				}
-				catch (Exception e) {
-					logger.error("Failed to send message to session {}: {}", session.getId(), e.getMessage());
-				}
-			});
+		return this.broadcaster.notify(this.sessions.values(), method, params)
+			.doOnNext(result -> logger.debug("Broadcast message delivered to {} sessions and dropped for {}",
+					result.delivered(), result.dropped()));
+	}
+
+	@Override
+	public Mono<Void> notifyClient(String sessionId, String method, Object params) {
+		return Mono.defer(() -> {
+			McpStreamableServerSession session = this.sessions.get(sessionId);
+			if (session == null) {
+				return Mono.error(new McpTransportSessionNotFoundException(sessionId));
+			}
+			return session.sendNotification(method, params);
 		});
 	}
 
+	/**
+	 * Returns the number of active sessions, and the number of sessions evicted for being
+	 * idle or rejected for exceeding the maximum number of sessions.
+	 * @return a snapshot of the session counters
+	 */
+	public McpSessionLimiter.Stats sessionStats() {
+		return this.sessionLimiter.stats();
+	}
+
 	/**
 	 * Initiates a graceful shutdown of the transport.
 	 * @return A Mono that completes when all cleanup operations are finished
 	 */
 	@Override
 	public Mono<Void> closeGracefully() {
-		return Mono.fromRunnable(() -> {
+		return Mono.defer(() -> {
 			this.isClosing = true;
 			logger.debug("Initiating graceful shutdown with {} active sessions", this.sessions.size());
-
-			this.sessions.values().parallelStream().forEach(session -> {
-				try {
-					session.closeGracefully().block();
-				}
-				catch (Exception e) {
-					logger.error("Failed to close session {}: {}", session.getId(), e.getMessage());
-				}
-			});
-
+			return this.broadcaster.closeGracefully(this.sessions.values());
+		}).then().doOnSuccess(v -> {
 			this.sessions.clear();
 			logger.debug("Graceful shutdown completed");
-		}).then().doOnSuccess(v -> {
+			this.sessionLimiter.stop();
 			if (this.keepAliveScheduler != null) {
 				this.keepAliveScheduler.shutdown();
 			}
@@ -245,7 +362,7 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 		}
 
 		String sessionId = request.headers().asHttpHeaders().getFirst(HttpHeaders.MCP_SESSION_ID);
-		McpStreamableServerSession session = this.sessions.get(sessionId);
+		McpStreamableServerSession session = this.findSession(sessionId);
 
 		if (session == null) {
 			return ServerResponse.notFound().build();
@@ -266,26 +383,21 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 				if (request.headers().asHttpHeaders().containsKey(HttpHeaders.LAST_EVENT_ID)) {
 					String lastId = request.headers().asHttpHeaders().getFirst(HttpHeaders.LAST_EVENT_ID);
 
-					try {
-						session.replay(lastId)
-							.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-							.toIterable()
-							.forEach(message -> {
-								try {
-									sessionTransport.sendMessage(message)
-										.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-										.block();
-								}
-								catch (Exception e) {
-									logger.error("Failed to replay message: {}", e.getMessage());
-									sseBuilder.error(e);
-								}
-							});
-					}
-					catch (Exception e) {
-						logger.error("Failed to replay messages: {}", e.getMessage());
-						sseBuilder.error(e);
-					}
+					AtomicReference<McpStreamableServerSession.McpStreamableServerSessionStream> resumedStream = new AtomicReference<>();
+					sseBuilder.onComplete(() -> {
+						logger.debug("Resumed SSE connection completed for session: {}", sessionId);
+						var stream = resumedStream.get();
+						if (stream != null) {
+							stream.close(sessionTransport);
+						}
+					});
+
+					session.resume(lastId, sessionTransport)
+						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+						.subscribe(resumedStream::set, e -> {
+							logger.error("Failed to replay messages: {}", e.getMessage());
+							sseBuilder.error(e);
+						});
 				}
 				else {
 					// Establish new listening stream
@@ -331,12 +443,18 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			// Handle initialization request
 			if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
 					&& jsonrpcRequest.method().equals(McpSchema.METHOD_INITIALIZE)) {
+				if (!this.sessionLimiter.tryAdmit()) {
+					return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+						.header(HttpHeaders.RETRY_AFTER, this.sessionLimiter.retryAfterSeconds())
+						.body(new McpError("Maximum number of sessions reached"));
+				}
 				McpSchema.InitializeRequest initializeRequest = jsonMapper.convertValue(jsonrpcRequest.params(),
 						new TypeRef<McpSchema.InitializeRequest>() {
 						});
 				McpStreamableServerSession.McpStreamableServerSessionInit init = this.sessionFactory
 					.startSession(initializeRequest);
 				this.sessions.put(init.session().getId(), init.session());
+				keepAlive(init.session());
 
 				try {
 					McpSchema.InitializeResult initResult = init.initResult().block();
@@ -359,7 +477,7 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			}
 
 			String sessionId = request.headers().asHttpHeaders().getFirst(HttpHeaders.MCP_SESSION_ID);
-			McpStreamableServerSession session = this.sessions.get(sessionId);
+			McpStreamableServerSession session = this.findSession(sessionId);
 
 			if (session == null) {
 				return ServerResponse.status(HttpStatus.NOT_FOUND)
@@ -438,7 +556,7 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 		}
 
 		String sessionId = request.headers().asHttpHeaders().getFirst(HttpHeaders.MCP_SESSION_ID);
-		McpStreamableServerSession session = this.sessions.get(sessionId);
+		McpStreamableServerSession session = this.findSession(sessionId);
 
 		if (session == null) {
 			return ServerResponse.notFound().build();
@@ -609,6 +727,14 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 
 		private Duration keepAliveInterval;
 
+		private Duration idleTimeout;
+
+		private int maxSessions = 0;
+
+		private EventStore eventStore;
+
+		private McpStreamableServerSessionStore sessionStore;
+
 		/**
 		 * Sets the McpJsonMapper to use for JSON serialization/deserialization of MCP
 		 * messages.
@@ -672,6 +798,58 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			return this;
 		}
 
+		/**
+		 * Sets the time without traffic after which a session is deleted. Idle sessions
+		 * are swept in the background, so that the sessions of clients that disappear
+		 * without a DELETE are released.
+		 * @param idleTimeout The idle timeout, or null to keep idle sessions
+		 * @return this builder instance
+		 */
+		public Builder idleTimeout(Duration idleTimeout) {
+			Assert.isTrue(idleTimeout == null || (!idleTimeout.isNegative() && !idleTimeout.isZero()),
+					"Idle timeout must be positive");
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sessions. Initialize requests beyond it are rejected
+		 * with a 503 status and a Retry-After header.
+		 * @param maxSessions The maximum number of sessions, or 0 for no maximum
+		 * @return this builder instance
+		 */
+		public Builder maxSessions(int maxSessions) {
+			Assert.isTrue(maxSessions >= 0, "Max sessions must not be negative");
+			this.maxSessions = maxSessions;
+			return this;
+		}
+
+		/**
+		 * Sets the store for the events sent over the SSE streams. If set, clients can
+		 * resume an interrupted stream with the Last-Event-ID header and receive the
+		 * messages they missed.
+		 * @param eventStore The event store. If null, streams cannot be resumed.
+		 * @return this builder instance
+		 */
+		public Builder eventStore(EventStore eventStore) {
+			this.eventStore = eventStore;
+			return this;
+		}
+
+		/**
+		 * Sets the store for the state of the sessions. If set, the sessions save their
+		 * state to it, and a request for a session started by another node serving the
+		 * same MCP server rebuilds the session from the store, so that clients do not
+		 * need sticky routing.
+		 * @param sessionStore The session store. If null, sessions are local to this
+		 * node.
+		 * @return this builder instance
+		 */
+		public Builder sessionStore(McpStreamableServerSessionStore sessionStore) {
+			this.sessionStore = sessionStore;
+			return this;
+		}
+
 		/**
 		 * Builds a new instance of {@link WebMvcStreamableServerTransportProvider} with
 		 * the configured settings.
@@ -682,7 +860,7 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			Assert.notNull(this.mcpEndpoint, "MCP endpoint must be set");
 			return new WebMvcStreamableServerTransportProvider(
 					jsonMapper == null ? McpJsonMapper.getDefault() : jsonMapper, mcpEndpoint, disallowDelete,
-					contextExtractor, keepAliveInterval);
+					contextExtractor, keepAliveInterval, idleTimeout, maxSessions, eventStore, sessionStore);
 		}
 
 	}